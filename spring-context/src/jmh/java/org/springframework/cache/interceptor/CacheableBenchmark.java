@@ -0,0 +1,148 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Benchmark for the overhead of a {@link Cacheable @Cacheable} method invocation
+ * resulting in a cache hit, for various kinds of key and condition declarations.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class CacheableBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		public AnnotationConfigApplicationContext context;
+
+		public CachedService service;
+
+		public Customer customer = new Customer("42");
+
+		@Setup
+		public void setup() {
+			this.context = new AnnotationConfigApplicationContext(Config.class);
+			this.service = this.context.getBean(CachedService.class);
+		}
+
+		@TearDown
+		public void teardown() {
+			this.context.close();
+		}
+	}
+
+	@Benchmark
+	public void defaultKey(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.service.defaultKey(state.customer));
+	}
+
+	@Benchmark
+	public void argumentKey(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.service.argumentKey(state.customer));
+	}
+
+	@Benchmark
+	public void argumentPropertyKey(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.service.argumentPropertyKey(state.customer));
+	}
+
+	@Benchmark
+	public void compositeKey(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.service.compositeKey(state.customer));
+	}
+
+	@Benchmark
+	public void argumentPropertyKeyWithCondition(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.service.argumentPropertyKeyWithCondition(state.customer));
+	}
+
+
+	public static class Customer {
+
+		private final String id;
+
+		public Customer(String id) {
+			this.id = id;
+		}
+
+		public String getId() {
+			return this.id;
+		}
+	}
+
+
+	public static class CachedService {
+
+		@Cacheable("benchmark")
+		public String defaultKey(Customer customer) {
+			return customer.getId();
+		}
+
+		@Cacheable(cacheNames = "benchmark", key = "#customer")
+		public String argumentKey(Customer customer) {
+			return customer.getId();
+		}
+
+		@Cacheable(cacheNames = "benchmark", key = "#customer.id")
+		public String argumentPropertyKey(Customer customer) {
+			return customer.getId();
+		}
+
+		@Cacheable(cacheNames = "benchmark", key = "'customer-' + #customer.id")
+		public String compositeKey(Customer customer) {
+			return customer.getId();
+		}
+
+		@Cacheable(cacheNames = "benchmark", key = "#customer.id", condition = "#customer.id.length() > 1")
+		public String argumentPropertyKeyWithCondition(Customer customer) {
+			return customer.getId();
+		}
+	}
+
+
+	@Configuration
+	@EnableCaching
+	static class Config {
+
+		@Bean
+		public CacheManager cacheManager() {
+			return new ConcurrentMapCacheManager("benchmark");
+		}
+
+		@Bean
+		public CachedService cachedService() {
+			return new CachedService();
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.support;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark for the calculation of the next matches of a {@link CronExpression},
+ * for common as well as sparse expressions that only match rarely.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class CronExpressionBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"*/5 * * * * *", "0 30 9 * * MON-FRI", "@daily", "0 0 0 L * *", "0 0 0 ? * MON#1", "0 0 0 29 2 *"})
+		public String expression;
+
+		public CronExpression cronExpression;
+
+		public LocalDateTime localDateTime;
+
+		public ZonedDateTime zonedDateTime;
+
+		@Setup
+		public void setup() {
+			this.cronExpression = CronExpression.parse(this.expression);
+			this.localDateTime = LocalDateTime.of(2024, 3, 1, 12, 30, 15);
+			this.zonedDateTime = this.localDateTime.atZone(ZoneId.of("Europe/Amsterdam"));
+		}
+	}
+
+	@Benchmark
+	public LocalDateTime nextLocalDateTime(BenchmarkState state) {
+		return state.cronExpression.next(state.localDateTime);
+	}
+
+	@Benchmark
+	public ZonedDateTime nextZonedDateTime(BenchmarkState state) {
+		return state.cronExpression.next(state.zonedDateTime);
+	}
+
+	@Benchmark
+	public List<ZonedDateTime> nextHundredZonedDateTimes(BenchmarkState state) {
+		return state.cronExpression.next(state.zonedDateTime, 100);
+	}
+
+}
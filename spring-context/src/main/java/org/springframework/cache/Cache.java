@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,11 +16,14 @@
 
 package org.springframework.cache;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
 
 /**
  * Interface that defines common cache operations.
@@ -223,6 +226,60 @@ public interface Cache {
 		return existingValue;
 	}
 
+	/**
+	 * Return the values to which this cache maps the specified keys.
+	 * <p>The returned map contains an entry for each of the given keys that
+	 * this cache contains a mapping for, with the cached value (which may be
+	 * {@code null} itself) contained within a {@link ValueWrapper}. Keys
+	 * without a mapping in this cache are not contained in the returned map.
+	 * <p>The default implementation delegates to {@link #get(Object)} for each
+	 * key. Cache providers are encouraged to perform a native bulk lookup.
+	 * @param keys the keys whose associated values are to be returned
+	 * @return a map from each key found in this cache to its cached value
+	 * @since 6.1.4
+	 * @see #get(Object)
+	 */
+	default Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+		Map<Object, ValueWrapper> result = CollectionUtils.newLinkedHashMap(keys.size());
+		for (Object key : keys) {
+			ValueWrapper valueWrapper = get(key);
+			if (valueWrapper != null) {
+				result.put(key, valueWrapper);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Associate the specified values with their keys in this cache.
+	 * <p>Semantically equivalent to {@link #put(Object, Object)} for each
+	 * entry, with the same note on asynchronous or deferred registration.
+	 * <p>The default implementation delegates to {@link #put(Object, Object)}
+	 * for each entry. Cache providers are encouraged to perform a native
+	 * bulk put.
+	 * @param entries the keys and values to be associated
+	 * @since 6.1.4
+	 * @see #put(Object, Object)
+	 */
+	default void putAll(Map<?, ?> entries) {
+		entries.forEach(this::put);
+	}
+
+	/**
+	 * Evict the mappings for the specified keys from this cache if present.
+	 * <p>Semantically equivalent to {@link #evict(Object)} for each key,
+	 * with the same note on asynchronous or deferred eviction.
+	 * <p>The default implementation delegates to {@link #evict(Object)}
+	 * for each key. Cache providers are encouraged to perform a native
+	 * bulk eviction.
+	 * @param keys the keys whose mappings are to be removed from this cache
+	 * @since 6.1.4
+	 * @see #evict(Object)
+	 */
+	default void evictAll(Collection<?> keys) {
+		keys.forEach(this::evict);
+	}
+
 	/**
 	 * Evict the mapping for this key from this cache if it is present.
 	 * <p>Actual eviction may be performed in an asynchronous or deferred
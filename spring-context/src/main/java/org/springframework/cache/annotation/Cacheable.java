@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -186,12 +186,43 @@ public @interface Cacheable {
 	 * <li>Only one cache may be specified</li>
 	 * <li>No other cache-related operation can be combined</li>
 	 * </ol>
-	 * This is effectively a hint and the chosen cache provider might not actually
-	 * support it in a synchronized fashion. Check your provider documentation for
-	 * more details on the actual semantics.
+	 * The value is retrieved through {@link org.springframework.cache.Cache#get(Object, Callable)}
+	 * or, for a {@code CompletableFuture} or reactive return type,
+	 * {@link org.springframework.cache.Cache#retrieve(Object, java.util.function.Supplier)},
+	 * so the chosen cache provider determines the actual loading semantics. Check
+	 * your provider documentation for more details. As of 6.1.4, concurrent cache
+	 * misses for the same key within the same application are additionally coalesced
+	 * by the caching interceptor, with a single caller calling into the cache provider
+	 * and all other callers sharing its outcome.
 	 * @since 4.3
 	 * @see org.springframework.cache.Cache#get(Object, Callable)
+	 * @see org.springframework.cache.interceptor.CacheAspectSupport#getCoalescedInvocationCount()
 	 */
 	boolean sync() default false;
 
+	/**
+	 * Treat the invocation as a bulk lookup: the first {@link java.util.Collection}
+	 * parameter of the method holds the requested keys, each element of which is
+	 * used as a cache key on its own, and the method returns a {@link java.util.Map}
+	 * of the loaded values by key.
+	 * <p>The caches are consulted for all keys through
+	 * {@link org.springframework.cache.Cache#getAll}, the method is only invoked
+	 * with the keys that were not found (as a collection of the same kind), and
+	 * the loaded entries are stored through {@link org.springframework.cache.Cache#putAll}.
+	 * The returned map combines the cache hits and the loaded entries in the order
+	 * of the requested keys. If all keys are found, the method is not invoked at all.
+	 * <p>A bulk operation cannot be combined with {@link #key()},
+	 * {@link #keyGenerator()}, {@link #sync()} or with other cache-related
+	 * operations. The {@link #unless()} expression applies to the returned map
+	 * of loaded entries as a whole.
+	 * <p>Note that this relies on the interceptor being able to replace the
+	 * argument passed to the underlying method: with AspectJ weaving, the method
+	 * receives all requested keys instead, while the cache hits still take
+	 * precedence in the returned map.
+	 * @since 6.1.4
+	 * @see org.springframework.cache.Cache#getAll
+	 * @see org.springframework.cache.Cache#putAll
+	 */
+	boolean bulk() default false;
+
 }
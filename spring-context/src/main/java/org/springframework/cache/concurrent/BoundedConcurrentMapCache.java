@@ -0,0 +1,877 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToLongFunction;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.core.serializer.support.SerializationDelegate;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link org.springframework.cache.Cache} implementation based on the core JDK
+ * {@code java.util.concurrent} package, bounded by a maximum number of entries
+ * or a maximum total weight and optionally expiring entries after write and/or
+ * after access. A production-ready alternative to {@link ConcurrentMapCache}
+ * for simple local caching needs without any external dependency.
+ *
+ * <p>Similar to {@link org.springframework.util.ConcurrentLruCache}, reads are
+ * lock-free and writes are applied under a lock together with the eviction
+ * bookkeeping. Eviction follows the CLOCK algorithm, an approximation of LRU
+ * where a read merely marks an entry as recently used. Expired entries are never
+ * returned and get reclaimed through a hashed timer wheel, advanced on writes
+ * and on reads of expired entries.
+ *
+ * <p>Hit, miss, put, eviction and expiration counts are recorded and exposed
+ * through {@link #getStatistics()}.
+ *
+ * <p>Instances are created through {@link #builder(String)}, or dynamically by
+ * {@link ConcurrentMapCacheManager} when any bound or expiration is configured.
+ *
+ * @since 6.1.4
+ * @see ConcurrentMapCacheManager#setMaximumSize
+ * @see ConcurrentMapCacheManager#setExpireAfterWrite
+ */
+public class BoundedConcurrentMapCache extends AbstractValueAdaptingCache {
+
+	private final String name;
+
+	private final ConcurrentMap<Object, Node> store = new ConcurrentHashMap<>(256);
+
+	private final ConcurrentMap<Object, CompletableFuture<Object>> loads = new ConcurrentHashMap<>(16);
+
+	private final long maximumWeight;
+
+	private final ToIntBiFunction<Object, Object> weigher;
+
+	private final long expireAfterWriteNanos;
+
+	private final long expireAfterAccessNanos;
+
+	private final LongSupplier ticker;
+
+	@Nullable
+	private final SerializationDelegate serialization;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	@Nullable
+	private final TimerWheel timerWheel;
+
+	// Guarded by lock: the current position of the CLOCK hand within the ring of entries
+	@Nullable
+	private Node hand;
+
+	// Guarded by lock
+	private long weightedSize;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder putCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	private final LongAdder expirationCount = new LongAdder();
+
+
+	private BoundedConcurrentMapCache(Builder builder) {
+		super(builder.allowNullValues);
+		this.name = builder.name;
+		this.maximumWeight = builder.maximumWeight;
+		this.weigher = builder.weigher;
+		this.expireAfterWriteNanos = (builder.expireAfterWrite != null ? builder.expireAfterWrite.toNanos() : 0);
+		this.expireAfterAccessNanos = (builder.expireAfterAccess != null ? builder.expireAfterAccess.toNanos() : 0);
+		this.ticker = builder.ticker;
+		this.serialization = builder.serialization;
+		if (isExpiring()) {
+			long shortest = (this.expireAfterWriteNanos > 0 && this.expireAfterAccessNanos > 0 ?
+					Math.min(this.expireAfterWriteNanos, this.expireAfterAccessNanos) :
+					Math.max(this.expireAfterWriteNanos, this.expireAfterAccessNanos));
+			this.timerWheel = new TimerWheel(shortest, this.ticker.getAsLong());
+		}
+		else {
+			this.timerWheel = null;
+		}
+	}
+
+
+	/**
+	 * Return whether this cache stores a copy of each entry ({@code true}) or
+	 * a reference ({@code false}, default). If store by value is enabled, each
+	 * entry in the cache must be serializable.
+	 */
+	public final boolean isStoreByValue() {
+		return (this.serialization != null);
+	}
+
+	@Override
+	public final String getName() {
+		return this.name;
+	}
+
+	/**
+	 * This implementation returns the cache instance itself since its
+	 * internal store is not meant to be accessed directly.
+	 */
+	@Override
+	public final Object getNativeCache() {
+		return this;
+	}
+
+	/**
+	 * Return the current number of entries in the cache, possibly including
+	 * expired entries which have not been reclaimed yet.
+	 */
+	public long estimatedSize() {
+		return this.store.size();
+	}
+
+	/**
+	 * Return the current total weight of the entries in the cache, which is
+	 * the number of entries unless a custom weigher has been specified.
+	 */
+	public long weightedSize() {
+		this.lock.lock();
+		try {
+			return this.weightedSize;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Return a snapshot of the statistics recorded by this cache.
+	 */
+	public Statistics getStatistics() {
+		return new Statistics(this.hitCount.sum(), this.missCount.sum(), this.putCount.sum(),
+				this.evictionCount.sum(), this.expirationCount.sum());
+	}
+
+	/**
+	 * Reclaim any expired entries right away, rather than on the next write.
+	 */
+	public void cleanUp() {
+		this.lock.lock();
+		try {
+			maintain(currentTime());
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+
+	@Override
+	@Nullable
+	protected Object lookup(Object key) {
+		Node node = this.store.get(key);
+		if (node != null) {
+			long now = currentTime();
+			if (!isExpired(node, now)) {
+				recordAccess(node, now);
+				this.hitCount.increment();
+				return node.value;
+			}
+			expire(node, now);
+		}
+		this.missCount.increment();
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	@Nullable
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		return (T) fromStoreValue(load(key, () -> {
+			try {
+				return valueLoader.call();
+			}
+			catch (Throwable ex) {
+				throw new ValueRetrievalException(key, valueLoader, ex);
+			}
+		}));
+	}
+
+	@Override
+	@Nullable
+	public CompletableFuture<?> retrieve(Object key) {
+		Object value = lookup(key);
+		return (value != null ? CompletableFuture.completedFuture(
+				isAllowNullValues() ? toValueWrapper(value) : fromStoreValue(value)) : null);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+		return CompletableFuture.supplyAsync(() ->
+				(T) fromStoreValue(load(key, () -> valueLoader.get().join())));
+	}
+
+	@Override
+	public void put(Object key, @Nullable Object value) {
+		int weight = weigh(key, value);
+		Object storeValue = toStoreValue(value);
+		long now = currentTime();
+		this.lock.lock();
+		try {
+			putNode(new Node(key, storeValue, weight, now));
+			maintain(now);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	@Nullable
+	public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+		int weight = weigh(key, value);
+		Object storeValue = toStoreValue(value);
+		long now = currentTime();
+		this.lock.lock();
+		try {
+			Node existing = this.store.get(key);
+			if (existing != null && !isExpired(existing, now)) {
+				recordAccess(existing, now);
+				return toValueWrapper(existing.value);
+			}
+			putNode(new Node(key, storeValue, weight, now));
+			maintain(now);
+			return null;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void putAll(Map<?, ?> entries) {
+		Node[] nodes = new Node[entries.size()];
+		long now = currentTime();
+		int i = 0;
+		for (Map.Entry<?, ?> entry : entries.entrySet()) {
+			nodes[i++] = new Node(entry.getKey(), toStoreValue(entry.getValue()),
+					weigh(entry.getKey(), entry.getValue()), now);
+		}
+		this.lock.lock();
+		try {
+			for (Node node : nodes) {
+				putNode(node);
+			}
+			maintain(now);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void evict(Object key) {
+		evictIfPresent(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		long now = currentTime();
+		this.lock.lock();
+		try {
+			Node node = this.store.remove(key);
+			if (node != null) {
+				unlinkNode(node);
+				return !isExpired(node, now);
+			}
+			return false;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void evictAll(Collection<?> keys) {
+		this.lock.lock();
+		try {
+			for (Object key : keys) {
+				Node node = this.store.remove(key);
+				if (node != null) {
+					unlinkNode(node);
+				}
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		invalidate();
+	}
+
+	@Override
+	public boolean invalidate() {
+		this.lock.lock();
+		try {
+			boolean notEmpty = !this.store.isEmpty();
+			Node node = this.hand;
+			while (node != null) {
+				Node next = (node.next != this.hand ? node.next : null);
+				node.prev = null;
+				node.next = null;
+				node = next;
+			}
+			this.hand = null;
+			this.weightedSize = 0;
+			if (this.timerWheel != null) {
+				this.timerWheel.clear();
+			}
+			this.store.clear();
+			return notEmpty;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	protected Object toStoreValue(@Nullable Object userValue) {
+		Object storeValue = super.toStoreValue(userValue);
+		if (this.serialization != null) {
+			try {
+				return this.serialization.serializeToByteArray(storeValue);
+			}
+			catch (Throwable ex) {
+				throw new IllegalArgumentException("Failed to serialize cache value '" + userValue +
+						"'. Does it implement Serializable?", ex);
+			}
+		}
+		else {
+			return storeValue;
+		}
+	}
+
+	@Override
+	protected Object fromStoreValue(@Nullable Object storeValue) {
+		if (storeValue != null && this.serialization != null) {
+			try {
+				return super.fromStoreValue(this.serialization.deserializeFromByteArray((byte[]) storeValue));
+			}
+			catch (Throwable ex) {
+				throw new IllegalArgumentException("Failed to deserialize cache value '" + storeValue + "'", ex);
+			}
+		}
+		else {
+			return super.fromStoreValue(storeValue);
+		}
+	}
+
+
+	/**
+	 * Return the store value for the given key, loading it through the given
+	 * loader if necessary, with concurrent loads for the same key waiting for
+	 * the first one to complete.
+	 */
+	private Object load(Object key, Supplier<?> loader) {
+		Object storeValue = lookup(key);
+		if (storeValue != null) {
+			return storeValue;
+		}
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		CompletableFuture<Object> inProgress = this.loads.putIfAbsent(key, future);
+		if (inProgress != null) {
+			try {
+				return inProgress.join();
+			}
+			catch (CompletionException ex) {
+				ReflectionUtils.rethrowRuntimeException(ex.getCause());
+				// Never reached
+				throw ex;
+			}
+		}
+		try {
+			// Another thread may have stored a value since our lookup
+			Node node = this.store.get(key);
+			long now = currentTime();
+			if (node != null && !isExpired(node, now)) {
+				storeValue = node.value;
+			}
+			else {
+				Object value = loader.get();
+				int weight = weigh(key, value);
+				storeValue = toStoreValue(value);
+				this.lock.lock();
+				try {
+					putNode(new Node(key, storeValue, weight, now));
+					maintain(now);
+				}
+				finally {
+					this.lock.unlock();
+				}
+			}
+			future.complete(storeValue);
+			return storeValue;
+		}
+		catch (Throwable ex) {
+			future.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.loads.remove(key, future);
+		}
+	}
+
+	private int weigh(Object key, @Nullable Object value) {
+		int weight = this.weigher.applyAsInt(key, value);
+		Assert.state(weight >= 0, "Weigher must not return a negative weight");
+		return weight;
+	}
+
+	private boolean isExpiring() {
+		return (this.expireAfterWriteNanos > 0 || this.expireAfterAccessNanos > 0);
+	}
+
+	private long currentTime() {
+		return (isExpiring() ? this.ticker.getAsLong() : 0);
+	}
+
+	private boolean isExpired(Node node, long now) {
+		return (now - deadline(node) >= 0);
+	}
+
+	private long deadline(Node node) {
+		long deadline = Long.MAX_VALUE;
+		if (this.expireAfterWriteNanos > 0) {
+			deadline = node.writeTime + this.expireAfterWriteNanos;
+		}
+		if (this.expireAfterAccessNanos > 0) {
+			deadline = Math.min(deadline, node.accessTime + this.expireAfterAccessNanos);
+		}
+		return deadline;
+	}
+
+	private void recordAccess(Node node, long now) {
+		if (!node.referenced) {
+			node.referenced = true;
+		}
+		if (this.expireAfterAccessNanos > 0) {
+			node.accessTime = now;
+		}
+	}
+
+	private void expire(Node node, long now) {
+		// Best effort: an expired entry gets reclaimed by the timer wheel otherwise
+		if (this.lock.tryLock()) {
+			try {
+				if (this.store.remove(node.key, node)) {
+					unlinkNode(node);
+					this.expirationCount.increment();
+				}
+				maintain(now);
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Store the given node, replacing any existing node for the same key.
+	 * <p>Must be called under the lock.
+	 */
+	private void putNode(Node node) {
+		Node previous = this.store.put(node.key, node);
+		if (previous != null) {
+			unlinkNode(previous);
+		}
+		linkNode(node);
+		this.putCount.increment();
+	}
+
+	/**
+	 * Reclaim expired entries and evict entries exceeding the maximum weight.
+	 * <p>Must be called under the lock.
+	 */
+	private void maintain(long now) {
+		if (this.timerWheel != null) {
+			this.timerWheel.advance(now, this::deadline, node -> {
+				if (this.store.remove(node.key, node)) {
+					unlinkNode(node);
+					this.expirationCount.increment();
+				}
+			});
+		}
+		if (this.maximumWeight >= 0) {
+			while (this.weightedSize > this.maximumWeight && this.hand != null) {
+				Node candidate = this.hand;
+				if (candidate.referenced) {
+					// Second chance for a recently used entry
+					candidate.referenced = false;
+					this.hand = candidate.next;
+				}
+				else {
+					this.store.remove(candidate.key, candidate);
+					unlinkNode(candidate);
+					this.evictionCount.increment();
+				}
+			}
+		}
+	}
+
+	private void linkNode(Node node) {
+		Node hand = this.hand;
+		if (hand == null) {
+			node.prev = node;
+			node.next = node;
+			this.hand = node;
+		}
+		else {
+			// Insert right behind the hand, i.e. as the last entry to be visited
+			Node last = hand.prev;
+			node.prev = last;
+			node.next = hand;
+			last.next = node;
+			hand.prev = node;
+		}
+		this.weightedSize += node.weight;
+		if (this.timerWheel != null) {
+			this.timerWheel.schedule(node, deadline(node));
+		}
+	}
+
+	private void unlinkNode(Node node) {
+		if (node.next == null) {
+			return;
+		}
+		if (node.next == node) {
+			this.hand = null;
+		}
+		else {
+			node.prev.next = node.next;
+			node.next.prev = node.prev;
+			if (this.hand == node) {
+				this.hand = node.next;
+			}
+		}
+		node.prev = null;
+		node.next = null;
+		this.weightedSize -= node.weight;
+		if (this.timerWheel != null) {
+			this.timerWheel.unschedule(node);
+		}
+	}
+
+
+	/**
+	 * Create a builder for a {@link BoundedConcurrentMapCache} with the given name.
+	 * @param name the name of the cache
+	 */
+	public static Builder builder(String name) {
+		return new Builder(name);
+	}
+
+
+	/**
+	 * Snapshot of the statistics recorded by a {@link BoundedConcurrentMapCache}.
+	 * @param hitCount the number of lookups which found a cached value
+	 * @param missCount the number of lookups which found no cached value
+	 * @param putCount the number of stored entries
+	 * @param evictionCount the number of entries evicted because of the size bound
+	 * @param expirationCount the number of expired entries which have been reclaimed
+	 */
+	public record Statistics(long hitCount, long missCount, long putCount, long evictionCount, long expirationCount) {
+
+		/**
+		 * Return the total number of lookups.
+		 */
+		public long requestCount() {
+			return this.hitCount + this.missCount;
+		}
+
+		/**
+		 * Return the ratio of lookups which found a cached value, or {@code 1.0}
+		 * if no lookups have been performed yet.
+		 */
+		public double hitRate() {
+			long requestCount = requestCount();
+			return (requestCount != 0 ? (double) this.hitCount / requestCount : 1.0);
+		}
+	}
+
+
+	/**
+	 * Builder for a {@link BoundedConcurrentMapCache}.
+	 */
+	public static final class Builder {
+
+		private final String name;
+
+		private long maximumWeight = -1;
+
+		private ToIntBiFunction<Object, Object> weigher = (key, value) -> 1;
+
+		@Nullable
+		private Duration expireAfterWrite;
+
+		@Nullable
+		private Duration expireAfterAccess;
+
+		private boolean allowNullValues = true;
+
+		@Nullable
+		private SerializationDelegate serialization;
+
+		private LongSupplier ticker = System::nanoTime;
+
+		private Builder(String name) {
+			Assert.notNull(name, "Name must not be null");
+			this.name = name;
+		}
+
+		/**
+		 * Bound the cache to the given maximum number of entries.
+		 */
+		public Builder maximumSize(long maximumSize) {
+			Assert.isTrue(maximumSize >= 0, "Maximum size must not be negative");
+			this.maximumWeight = maximumSize;
+			this.weigher = (key, value) -> 1;
+			return this;
+		}
+
+		/**
+		 * Bound the cache to the given maximum total weight of its entries,
+		 * as determined through the given weigher for each key and value.
+		 */
+		public Builder maximumWeight(long maximumWeight, ToIntBiFunction<Object, Object> weigher) {
+			Assert.isTrue(maximumWeight >= 0, "Maximum weight must not be negative");
+			Assert.notNull(weigher, "Weigher must not be null");
+			this.maximumWeight = maximumWeight;
+			this.weigher = weigher;
+			return this;
+		}
+
+		/**
+		 * Expire each entry once the given duration has passed since it was stored.
+		 */
+		public Builder expireAfterWrite(Duration expireAfterWrite) {
+			Assert.isTrue(expireAfterWrite.toNanos() > 0, "Expiration must be positive");
+			this.expireAfterWrite = expireAfterWrite;
+			return this;
+		}
+
+		/**
+		 * Expire each entry once the given duration has passed since it was
+		 * stored or last read.
+		 */
+		public Builder expireAfterAccess(Duration expireAfterAccess) {
+			Assert.isTrue(expireAfterAccess.toNanos() > 0, "Expiration must be positive");
+			this.expireAfterAccess = expireAfterAccess;
+			return this;
+		}
+
+		/**
+		 * Specify whether to accept and convert {@code null} values.
+		 * Default is "true".
+		 */
+		public Builder allowNullValues(boolean allowNullValues) {
+			this.allowNullValues = allowNullValues;
+			return this;
+		}
+
+		/**
+		 * Specify a {@link SerializationDelegate} for storing a serialized copy
+		 * of each entry instead of the reference (store-by-value).
+		 */
+		public Builder serialization(@Nullable SerializationDelegate serialization) {
+			this.serialization = serialization;
+			return this;
+		}
+
+		/**
+		 * Specify the source of nanosecond time values, for testing purposes.
+		 */
+		Builder ticker(LongSupplier ticker) {
+			this.ticker = ticker;
+			return this;
+		}
+
+		/**
+		 * Build the {@link BoundedConcurrentMapCache}.
+		 */
+		public BoundedConcurrentMapCache build() {
+			return new BoundedConcurrentMapCache(this);
+		}
+	}
+
+
+	private static final class Node {
+
+		final Object key;
+
+		final Object value;
+
+		final int weight;
+
+		final long writeTime;
+
+		volatile long accessTime;
+
+		volatile boolean referenced;
+
+		// Guarded by lock: position within the ring of entries
+		@Nullable
+		Node prev;
+
+		@Nullable
+		Node next;
+
+		// Guarded by lock: position within a timer wheel bucket
+		@Nullable
+		Node wheelPrev;
+
+		@Nullable
+		Node wheelNext;
+
+		int wheelBucket = -1;
+
+		Node(Object key, Object value, int weight, long writeTime) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+			this.writeTime = writeTime;
+			this.accessTime = writeTime;
+		}
+	}
+
+
+	/**
+	 * Hashed timer wheel for reclaiming expired entries, with a tick duration
+	 * derived from the shortest expiration. Entries with a deadline beyond the
+	 * wheel span, or whose deadline got extended by an access in the meantime,
+	 * are rescheduled when their bucket comes up. All operations must be
+	 * called under the cache lock.
+	 */
+	private static final class TimerWheel {
+
+		private static final int BUCKET_COUNT = 64;
+
+		private static final long MIN_TICK_NANOS = 1_000_000;
+
+		private final Node[] buckets = new Node[BUCKET_COUNT];
+
+		private final long tickNanos;
+
+		private long currentTick;
+
+		TimerWheel(long shortestExpirationNanos, long now) {
+			this.tickNanos = Math.max(shortestExpirationNanos / (BUCKET_COUNT / 4), MIN_TICK_NANOS);
+			this.currentTick = Math.floorDiv(now, this.tickNanos);
+		}
+
+		void schedule(Node node, long deadline) {
+			long tick = Math.floorDiv(deadline, this.tickNanos);
+			tick = Math.min(Math.max(tick, this.currentTick + 1), this.currentTick + BUCKET_COUNT - 1);
+			int index = (int) (tick & (BUCKET_COUNT - 1));
+			Node head = this.buckets[index];
+			node.wheelBucket = index;
+			node.wheelPrev = null;
+			node.wheelNext = head;
+			if (head != null) {
+				head.wheelPrev = node;
+			}
+			this.buckets[index] = node;
+		}
+
+		void unschedule(Node node) {
+			if (node.wheelPrev != null) {
+				node.wheelPrev.wheelNext = node.wheelNext;
+			}
+			else if (node.wheelBucket >= 0 && this.buckets[node.wheelBucket] == node) {
+				this.buckets[node.wheelBucket] = node.wheelNext;
+			}
+			if (node.wheelNext != null) {
+				node.wheelNext.wheelPrev = node.wheelPrev;
+			}
+			node.wheelPrev = null;
+			node.wheelNext = null;
+			node.wheelBucket = -1;
+		}
+
+		void advance(long now, ToLongFunction<Node> deadlines, Consumer<Node> expiredAction) {
+
+			long targetTick = Math.floorDiv(now, this.tickNanos);
+			long ticks = Math.min(targetTick - this.currentTick, BUCKET_COUNT);
+			long previousTick = this.currentTick;
+			if (ticks <= 0) {
+				return;
+			}
+			this.currentTick = targetTick;
+			for (long tick = previousTick + 1; tick <= previousTick + ticks; tick++) {
+				int index = (int) (tick & (BUCKET_COUNT - 1));
+				Node node = this.buckets[index];
+				this.buckets[index] = null;
+				while (node != null) {
+					Node next = node.wheelNext;
+					node.wheelPrev = null;
+					node.wheelNext = null;
+					node.wheelBucket = -1;
+					long deadline = deadlines.applyAsLong(node);
+					if (now - deadline >= 0) {
+						expiredAction.accept(node);
+					}
+					else {
+						schedule(node, deadline);
+					}
+					node = next;
+				}
+			}
+		}
+
+		void clear() {
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				Node node = this.buckets[i];
+				while (node != null) {
+					Node next = node.wheelNext;
+					node.wheelPrev = null;
+					node.wheelNext = null;
+					node.wheelBucket = -1;
+					node = next;
+				}
+				this.buckets[i] = null;
+			}
+		}
+	}
+
+}
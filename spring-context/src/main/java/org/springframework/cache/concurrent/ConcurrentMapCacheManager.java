@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.cache.concurrent;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -23,12 +24,14 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Supplier;
+import java.util.function.ToIntBiFunction;
 
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.core.serializer.support.SerializationDelegate;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * {@link CacheManager} implementation that lazily builds {@link ConcurrentMapCache}
@@ -40,8 +43,13 @@ import org.springframework.lang.Nullable;
  * {@link Cache#retrieve(Object, Supplier)} operations through basic
  * {@code CompletableFuture} adaptation, with early-determined cache misses.
  *
- * <p>Note: This is by no means a sophisticated CacheManager; it comes with no
- * cache configuration options. However, it may be useful for testing or simple
+ * <p>By default, the caches are unbounded. Configuring a maximum size or weight
+ * and/or an expiration through {@link #setMaximumSize}, {@link #setMaximumWeight},
+ * {@link #setExpireAfterWrite} or {@link #setExpireAfterAccess} switches to
+ * {@link BoundedConcurrentMapCache} instances, suitable for production use.
+ *
+ * <p>Note: This is by no means a sophisticated CacheManager; it comes with basic
+ * cache configuration options only. However, it may be useful for testing or simple
  * caching scenarios. For advanced local caching needs, consider
  * {@link org.springframework.cache.caffeine.CaffeineCacheManager} or
  * {@link org.springframework.cache.jcache.JCacheCacheManager}.
@@ -49,6 +57,7 @@ import org.springframework.lang.Nullable;
  * @author Juergen Hoeller
  * @since 3.1
  * @see ConcurrentMapCache
+ * @see BoundedConcurrentMapCache
  */
 public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderAware {
 
@@ -63,6 +72,19 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 	@Nullable
 	private SerializationDelegate serialization;
 
+	private long maximumSize = -1;
+
+	private long maximumWeight = -1;
+
+	@Nullable
+	private ToIntBiFunction<Object, Object> weigher;
+
+	@Nullable
+	private Duration expireAfterWrite;
+
+	@Nullable
+	private Duration expireAfterAccess;
+
 
 	/**
 	 * Construct a dynamic ConcurrentMapCacheManager,
@@ -150,6 +172,74 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 		return this.storeByValue;
 	}
 
+	/**
+	 * Bound each cache to the given maximum number of entries, evicting entries
+	 * which have not been used recently once the bound is exceeded.
+	 * <p>Default is none, i.e. unbounded caches. Not to be combined with
+	 * {@link #setMaximumWeight}.
+	 * <p>Note: A change of the bounds will reset all existing caches,
+	 * if any, to reconfigure them with the new bounds.
+	 * @since 6.1.4
+	 * @see BoundedConcurrentMapCache.Builder#maximumSize
+	 */
+	public void setMaximumSize(long maximumSize) {
+		Assert.isTrue(maximumSize >= 0, "Maximum size must not be negative");
+		this.maximumSize = maximumSize;
+		recreateCaches();
+	}
+
+	/**
+	 * Bound each cache to the given maximum total weight of its entries,
+	 * as determined through the {@link #setWeigher weigher}.
+	 * <p>Default is none, i.e. unbounded caches. Requires a weigher and is
+	 * not to be combined with {@link #setMaximumSize}.
+	 * <p>Note: A change of the bounds will reset all existing caches,
+	 * if any, to reconfigure them with the new bounds.
+	 * @since 6.1.4
+	 * @see BoundedConcurrentMapCache.Builder#maximumWeight
+	 */
+	public void setMaximumWeight(long maximumWeight) {
+		Assert.isTrue(maximumWeight >= 0, "Maximum weight must not be negative");
+		this.maximumWeight = maximumWeight;
+		recreateCaches();
+	}
+
+	/**
+	 * Specify the weigher for each key and value, to be used in combination
+	 * with {@link #setMaximumWeight}, in any order.
+	 * @since 6.1.4
+	 */
+	public void setWeigher(ToIntBiFunction<Object, Object> weigher) {
+		this.weigher = weigher;
+		recreateCaches();
+	}
+
+	/**
+	 * Expire each cache entry once the given duration has passed since it
+	 * was stored.
+	 * <p>Note: A change of the expiration will reset all existing caches,
+	 * if any, to reconfigure them with the new expiration.
+	 * @since 6.1.4
+	 * @see BoundedConcurrentMapCache.Builder#expireAfterWrite
+	 */
+	public void setExpireAfterWrite(@Nullable Duration expireAfterWrite) {
+		this.expireAfterWrite = expireAfterWrite;
+		recreateCaches();
+	}
+
+	/**
+	 * Expire each cache entry once the given duration has passed since it
+	 * was stored or last read.
+	 * <p>Note: A change of the expiration will reset all existing caches,
+	 * if any, to reconfigure them with the new expiration.
+	 * @since 6.1.4
+	 * @see BoundedConcurrentMapCache.Builder#expireAfterAccess
+	 */
+	public void setExpireAfterAccess(@Nullable Duration expireAfterAccess) {
+		this.expireAfterAccess = expireAfterAccess;
+		recreateCaches();
+	}
+
 	@Override
 	public void setBeanClassLoader(ClassLoader classLoader) {
 		this.serialization = new SerializationDelegate(classLoader);
@@ -176,19 +266,49 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 	}
 
 	private void recreateCaches() {
+		if ((this.maximumWeight >= 0) != (this.weigher != null)) {
+			// Maximum weight and weigher are only valid together: wait for the other one
+			return;
+		}
 		for (Map.Entry<String, Cache> entry : this.cacheMap.entrySet()) {
 			entry.setValue(createConcurrentMapCache(entry.getKey()));
 		}
 	}
 
 	/**
-	 * Create a new ConcurrentMapCache instance for the specified cache name.
+	 * Create a new ConcurrentMapCache instance for the specified cache name,
+	 * or a {@link BoundedConcurrentMapCache} if any bound or expiration
+	 * has been configured.
 	 * @param name the name of the cache
 	 * @return the ConcurrentMapCache (or a decorator thereof)
+	 * @throws IllegalStateException if the configured bounds do not match
 	 */
 	protected Cache createConcurrentMapCache(String name) {
+		Assert.state(this.maximumSize < 0 || this.maximumWeight < 0,
+				"Configure either a maximum size or a maximum weight, not both");
+		Assert.state(this.maximumWeight < 0 || this.weigher != null, "A maximum weight requires a weigher");
+		Assert.state(this.weigher == null || this.maximumWeight >= 0, "A weigher requires a maximum weight");
 		SerializationDelegate actualSerialization = (isStoreByValue() ? this.serialization : null);
-		return new ConcurrentMapCache(name, new ConcurrentHashMap<>(256), isAllowNullValues(), actualSerialization);
+		if (this.maximumSize < 0 && this.maximumWeight < 0 &&
+				this.expireAfterWrite == null && this.expireAfterAccess == null) {
+			return new ConcurrentMapCache(name, new ConcurrentHashMap<>(256), isAllowNullValues(), actualSerialization);
+		}
+		BoundedConcurrentMapCache.Builder builder = BoundedConcurrentMapCache.builder(name)
+				.allowNullValues(isAllowNullValues())
+				.serialization(actualSerialization);
+		if (this.maximumSize >= 0) {
+			builder.maximumSize(this.maximumSize);
+		}
+		else if (this.maximumWeight >= 0 && this.weigher != null) {
+			builder.maximumWeight(this.maximumWeight, this.weigher);
+		}
+		if (this.expireAfterWrite != null) {
+			builder.expireAfterWrite(this.expireAfterWrite);
+		}
+		if (this.expireAfterAccess != null) {
+			builder.expireAfterAccess(this.expireAfterAccess);
+		}
+		return builder.build();
 	}
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,11 +21,15 @@ import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
@@ -49,6 +53,7 @@ import org.springframework.cache.CacheManager;
 import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.core.BridgeMethodResolver;
+import org.springframework.core.CollectionFactory;
 import org.springframework.core.KotlinDetector;
 import org.springframework.core.ReactiveAdapter;
 import org.springframework.core.ReactiveAdapterRegistry;
@@ -132,6 +137,10 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	@Nullable
 	private final ReactiveCachingHandler reactiveCachingHandler;
 
+	private final Map<InFlightKey, InFlightLoad> inFlightLoads = new ConcurrentHashMap<>(64);
+
+	private final LongAdder coalescedInvocationCount = new LongAdder();
+
 	@Nullable
 	private CacheOperationSource cacheOperationSource;
 
@@ -375,6 +384,26 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		return BeanFactoryAnnotationUtils.qualifiedBeanOfType(this.beanFactory, serviceType, name);
 	}
 
+	/**
+	 * Return the number of {@code sync=true} cache misses which joined an
+	 * ongoing load for the same key and cache instead of invoking the
+	 * underlying method themselves.
+	 * @since 6.1.4
+	 * @see org.springframework.cache.annotation.Cacheable#sync()
+	 */
+	public long getCoalescedInvocationCount() {
+		return this.coalescedInvocationCount.sum();
+	}
+
+	/**
+	 * Return the number of {@code sync=true} loads currently in progress.
+	 * @since 6.1.4
+	 * @see org.springframework.cache.annotation.Cacheable#sync()
+	 */
+	public int getInFlightLoadCount() {
+		return this.inFlightLoads.size();
+	}
+
 	/**
 	 * Clear the cached metadata.
 	 */
@@ -422,6 +451,10 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			// Special handling of synchronized invocation
 			return executeSynchronized(invoker, method, contexts);
 		}
+		if (contexts.isBulk()) {
+			// Special handling of bulk invocation
+			return executeBulk(invoker, contexts);
+		}
 
 		// Process any early evictions
 		processCacheEvicts(contexts.get(CacheEvictOperation.class), true,
@@ -442,7 +475,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			Object key = generateKey(context, CacheOperationExpressionEvaluator.NO_RESULT);
 			Cache cache = context.getCaches().iterator().next();
 			if (CompletableFuture.class.isAssignableFrom(method.getReturnType())) {
-				return cache.retrieve(key, () -> (CompletableFuture<?>) invokeOperation(invoker));
+				return retrieveSingleFlight(cache, key, () -> (CompletableFuture<?>) invokeOperation(invoker));
 			}
 			if (this.reactiveCachingHandler != null) {
 				Object returnValue = this.reactiveCachingHandler.executeSynchronized(invoker, method, cache, key);
@@ -450,10 +483,38 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 					return returnValue;
 				}
 			}
+			return wrapCacheValue(method, getSingleFlight(cache, key, () -> unwrapReturnValue(invokeOperation(invoker))));
+		}
+		else {
+			// No caching required, just call the underlying method
+			return invokeOperation(invoker);
+		}
+	}
+
+	/**
+	 * Return the value for the given key from the given cache through
+	 * {@link Cache#get(Object, Callable)}, with concurrent calls for the same key
+	 * and cache joining the ongoing retrieval instead of calling into the cache
+	 * provider themselves. Hits and misses are both resolved by that single
+	 * provider call, which keeps its own loading semantics, e.g. atomic
+	 * computation, distributed locking or transactional puts.
+	 */
+	@Nullable
+	private Object getSingleFlight(Cache cache, Object key, Callable<Object> valueLoader) {
+		InFlightKey inFlightKey = new InFlightKey(cache, key);
+		InFlightLoad load = new InFlightLoad(Thread.currentThread(), new CompletableFuture<>());
+		InFlightLoad existing = this.inFlightLoads.putIfAbsent(inFlightKey, load);
+		if (existing != null) {
+			if (existing.owner() == Thread.currentThread()) {
+				throw new IllegalStateException("Recursive invocation of sync=true operation for key '" +
+						key + "' in cache '" + cache.getName() + "'");
+			}
+			this.coalescedInvocationCount.increment();
 			try {
-				return wrapCacheValue(method, cache.get(key, () -> unwrapReturnValue(invokeOperation(invoker))));
+				// Parks the thread without pinning a virtual thread's carrier
+				return existing.future().join();
 			}
-			catch (Cache.ValueRetrievalException ex) {
+			catch (CompletionException ex) {
 				// Directly propagate ThrowableWrapper from the invoker,
 				// or potentially also an IllegalArgumentException etc.
 				ReflectionUtils.rethrowRuntimeException(ex.getCause());
@@ -461,10 +522,144 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				return null;
 			}
 		}
-		else {
+		try {
+			Object value = cache.get(key, valueLoader);
+			load.future().complete(value);
+			return value;
+		}
+		catch (Cache.ValueRetrievalException ex) {
+			load.future().completeExceptionally(ex.getCause());
+			// Directly propagate ThrowableWrapper from the invoker,
+			// or potentially also an IllegalArgumentException etc.
+			ReflectionUtils.rethrowRuntimeException(ex.getCause());
+			// Never reached
+			return null;
+		}
+		catch (Throwable ex) {
+			load.future().completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.inFlightLoads.remove(inFlightKey, load);
+		}
+	}
+
+	/**
+	 * Retrieve the value for the given key from the given cache through
+	 * {@link Cache#retrieve(Object, Supplier)}, with concurrent retrievals for
+	 * the same key and cache sharing the future of the first one until completed.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private <T> CompletableFuture<T> retrieveSingleFlight(
+			Cache cache, Object key, Supplier<CompletableFuture<T>> valueLoader) {
+
+		InFlightKey inFlightKey = new InFlightKey(cache, key);
+		InFlightLoad load = new InFlightLoad(Thread.currentThread(), new CompletableFuture<>());
+		InFlightLoad existing = this.inFlightLoads.putIfAbsent(inFlightKey, load);
+		if (existing != null) {
+			this.coalescedInvocationCount.increment();
+			// A copy, so that a caller's cancellation does not affect the other callers
+			return (CompletableFuture) existing.future().copy();
+		}
+		CompletableFuture<T> result;
+		try {
+			result = cache.retrieve(key, valueLoader);
+		}
+		catch (Throwable ex) {
+			this.inFlightLoads.remove(inFlightKey, load);
+			load.future().completeExceptionally(ex);
+			throw ex;
+		}
+		result.whenComplete((value, ex) -> {
+			this.inFlightLoads.remove(inFlightKey, load);
+			if (ex != null) {
+				load.future().completeExceptionally(ex);
+			}
+			else {
+				load.future().complete(value);
+			}
+		});
+		return (CompletableFuture) load.future().copy();
+	}
+
+	@Nullable
+	private Object executeBulk(CacheOperationInvoker invoker, CacheOperationContexts contexts) {
+		CacheOperationContext context = contexts.get(CacheableOperation.class).iterator().next();
+		int keysIndex = contexts.getBulkKeysIndex();
+		if (!isConditionPassing(context, CacheOperationExpressionEvaluator.NO_RESULT) ||
+				!(contexts.args[keysIndex] instanceof Collection<?> keys)) {
 			// No caching required, just call the underlying method
 			return invokeOperation(invoker);
 		}
+
+		// Look up all requested keys, consulting further caches for the remaining ones only
+		Map<Object, Object> cacheHits = CollectionUtils.newLinkedHashMap(keys.size());
+		Collection<Object> missingKeys = new LinkedHashSet<>(keys);
+		for (Cache cache : context.getCaches()) {
+			if (missingKeys.isEmpty()) {
+				break;
+			}
+			Map<Object, Cache.ValueWrapper> found = doGetAll(cache, missingKeys);
+			found.forEach((key, wrapper) -> cacheHits.put(key, wrapper.get()));
+			missingKeys.removeAll(found.keySet());
+		}
+		if (logger.isTraceEnabled()) {
+			logger.trace(cacheHits.size() + " of " + keys.size() + " cache entries found in cache(s) " +
+					context.getCacheNames() + ", missing keys " + missingKeys);
+		}
+
+		// Load the missing entries only, with the requested keys reinstated afterwards
+		Map<?, ?> loaded = Collections.emptyMap();
+		if (!missingKeys.isEmpty()) {
+			Object returnValue;
+			contexts.args[keysIndex] = createKeysCollection(keys, missingKeys);
+			try {
+				returnValue = invokeOperation(invoker);
+			}
+			finally {
+				contexts.args[keysIndex] = keys;
+			}
+			if (returnValue instanceof Map<?, ?> map) {
+				loaded = map;
+			}
+			else if (returnValue != null) {
+				throw new IllegalStateException("A bulk=true operation requires a Map return value on '" +
+						context.getOperation() + "' but got " + returnValue.getClass().getName());
+			}
+			if (!loaded.isEmpty() && context.canPutToCache(loaded)) {
+				for (Cache cache : context.getCaches()) {
+					doPutAll(cache, loaded);
+				}
+			}
+			if (cacheHits.isEmpty()) {
+				return returnValue;
+			}
+		}
+
+		// Combine cache hits and loaded entries in the order of the requested keys
+		Map<Object, Object> result = CollectionUtils.newLinkedHashMap(keys.size());
+		for (Object key : keys) {
+			if (cacheHits.containsKey(key)) {
+				result.put(key, cacheHits.get(key));
+			}
+			else if (loaded.containsKey(key)) {
+				result.put(key, loaded.get(key));
+			}
+		}
+		return result;
+	}
+
+	private Collection<Object> createKeysCollection(Collection<?> original, Collection<Object> keys) {
+		Collection<Object> result;
+		try {
+			result = CollectionFactory.createCollection(original.getClass(), keys.size());
+		}
+		catch (IllegalArgumentException ex) {
+			// Not instantiable as such (e.g. an immutable collection)
+			result = CollectionFactory.createApproximateCollection(original, keys.size());
+		}
+		result.addAll(keys);
+		return result;
 	}
 
 	/**
@@ -714,12 +909,30 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	}
 
 
+	/**
+	 * Key of a {@code sync=true} load in progress: the cache instance and the cache key.
+	 */
+	private record InFlightKey(Cache cache, Object key) {
+	}
+
+
+	/**
+	 * A {@code sync=true} load in progress, with the thread which initiated it.
+	 */
+	private record InFlightLoad(Thread owner, CompletableFuture<Object> future) {
+	}
+
+
 	private class CacheOperationContexts {
 
 		private final MultiValueMap<Class<? extends CacheOperation>, CacheOperationContext> contexts;
 
+		private final Object[] args;
+
 		private final boolean sync;
 
+		private final int bulkKeysIndex;
+
 		boolean processed;
 
 		public CacheOperationContexts(Collection<? extends CacheOperation> operations, Method method,
@@ -729,7 +942,9 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			for (CacheOperation op : operations) {
 				this.contexts.add(op.getClass(), getOperationContext(op, method, args, target, targetClass));
 			}
+			this.args = args;
 			this.sync = determineSyncFlag(method);
+			this.bulkKeysIndex = determineBulkKeysIndex(method);
 		}
 
 		public Collection<CacheOperationContext> get(Class<? extends CacheOperation> operationClass) {
@@ -741,6 +956,14 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			return this.sync;
 		}
 
+		public boolean isBulk() {
+			return (this.bulkKeysIndex >= 0);
+		}
+
+		public int getBulkKeysIndex() {
+			return this.bulkKeysIndex;
+		}
+
 		private boolean determineSyncFlag(Method method) {
 			List<CacheOperationContext> cacheableContexts = this.contexts.get(CacheableOperation.class);
 			if (cacheableContexts == null) {  // no @Cacheable operation at all
@@ -776,6 +999,49 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			}
 			return false;
 		}
+
+		private int determineBulkKeysIndex(Method method) {
+			List<CacheOperationContext> cacheableContexts = this.contexts.get(CacheableOperation.class);
+			if (cacheableContexts == null) {  // no @Cacheable operation at all
+				return -1;
+			}
+			boolean bulkEnabled = false;
+			for (CacheOperationContext context : cacheableContexts) {
+				if (context.getOperation() instanceof CacheableOperation cacheable && cacheable.isBulk()) {
+					bulkEnabled = true;
+					break;
+				}
+			}
+			if (!bulkEnabled) {
+				return -1;
+			}
+			if (this.contexts.size() > 1 || cacheableContexts.size() > 1) {
+				throw new IllegalStateException(
+						"A bulk=true operation cannot be combined with other cache operations on '" + method + "'");
+			}
+			CacheOperation operation = cacheableContexts.iterator().next().getOperation();
+			if (this.sync) {
+				throw new IllegalStateException(
+						"A bulk=true operation cannot be combined with sync=true on '" + operation + "'");
+			}
+			if (StringUtils.hasText(operation.getKey()) || StringUtils.hasText(operation.getKeyGenerator())) {
+				throw new IllegalStateException(
+						"A bulk=true operation does not support the key and keyGenerator attributes on '" +
+								operation + "'");
+			}
+			if (!Map.class.isAssignableFrom(method.getReturnType())) {
+				throw new IllegalStateException(
+						"A bulk=true operation requires a Map return type on '" + method + "'");
+			}
+			Class<?>[] parameterTypes = method.getParameterTypes();
+			for (int i = 0; i < parameterTypes.length; i++) {
+				if (Collection.class.isAssignableFrom(parameterTypes[i])) {
+					return i;
+				}
+			}
+			throw new IllegalStateException(
+					"A bulk=true operation requires a Collection parameter holding the keys on '" + method + "'");
+		}
 	}
 
 
@@ -835,6 +1101,12 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		@Nullable
 		private Object key;
 
+		@Nullable
+		private EvaluationContext evaluationContext;
+
+		@Nullable
+		private Object evaluationContextResult;
+
 		public CacheOperationContext(CacheOperationMetadata metadata, Object[] args, Object target) {
 			this.metadata = metadata;
 			this.args = extractArgs(metadata.method, args);
@@ -909,8 +1181,8 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		@Nullable
 		protected Object generateKey(@Nullable Object result) {
 			if (StringUtils.hasText(this.metadata.operation.getKey())) {
-				EvaluationContext evaluationContext = createEvaluationContext(result);
-				this.key = evaluator.key(this.metadata.operation.getKey(), this.metadata.methodKey, evaluationContext);
+				this.key = evaluator.key(this.metadata.operation.getKey(), this.metadata.methodKey,
+						this.metadata.targetMethod, this.args, () -> createEvaluationContext(result));
 			}
 			else {
 				this.key = this.metadata.keyGenerator.generate(this.target, this.metadata.method, this.args);
@@ -929,8 +1201,15 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		}
 
 		private EvaluationContext createEvaluationContext(@Nullable Object result) {
-			return evaluator.createEvaluationContext(this.caches, this.metadata.method, this.args,
-					this.target, this.metadata.targetClass, this.metadata.targetMethod, result);
+			// Reuse the context of the condition, key and unless expressions for the same result
+			EvaluationContext evaluationContext = this.evaluationContext;
+			if (evaluationContext == null || this.evaluationContextResult != result) {
+				evaluationContext = evaluator.createEvaluationContext(this.caches, this.metadata.method, this.args,
+						this.target, this.metadata.targetClass, this.metadata.targetMethod, result);
+				this.evaluationContext = evaluationContext;
+				this.evaluationContextResult = result;
+			}
+			return evaluationContext;
 		}
 
 		protected Collection<? extends Cache> getCaches() {
@@ -1082,19 +1361,19 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				if (adapter.isMultiValue()) {
 					// Flux or similar
 					return adapter.fromPublisher(Flux.from(Mono.fromFuture(
-							cache.retrieve(key,
+							retrieveSingleFlight(cache, key,
 									() -> Flux.from(adapter.toPublisher(invokeOperation(invoker))).collectList().toFuture())))
 							.flatMap(Flux::fromIterable));
 				}
 				else {
 					// Mono or similar
 					return adapter.fromPublisher(Mono.fromFuture(
-							cache.retrieve(key,
+							retrieveSingleFlight(cache, key,
 									() -> Mono.from(adapter.toPublisher(invokeOperation(invoker))).toFuture())));
 				}
 			}
 			if (KotlinDetector.isKotlinReflectPresent() && KotlinDetector.isSuspendingFunction(method)) {
-				return Mono.fromFuture(cache.retrieve(key, () -> ((Mono<?>) invokeOperation(invoker)).toFuture()));
+				return Mono.fromFuture(retrieveSingleFlight(cache, key, () -> ((Mono<?>) invokeOperation(invoker)).toFuture()));
 			}
 			return NOT_HANDLED;
 		}
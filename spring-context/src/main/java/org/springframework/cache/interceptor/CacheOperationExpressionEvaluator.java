@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,24 +16,43 @@
 
 package org.springframework.cache.interceptor;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.springframework.cache.Cache;
 import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.CachedExpressionEvaluator;
+import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.ast.CompoundExpression;
+import org.springframework.expression.spel.ast.PropertyOrFieldReference;
+import org.springframework.expression.spel.ast.VariableReference;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.support.ReflectivePropertyAccessor;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 
 /**
  * Utility class handling the SpEL expression parsing.
  * Meant to be used as a reusable, thread-safe component.
  *
  * <p>Performs internal caching for performance reasons
- * using {@link AnnotatedElementKey}.
+ * using {@link AnnotatedElementKey}. Expressions are compiled once they
+ * have been evaluated a number of times (unless configured otherwise through
+ * the {@code spring.expression.compiler.mode} property), and key expressions
+ * which merely refer to a method argument or to a property of a method
+ * argument (such as {@code #id} or {@code #user.id}) are resolved without
+ * evaluating the expression at all.
  *
  * @author Costin Leau
  * @author Phillip Webb
@@ -65,10 +84,14 @@ class CacheOperationExpressionEvaluator extends CachedExpressionEvaluator {
 
 	private final Map<ExpressionKey, Expression> unlessCache = new ConcurrentHashMap<>(64);
 
+	private final Map<Expression, ArgumentKeyAccessor> keyAccessorCache = new ConcurrentHashMap<>(64);
+
+	private final PropertyResolver propertyResolver = new PropertyResolver();
+
 	private final CacheEvaluationContextFactory evaluationContextFactory;
 
 	public CacheOperationExpressionEvaluator(CacheEvaluationContextFactory evaluationContextFactory) {
-		super();
+		super(createCompilingParser());
 		this.evaluationContextFactory = evaluationContextFactory;
 		this.evaluationContextFactory.setParameterNameDiscoverer(this::getParameterNameDiscoverer);
 	}
@@ -106,6 +129,33 @@ class CacheOperationExpressionEvaluator extends CachedExpressionEvaluator {
 		return getExpression(this.keyCache, methodKey, keyExpression).getValue(evalContext);
 	}
 
+	/**
+	 * Evaluate the specified key expression, resolving it directly against the
+	 * method arguments if it merely refers to an argument or to a property of an
+	 * argument, and only creating an {@link EvaluationContext} otherwise.
+	 * @param keyExpression the key expression
+	 * @param methodKey the element on which the expression is defined
+	 * @param targetMethod the target method, as used for the evaluation context
+	 * @param args the method arguments, as used for the evaluation context
+	 * @param evalContext the supplier for the evaluation context to use if the
+	 * expression needs to be evaluated
+	 * @return the key
+	 * @since 6.1.4
+	 */
+	@Nullable
+	public Object key(String keyExpression, AnnotatedElementKey methodKey, Method targetMethod,
+			Object[] args, Supplier<EvaluationContext> evalContext) {
+
+		Expression expression = getExpression(this.keyCache, methodKey, keyExpression);
+		ArgumentKeyAccessor accessor = this.keyAccessorCache.get(expression);
+		if (accessor == null) {
+			accessor = ArgumentKeyAccessor.forExpression(expression, targetMethod, getParameterNameDiscoverer());
+			this.keyAccessorCache.put(expression, accessor);
+		}
+		Object key = accessor.getKey(args, this.propertyResolver);
+		return (key != ArgumentKeyAccessor.UNRESOLVED ? key : expression.getValue(evalContext.get()));
+	}
+
 	public boolean condition(String conditionExpression, AnnotatedElementKey methodKey, EvaluationContext evalContext) {
 		return (Boolean.TRUE.equals(getExpression(this.conditionCache, methodKey, conditionExpression).getValue(
 				evalContext, Boolean.class)));
@@ -123,6 +173,144 @@ class CacheOperationExpressionEvaluator extends CachedExpressionEvaluator {
 		this.keyCache.clear();
 		this.conditionCache.clear();
 		this.unlessCache.clear();
+		this.keyAccessorCache.clear();
+	}
+
+
+	/**
+	 * Resolves a key expression of the form {@code #arg} or {@code #arg.property}
+	 * against the method arguments, following the variables exposed by
+	 * {@link org.springframework.context.expression.MethodBasedEvaluationContext}.
+	 * Property access goes through a {@link MethodHandle} for the last seen
+	 * argument type. Anything else is {@link #UNRESOLVED} and left to the
+	 * expression itself.
+	 */
+	private static final class ArgumentKeyAccessor {
+
+		static final Object UNRESOLVED = new Object();
+
+		static final ArgumentKeyAccessor NONE = new ArgumentKeyAccessor(-1, -1, null);
+
+		private final int index;
+
+		private final int argumentCount;
+
+		@Nullable
+		private final String property;
+
+		@Nullable
+		private volatile PropertyHandle propertyHandle;
+
+		private ArgumentKeyAccessor(int index, int argumentCount, @Nullable String property) {
+			this.index = index;
+			this.argumentCount = argumentCount;
+			this.property = property;
+		}
+
+		static ArgumentKeyAccessor forExpression(Expression expression, Method method,
+				ParameterNameDiscoverer parameterNameDiscoverer) {
+
+			if (!(expression instanceof SpelExpression spelExpression) || method.isVarArgs()) {
+				return NONE;
+			}
+			SpelNode node = spelExpression.getAST();
+			String property = null;
+			if (node instanceof CompoundExpression && node.getChildCount() == 2 &&
+					node.getChild(1) instanceof PropertyOrFieldReference reference && !reference.isNullSafe()) {
+				node = node.getChild(0);
+				property = reference.getName();
+			}
+			if (!(node instanceof VariableReference)) {
+				return NONE;
+			}
+			String variable = node.toStringAST().substring(1);
+			String[] paramNames = parameterNameDiscoverer.getParameterNames(method);
+			int paramCount = (paramNames != null ? paramNames.length : method.getParameterCount());
+			int index = -1;
+			for (int i = 0; i < paramCount; i++) {
+				if (variable.equals("a" + i) || variable.equals("p" + i) ||
+						(paramNames != null && variable.equals(paramNames[i]))) {
+					index = i;
+				}
+			}
+			// #root and #this are not variables, and #result takes precedence if present
+			if (index == -1 || variable.equals("root") || variable.equals("this") ||
+					RESULT_VARIABLE.equals(variable)) {
+				return NONE;
+			}
+			return new ArgumentKeyAccessor(index, paramCount, property);
+		}
+
+		@Nullable
+		Object getKey(Object[] args, PropertyResolver propertyResolver) {
+			if (this.index == -1 || args.length != this.argumentCount) {
+				return UNRESOLVED;
+			}
+			Object arg = args[this.index];
+			if (this.property == null) {
+				return arg;
+			}
+			if (arg == null || arg instanceof Class || arg.getClass().isArray()) {
+				return UNRESOLVED;
+			}
+			PropertyHandle propertyHandle = this.propertyHandle;
+			if (propertyHandle == null || propertyHandle.type != arg.getClass()) {
+				propertyHandle = new PropertyHandle(arg.getClass(),
+						propertyResolver.resolve(this.property, arg.getClass()));
+				this.propertyHandle = propertyHandle;
+			}
+			if (propertyHandle.handle == null) {
+				return UNRESOLVED;
+			}
+			try {
+				return propertyHandle.handle.invokeExact(arg);
+			}
+			catch (Throwable ex) {
+				// Let the expression report the failure
+				return UNRESOLVED;
+			}
+		}
+	}
+
+
+	private record PropertyHandle(Class<?> type, @Nullable MethodHandle handle) {
+	}
+
+
+	/**
+	 * Resolves properties the same way as the {@link ReflectivePropertyAccessor}
+	 * used by the evaluation context, restricted to public instance members which are
+	 * accessible through a public {@link MethodHandles.Lookup}.
+	 */
+	private static final class PropertyResolver extends ReflectivePropertyAccessor {
+
+		private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+		@Nullable
+		MethodHandle resolve(String name, Class<?> type) {
+			try {
+				Method getter = findGetterForProperty(name, type, false);
+				if (getter != null) {
+					getter = ClassUtils.getInterfaceMethodIfPossible(getter, type);
+					return (isAccessible(getter.getModifiers(), getter.getDeclaringClass()) ?
+							MethodHandles.publicLookup().unreflect(getter).asType(GETTER_TYPE) : null);
+				}
+				Field field = findField(name, type, false);
+				if (field != null) {
+					return (isAccessible(field.getModifiers(), field.getDeclaringClass()) ?
+							MethodHandles.publicLookup().unreflectGetter(field).asType(GETTER_TYPE) : null);
+				}
+			}
+			catch (IllegalAccessException ex) {
+				// Not accessible: evaluate the expression instead
+			}
+			return null;
+		}
+
+		private static boolean isAccessible(int modifiers, Class<?> declaringClass) {
+			return (Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers) &&
+					Modifier.isPublic(declaringClass.getModifiers()));
+		}
 	}
 
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.near;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link CacheInvalidationChannel} implementation based on application events:
+ * invalidations are published as {@link CacheInvalidationEvent}s, and any such
+ * event received is passed on to the subscribers.
+ *
+ * <p>Meant to be defined as a bean, so that it gets the application event
+ * publisher injected and gets registered as a listener. Invalidations then
+ * reach all near caches within the application context hierarchy. A bridge to
+ * a message broker can propagate them further by listening to the published
+ * events and publishing the events received from the broker in turn.
+ *
+ * @since 6.1.4
+ */
+public class ApplicationEventCacheInvalidationChannel
+		implements CacheInvalidationChannel, ApplicationEventPublisherAware, ApplicationListener<CacheInvalidationEvent> {
+
+	private final List<Consumer<CacheInvalidation>> subscribers = new CopyOnWriteArrayList<>();
+
+	@Nullable
+	private ApplicationEventPublisher applicationEventPublisher;
+
+
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+		this.applicationEventPublisher = applicationEventPublisher;
+	}
+
+	@Override
+	public void publish(CacheInvalidation invalidation) {
+		Assert.state(this.applicationEventPublisher != null, "No ApplicationEventPublisher set");
+		this.applicationEventPublisher.publishEvent(new CacheInvalidationEvent(this, invalidation));
+	}
+
+	@Override
+	public void subscribe(Consumer<CacheInvalidation> subscriber) {
+		Assert.notNull(subscriber, "Subscriber must not be null");
+		this.subscribers.add(subscriber);
+	}
+
+	@Override
+	public void unsubscribe(Consumer<CacheInvalidation> subscriber) {
+		this.subscribers.remove(subscriber);
+	}
+
+	@Override
+	public void onApplicationEvent(CacheInvalidationEvent event) {
+		for (Consumer<CacheInvalidation> subscriber : this.subscribers) {
+			subscriber.accept(event.getInvalidation());
+		}
+	}
+
+}
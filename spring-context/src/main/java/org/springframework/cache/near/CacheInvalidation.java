@@ -0,0 +1,49 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.near;
+
+import java.io.Serializable;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * An invalidation of locally held entries of a given cache, as exchanged
+ * through a {@link CacheInvalidationChannel}.
+ *
+ * @param origin the identifier of the {@link NearCacheManager} which issued the
+ * invalidation, allowing it to ignore its own invalidations
+ * @param cacheName the name of the cache
+ * @param key the key of the invalidated entry, or {@code null} if all entries
+ * of the cache are invalidated
+ * @since 6.1.4
+ */
+public record CacheInvalidation(String origin, String cacheName, @Nullable Object key) implements Serializable {
+
+	public CacheInvalidation {
+		Assert.notNull(origin, "Origin must not be null");
+		Assert.notNull(cacheName, "Cache name must not be null");
+	}
+
+	/**
+	 * Return whether all entries of the cache are invalidated.
+	 */
+	public boolean isClear() {
+		return (this.key == null);
+	}
+
+}
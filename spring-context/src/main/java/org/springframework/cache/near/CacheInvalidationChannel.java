@@ -0,0 +1,55 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.near;
+
+import java.util.function.Consumer;
+
+/**
+ * Channel propagating {@link CacheInvalidation invalidations} between the
+ * {@link NearCacheManager} instances sharing the same remote caches, typically
+ * one per application instance.
+ *
+ * <p>Delivery is expected to be best effort: the local entries of a near cache
+ * expire after a configurable time to live in any case.
+ *
+ * @since 6.1.4
+ * @see SimpleCacheInvalidationChannel
+ * @see ApplicationEventCacheInvalidationChannel
+ */
+public interface CacheInvalidationChannel {
+
+	/**
+	 * Publish the given invalidation to all subscribers, potentially
+	 * including the publishing side itself.
+	 * @param invalidation the invalidation to publish
+	 */
+	void publish(CacheInvalidation invalidation);
+
+	/**
+	 * Subscribe to the invalidations published through this channel.
+	 * @param subscriber the callback for each received invalidation
+	 */
+	void subscribe(Consumer<CacheInvalidation> subscriber);
+
+	/**
+	 * Unsubscribe the given callback, previously passed to {@link #subscribe},
+	 * from the invalidations published through this channel.
+	 * @param subscriber the callback to remove
+	 */
+	void unsubscribe(Consumer<CacheInvalidation> subscriber);
+
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.near;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Two-level {@link Cache} decorator, serving entries of a target cache (typically
+ * a remote one) from a local cache once they have been read or written through
+ * this decorator.
+ *
+ * <p>Write operations are applied to the target cache and to the local cache,
+ * and are then published as {@link CacheInvalidation invalidations} through the
+ * given {@link CacheInvalidationChannel}, so that the other near caches for the
+ * same target cache drop their local copies. Invalidations received through
+ * {@link #onInvalidation} are applied to the local cache, except for the ones
+ * originating from this near cache itself.
+ *
+ * <p>A value read from the target cache is not stored locally if an invalidation
+ * was received in the meantime. Since invalidations are delivered on a best effort
+ * basis, the local cache is nevertheless expected to expire its entries.
+ *
+ * @since 6.1.4
+ * @see NearCacheManager
+ */
+public class NearCache implements Cache {
+
+	private final Cache localCache;
+
+	private final Cache targetCache;
+
+	private final CacheInvalidationChannel invalidationChannel;
+
+	private final String origin;
+
+	private final AtomicLong invalidationCount = new AtomicLong();
+
+
+	/**
+	 * Create a new {@code NearCache}.
+	 * @param localCache the local cache, which needs to accept {@code null}
+	 * values if the target cache holds any
+	 * @param targetCache the target cache
+	 * @param invalidationChannel the channel to publish invalidations to
+	 * @param origin the identifier of this near cache in published invalidations
+	 */
+	public NearCache(Cache localCache, Cache targetCache, CacheInvalidationChannel invalidationChannel,
+			String origin) {
+
+		Assert.notNull(localCache, "Local Cache must not be null");
+		Assert.notNull(targetCache, "Target Cache must not be null");
+		Assert.notNull(invalidationChannel, "CacheInvalidationChannel must not be null");
+		Assert.notNull(origin, "Origin must not be null");
+		this.localCache = localCache;
+		this.targetCache = targetCache;
+		this.invalidationChannel = invalidationChannel;
+		this.origin = origin;
+	}
+
+
+	/**
+	 * Return the local cache.
+	 */
+	public Cache getLocalCache() {
+		return this.localCache;
+	}
+
+	/**
+	 * Return the target cache.
+	 */
+	public Cache getTargetCache() {
+		return this.targetCache;
+	}
+
+	@Override
+	public String getName() {
+		return this.targetCache.getName();
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return this.targetCache.getNativeCache();
+	}
+
+	@Override
+	@Nullable
+	public ValueWrapper get(Object key) {
+		ValueWrapper localValue = this.localCache.get(key);
+		if (localValue != null) {
+			return localValue;
+		}
+		long count = this.invalidationCount.get();
+		ValueWrapper targetValue = this.targetCache.get(key);
+		if (targetValue != null) {
+			putLocal(key, targetValue.get(), count);
+		}
+		return targetValue;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	@Nullable
+	public <T> T get(Object key, @Nullable Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		Object value = (wrapper != null ? wrapper.get() : null);
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException(
+					"Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	@Nullable
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		ValueWrapper localValue = this.localCache.get(key);
+		if (localValue != null) {
+			return (T) localValue.get();
+		}
+		long count = this.invalidationCount.get();
+		T value = this.targetCache.get(key, valueLoader);
+		putLocal(key, value, count);
+		return value;
+	}
+
+	@Override
+	@Nullable
+	public CompletableFuture<?> retrieve(Object key) {
+		ValueWrapper localValue = this.localCache.get(key);
+		if (localValue != null) {
+			return CompletableFuture.completedFuture(localValue);
+		}
+		long count = this.invalidationCount.get();
+		CompletableFuture<?> result = this.targetCache.retrieve(key);
+		if (result == null) {
+			return null;
+		}
+		return result.thenApply(value -> {
+			if (value != null) {
+				putLocal(key, (value instanceof ValueWrapper wrapper ? wrapper.get() : value), count);
+			}
+			return value;
+		});
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+		ValueWrapper localValue = this.localCache.get(key);
+		if (localValue != null) {
+			return CompletableFuture.completedFuture((T) localValue.get());
+		}
+		long count = this.invalidationCount.get();
+		return this.targetCache.retrieve(key, valueLoader).thenApply(value -> {
+			putLocal(key, value, count);
+			return value;
+		});
+	}
+
+	@Override
+	public void put(Object key, @Nullable Object value) {
+		long count = this.invalidationCount.get();
+		this.targetCache.put(key, value);
+		putLocal(key, value, count);
+		publish(key);
+	}
+
+	@Override
+	@Nullable
+	public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+		long count = this.invalidationCount.get();
+		ValueWrapper existingValue = this.targetCache.putIfAbsent(key, value);
+		if (existingValue != null) {
+			putLocal(key, existingValue.get(), count);
+		}
+		else {
+			putLocal(key, value, count);
+			publish(key);
+		}
+		return existingValue;
+	}
+
+	@Override
+	public Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+		Map<Object, ValueWrapper> localValues = this.localCache.getAll(keys);
+		if (localValues.size() == keys.size()) {
+			return localValues;
+		}
+		List<Object> missingKeys = new ArrayList<>(keys.size() - localValues.size());
+		for (Object key : keys) {
+			if (!localValues.containsKey(key)) {
+				missingKeys.add(key);
+			}
+		}
+		long count = this.invalidationCount.get();
+		Map<Object, ValueWrapper> targetValues = this.targetCache.getAll(missingKeys);
+		Map<Object, ValueWrapper> result = CollectionUtils.newLinkedHashMap(keys.size());
+		for (Object key : keys) {
+			ValueWrapper value = localValues.get(key);
+			if (value == null) {
+				value = targetValues.get(key);
+				if (value != null) {
+					putLocal(key, value.get(), count);
+				}
+			}
+			if (value != null) {
+				result.put(key, value);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public void putAll(Map<?, ?> entries) {
+		long count = this.invalidationCount.get();
+		this.targetCache.putAll(entries);
+		entries.forEach((key, value) -> {
+			putLocal(key, value, count);
+			publish(key);
+		});
+	}
+
+	@Override
+	public void evict(Object key) {
+		this.targetCache.evict(key);
+		evictLocal(key);
+		publish(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		boolean present = this.targetCache.evictIfPresent(key);
+		evictLocal(key);
+		publish(key);
+		return present;
+	}
+
+	@Override
+	public void evictAll(Collection<?> keys) {
+		this.targetCache.evictAll(keys);
+		this.invalidationCount.incrementAndGet();
+		this.localCache.evictAll(keys);
+		keys.forEach(this::publish);
+	}
+
+	@Override
+	public void clear() {
+		this.targetCache.clear();
+		invalidateLocal();
+		this.invalidationChannel.publish(new CacheInvalidation(this.origin, getName(), null));
+	}
+
+	@Override
+	public boolean invalidate() {
+		boolean present = this.targetCache.invalidate();
+		invalidateLocal();
+		this.invalidationChannel.publish(new CacheInvalidation(this.origin, getName(), null));
+		return present;
+	}
+
+	/**
+	 * Apply the given invalidation to the local cache, unless it originates
+	 * from this near cache.
+	 * @param invalidation the invalidation received for this cache
+	 */
+	public void onInvalidation(CacheInvalidation invalidation) {
+		if (this.origin.equals(invalidation.origin())) {
+			return;
+		}
+		Object key = invalidation.key();
+		if (key != null) {
+			evictLocal(key);
+		}
+		else {
+			invalidateLocal();
+		}
+	}
+
+	private void putLocal(Object key, @Nullable Object value, long count) {
+		if (this.invalidationCount.get() == count) {
+			this.localCache.put(key, value);
+			// Drop the value again if an invalidation raced with the put
+			if (this.invalidationCount.get() != count) {
+				this.localCache.evict(key);
+			}
+		}
+	}
+
+	private void evictLocal(Object key) {
+		this.invalidationCount.incrementAndGet();
+		this.localCache.evict(key);
+	}
+
+	private void invalidateLocal() {
+		this.invalidationCount.incrementAndGet();
+		this.localCache.invalidate();
+	}
+
+	private void publish(Object key) {
+		this.invalidationChannel.publish(new CacheInvalidation(this.origin, getName(), key));
+	}
+
+}
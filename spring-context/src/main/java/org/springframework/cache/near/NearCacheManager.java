@@ -0,0 +1,199 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.near;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.BoundedConcurrentMapCache;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link CacheManager} decorator exposing {@link NearCache near caches} for the
+ * caches of a target {@link CacheManager}, e.g. a
+ * {@code org.springframework.cache.jcache.JCacheCacheManager} backed by a remote
+ * cache: hot entries are served from a bounded local cache, avoiding a round trip
+ * to the remote cache on each hit.
+ *
+ * <p>Local entries expire after a configurable time to live and get invalidated
+ * through the given {@link CacheInvalidationChannel} on each write operation
+ * performed through any {@code NearCacheManager} sharing that channel.
+ * The {@link SimpleCacheInvalidationChannel} covers the instances within the same
+ * JVM; the {@link ApplicationEventCacheInvalidationChannel} allows for bridging
+ * invalidations to a message broker.
+ *
+ * <p>Local caches are {@link BoundedConcurrentMapCache} instances by default;
+ * {@link #createLocalCache(String)} can be overridden for a different local cache.
+ *
+ * @since 6.1.4
+ * @see NearCache
+ */
+public class NearCacheManager implements CacheManager, InitializingBean, DisposableBean {
+
+	private final String origin = UUID.randomUUID().toString();
+
+	private final ConcurrentMap<String, NearCache> cacheMap = new ConcurrentHashMap<>(16);
+
+	private final Consumer<CacheInvalidation> invalidationSubscriber = this::onInvalidation;
+
+	@Nullable
+	private CacheManager targetCacheManager;
+
+	@Nullable
+	private CacheInvalidationChannel invalidationChannel;
+
+	private long localMaximumSize = 10000;
+
+	private Duration localTimeToLive = Duration.ofMinutes(1);
+
+
+	/**
+	 * Create a new NearCacheManager, setting the target CacheManager and the
+	 * invalidation channel through the corresponding bean properties.
+	 */
+	public NearCacheManager() {
+	}
+
+	/**
+	 * Create a new NearCacheManager for the given target CacheManager.
+	 * @param targetCacheManager the target CacheManager to decorate
+	 * @param invalidationChannel the channel to exchange invalidations through
+	 */
+	public NearCacheManager(CacheManager targetCacheManager, CacheInvalidationChannel invalidationChannel) {
+		Assert.notNull(targetCacheManager, "Target CacheManager must not be null");
+		Assert.notNull(invalidationChannel, "CacheInvalidationChannel must not be null");
+		this.targetCacheManager = targetCacheManager;
+		this.invalidationChannel = invalidationChannel;
+	}
+
+
+	/**
+	 * Set the target CacheManager to decorate.
+	 */
+	public void setTargetCacheManager(CacheManager targetCacheManager) {
+		this.targetCacheManager = targetCacheManager;
+	}
+
+	/**
+	 * Set the channel to exchange invalidations through.
+	 */
+	public void setInvalidationChannel(CacheInvalidationChannel invalidationChannel) {
+		this.invalidationChannel = invalidationChannel;
+	}
+
+	/**
+	 * Set the maximum number of entries held locally per cache.
+	 * <p>Default is 10000.
+	 */
+	public void setLocalMaximumSize(long localMaximumSize) {
+		Assert.isTrue(localMaximumSize >= 0, "Local maximum size must not be negative");
+		this.localMaximumSize = localMaximumSize;
+	}
+
+	/**
+	 * Set the time to live of the entries held locally, bounding their staleness
+	 * in case of an invalidation getting lost. A zero duration keeps local
+	 * entries until they are evicted or invalidated.
+	 * <p>Default is 1 minute.
+	 */
+	public void setLocalTimeToLive(Duration localTimeToLive) {
+		Assert.notNull(localTimeToLive, "Local time to live must not be null");
+		Assert.isTrue(!localTimeToLive.isNegative(), "Local time to live must not be negative");
+		this.localTimeToLive = localTimeToLive;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (this.targetCacheManager == null) {
+			throw new IllegalArgumentException("Property 'targetCacheManager' is required");
+		}
+		if (this.invalidationChannel == null) {
+			throw new IllegalArgumentException("Property 'invalidationChannel' is required");
+		}
+		this.invalidationChannel.subscribe(this.invalidationSubscriber);
+	}
+
+	/**
+	 * Unsubscribe from the invalidation channel, since the channel may outlive
+	 * this manager, and drop the near caches along with their local entries.
+	 */
+	@Override
+	public void destroy() {
+		if (this.invalidationChannel != null) {
+			this.invalidationChannel.unsubscribe(this.invalidationSubscriber);
+		}
+		this.cacheMap.clear();
+	}
+
+
+	@Override
+	@Nullable
+	public Cache getCache(String name) {
+		NearCache cache = this.cacheMap.get(name);
+		if (cache == null) {
+			Assert.state(this.targetCacheManager != null, "No target CacheManager set");
+			Assert.state(this.invalidationChannel != null, "No CacheInvalidationChannel set");
+			Cache targetCache = this.targetCacheManager.getCache(name);
+			if (targetCache == null) {
+				return null;
+			}
+			CacheInvalidationChannel invalidationChannel = this.invalidationChannel;
+			cache = this.cacheMap.computeIfAbsent(name, key ->
+					new NearCache(createLocalCache(name), targetCache, invalidationChannel, this.origin));
+		}
+		return cache;
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		Assert.state(this.targetCacheManager != null, "No target CacheManager set");
+		return this.targetCacheManager.getCacheNames();
+	}
+
+	/**
+	 * Create the local cache for the specified cache name.
+	 * <p>The default implementation creates a {@link BoundedConcurrentMapCache}
+	 * according to the local maximum size and time to live settings.
+	 * @param name the name of the cache
+	 * @return the local cache, accepting {@code null} values
+	 */
+	protected Cache createLocalCache(String name) {
+		BoundedConcurrentMapCache.Builder builder = BoundedConcurrentMapCache.builder(name)
+				.maximumSize(this.localMaximumSize);
+		if (!this.localTimeToLive.isZero()) {
+			builder.expireAfterWrite(this.localTimeToLive);
+		}
+		return builder.build();
+	}
+
+	private void onInvalidation(CacheInvalidation invalidation) {
+		NearCache cache = this.cacheMap.get(invalidation.cacheName());
+		if (cache != null) {
+			cache.onInvalidation(invalidation);
+		}
+	}
+
+}
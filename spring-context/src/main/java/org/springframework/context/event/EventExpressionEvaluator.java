@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,6 +31,9 @@ import org.springframework.expression.spel.support.StandardEvaluationContext;
 /**
  * Utility class for handling SpEL expression parsing for application events.
  * <p>Meant to be used as a reusable, thread-safe component.
+ * Conditions are compiled once they have been evaluated a number of times,
+ * unless configured otherwise through the {@code spring.expression.compiler.mode}
+ * property.
  *
  * @author Stephane Nicoll
  * @since 4.2
@@ -43,6 +46,7 @@ class EventExpressionEvaluator extends CachedExpressionEvaluator {
 	private final StandardEvaluationContext originalEvaluationContext;
 
 	EventExpressionEvaluator(StandardEvaluationContext originalEvaluationContext) {
+		super(createCompilingParser());
 		this.originalEvaluationContext = originalEvaluationContext;
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,22 @@
 
 package org.springframework.context.expression;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.SpringProperties;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 
 /**
@@ -38,7 +46,8 @@ public abstract class CachedExpressionEvaluator {
 
 	private final SpelExpressionParser parser;
 
-	private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+	private final ParameterNameDiscoverer parameterNameDiscoverer =
+			new CachingParameterNameDiscoverer(new DefaultParameterNameDiscoverer());
 
 
 	/**
@@ -66,6 +75,9 @@ public abstract class CachedExpressionEvaluator {
 
 	/**
 	 * Return a shared parameter name discoverer which caches data internally.
+	 * <p>As of 6.1.4, the parameter names are cached per method, so that
+	 * an evaluation context created per invocation does not need to discover
+	 * them again.
 	 * @since 4.3
 	 */
 	protected ParameterNameDiscoverer getParameterNameDiscoverer() {
@@ -106,6 +118,25 @@ public abstract class CachedExpressionEvaluator {
 	}
 
 
+	/**
+	 * Create a {@link SpelExpressionParser} which compiles the parsed expressions
+	 * once they have been interpreted a number of times, falling back to
+	 * interpretation for expressions which turn out not to be compilable
+	 * ({@link SpelCompilerMode#MIXED}). A compiler mode set explicitly through the
+	 * {@value SpelParserConfiguration#SPRING_EXPRESSION_COMPILER_MODE_PROPERTY_NAME}
+	 * property takes precedence.
+	 * <p>Suitable for annotation-declared expressions which get evaluated
+	 * against arguments of the same types on every invocation.
+	 * @since 6.1.4
+	 */
+	protected static SpelExpressionParser createCompilingParser() {
+		String mode = SpringProperties.getProperty(SpelParserConfiguration.SPRING_EXPRESSION_COMPILER_MODE_PROPERTY_NAME);
+		SpelCompilerMode compilerMode = (mode != null ?
+				SpelCompilerMode.valueOf(mode.toUpperCase()) : SpelCompilerMode.MIXED);
+		return new SpelExpressionParser(new SpelParserConfiguration(compilerMode, null));
+	}
+
+
 	/**
 	 * An expression key.
 	 */
@@ -149,4 +180,44 @@ public abstract class CachedExpressionEvaluator {
 		}
 	}
 
+
+	/**
+	 * {@link ParameterNameDiscoverer} decorator which caches the discovered
+	 * parameter names per method or constructor.
+	 */
+	private static class CachingParameterNameDiscoverer implements ParameterNameDiscoverer {
+
+		private static final String[] NO_NAMES = new String[0];
+
+		private final ParameterNameDiscoverer delegate;
+
+		private final Map<Executable, String[]> cache = new ConcurrentReferenceHashMap<>(256);
+
+		CachingParameterNameDiscoverer(ParameterNameDiscoverer delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		@Nullable
+		public String[] getParameterNames(Method method) {
+			return getCachedNames(method, this.delegate::getParameterNames);
+		}
+
+		@Override
+		@Nullable
+		public String[] getParameterNames(Constructor<?> ctor) {
+			return getCachedNames(ctor, this.delegate::getParameterNames);
+		}
+
+		@Nullable
+		private <E extends Executable> String[] getCachedNames(E executable, Function<E, String[]> discovery) {
+			String[] names = this.cache.get(executable);
+			if (names == null) {
+				names = discovery.apply(executable);
+				this.cache.put(executable, (names != null ? names : NO_NAMES));
+			}
+			return (names != NO_NAMES ? names : null);
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,14 @@
 
 package org.springframework.scheduling.concurrent;
 
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
@@ -29,6 +36,11 @@ import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 
 import org.springframework.core.task.AsyncListenableTaskExecutor;
 import org.springframework.core.task.TaskDecorator;
@@ -58,6 +70,13 @@ import org.springframework.util.concurrent.ListenableFutureTask;
  * {@link #setCorePoolSize "corePoolSize"} (see also the
  * {@link #setAllowCoreThreadTimeOut "allowCoreThreadTimeOut"} mode of scaling).
  *
+ * <p>As of 6.1.4, the pool can also {@link #setEagerScaling scale out eagerly},
+ * starting new threads up to the max pool size before queueing any tasks, and
+ * it can adapt its core pool size to a {@link #setQueueWaitTarget queue wait
+ * target}. The {@link #getStatistics() statistics} of the executor expose the
+ * pool and queue sizes, the number of rejected tasks and, if enabled, a
+ * histogram of the time that tasks spent waiting in the queue.
+ *
  * <p><b>NOTE:</b> This class implements Spring's
  * {@link org.springframework.core.task.TaskExecutor} interface as well as the
  * {@link java.util.concurrent.Executor} interface, with the former being the primary
@@ -84,6 +103,10 @@ import org.springframework.util.concurrent.ListenableFutureTask;
 public class ThreadPoolTaskExecutor extends ExecutorConfigurationSupport
 		implements AsyncListenableTaskExecutor, SchedulingTaskExecutor {
 
+	private static final Duration[] QUEUE_WAIT_BOUNDS = {Duration.ofMillis(1), Duration.ofMillis(10),
+			Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofSeconds(10)};
+
+
 	private final Object poolSizeMonitor = new Object();
 
 	private int corePoolSize = 1;
@@ -98,6 +121,13 @@ public class ThreadPoolTaskExecutor extends ExecutorConfigurationSupport
 
 	private boolean prestartAllCoreThreads = false;
 
+	private boolean eagerScaling = false;
+
+	@Nullable
+	private Duration queueWaitTarget;
+
+	private boolean recordQueueWaitTimes = false;
+
 	@Nullable
 	private TaskDecorator taskDecorator;
 
@@ -108,6 +138,20 @@ public class ThreadPoolTaskExecutor extends ExecutorConfigurationSupport
 	private final Map<Runnable, Object> decoratedTaskMap =
 			new ConcurrentReferenceHashMap<>(16, ConcurrentReferenceHashMap.ReferenceType.WEAK);
 
+	// Submitted Runnable to its submission time, if recording queue wait times
+	private final Map<Runnable, Long> submissionTimes =
+			new ConcurrentReferenceHashMap<>(16, ConcurrentReferenceHashMap.ReferenceType.WEAK);
+
+	private final AtomicInteger submittedTaskCount = new AtomicInteger();
+
+	private final LongAdder rejectedTaskCount = new LongAdder();
+
+	private final AtomicLongArray queueWaitCounts = new AtomicLongArray(QUEUE_WAIT_BOUNDS.length + 1);
+
+	private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+
+	private final AtomicLong lastPoolSizeAdjustment = new AtomicLong(System.nanoTime());
+
 
 	/**
 	 * Set the ThreadPoolExecutor's core pool size.
@@ -220,6 +264,60 @@ public class ThreadPoolTaskExecutor extends ExecutorConfigurationSupport
 		this.prestartAllCoreThreads = prestartAllCoreThreads;
 	}
 
+	/**
+	 * Specify whether to start new threads up to the max pool size before
+	 * queueing any tasks, as long as no idle thread is available.
+	 * <p>By default, a ThreadPoolExecutor only grows beyond its core pool size
+	 * once the queue is full, so that bursts of tasks wait in the queue while
+	 * the pool stays at its core size. With eager scaling, tasks only get
+	 * queued once the max pool size has been reached, with threads beyond the
+	 * core pool size timing out after the {@link #setKeepAliveSeconds keep-alive}
+	 * period as usual. Consider setting a {@link #setMaxPoolSize "maxPoolSize"}
+	 * since the default is unbounded.
+	 * <p>Default is "false". Only applies to a positive queue capacity.
+	 * @since 6.1.4
+	 * @see #createQueue(int)
+	 */
+	public void setEagerScaling(boolean eagerScaling) {
+		this.eagerScaling = eagerScaling;
+	}
+
+	/**
+	 * Specify a target for the time that tasks wait in the queue before they
+	 * start executing, adapting the core pool size to it.
+	 * <p>At most once per target period, the core pool size grows by one thread
+	 * if a task waited longer than the target since the last adjustment, up to
+	 * the max pool size. It shrinks by one thread again if all tasks waited for
+	 * less than half of the target, down to the configured
+	 * {@link #setCorePoolSize core pool size}.
+	 * <p>Adjustments happen as tasks start, and as tasks complete while the
+	 * queue is empty. Once no tasks arrive anymore, the pool keeps its current
+	 * core pool size until the next tasks come in; consider
+	 * {@link #setAllowCoreThreadTimeOut "allowCoreThreadTimeOut"} for idle
+	 * threads to time out in the meantime.
+	 * <p>Default is none, keeping the core pool size as configured. Setting a
+	 * target implies {@link #setRecordQueueWaitTimes recording queue wait times}.
+	 * @since 6.1.4
+	 */
+	public void setQueueWaitTarget(@Nullable Duration queueWaitTarget) {
+		Assert.isTrue(queueWaitTarget == null || queueWaitTarget.compareTo(Duration.ZERO) > 0,
+				"Queue wait target must be positive");
+		this.queueWaitTarget = queueWaitTarget;
+	}
+
+	/**
+	 * Specify whether to record the time that tasks wait in the queue, as
+	 * exposed by the {@link Statistics#queueWaitHistogram() histogram} in the
+	 * {@link #getStatistics() statistics} of this executor.
+	 * <p>The submission time is captured along with the {@link #setTaskDecorator
+	 * task decorator}, i.e. the wait time covers the decorated task.
+	 * <p>Default is "false".
+	 * @since 6.1.4
+	 */
+	public void setRecordQueueWaitTimes(boolean recordQueueWaitTimes) {
+		this.recordQueueWaitTimes = recordQueueWaitTimes;
+	}
+
 	/**
 	 * Specify a custom {@link TaskDecorator} to be applied to any {@link Runnable}
 	 * about to be executed.
@@ -253,10 +351,28 @@ public class ThreadPoolTaskExecutor extends ExecutorConfigurationSupport
 			ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
 
 		BlockingQueue<Runnable> queue = createQueue(this.queueCapacity);
+		boolean recordQueueWait = (this.recordQueueWaitTimes || this.queueWaitTarget != null);
+
+		RejectedExecutionHandler handler = (task, executor) -> {
+			if (queue instanceof EagerScalingQueue eagerScalingQueue && !executor.isShutdown() &&
+					eagerScalingQueue.forceOffer(task)) {
+				// Lost the race for the last thread but the queue still has capacity
+				return;
+			}
+			if (!executor.isShutdown()) {
+				// Not counted anymore after shutdown: the task may have been removed from the queue already
+				this.submittedTaskCount.decrementAndGet();
+			}
+			this.rejectedTaskCount.increment();
+			if (recordQueueWait) {
+				this.submissionTimes.remove(task);
+			}
+			rejectedExecutionHandler.rejectedExecution(task, executor);
+		};
 
 		ThreadPoolExecutor executor = new ThreadPoolExecutor(
 					this.corePoolSize, this.maxPoolSize, this.keepAliveSeconds, TimeUnit.SECONDS,
-					queue, threadFactory, rejectedExecutionHandler) {
+					queue, threadFactory, handler) {
 			@Override
 			public void execute(Runnable command) {
 				Runnable decorated = command;
@@ -266,14 +382,29 @@ public class ThreadPoolTaskExecutor extends ExecutorConfigurationSupport
 						decoratedTaskMap.put(decorated, command);
 					}
 				}
+				submittedTaskCount.incrementAndGet();
+				if (recordQueueWait) {
+					// Queue the task itself, for ThreadPoolExecutor#remove and #purge to find it
+					submissionTimes.put(decorated, System.nanoTime());
+				}
 				super.execute(decorated);
 			}
 			@Override
 			protected void beforeExecute(Thread thread, Runnable task) {
+				Long submissionTime = (recordQueueWait ? submissionTimes.remove(task) : null);
+				if (submissionTime != null) {
+					recordQueueWait(System.nanoTime() - submissionTime);
+				}
 				ThreadPoolTaskExecutor.this.beforeExecute(thread, task);
 			}
 			@Override
 			protected void afterExecute(Runnable task, Throwable ex) {
+				submittedTaskCount.decrementAndGet();
+				Duration target = queueWaitTarget;
+				if (target != null && getQueue().isEmpty()) {
+					// No backlog: give the core pool size a chance to shrink while no tasks start
+					adjustCorePoolSize(0, target.toNanos());
+				}
 				ThreadPoolTaskExecutor.this.afterExecute(task, ex);
 			}
 		};
@@ -292,7 +423,9 @@ public class ThreadPoolTaskExecutor extends ExecutorConfigurationSupport
 	/**
 	 * Create the BlockingQueue to use for the ThreadPoolExecutor.
 	 * <p>A LinkedBlockingQueue instance will be created for a positive
-	 * capacity value; a SynchronousQueue else.
+	 * capacity value; a SynchronousQueue else. In case of
+	 * {@link #setEagerScaling eager scaling}, the LinkedBlockingQueue declines
+	 * tasks as long as the pool may still start new threads.
 	 * @param queueCapacity the specified queue capacity
 	 * @return the BlockingQueue instance
 	 * @see java.util.concurrent.LinkedBlockingQueue
@@ -300,7 +433,7 @@ public class ThreadPoolTaskExecutor extends ExecutorConfigurationSupport
 	 */
 	protected BlockingQueue<Runnable> createQueue(int queueCapacity) {
 		if (queueCapacity > 0) {
-			return new LinkedBlockingQueue<>(queueCapacity);
+			return (this.eagerScaling ? new EagerScalingQueue(queueCapacity) : new LinkedBlockingQueue<>(queueCapacity));
 		}
 		else {
 			return new SynchronousQueue<>();
@@ -354,6 +487,63 @@ public class ThreadPoolTaskExecutor extends ExecutorConfigurationSupport
 		return this.threadPoolExecutor.getActiveCount();
 	}
 
+	/**
+	 * Return a snapshot of the statistics recorded by this executor.
+	 * @since 6.1.4
+	 * @see #setRecordQueueWaitTimes
+	 */
+	public Statistics getStatistics() {
+		NavigableMap<Duration, Long> queueWaitHistogram = new TreeMap<>();
+		for (int i = 0; i < this.queueWaitCounts.length(); i++) {
+			Duration bound = (i < QUEUE_WAIT_BOUNDS.length ? QUEUE_WAIT_BOUNDS[i] : ChronoUnit.FOREVER.getDuration());
+			queueWaitHistogram.put(bound, this.queueWaitCounts.get(i));
+		}
+		ThreadPoolExecutor executor = this.threadPoolExecutor;
+		if (executor == null) {
+			// Not initialized yet: assume an idle pool at core size.
+			return new Statistics(0, getCorePoolSize(), 0, 0, 0,
+					this.rejectedTaskCount.sum(), Collections.unmodifiableNavigableMap(queueWaitHistogram));
+		}
+		return new Statistics(executor.getPoolSize(), executor.getCorePoolSize(), executor.getActiveCount(),
+				executor.getQueue().size(), executor.getCompletedTaskCount(), this.rejectedTaskCount.sum(),
+				Collections.unmodifiableNavigableMap(queueWaitHistogram));
+	}
+
+	private void recordQueueWait(long waitNanos) {
+		int bucket = 0;
+		while (bucket < QUEUE_WAIT_BOUNDS.length && waitNanos > QUEUE_WAIT_BOUNDS[bucket].toNanos()) {
+			bucket++;
+		}
+		this.queueWaitCounts.incrementAndGet(bucket);
+		Duration target = this.queueWaitTarget;
+		if (target != null) {
+			adjustCorePoolSize(waitNanos, target.toNanos());
+		}
+	}
+
+	private void adjustCorePoolSize(long waitNanos, long targetNanos) {
+		this.maxQueueWaitNanos.accumulateAndGet(waitNanos, Math::max);
+		long now = System.nanoTime();
+		long lastAdjustment = this.lastPoolSizeAdjustment.get();
+		if (now - lastAdjustment < targetNanos || !this.lastPoolSizeAdjustment.compareAndSet(lastAdjustment, now)) {
+			return;
+		}
+		long maxWaitNanos = this.maxQueueWaitNanos.getAndSet(0);
+		synchronized (this.poolSizeMonitor) {
+			ThreadPoolExecutor executor = this.threadPoolExecutor;
+			if (executor == null) {
+				return;
+			}
+			int currentCorePoolSize = executor.getCorePoolSize();
+			if (maxWaitNanos > targetNanos && currentCorePoolSize < this.maxPoolSize) {
+				executor.setCorePoolSize(currentCorePoolSize + 1);
+			}
+			else if (maxWaitNanos < targetNanos / 2 && currentCorePoolSize > this.corePoolSize) {
+				executor.setCorePoolSize(currentCorePoolSize - 1);
+			}
+		}
+	}
+
 
 	@Override
 	public void execute(Runnable task) {
@@ -424,4 +614,125 @@ public class ThreadPoolTaskExecutor extends ExecutorConfigurationSupport
 		}
 	}
 
+
+	/**
+	 * Snapshot of the statistics recorded by a {@link ThreadPoolTaskExecutor}.
+	 * @param poolSize the current number of threads in the pool
+	 * @param corePoolSize the current core pool size, possibly adapted to the
+	 * {@link ThreadPoolTaskExecutor#setQueueWaitTarget queue wait target}
+	 * @param activeCount the approximate number of threads executing tasks
+	 * @param queueSize the number of tasks waiting in the queue
+	 * @param completedTaskCount the approximate number of completed tasks
+	 * @param rejectedTaskCount the number of tasks handed to the
+	 * {@link ThreadPoolTaskExecutor#setRejectedExecutionHandler rejected execution handler}
+	 * @param queueWaitHistogram the number of tasks that waited in the queue
+	 * for up to the given time (and longer than the previous one), if
+	 * {@link ThreadPoolTaskExecutor#setRecordQueueWaitTimes recorded}
+	 * @since 6.1.4
+	 */
+	public record Statistics(int poolSize, int corePoolSize, int activeCount, int queueSize,
+			long completedTaskCount, long rejectedTaskCount, NavigableMap<Duration, Long> queueWaitHistogram) {
+	}
+
+
+	/**
+	 * Queue which declines tasks while there are more tasks submitted than
+	 * threads in the pool and the pool has not reached its max size yet,
+	 * making the executor start a new thread instead.
+	 * <p>Tasks removed from the queue without being executed, e.g. through
+	 * {@link ThreadPoolExecutor#remove} or {@link ThreadPoolExecutor#purge},
+	 * do not count as submitted anymore.
+	 */
+	private class EagerScalingQueue extends LinkedBlockingQueue<Runnable> {
+
+		EagerScalingQueue(int capacity) {
+			super(capacity);
+		}
+
+		@Override
+		public boolean offer(Runnable task) {
+			ThreadPoolExecutor executor = threadPoolExecutor;
+			if (executor != null) {
+				int poolSize = executor.getPoolSize();
+				if (poolSize < executor.getMaximumPoolSize() && submittedTaskCount.get() > poolSize) {
+					return false;
+				}
+			}
+			return super.offer(task);
+		}
+
+		boolean forceOffer(Runnable task) {
+			return super.offer(task);
+		}
+
+		@Override
+		public boolean remove(Object task) {
+			if (super.remove(task)) {
+				submittedTaskCount.decrementAndGet();
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public boolean removeIf(Predicate<? super Runnable> filter) {
+			boolean removed = false;
+			for (Object task : toArray()) {
+				if (filter.test((Runnable) task) && remove(task)) {
+					removed = true;
+				}
+			}
+			return removed;
+		}
+
+		@Override
+		public boolean removeAll(Collection<?> tasks) {
+			return removeIf(tasks::contains);
+		}
+
+		@Override
+		public boolean retainAll(Collection<?> tasks) {
+			return removeIf(task -> !tasks.contains(task));
+		}
+
+		@Override
+		public void clear() {
+			while (poll() != null) {
+				submittedTaskCount.decrementAndGet();
+			}
+		}
+
+		@Override
+		public int drainTo(Collection<? super Runnable> tasks, int maxElements) {
+			int drained = super.drainTo(tasks, maxElements);
+			submittedTaskCount.addAndGet(-drained);
+			return drained;
+		}
+
+		@Override
+		public Iterator<Runnable> iterator() {
+			Iterator<Runnable> iterator = super.iterator();
+			return new Iterator<>() {
+				@Nullable
+				private Runnable lastReturned;
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+				@Override
+				public Runnable next() {
+					this.lastReturned = iterator.next();
+					return this.lastReturned;
+				}
+				@Override
+				public void remove() {
+					Assert.state(this.lastReturned != null, "No task to remove");
+					// Through the queue, for the task to be counted only if still present
+					EagerScalingQueue.this.remove(this.lastReturned);
+					this.lastReturned = null;
+				}
+			};
+		}
+	}
+
 }
@@ -0,0 +1,717 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+import org.springframework.scheduling.support.TaskUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * An implementation of Spring's {@link TaskScheduler} interface for a large
+ * number of scheduled tasks, e.g. dynamically registered cron triggers per
+ * tenant, keeping track of them in a hierarchical timing wheel.
+ *
+ * <p>{@link ThreadPoolTaskScheduler} and {@link SimpleAsyncTaskScheduler} keep
+ * their tasks in the delay queue of a {@link java.util.concurrent.ScheduledThreadPoolExecutor},
+ * a binary heap guarded by a single lock. This scheduler hands new and cancelled
+ * tasks over to a single wheel thread through non-blocking queues instead, which
+ * inserts and removes them in constant time. On every tick, the wheel thread
+ * dispatches the tasks which became due to a new thread per task, as with
+ * {@link SimpleAsyncTaskExecutor} (ideally using {@link #setVirtualThreads
+ * virtual threads} on JDK 21), or to a {@link #setTargetTaskExecutor target executor}.
+ *
+ * <p>Tasks get dispatched with the granularity of the {@link #setTickDuration
+ * tick duration}, and never before their scheduled time. Repeated tasks get
+ * rescheduled by the executing thread once their execution completed: the
+ * next execution time of a {@link Trigger} such as a
+ * {@link org.springframework.scheduling.support.CronTrigger} is therefore
+ * calculated in parallel rather than on the wheel thread. As with
+ * {@link ThreadPoolTaskScheduler}, the executions of a repeated task never
+ * overlap, and fixed-delay tasks do not block any scheduler thread.
+ *
+ * <p>The {@link #getStatistics() statistics} of this scheduler expose the
+ * scheduling lag, i.e. how late tasks get dispatched compared to their
+ * scheduled time, as well as the execution drift, i.e. how late their
+ * execution actually starts, including the time spent waiting for a thread.
+ *
+ * <p>Supports pausing the dispatching of tasks through {@link #stop()} and
+ * resuming it through {@link #start()}: tasks which became due in the meantime
+ * get dispatched on resume. Scheduled tasks get cancelled on context close.
+ *
+ * @since 6.1.4
+ * @see #setVirtualThreads
+ * @see #setTargetTaskExecutor
+ * @see #getStatistics()
+ * @see SimpleAsyncTaskScheduler
+ * @see ThreadPoolTaskScheduler
+ */
+@SuppressWarnings("serial")
+public class TimingWheelTaskScheduler extends SimpleAsyncTaskExecutor implements TaskScheduler,
+		ApplicationContextAware, SmartLifecycle, ApplicationListener<ContextClosedEvent> {
+
+	/**
+	 * The default duration of a tick: 10 milliseconds.
+	 */
+	public static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(10);
+
+	private static final int WHEEL_BITS = 8;
+
+	private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+
+	private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+	private static final int LEVEL_COUNT = 4;
+
+	private static final long MAX_TICK_DELTA = (1L << (WHEEL_BITS * LEVEL_COUNT)) - 1;
+
+	private static final long MAX_DELAY_NANOS = Long.MAX_VALUE >> 2;
+
+	private static final int STATE_CREATED = 0;
+
+	private static final int STATE_STARTED = 1;
+
+	private static final int STATE_SHUT_DOWN = 2;
+
+
+	private final WheelTask[][] wheel = new WheelTask[LEVEL_COUNT][WHEEL_SIZE];
+
+	private final Queue<WheelTask> pendingTasks = new ConcurrentLinkedQueue<>();
+
+	private final Queue<WheelTask> cancelledTasks = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger state = new AtomicInteger(STATE_CREATED);
+
+	private final LongAdder scheduledTaskCount = new LongAdder();
+
+	private final LongAdder dispatchCount = new LongAdder();
+
+	private final LongAdder totalLagNanos = new LongAdder();
+
+	private final AtomicLong maxLagNanos = new AtomicLong();
+
+	private final LongAdder executionCount = new LongAdder();
+
+	private final LongAdder totalDriftNanos = new LongAdder();
+
+	private final AtomicLong maxDriftNanos = new AtomicLong();
+
+	private long tickNanos = DEFAULT_TICK_DURATION.toNanos();
+
+	private Clock clock = Clock.systemDefaultZone();
+
+	private int phase = DEFAULT_PHASE;
+
+	@Nullable
+	private Executor targetTaskExecutor;
+
+	@Nullable
+	private volatile ErrorHandler errorHandler;
+
+	@Nullable
+	private ApplicationContext applicationContext;
+
+	private volatile boolean paused;
+
+	@Nullable
+	private volatile Thread wheelThread;
+
+	// Only accessed by the wheel thread
+	private long startNanos;
+
+	private long currentTick;
+
+
+	/**
+	 * Set the duration of a tick of the timing wheel, i.e. the granularity
+	 * at which scheduled tasks get dispatched.
+	 * <p>The default is {@link #DEFAULT_TICK_DURATION 10 milliseconds}. A shorter
+	 * tick duration reduces the scheduling lag but wakes up the wheel thread more
+	 * often. Needs to be set before the first task gets scheduled.
+	 */
+	public void setTickDuration(Duration tickDuration) {
+		Assert.isTrue(!tickDuration.isNegative() && !tickDuration.isZero(), "Tick duration must be positive");
+		Assert.state(this.state.get() == STATE_CREATED, "Tick duration cannot be changed once tasks got scheduled");
+		this.tickNanos = tickDuration.toNanos();
+	}
+
+	/**
+	 * Return the duration of a tick of the timing wheel.
+	 */
+	public Duration getTickDuration() {
+		return Duration.ofNanos(this.tickNanos);
+	}
+
+	/**
+	 * Set the clock to use for scheduling purposes.
+	 * <p>The default clock is the system clock for the default time zone.
+	 * @see Clock#systemDefaultZone()
+	 */
+	public void setClock(Clock clock) {
+		this.clock = clock;
+	}
+
+	@Override
+	public Clock getClock() {
+		return this.clock;
+	}
+
+	/**
+	 * Specify the lifecycle phase for pausing and resuming this scheduler.
+	 * The default is {@link #DEFAULT_PHASE}.
+	 * @see SmartLifecycle#getPhase()
+	 */
+	public void setPhase(int phase) {
+		this.phase = phase;
+	}
+
+	/**
+	 * Return the lifecycle phase for pausing and resuming this scheduler.
+	 * @see #setPhase
+	 */
+	@Override
+	public int getPhase() {
+		return this.phase;
+	}
+
+	/**
+	 * Specify a custom target {@link Executor} to delegate to for
+	 * the individual execution of scheduled tasks. This can for example
+	 * be set to a separate thread pool for executing scheduled tasks,
+	 * whereas this scheduler keeps using its single wheel thread.
+	 * <p>If not set, the regular {@link SimpleAsyncTaskExecutor}
+	 * arrangements kicks in with a new thread per task.
+	 */
+	public void setTargetTaskExecutor(Executor targetTaskExecutor) {
+		this.targetTaskExecutor = (targetTaskExecutor == this ? null : targetTaskExecutor);
+	}
+
+	/**
+	 * Set a custom {@link ErrorHandler} strategy.
+	 * <p>By default, errors thrown by repeated tasks get logged and suppressed,
+	 * whereas errors thrown by one-time tasks get propagated to their future.
+	 */
+	public void setErrorHandler(ErrorHandler errorHandler) {
+		this.errorHandler = errorHandler;
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) {
+		this.applicationContext = applicationContext;
+	}
+
+
+	@Override
+	protected void doExecute(Runnable task) {
+		if (this.targetTaskExecutor != null) {
+			this.targetTaskExecutor.execute(task);
+		}
+		else {
+			super.doExecute(task);
+		}
+	}
+
+
+	@Override
+	@Nullable
+	public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+		WheelTask wheelTask = new WheelTask(errorHandlingTask(task, true), trigger);
+		if (!wheelTask.scheduleNextExecution()) {
+			return null;
+		}
+		return scheduleTask(wheelTask, task);
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+		return scheduleTask(new WheelTask(errorHandlingTask(task, false), deadline(startTime), 0), task);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+		Assert.isTrue(period.toNanos() > 0, "Period must be positive");
+		return scheduleTask(new WheelTask(errorHandlingTask(task, true), deadline(startTime), period.toNanos()), task);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+		Assert.isTrue(period.toNanos() > 0, "Period must be positive");
+		return scheduleTask(new WheelTask(errorHandlingTask(task, true), System.nanoTime(), period.toNanos()), task);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+		Assert.isTrue(delay.toNanos() > 0, "Delay must be positive");
+		return scheduleTask(new WheelTask(errorHandlingTask(task, true), deadline(startTime), -delay.toNanos()), task);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+		Assert.isTrue(delay.toNanos() > 0, "Delay must be positive");
+		return scheduleTask(new WheelTask(errorHandlingTask(task, true), System.nanoTime(), -delay.toNanos()), task);
+	}
+
+	private Runnable errorHandlingTask(Runnable task, boolean isRepeatingTask) {
+		return TaskUtils.decorateTaskWithErrorHandler(task, this.errorHandler, isRepeatingTask);
+	}
+
+	private long deadline(Instant time) {
+		long delay = TimeUnit.NANOSECONDS.convert(Duration.between(this.clock.instant(), time));
+		return System.nanoTime() + Math.min(delay, MAX_DELAY_NANOS);
+	}
+
+	private ScheduledFuture<?> scheduleTask(WheelTask wheelTask, Runnable task) {
+		if (this.state.get() == STATE_SHUT_DOWN) {
+			throw new TaskRejectedException(
+					"TimingWheelTaskScheduler has been shut down - did not accept task: " + task);
+		}
+		enqueue(wheelTask);
+		return wheelTask;
+	}
+
+	private void enqueue(WheelTask task) {
+		if (this.state.get() == STATE_CREATED && this.state.compareAndSet(STATE_CREATED, STATE_STARTED)) {
+			Thread thread = newThread(this::runWheel);
+			this.wheelThread = thread;
+			thread.start();
+		}
+		this.scheduledTaskCount.increment();
+		this.pendingTasks.add(task);
+		if (this.state.get() == STATE_SHUT_DOWN && this.pendingTasks.remove(task)) {
+			// Raced with shutdown: the wheel thread may not pick up the task anymore
+			this.scheduledTaskCount.decrement();
+			task.cancel(false);
+		}
+	}
+
+
+	/**
+	 * Return a snapshot of the statistics recorded by this scheduler.
+	 */
+	public Statistics getStatistics() {
+		return new Statistics(this.scheduledTaskCount.sum(),
+				this.dispatchCount.sum(), Duration.ofNanos(this.totalLagNanos.sum()),
+				Duration.ofNanos(this.maxLagNanos.get()), this.executionCount.sum(),
+				Duration.ofNanos(this.totalDriftNanos.sum()), Duration.ofNanos(this.maxDriftNanos.get()));
+	}
+
+	private void recordLag(long lagNanos) {
+		long lag = Math.max(lagNanos, 0);
+		this.dispatchCount.increment();
+		this.totalLagNanos.add(lag);
+		this.maxLagNanos.accumulateAndGet(lag, Math::max);
+	}
+
+	private void recordDrift(long driftNanos) {
+		long drift = Math.max(driftNanos, 0);
+		this.executionCount.increment();
+		this.totalDriftNanos.add(drift);
+		this.maxDriftNanos.accumulateAndGet(drift, Math::max);
+	}
+
+
+	private void runWheel() {
+		this.startNanos = System.nanoTime();
+		try {
+			while (awaitTick()) {
+				transferPendingTasks();
+				removeCancelledTasks();
+				expireTick();
+				this.currentTick++;
+			}
+		}
+		finally {
+			cancelRemainingTasks();
+		}
+	}
+
+	private boolean awaitTick() {
+		long tickTime = this.startNanos + this.currentTick * this.tickNanos;
+		while (this.state.get() != STATE_SHUT_DOWN) {
+			if (this.paused) {
+				LockSupport.park(this);
+			}
+			else {
+				long sleepNanos = tickTime - System.nanoTime();
+				if (sleepNanos <= 0) {
+					return true;
+				}
+				LockSupport.parkNanos(this, sleepNanos);
+			}
+			// Interruption does not stop the wheel, only a shutdown does
+			Thread.interrupted();
+		}
+		return false;
+	}
+
+	private void transferPendingTasks() {
+		WheelTask task;
+		while ((task = this.pendingTasks.poll()) != null) {
+			if (task.isCancelled()) {
+				this.scheduledTaskCount.decrement();
+			}
+			else {
+				long delay = task.deadlineNanos - this.startNanos;
+				task.deadlineTick = Math.max(-Math.floorDiv(-delay, this.tickNanos), this.currentTick);
+				place(task);
+			}
+		}
+	}
+
+	private void removeCancelledTasks() {
+		WheelTask task;
+		while ((task = this.cancelledTasks.poll()) != null) {
+			if (task.level >= 0) {
+				unlink(task);
+				this.scheduledTaskCount.decrement();
+			}
+		}
+	}
+
+	/**
+	 * Cascade the tasks of the higher level slots which come up on the current
+	 * tick, highest level first, then dispatch the tasks in the current slot.
+	 */
+	private void expireTick() {
+		long tick = this.currentTick;
+		int level = 0;
+		while (level < LEVEL_COUNT - 1 && (tick & ((1L << (WHEEL_BITS * (level + 1))) - 1)) == 0) {
+			level++;
+		}
+		for (; level > 0; level--) {
+			WheelTask task = detach(level, (int) ((tick >>> (WHEEL_BITS * level)) & WHEEL_MASK));
+			while (task != null) {
+				WheelTask next = task.next;
+				task.next = null;
+				place(task);
+				task = next;
+			}
+		}
+		WheelTask task = detach(0, (int) (tick & WHEEL_MASK));
+		while (task != null) {
+			WheelTask next = task.next;
+			task.next = null;
+			this.scheduledTaskCount.decrement();
+			if (!task.isCancelled()) {
+				dispatch(task);
+			}
+			task = next;
+		}
+	}
+
+	private void dispatch(WheelTask task) {
+		recordLag(System.nanoTime() - task.deadlineNanos);
+		try {
+			execute(task);
+		}
+		catch (RuntimeException ex) {
+			task.reject(ex);
+		}
+	}
+
+	/**
+	 * Insert the given task into the slot covering its deadline tick, at the
+	 * lowest level with a span beyond it. Deadlines beyond the span of the
+	 * highest level get re-inserted when their slot comes up.
+	 */
+	private void place(WheelTask task) {
+		long delta = Math.min(task.deadlineTick - this.currentTick, MAX_TICK_DELTA);
+		int level = 0;
+		while (delta >= (1L << (WHEEL_BITS * (level + 1)))) {
+			level++;
+		}
+		int slot = (int) (((this.currentTick + delta) >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+		WheelTask head = this.wheel[level][slot];
+		task.level = level;
+		task.slot = slot;
+		task.prev = null;
+		task.next = head;
+		if (head != null) {
+			head.prev = task;
+		}
+		this.wheel[level][slot] = task;
+	}
+
+	private void unlink(WheelTask task) {
+		if (task.prev != null) {
+			task.prev.next = task.next;
+		}
+		else {
+			this.wheel[task.level][task.slot] = task.next;
+		}
+		if (task.next != null) {
+			task.next.prev = task.prev;
+		}
+		task.prev = null;
+		task.next = null;
+		task.level = -1;
+	}
+
+	@Nullable
+	private WheelTask detach(int level, int slot) {
+		WheelTask head = this.wheel[level][slot];
+		this.wheel[level][slot] = null;
+		for (WheelTask task = head; task != null; task = task.next) {
+			task.prev = null;
+			task.level = -1;
+		}
+		return head;
+	}
+
+	private void cancelRemainingTasks() {
+		for (int level = 0; level < LEVEL_COUNT; level++) {
+			for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+				WheelTask task = detach(level, slot);
+				while (task != null) {
+					WheelTask next = task.next;
+					task.next = null;
+					this.scheduledTaskCount.decrement();
+					task.cancel(false);
+					task = next;
+				}
+			}
+		}
+		WheelTask task;
+		while ((task = this.pendingTasks.poll()) != null) {
+			this.scheduledTaskCount.decrement();
+			task.cancel(false);
+		}
+		this.cancelledTasks.clear();
+	}
+
+	private void shutdown() {
+		if (this.state.getAndSet(STATE_SHUT_DOWN) != STATE_SHUT_DOWN) {
+			Thread thread = this.wheelThread;
+			if (thread != null) {
+				LockSupport.unpark(thread);
+			}
+		}
+	}
+
+
+	@Override
+	public void start() {
+		this.paused = false;
+		Thread thread = this.wheelThread;
+		if (thread != null) {
+			LockSupport.unpark(thread);
+		}
+	}
+
+	@Override
+	public void stop() {
+		this.paused = true;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return (!this.paused && this.state.get() != STATE_SHUT_DOWN);
+	}
+
+	@Override
+	public void onApplicationEvent(ContextClosedEvent event) {
+		if (event.getApplicationContext() == this.applicationContext) {
+			shutdown();
+		}
+	}
+
+	@Override
+	public void close() {
+		shutdown();
+		super.close();
+	}
+
+
+	/**
+	 * Snapshot of the statistics recorded by a {@link TimingWheelTaskScheduler}.
+	 * @param scheduledTaskCount the number of tasks waiting to be dispatched
+	 * @param dispatchCount the number of task executions handed over for execution
+	 * @param totalLag the accumulated time between the scheduled time of the
+	 * dispatched task executions and their hand-over for execution
+	 * @param maxLag the longest time between the scheduled time of a task
+	 * execution and its hand-over for execution
+	 * @param executionCount the number of started task executions
+	 * @param totalDrift the accumulated time between the scheduled time of the
+	 * started task executions and their actual start
+	 * @param maxDrift the longest time between the scheduled time of a task
+	 * execution and its actual start
+	 */
+	public record Statistics(long scheduledTaskCount, long dispatchCount, Duration totalLag, Duration maxLag,
+			long executionCount, Duration totalDrift, Duration maxDrift) {
+
+		/**
+		 * Return the average scheduling lag of the dispatched task executions.
+		 */
+		public Duration averageLag() {
+			return (this.dispatchCount != 0 ? this.totalLag.dividedBy(this.dispatchCount) : Duration.ZERO);
+		}
+
+		/**
+		 * Return the average drift of the started task executions.
+		 */
+		public Duration averageDrift() {
+			return (this.executionCount != 0 ? this.totalDrift.dividedBy(this.executionCount) : Duration.ZERO);
+		}
+	}
+
+
+	/**
+	 * A scheduled task, linked into a slot of the timing wheel until its
+	 * execution gets dispatched.
+	 */
+	private final class WheelTask extends FutureTask<Object> implements ScheduledFuture<Object> {
+
+		// Positive for a fixed rate, negative for a fixed delay, zero otherwise
+		private final long period;
+
+		@Nullable
+		private final Trigger trigger;
+
+		@Nullable
+		private final SimpleTriggerContext triggerContext;
+
+		@Nullable
+		private Instant scheduledExecution;
+
+		private volatile long deadlineNanos;
+
+		// Only accessed by the wheel thread
+		private long deadlineTick;
+
+		private int level = -1;
+
+		private int slot;
+
+		@Nullable
+		private WheelTask prev;
+
+		@Nullable
+		private WheelTask next;
+
+		WheelTask(Runnable task, long deadlineNanos, long period) {
+			super(task, null);
+			this.deadlineNanos = deadlineNanos;
+			this.period = period;
+			this.trigger = null;
+			this.triggerContext = null;
+		}
+
+		WheelTask(Runnable task, Trigger trigger) {
+			super(task, null);
+			this.period = 0;
+			this.trigger = trigger;
+			this.triggerContext = new SimpleTriggerContext(getClock());
+		}
+
+		boolean scheduleNextExecution() {
+			Assert.state(this.trigger != null && this.triggerContext != null, "No trigger");
+			Instant nextExecution = this.trigger.nextExecution(this.triggerContext);
+			if (nextExecution == null) {
+				return false;
+			}
+			this.scheduledExecution = nextExecution;
+			this.deadlineNanos = deadline(nextExecution);
+			return true;
+		}
+
+		void reject(Throwable ex) {
+			setException(ex);
+		}
+
+		@Override
+		public void run() {
+			recordDrift(System.nanoTime() - this.deadlineNanos);
+			if (this.period == 0 && this.trigger == null) {
+				super.run();
+				return;
+			}
+			try {
+				Instant actualExecution = (this.triggerContext != null ? this.triggerContext.getClock().instant() : null);
+				if (!runAndReset()) {
+					return;
+				}
+				if (this.triggerContext != null) {
+					Instant completion = this.triggerContext.getClock().instant();
+					this.triggerContext.update(this.scheduledExecution, actualExecution, completion);
+					if (!scheduleNextExecution()) {
+						set(null);
+						return;
+					}
+				}
+				else if (this.period > 0) {
+					this.deadlineNanos += this.period;
+				}
+				else {
+					this.deadlineNanos = System.nanoTime() - this.period;
+				}
+				enqueue(this);
+			}
+			catch (Throwable ex) {
+				setException(ex);
+			}
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			boolean cancelled = super.cancel(mayInterruptIfRunning);
+			if (cancelled) {
+				cancelledTasks.add(this);
+			}
+			return cancelled;
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(this.deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			if (this == other) {
+				return 0;
+			}
+			long diff = getDelay(TimeUnit.NANOSECONDS) - other.getDelay(TimeUnit.NANOSECONDS);
+			return (diff == 0 ? 0 : (diff < 0 ? -1 : 1));
+		}
+	}
+
+}
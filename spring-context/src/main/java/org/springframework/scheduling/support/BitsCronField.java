@@ -17,6 +17,7 @@
 package org.springframework.scheduling.support;
 
 import java.time.DateTimeException;
+import java.time.YearMonth;
 import java.time.temporal.Temporal;
 import java.time.temporal.ValueRange;
 
@@ -201,6 +202,27 @@ final class BitsCronField extends CronField {
 		}
 	}
 
+	@Override
+	long matchingDays(YearMonth month) {
+		int length = month.lengthOfMonth();
+		if (type() == Type.DAY_OF_MONTH) {
+			return this.bits & (MASK >>> (63 - length));
+		}
+		else if (type() == Type.DAY_OF_WEEK) {
+			int firstDayOfWeek = month.atDay(1).getDayOfWeek().getValue();
+			long days = 0;
+			for (int day = 1; day <= length; day++) {
+				if (getBit((firstDayOfWeek + day - 2) % 7 + 1)) {
+					days |= (1L << day);
+				}
+			}
+			return days;
+		}
+		else {
+			return super.matchingDays(month);
+		}
+	}
+
 	boolean getBit(int index) {
 		return (this.bits & (1L << index)) != 0;
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.scheduling.support;
 
+import java.time.YearMonth;
 import java.time.temporal.Temporal;
 
 import org.springframework.lang.Nullable;
@@ -71,6 +72,16 @@ final class CompositeCronField extends CronField {
 	}
 
 
+	@Override
+	long matchingDays(YearMonth month) {
+		long days = 0;
+		for (CronField field : this.fields) {
+			days |= field.matchingDays(month);
+		}
+		return days;
+	}
+
+
 	@Override
 	public int hashCode() {
 		return this.value.hashCode();
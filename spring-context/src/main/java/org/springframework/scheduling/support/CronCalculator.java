@@ -0,0 +1,194 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.support;
+
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.YearMonth;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Calculates the next match of a {@link CronExpression} on local date-times
+ * through precomputed lookup tables, jumping directly to the next valid
+ * value of each field instead of iterating over temporal adjustments.
+ *
+ * <p>The seconds, minutes, hours and months fields are turned into tables
+ * mapping each value to the next valid value. The matching days of a month
+ * are determined as a bit mask combining the day-of-month and day-of-week
+ * fields, with the mask of the most recently used month being cached.
+ *
+ * @since 6.1.4
+ * @see CronExpression#next(java.time.temporal.Temporal)
+ */
+final class CronCalculator {
+
+	// Covers a full cycle of the Gregorian calendar
+	private static final int MAX_MONTHS = 400 * 12;
+
+
+	private final int[] seconds;
+
+	private final int[] minutes;
+
+	private final int[] hours;
+
+	private final int[] months;
+
+	private final CronField daysOfMonth;
+
+	private final CronField daysOfWeek;
+
+	@Nullable
+	private volatile MonthDays monthDays;
+
+
+	CronCalculator(CronField seconds, CronField minutes, CronField hours,
+			CronField daysOfMonth, CronField months, CronField daysOfWeek) {
+
+		this.seconds = nextValues(seconds, 60);
+		this.minutes = nextValues(minutes, 60);
+		this.hours = nextValues(hours, 24);
+		this.months = nextValues(months, 13);
+		this.daysOfMonth = daysOfMonth;
+		this.daysOfWeek = daysOfWeek;
+	}
+
+	/**
+	 * Build a table mapping each value up to the given end (inclusive) to the
+	 * next or same value set in the given field, or {@code -1} for none.
+	 */
+	private static int[] nextValues(CronField field, int end) {
+		BitsCronField bitsField = (BitsCronField) field;
+		int[] nextValues = new int[end + 1];
+		int next = -1;
+		nextValues[end] = next;
+		for (int value = end - 1; value >= 0; value--) {
+			if (bitsField.getBit(value)) {
+				next = value;
+			}
+			nextValues[value] = next;
+		}
+		return nextValues;
+	}
+
+
+	/**
+	 * Calculate the next date-time matching the cron expression, strictly after
+	 * the given one.
+	 * @param dateTime the date-time to start from
+	 * @return the next matching date-time, or {@code null} if none
+	 */
+	@Nullable
+	public LocalDateTime next(LocalDateTime dateTime) {
+		int year = dateTime.getYear();
+		int month = dateTime.getMonthValue();
+		int day = dateTime.getDayOfMonth();
+		int hour = dateTime.getHour();
+		int minute = dateTime.getMinute();
+		// Matches are at 0 nanos, so the next candidate is the next full second
+		int second = dateTime.getSecond() + 1;
+		// Bounded by the calendar months passed, whether skipped through the
+		// months table or visited without a matching day
+		long monthLimit = year * 12L + month + MAX_MONTHS;
+
+		while (year * 12L + month < monthLimit) {
+			int nextMonth = this.months[month];
+			if (nextMonth != month) {
+				if (nextMonth == -1) {
+					if (year == Year.MAX_VALUE) {
+						return null;
+					}
+					year++;
+					nextMonth = this.months[1];
+				}
+				month = nextMonth;
+				day = 1;
+				hour = minute = second = 0;
+			}
+			long days = matchingDays(year, month) & (-1L << day);
+			if (days == 0) {
+				month++;
+				day = 1;
+				hour = minute = second = 0;
+				continue;
+			}
+			int nextDay = Long.numberOfTrailingZeros(days);
+			if (nextDay != day) {
+				day = nextDay;
+				hour = minute = second = 0;
+			}
+			int secondOfDay = nextSecondOfDay(hour, minute, second);
+			if (secondOfDay != -1) {
+				return LocalDateTime.of(year, month, day,
+						secondOfDay / 3600, (secondOfDay / 60) % 60, secondOfDay % 60);
+			}
+			day++;
+			hour = minute = second = 0;
+		}
+		return null;
+	}
+
+	/**
+	 * Return the first matching time on or after the given time of a matching
+	 * day, as second of the day, or {@code -1} if none is left on that day.
+	 */
+	private int nextSecondOfDay(int hour, int minute, int second) {
+		int nextHour = this.hours[hour];
+		if (nextHour == -1) {
+			return -1;
+		}
+		if (nextHour == hour) {
+			int nextMinute = this.minutes[minute];
+			if (nextMinute == minute) {
+				int nextSecond = this.seconds[second];
+				if (nextSecond != -1) {
+					return hour * 3600 + minute * 60 + nextSecond;
+				}
+				nextMinute = this.minutes[minute + 1];
+			}
+			if (nextMinute != -1) {
+				return hour * 3600 + nextMinute * 60 + this.seconds[0];
+			}
+			nextHour = this.hours[hour + 1];
+			if (nextHour == -1) {
+				return -1;
+			}
+		}
+		return nextHour * 3600 + this.minutes[0] * 60 + this.seconds[0];
+	}
+
+	/**
+	 * Return the days of the given month matching both the day-of-month and
+	 * the day-of-week field, with bit {@code n} set for day {@code n}.
+	 */
+	private long matchingDays(int year, int month) {
+		MonthDays monthDays = this.monthDays;
+		if (monthDays == null || monthDays.year() != year || monthDays.month() != month) {
+			YearMonth yearMonth = YearMonth.of(year, month);
+			long days = this.daysOfMonth.matchingDays(yearMonth) & this.daysOfWeek.matchingDays(yearMonth);
+			monthDays = new MonthDays(year, month, days);
+			this.monthDays = monthDays;
+		}
+		return monthDays.days();
+	}
+
+
+	private record MonthDays(int year, int month, long days) {
+	}
+
+}
@@ -16,9 +16,15 @@
 
 package org.springframework.scheduling.support;
 
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -30,7 +36,8 @@ import org.springframework.util.StringUtils;
  * that can calculate the next time it matches.
  *
  * <p>{@code CronExpression} instances are created through {@link #parse(String)};
- * the next match is determined with {@link #next(Temporal)}.
+ * the next match is determined with {@link #next(Temporal)}, or several
+ * subsequent matches at once with {@link #next(Temporal, int)}.
  *
  * <p>Supports a Quartz day-of-month/week field with an L/# expression. Follows
  * common cron conventions in every other respect, including 0-6 for SUN-SAT
@@ -59,6 +66,8 @@ public final class CronExpression {
 
 	private final CronField[] fields;
 
+	private final CronCalculator calculator;
+
 	private final String expression;
 
 
@@ -68,6 +77,7 @@ public final class CronExpression {
 		// Reverse order, to make big changes first.
 		// To make sure we end up at 0 nanos, we add an extra field.
 		this.fields = new CronField[] {daysOfWeek, months, daysOfMonth, hours, minutes, seconds, CronField.zeroNanos()};
+		this.calculator = new CronCalculator(seconds, minutes, hours, daysOfMonth, months, daysOfWeek);
 		this.expression = expression;
 	}
 
@@ -237,10 +247,64 @@ public final class CronExpression {
 	 * if no such temporal can be found
 	 */
 	@Nullable
+	@SuppressWarnings("unchecked")
 	public <T extends Temporal & Comparable<? super T>> T next(T temporal) {
+		if (temporal instanceof LocalDateTime localDateTime) {
+			return (T) this.calculator.next(localDateTime);
+		}
+		else if (temporal instanceof OffsetDateTime offsetDateTime) {
+			LocalDateTime next = this.calculator.next(offsetDateTime.toLocalDateTime());
+			return (T) (next != null ? next.atOffset(offsetDateTime.getOffset()) : null);
+		}
+		else if (temporal instanceof ZonedDateTime zonedDateTime) {
+			ZonedDateTime next = nextInZone(zonedDateTime);
+			if (next != null) {
+				return (T) next;
+			}
+		}
 		return nextOrSame(ChronoUnit.NANOS.addTo(temporal, 1));
 	}
 
+	/**
+	 * Calculate the next {@link Temporal} instances that match this expression,
+	 * each one after the previous one.
+	 * @param temporal the seed value
+	 * @param count the maximum number of temporals to calculate
+	 * @param <T> the type of temporal
+	 * @return the next temporals that match this expression, in chronological
+	 * order; fewer than requested if no further match can be found
+	 * @since 6.1.4
+	 */
+	public <T extends Temporal & Comparable<? super T>> List<T> next(T temporal, int count) {
+		Assert.isTrue(count >= 0, "Count must not be negative");
+		List<T> result = new ArrayList<>(count);
+		T next = temporal;
+		while (result.size() < count && (next = next(next)) != null) {
+			result.add(next);
+		}
+		return result;
+	}
+
+	/**
+	 * Calculate the next match for the given zoned date-time on its local
+	 * date-time, as long as both the start and the match have a unique offset
+	 * in the zone. Otherwise, return {@code null} for the general algorithm
+	 * to deal with the gap or overlap.
+	 */
+	@Nullable
+	private ZonedDateTime nextInZone(ZonedDateTime zonedDateTime) {
+		ZoneRules rules = zonedDateTime.getZone().getRules();
+		LocalDateTime start = zonedDateTime.toLocalDateTime();
+		if (rules.getValidOffsets(start).size() != 1) {
+			return null;
+		}
+		LocalDateTime next = this.calculator.next(start);
+		if (next == null || rules.getValidOffsets(next).size() != 1) {
+			return null;
+		}
+		return ZonedDateTime.of(next, zonedDateTime.getZone());
+	}
+
 
 	@Nullable
 	private <T extends Temporal & Comparable<? super T>> T nextOrSame(T temporal) {
@@ -17,6 +17,8 @@
 package org.springframework.scheduling.support;
 
 import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
@@ -162,6 +164,26 @@ abstract class CronField {
 	public abstract <T extends Temporal & Comparable<? super T>> T nextOrSame(T temporal);
 
 
+	/**
+	 * Return the days of the given month matching this day-of-month or
+	 * day-of-week field, as a bit mask with bit {@code n} set for day {@code n}.
+	 * <p>The default implementation checks every day of the month at midnight
+	 * through {@link #nextOrSame(Temporal)}.
+	 * @param month the month to check
+	 * @return the bit mask of matching days
+	 * @since 6.1.4
+	 */
+	long matchingDays(YearMonth month) {
+		long days = 0;
+		for (int day = 1; day <= month.lengthOfMonth(); day++) {
+			LocalDateTime midnight = month.atDay(day).atStartOfDay();
+			if (midnight.equals(nextOrSame(midnight))) {
+				days |= (1L << day);
+			}
+		}
+		return days;
+	}
+
 	protected Type type() {
 		return this.type;
 	}
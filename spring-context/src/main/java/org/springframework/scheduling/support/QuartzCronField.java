@@ -18,6 +18,8 @@ package org.springframework.scheduling.support;
 
 import java.time.DateTimeException;
 import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
@@ -353,6 +355,21 @@ final class QuartzCronField extends CronField {
 		return result;
 	}
 
+	@Override
+	long matchingDays(YearMonth month) {
+		// Every Quartz field matches at most one day per month
+		LocalDateTime firstDay = month.atDay(1).atStartOfDay();
+		Temporal result = this.adjuster.adjustInto(firstDay);
+		if (firstDay.equals(result) && type() == Type.DAY_OF_WEEK) {
+			// An occurrence on the 1st of the next month leaves the 1st unchanged as well
+			result = this.adjuster.adjustInto(firstDay.plusDays(1));
+		}
+		if (result != null && YearMonth.from(result).equals(month)) {
+			return (1L << result.get(ChronoField.DAY_OF_MONTH));
+		}
+		return 0;
+	}
+
 	@Nullable
 	@SuppressWarnings("unchecked")
 	private <T extends Temporal & Comparable<? super T>> T adjust(T temporal) {
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.testfixture.cache.AbstractValueAdaptingCacheTests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BoundedConcurrentMapCache}.
+ */
+class BoundedConcurrentMapCacheTests extends AbstractValueAdaptingCacheTests<BoundedConcurrentMapCache> {
+
+	private final AtomicLong ticker = new AtomicLong();
+
+	private BoundedConcurrentMapCache cache;
+
+	private BoundedConcurrentMapCache cacheNoNull;
+
+
+	@BeforeEach
+	void setup() {
+		this.cache = BoundedConcurrentMapCache.builder(CACHE_NAME).maximumSize(1000).build();
+		this.cacheNoNull = BoundedConcurrentMapCache.builder(CACHE_NAME_NO_NULL)
+				.maximumSize(1000).allowNullValues(false).build();
+	}
+
+	@Override
+	protected BoundedConcurrentMapCache getCache() {
+		return getCache(true);
+	}
+
+	@Override
+	protected BoundedConcurrentMapCache getCache(boolean allowNull) {
+		return (allowNull ? this.cache : this.cacheNoNull);
+	}
+
+	@Override
+	protected Object getNativeCache() {
+		return this.cache;
+	}
+
+
+	@Test
+	void evictsLeastRecentlyUsedBeyondMaximumSize() {
+		BoundedConcurrentMapCache cache = BoundedConcurrentMapCache.builder("test").maximumSize(3).build();
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.put("c", 3);
+		assertThat(cache.get("a")).isNotNull();
+
+		cache.put("d", 4);
+
+		assertThat(cache.estimatedSize()).isEqualTo(3);
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("a").get()).isEqualTo(1);
+		assertThat(cache.get("c").get()).isEqualTo(3);
+		assertThat(cache.get("d").get()).isEqualTo(4);
+		assertThat(cache.getStatistics().evictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void evictsBeyondMaximumWeight() {
+		BoundedConcurrentMapCache cache = BoundedConcurrentMapCache.builder("test")
+				.maximumWeight(10, (key, value) -> ((String) value).length()).build();
+		cache.put("a", "12345");
+		cache.put("b", "1234");
+		assertThat(cache.weightedSize()).isEqualTo(9);
+
+		cache.put("c", "123");
+
+		assertThat(cache.get("a")).isNull();
+		assertThat(cache.weightedSize()).isEqualTo(7);
+	}
+
+	@Test
+	void replacedEntryUpdatesWeight() {
+		BoundedConcurrentMapCache cache = BoundedConcurrentMapCache.builder("test")
+				.maximumWeight(10, (key, value) -> ((String) value).length()).build();
+		cache.put("a", "12345");
+		cache.put("a", "12");
+		assertThat(cache.weightedSize()).isEqualTo(2);
+		cache.evict("a");
+		assertThat(cache.weightedSize()).isZero();
+	}
+
+	@Test
+	void expireAfterWrite() {
+		BoundedConcurrentMapCache cache = BoundedConcurrentMapCache.builder("test")
+				.expireAfterWrite(Duration.ofSeconds(10)).ticker(this.ticker::get).build();
+		cache.put("a", 1);
+		advance(Duration.ofSeconds(5));
+		assertThat(cache.get("a").get()).isEqualTo(1);
+		cache.put("b", 2);
+
+		advance(Duration.ofSeconds(5));
+		assertThat(cache.get("a")).isNull();
+		assertThat(cache.get("b").get()).isEqualTo(2);
+		assertThat(cache.getStatistics().expirationCount()).isEqualTo(1);
+	}
+
+	@Test
+	void expireAfterAccess() {
+		BoundedConcurrentMapCache cache = BoundedConcurrentMapCache.builder("test")
+				.expireAfterAccess(Duration.ofSeconds(10)).ticker(this.ticker::get).build();
+		cache.put("a", 1);
+		cache.put("b", 2);
+		advance(Duration.ofSeconds(6));
+		assertThat(cache.get("a")).isNotNull();
+
+		advance(Duration.ofSeconds(6));
+		assertThat(cache.get("a")).isNotNull();
+		assertThat(cache.get("b")).isNull();
+	}
+
+	@Test
+	void timerWheelReclaimsExpiredEntries() {
+		BoundedConcurrentMapCache cache = BoundedConcurrentMapCache.builder("test")
+				.expireAfterWrite(Duration.ofSeconds(10)).ticker(this.ticker::get).build();
+		for (int i = 0; i < 100; i++) {
+			cache.put(i, i);
+		}
+		advance(Duration.ofMinutes(5));
+		cache.cleanUp();
+
+		assertThat(cache.estimatedSize()).isZero();
+		assertThat(cache.weightedSize()).isZero();
+		assertThat(cache.getStatistics().expirationCount()).isEqualTo(100);
+	}
+
+	@Test
+	void statistics() {
+		BoundedConcurrentMapCache cache = BoundedConcurrentMapCache.builder("test").build();
+		cache.put("a", 1);
+		cache.get("a");
+		cache.get("b");
+		cache.get("c", () -> 3);
+
+		BoundedConcurrentMapCache.Statistics statistics = cache.getStatistics();
+		assertThat(statistics.hitCount()).isEqualTo(1);
+		assertThat(statistics.missCount()).isEqualTo(2);
+		assertThat(statistics.putCount()).isEqualTo(2);
+		assertThat(statistics.requestCount()).isEqualTo(3);
+		assertThat(statistics.hitRate()).isEqualTo(1.0 / 3);
+	}
+
+	private void advance(Duration duration) {
+		this.ticker.addAndGet(duration.toNanos());
+	}
+
+}
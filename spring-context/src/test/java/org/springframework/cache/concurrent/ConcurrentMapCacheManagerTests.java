@@ -16,12 +16,15 @@
 
 package org.springframework.cache.concurrent;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 /**
  * @author Juergen Hoeller
@@ -131,4 +134,57 @@ class ConcurrentMapCacheManagerTests {
 		assertThat(cache1x.get("key")).isNull();
 	}
 
+	@Test
+	void testBoundedCaches() {
+		ConcurrentMapCacheManager cm = new ConcurrentMapCacheManager("c1");
+		Cache cache1 = cm.getCache("c1");
+		assertThat(cache1).isInstanceOf(ConcurrentMapCache.class);
+		cache1.put("key", "value");
+
+		cm.setMaximumSize(2);
+		cm.setExpireAfterWrite(Duration.ofMinutes(5));
+		Cache cache1x = cm.getCache("c1");
+		assertThat(cache1x).isInstanceOf(BoundedConcurrentMapCache.class);
+		assertThat(cache1x.get("key")).isNull();
+
+		cache1x.put("key1", "value1");
+		cache1x.put("key2", "value2");
+		cache1x.put("key3", "value3");
+		BoundedConcurrentMapCache bounded = (BoundedConcurrentMapCache) cache1x;
+		assertThat(bounded.estimatedSize()).isEqualTo(2);
+		assertThat(bounded.getStatistics().evictionCount()).isEqualTo(1);
+		assertThat(cm.getCache("c2")).isNull();
+	}
+
+	@Test
+	void testBoundedCachesWithWeightInAnyOrder() {
+		ConcurrentMapCacheManager cm1 = new ConcurrentMapCacheManager("c1");
+		cm1.setMaximumWeight(10);
+		cm1.setWeigher((key, value) -> value.toString().length());
+		ConcurrentMapCacheManager cm2 = new ConcurrentMapCacheManager("c1");
+		cm2.setWeigher((key, value) -> value.toString().length());
+		cm2.setMaximumWeight(10);
+
+		for (ConcurrentMapCacheManager cm : new ConcurrentMapCacheManager[] {cm1, cm2}) {
+			Cache cache = cm.getCache("c1");
+			assertThat(cache).isInstanceOf(BoundedConcurrentMapCache.class);
+			cache.put("key1", "value1");
+			cache.put("key2", "value2");
+			assertThat(((BoundedConcurrentMapCache) cache).estimatedSize()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void testBoundedCachesWithInvalidBounds() {
+		ConcurrentMapCacheManager cm = new ConcurrentMapCacheManager();
+		cm.setMaximumSize(10);
+		cm.setMaximumWeight(10);
+		cm.setWeigher((key, value) -> 1);
+		assertThatIllegalStateException().isThrownBy(() -> cm.getCache("c1"));
+
+		ConcurrentMapCacheManager cm2 = new ConcurrentMapCacheManager();
+		cm2.setMaximumWeight(10);
+		assertThatIllegalStateException().isThrownBy(() -> cm2.getCache("c1"));
+	}
+
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link Cacheable#bulk()}.
+ */
+class CacheBulkTests {
+
+	private ConfigurableApplicationContext context;
+
+	private Cache cache;
+
+	private BulkService service;
+
+
+	@BeforeEach
+	void setup() {
+		this.context = new AnnotationConfigApplicationContext(Config.class);
+		this.cache = this.context.getBean(CacheManager.class).getCache("testCache");
+		this.service = this.context.getBean(BulkService.class);
+	}
+
+	@AfterEach
+	void closeContext() {
+		this.context.close();
+	}
+
+
+	@Test
+	void allMissing() {
+		Map<Long, String> result = this.service.find(List.of(1L, 2L, 3L));
+
+		assertThat(result).containsExactly(Map.entry(1L, "v1"), Map.entry(2L, "v2"), Map.entry(3L, "v3"));
+		assertThat(this.service.getInvocations()).containsExactly(List.of(1L, 2L, 3L));
+		assertThat(this.cache.get(2L).get()).isEqualTo("v2");
+	}
+
+	@Test
+	void onlyMissingKeysLoaded() {
+		this.cache.put(2L, "cached2");
+
+		Map<Long, String> result = this.service.find(List.of(1L, 2L, 3L));
+
+		assertThat(result).containsExactly(Map.entry(1L, "v1"), Map.entry(2L, "cached2"), Map.entry(3L, "v3"));
+		assertThat(this.service.getInvocations()).containsExactly(List.of(1L, 3L));
+		assertThat(this.cache.get(3L).get()).isEqualTo("v3");
+	}
+
+	@Test
+	void allCached() {
+		this.service.find(List.of(1L, 2L));
+
+		Map<Long, String> result = this.service.find(List.of(2L, 1L));
+
+		assertThat(result).containsExactly(Map.entry(2L, "v2"), Map.entry(1L, "v1"));
+		assertThat(this.service.getInvocations()).hasSize(1);
+	}
+
+	@Test
+	void missingKeysPassedAsSameCollectionKind() {
+		this.cache.put(1L, "cached1");
+
+		this.service.findBySet(Set.of(1L, 2L));
+
+		assertThat(this.service.getInvocations()).singleElement().isInstanceOf(Set.class)
+				.isEqualTo(Set.of(2L));
+	}
+
+	@Test
+	void keysWithoutLoadedValueNotCached() {
+		Map<Long, String> result = this.service.find(List.of(1L, 42L));
+
+		assertThat(result).containsOnlyKeys(1L);
+		assertThat(this.cache.get(42L)).isNull();
+	}
+
+	@Test
+	void conditionNotPassing() {
+		this.cache.put(1L, "cached1");
+
+		Map<Long, String> result = this.service.findWithCondition(List.of(1L, 2L), false);
+
+		assertThat(result).containsExactly(Map.entry(1L, "v1"), Map.entry(2L, "v2"));
+		assertThat(this.cache.get(2L)).isNull();
+	}
+
+	@Test
+	void unlessAppliesToLoadedEntries() {
+		this.service.findUnlessEmpty(List.of(42L));
+		assertThat(this.cache.get(42L)).isNull();
+
+		this.service.findUnlessEmpty(List.of(1L));
+		assertThat(this.cache.get(1L).get()).isEqualTo("v1");
+	}
+
+	@Test
+	void bulkWithKey() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.service.bulkWithKey(List.of(1L)))
+				.withMessageContaining("A bulk=true operation does not support the key and keyGenerator attributes");
+	}
+
+	@Test
+	void bulkWithSync() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.service.bulkWithSync(List.of(1L)))
+				.withMessageContaining("A bulk=true operation cannot be combined with sync=true");
+	}
+
+	@Test
+	void bulkWithAnotherOperation() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.service.bulkWithAnotherOperation(List.of(1L)))
+				.withMessageContaining("A bulk=true operation cannot be combined with other cache operations");
+	}
+
+	@Test
+	void bulkWithoutMapReturnType() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.service.bulkWithoutMapReturnType(List.of(1L)))
+				.withMessageContaining("A bulk=true operation requires a Map return type");
+	}
+
+	@Test
+	void bulkWithoutCollectionParameter() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.service.bulkWithoutCollectionParameter(1L))
+				.withMessageContaining("A bulk=true operation requires a Collection parameter");
+	}
+
+
+	static class BulkService {
+
+		private final List<Collection<Long>> invocations = new ArrayList<>();
+
+		public List<Collection<Long>> getInvocations() {
+			return this.invocations;
+		}
+
+		@Cacheable(cacheNames = "testCache", bulk = true)
+		public Map<Long, String> find(List<Long> ids) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", bulk = true)
+		public Map<Long, String> findBySet(Set<Long> ids) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", bulk = true, condition = "#enabled")
+		public Map<Long, String> findWithCondition(List<Long> ids, boolean enabled) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", bulk = true, unless = "#result.isEmpty()")
+		public Map<Long, String> findUnlessEmpty(List<Long> ids) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", bulk = true, key = "#ids")
+		public Map<Long, String> bulkWithKey(List<Long> ids) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", bulk = true, sync = true)
+		public Map<Long, String> bulkWithSync(List<Long> ids) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", bulk = true)
+		@CacheEvict(cacheNames = "testCache", allEntries = true)
+		public Map<Long, String> bulkWithAnotherOperation(List<Long> ids) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", bulk = true)
+		public List<String> bulkWithoutMapReturnType(List<Long> ids) {
+			return List.copyOf(load(ids).values());
+		}
+
+		@Cacheable(cacheNames = "testCache", bulk = true)
+		public Map<Long, String> bulkWithoutCollectionParameter(Long id) {
+			return load(List.of(id));
+		}
+
+		private Map<Long, String> load(Collection<Long> ids) {
+			this.invocations.add(ids);
+			Map<Long, String> result = new LinkedHashMap<>();
+			for (Long id : ids) {
+				if (id != 42L) {
+					result.put(id, "v" + id);
+				}
+			}
+			return result;
+		}
+	}
+
+
+	@Configuration
+	@EnableCaching
+	static class Config implements CachingConfigurer {
+
+		@Override
+		@Bean
+		public CacheManager cacheManager() {
+			return new ConcurrentMapCacheManager("testCache");
+		}
+
+		@Bean
+		public BulkService bulkService() {
+			return new BulkService();
+		}
+	}
+
+}
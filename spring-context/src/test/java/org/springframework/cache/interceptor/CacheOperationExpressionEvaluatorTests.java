@@ -34,6 +34,7 @@ import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
@@ -103,6 +104,62 @@ class CacheOperationExpressionEvaluatorTests {
 		assertThat(keyB).isEqualTo(args[1]);
 	}
 
+	@Test
+	void keyForArgumentResolvedWithoutEvaluationContext() {
+		Method method = ReflectionUtils.findMethod(AnnotatedClass.class, "multipleCaching", Object.class, Object.class);
+		AnnotatedElementKey key = new AnnotatedElementKey(method, AnnotatedClass.class);
+		Object[] args = new Object[] {"first", "second"};
+
+		assertThat(this.eval.key("#b", key, method, args, this::noEvaluationContext)).isEqualTo("second");
+		assertThat(this.eval.key("#p0", key, method, args, this::noEvaluationContext)).isEqualTo("first");
+		assertThat(this.eval.key("#a1", key, method, args, this::noEvaluationContext)).isEqualTo("second");
+	}
+
+	@Test
+	void keyForArgumentPropertyResolvedWithoutEvaluationContext() {
+		Method method = ReflectionUtils.findMethod(AnnotatedClass.class, "withUser", PublicUser.class);
+		AnnotatedElementKey key = new AnnotatedElementKey(method, AnnotatedClass.class);
+
+		Object[] args = new Object[] {new PublicUser("id1", true)};
+		assertThat(this.eval.key("#user.id", key, method, args, this::noEvaluationContext)).isEqualTo("id1");
+		assertThat(this.eval.key("#user.active", key, method, args, this::noEvaluationContext)).isEqualTo(true);
+		assertThat(this.eval.key("#user.name", key, method, args, this::noEvaluationContext)).isEqualTo("user-id1");
+		args = new Object[] {new PublicUser("id2", false)};
+		assertThat(this.eval.key("#user.id", key, method, args, this::noEvaluationContext)).isEqualTo("id2");
+	}
+
+	@Test
+	void keyForNonPublicArgumentPropertyUsesExpression() {
+		Method method = ReflectionUtils.findMethod(AnnotatedClass.class, "withNonPublicUser", NonPublicUser.class);
+		AnnotatedElementKey key = new AnnotatedElementKey(method, AnnotatedClass.class);
+		Object[] args = new Object[] {new NonPublicUser("id1")};
+
+		assertThat(this.eval.key("#user.id", key, method, args,
+				() -> createEvaluationContext(method, args))).isEqualTo("id1");
+	}
+
+	@Test
+	void keyForNullArgumentPropertyUsesExpression() {
+		Method method = ReflectionUtils.findMethod(AnnotatedClass.class, "withUser", PublicUser.class);
+		AnnotatedElementKey key = new AnnotatedElementKey(method, AnnotatedClass.class);
+		Object[] args = new Object[] {null};
+
+		assertThatExceptionOfType(SpelEvaluationException.class).isThrownBy(() ->
+				this.eval.key("#user.id", key, method, args, () -> createEvaluationContext(method, args)));
+	}
+
+	@Test
+	void keyForExpressionUsesEvaluationContext() {
+		Method method = ReflectionUtils.findMethod(AnnotatedClass.class, "multipleCaching", Object.class, Object.class);
+		AnnotatedElementKey key = new AnnotatedElementKey(method, AnnotatedClass.class);
+		Object[] args = new Object[] {"first", "second"};
+
+		assertThat(this.eval.key("#a + #b", key, method, args,
+				() -> createEvaluationContext(method, args))).isEqualTo("firstsecond");
+		assertThat(this.eval.key("#root.methodName", key, method, args,
+				() -> createEvaluationContext(method, args))).isEqualTo("multipleCaching");
+	}
+
 	@Test
 	void withReturnValue() {
 		EvaluationContext context = createEvaluationContext("theResult");
@@ -148,6 +205,17 @@ class CacheOperationExpressionEvaluatorTests {
 		return createEvaluationContext(result, null);
 	}
 
+	private EvaluationContext createEvaluationContext(Method method, Object[] args) {
+		AnnotatedClass target = new AnnotatedClass();
+		Collection<ConcurrentMapCache> caches = Collections.singleton(new ConcurrentMapCache("test"));
+		return this.eval.createEvaluationContext(caches, method, args, target, target.getClass(), method,
+				CacheOperationExpressionEvaluator.NO_RESULT);
+	}
+
+	private EvaluationContext noEvaluationContext() {
+		throw new AssertionError("Key should be resolved without an evaluation context");
+	}
+
 	private EvaluationContext createEvaluationContext(Object result, @Nullable BeanFactory beanFactory) {
 		if (beanFactory != null) {
 			this.originalEvaluationContext.setBeanResolver(new BeanFactoryResolver(beanFactory));
@@ -167,6 +235,50 @@ class CacheOperationExpressionEvaluatorTests {
 		@Caching(cacheable = { @Cacheable(value = "test", key = "#a"), @Cacheable(value = "test", key = "#b") })
 		public void multipleCaching(Object a, Object b) {
 		}
+
+		public void withUser(PublicUser user) {
+		}
+
+		public void withNonPublicUser(NonPublicUser user) {
+		}
+	}
+
+
+	public static class PublicUser {
+
+		private final String id;
+
+		private final boolean active;
+
+		public final String name;
+
+		PublicUser(String id, boolean active) {
+			this.id = id;
+			this.active = active;
+			this.name = "user-" + id;
+		}
+
+		public String getId() {
+			return this.id;
+		}
+
+		public boolean isActive() {
+			return this.active;
+		}
+	}
+
+
+	private static class NonPublicUser {
+
+		private final String id;
+
+		NonPublicUser(String id) {
+			this.id = id;
+		}
+
+		public String getId() {
+			return this.id;
+		}
 	}
 
 }
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.Nullable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for the coalescing of concurrent cache misses for {@link Cacheable#sync()}.
+ */
+class CacheSingleFlightTests {
+
+	private static final int CALLERS = 8;
+
+	private ConfigurableApplicationContext context;
+
+	private CacheInterceptor interceptor;
+
+	private SlowService service;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+
+	@BeforeEach
+	void setup() {
+		this.context = new AnnotationConfigApplicationContext(Config.class);
+		this.interceptor = this.context.getBean(CacheInterceptor.class);
+		this.service = this.context.getBean(SlowService.class);
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.executor.shutdownNow();
+		this.context.close();
+	}
+
+
+	@Test
+	void concurrentMissesInvokeOnce() throws Exception {
+		List<Future<Integer>> results = new ArrayList<>();
+		for (int i = 0; i < CALLERS; i++) {
+			results.add(this.executor.submit(() -> this.service.load("key")));
+		}
+		awaitCoalesced(CALLERS - 1);
+		this.service.release();
+
+		for (Future<Integer> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+		}
+		assertThat(this.service.getInvocationCount()).isEqualTo(1);
+		assertThat(this.interceptor.getInFlightLoadCount()).isZero();
+		assertThat(this.service.load("key")).isEqualTo(1);
+	}
+
+	@Test
+	void singleCacheProviderCallPerInvocation() throws Exception {
+		this.service.release();
+		assertThat(this.service.load("key")).isEqualTo(1);
+		assertThat(this.service.load("key")).isEqualTo(1);
+
+		CountingCache cache = this.context.getBean(CountingCache.class);
+		assertThat(cache.getLoadingRetrievalCount()).isEqualTo(2);
+		assertThat(cache.getLookupCount()).isZero();
+		assertThat(this.service.getInvocationCount()).isEqualTo(1);
+	}
+
+	@Test
+	void concurrentMissesShareFailure() throws Exception {
+		List<Future<Integer>> results = new ArrayList<>();
+		for (int i = 0; i < CALLERS; i++) {
+			results.add(this.executor.submit(() -> this.service.fail("key")));
+		}
+		awaitCoalesced(CALLERS - 1);
+		this.service.release();
+
+		for (Future<Integer> result : results) {
+			assertThat(result).failsWithin(5, TimeUnit.SECONDS)
+					.withThrowableOfType(ExecutionException.class)
+					.withCauseInstanceOf(IllegalStateException.class);
+		}
+		assertThat(this.service.getInvocationCount()).isEqualTo(1);
+		assertThat(this.interceptor.getInFlightLoadCount()).isZero();
+	}
+
+	@Test
+	void concurrentMissesShareFuture() throws Exception {
+		List<CompletableFuture<Integer>> results = new ArrayList<>();
+		CompletableFuture<Integer> pending = new CompletableFuture<>();
+		this.service.setPending(pending);
+		for (int i = 0; i < CALLERS; i++) {
+			results.add(this.service.loadAsync("key"));
+		}
+		assertThat(this.interceptor.getCoalescedInvocationCount()).isEqualTo(CALLERS - 1);
+
+		pending.complete(42);
+
+		for (CompletableFuture<Integer> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+		}
+		assertThat(this.service.getInvocationCount()).isEqualTo(1);
+		assertThat(this.interceptor.getInFlightLoadCount()).isZero();
+	}
+
+	@Test
+	void recursiveInvocationForSameKey() {
+		this.service.setSelf(this.service);
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.service.recursive("key"))
+				.withMessageContaining("Recursive invocation of sync=true operation for key 'key'");
+	}
+
+	private void awaitCoalesced(long count) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (this.interceptor.getCoalescedInvocationCount() < count && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+		assertThat(this.interceptor.getCoalescedInvocationCount()).isEqualTo(count);
+	}
+
+
+	static class SlowService {
+
+		// Accessed through methods since the fields of the caching proxy are not initialized
+
+		private final AtomicInteger invocations = new AtomicInteger();
+
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		private CompletableFuture<Integer> pending;
+
+		private SlowService self;
+
+		public void release() {
+			this.release.countDown();
+		}
+
+		public int getInvocationCount() {
+			return this.invocations.get();
+		}
+
+		public void setPending(CompletableFuture<Integer> pending) {
+			this.pending = pending;
+		}
+
+		public void setSelf(SlowService self) {
+			this.self = self;
+		}
+
+		@Cacheable(cacheNames = "testCache", sync = true)
+		public Integer load(String key) throws InterruptedException {
+			this.release.await();
+			return this.invocations.incrementAndGet();
+		}
+
+		@Cacheable(cacheNames = "testCache", sync = true)
+		public Integer fail(String key) throws InterruptedException {
+			this.release.await();
+			this.invocations.incrementAndGet();
+			throw new IllegalStateException("Failed to load " + key);
+		}
+
+		@Cacheable(cacheNames = "testCache", sync = true)
+		public CompletableFuture<Integer> loadAsync(String key) {
+			this.invocations.incrementAndGet();
+			return this.pending;
+		}
+
+		@Cacheable(cacheNames = "testCache", sync = true)
+		public Integer recursive(String key) throws InterruptedException {
+			return this.self.recursive(key);
+		}
+	}
+
+
+	static class CountingCache extends ConcurrentMapCache {
+
+		private final AtomicInteger loadingRetrievals = new AtomicInteger();
+
+		private final AtomicInteger lookups = new AtomicInteger();
+
+		CountingCache(String name) {
+			super(name);
+		}
+
+		int getLoadingRetrievalCount() {
+			return this.loadingRetrievals.get();
+		}
+
+		int getLookupCount() {
+			return this.lookups.get();
+		}
+
+		@Override
+		@Nullable
+		protected Object lookup(Object key) {
+			this.lookups.incrementAndGet();
+			return super.lookup(key);
+		}
+
+		@Override
+		public <T> T get(Object key, Callable<T> valueLoader) {
+			this.loadingRetrievals.incrementAndGet();
+			return super.get(key, valueLoader);
+		}
+	}
+
+
+	@Configuration
+	@EnableCaching
+	static class Config implements CachingConfigurer {
+
+		@Override
+		@Bean
+		public CacheManager cacheManager() {
+			SimpleCacheManager cacheManager = new SimpleCacheManager();
+			cacheManager.setCaches(List.of(testCache()));
+			return cacheManager;
+		}
+
+		@Bean
+		public CountingCache testCache() {
+			return new CountingCache("testCache");
+		}
+
+		@Bean
+		public SlowService slowService() {
+			return new SlowService();
+		}
+	}
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.near;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.BoundedConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link NearCacheManager} and {@link NearCache}.
+ */
+class NearCacheManagerTests {
+
+	private final CacheManager remoteCacheManager = new ConcurrentMapCacheManager("testCache");
+
+	private final Cache remoteCache = this.remoteCacheManager.getCache("testCache");
+
+
+	@Test
+	void localCacheConfiguration() {
+		NearCacheManager cacheManager = createCacheManager(new SimpleCacheInvalidationChannel());
+		NearCache cache = (NearCache) cacheManager.getCache("testCache");
+
+		assertThat(cache.getName()).isEqualTo("testCache");
+		assertThat(cache.getTargetCache()).isSameAs(this.remoteCache);
+		assertThat(cache.getLocalCache()).isInstanceOf(BoundedConcurrentMapCache.class);
+		assertThat(cacheManager.getCache("testCache")).isSameAs(cache);
+		assertThat(cacheManager.getCacheNames()).containsExactly("testCache");
+	}
+
+	@Test
+	void unknownCache() {
+		NearCacheManager cacheManager = createCacheManager(new SimpleCacheInvalidationChannel());
+		assertThat(cacheManager.getCache("unknown")).isNull();
+	}
+
+	@Test
+	void hitServedLocally() {
+		Cache cache = createCacheManager(new SimpleCacheInvalidationChannel()).getCache("testCache");
+		this.remoteCache.put("key", "value1");
+		assertThat(cache.get("key", String.class)).isEqualTo("value1");
+
+		this.remoteCache.put("key", "value2");
+
+		assertThat(cache.get("key", String.class)).isEqualTo("value1");
+	}
+
+	@Test
+	void nullValueServedLocally() {
+		Cache cache = createCacheManager(new SimpleCacheInvalidationChannel()).getCache("testCache");
+		this.remoteCache.put("key", null);
+		assertThat(cache.get("key")).isNotNull();
+
+		this.remoteCache.evict("key");
+
+		assertThat(cache.get("key")).isNotNull().extracting(Cache.ValueWrapper::get).isNull();
+	}
+
+	@Test
+	void valueLoadedThroughTargetCache() {
+		Cache cache = createCacheManager(new SimpleCacheInvalidationChannel()).getCache("testCache");
+
+		assertThat(cache.get("key", () -> "loaded")).isEqualTo("loaded");
+
+		assertThat(this.remoteCache.get("key", String.class)).isEqualTo("loaded");
+		assertThat(((NearCache) cache).getLocalCache().get("key", String.class)).isEqualTo("loaded");
+	}
+
+	@Test
+	void putInvalidatesOtherNearCaches() {
+		SimpleCacheInvalidationChannel channel = new SimpleCacheInvalidationChannel();
+		Cache cache1 = createCacheManager(channel).getCache("testCache");
+		Cache cache2 = createCacheManager(channel).getCache("testCache");
+		cache1.put("key", "value1");
+		assertThat(cache2.get("key", String.class)).isEqualTo("value1");
+
+		cache1.put("key", "value2");
+
+		assertThat(cache1.get("key", String.class)).isEqualTo("value2");
+		assertThat(cache2.get("key", String.class)).isEqualTo("value2");
+	}
+
+	@Test
+	void evictInvalidatesOtherNearCaches() {
+		SimpleCacheInvalidationChannel channel = new SimpleCacheInvalidationChannel();
+		Cache cache1 = createCacheManager(channel).getCache("testCache");
+		Cache cache2 = createCacheManager(channel).getCache("testCache");
+		cache1.put("key", "value");
+		assertThat(cache2.get("key")).isNotNull();
+
+		cache1.evict("key");
+
+		assertThat(cache2.get("key")).isNull();
+	}
+
+	@Test
+	void clearInvalidatesOtherNearCaches() {
+		SimpleCacheInvalidationChannel channel = new SimpleCacheInvalidationChannel();
+		Cache cache1 = createCacheManager(channel).getCache("testCache");
+		Cache cache2 = createCacheManager(channel).getCache("testCache");
+		cache1.put("key1", "value1");
+		cache1.put("key2", "value2");
+		assertThat(cache2.get("key1")).isNotNull();
+		assertThat(cache2.get("key2")).isNotNull();
+
+		cache1.clear();
+
+		assertThat(cache2.get("key1")).isNull();
+		assertThat(cache2.get("key2")).isNull();
+	}
+
+	@Test
+	void bulkOperations() {
+		SimpleCacheInvalidationChannel channel = new SimpleCacheInvalidationChannel();
+		Cache cache1 = createCacheManager(channel).getCache("testCache");
+		Cache cache2 = createCacheManager(channel).getCache("testCache");
+		cache1.put("key1", "value1");
+		assertThat(cache2.get("key1")).isNotNull();
+		this.remoteCache.put("key2", "value2");
+
+		assertThat(cache2.getAll(List.of("key2", "key1", "key3")))
+				.containsOnlyKeys("key2", "key1");
+		assertThat(((NearCache) cache2).getLocalCache().get("key2", String.class)).isEqualTo("value2");
+
+		cache1.putAll(Map.of("key1", "new1", "key2", "new2"));
+		assertThat(cache2.get("key1", String.class)).isEqualTo("new1");
+		assertThat(cache2.get("key2", String.class)).isEqualTo("new2");
+
+		cache1.evictAll(List.of("key1", "key2"));
+		assertThat(cache2.get("key1")).isNull();
+		assertThat(cache2.get("key2")).isNull();
+	}
+
+	@Test
+	void invalidationsThroughApplicationEvents() {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.registerBean(ApplicationEventCacheInvalidationChannel.class);
+		context.refresh();
+		CacheInvalidationChannel channel = context.getBean(ApplicationEventCacheInvalidationChannel.class);
+		Cache cache1 = createCacheManager(channel).getCache("testCache");
+		Cache cache2 = createCacheManager(channel).getCache("testCache");
+		cache1.put("key", "value1");
+		assertThat(cache2.get("key", String.class)).isEqualTo("value1");
+
+		cache1.put("key", "value2");
+
+		assertThat(cache2.get("key", String.class)).isEqualTo("value2");
+		context.close();
+	}
+
+	@Test
+	void invalidationsFromMessageBroker() {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.registerBean(ApplicationEventCacheInvalidationChannel.class);
+		context.refresh();
+		Cache cache = createCacheManager(context.getBean(ApplicationEventCacheInvalidationChannel.class))
+				.getCache("testCache");
+		this.remoteCache.put("key", "value1");
+		assertThat(cache.get("key", String.class)).isEqualTo("value1");
+
+		// Write from another application instance, received through a broker
+		this.remoteCache.put("key", "value2");
+		context.publishEvent(new CacheInvalidationEvent("broker", new CacheInvalidation("remote", "testCache", "key")));
+
+		assertThat(cache.get("key", String.class)).isEqualTo("value2");
+		context.close();
+	}
+
+	@Test
+	void destroyUnsubscribesFromChannel() {
+		List<Consumer<CacheInvalidation>> subscribers = new ArrayList<>();
+		CacheInvalidationChannel channel = new SimpleCacheInvalidationChannel() {
+			@Override
+			public void subscribe(Consumer<CacheInvalidation> subscriber) {
+				super.subscribe(subscriber);
+				subscribers.add(subscriber);
+			}
+			@Override
+			public void unsubscribe(Consumer<CacheInvalidation> subscriber) {
+				super.unsubscribe(subscriber);
+				subscribers.remove(subscriber);
+			}
+		};
+		NearCacheManager cacheManager = createCacheManager(channel);
+		assertThat(subscribers).hasSize(1);
+
+		cacheManager.destroy();
+
+		assertThat(subscribers).isEmpty();
+	}
+
+	private NearCacheManager createCacheManager(CacheInvalidationChannel channel) {
+		NearCacheManager cacheManager = new NearCacheManager(this.remoteCacheManager, channel);
+		cacheManager.afterPropertiesSet();
+		return cacheManager;
+	}
+
+}
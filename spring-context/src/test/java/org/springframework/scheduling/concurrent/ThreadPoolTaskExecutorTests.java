@@ -16,14 +16,27 @@
 
 package org.springframework.scheduling.concurrent;
 
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.TimeUnit;
 
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import org.springframework.core.task.TaskRejectedException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.InstanceOfAssertFactories.type;
@@ -149,4 +162,193 @@ class ThreadPoolTaskExecutorTests extends AbstractSchedulingTaskExecutorTests {
 		assertThat(executor.getQueueSize()).isZero();
 	}
 
+	@Test
+	void queueBeforeScaling() throws Exception {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setMaxPoolSize(4);
+		executor.setQueueCapacity(10);
+		executor.afterPropertiesSet();
+		CountDownLatch latch = new CountDownLatch(1);
+		try {
+			for (int i = 0; i < 4; i++) {
+				executor.execute(() -> awaitQuietly(latch));
+			}
+			assertThat(executor.getPoolSize()).isEqualTo(1);
+			assertThat(executor.getQueueSize()).isEqualTo(3);
+		}
+		finally {
+			latch.countDown();
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void eagerScaling() throws Exception {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setMaxPoolSize(4);
+		executor.setQueueCapacity(10);
+		executor.setEagerScaling(true);
+		executor.afterPropertiesSet();
+		CountDownLatch latch = new CountDownLatch(1);
+		try {
+			for (int i = 0; i < 5; i++) {
+				executor.execute(() -> awaitQuietly(latch));
+			}
+			assertThat(executor.getPoolSize()).isEqualTo(4);
+			assertThat(executor.getQueueSize()).isEqualTo(1);
+		}
+		finally {
+			latch.countDown();
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void eagerScalingReusesIdleThreads() throws Exception {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setMaxPoolSize(4);
+		executor.setQueueCapacity(10);
+		executor.setEagerScaling(true);
+		executor.afterPropertiesSet();
+		try {
+			for (int i = 0; i < 5; i++) {
+				executor.submit(() -> {}).get(1000, TimeUnit.MILLISECONDS);
+				Awaitility.await()
+						.atMost(1, TimeUnit.SECONDS)
+						.pollInterval(10, TimeUnit.MILLISECONDS)
+						.until(() -> executor.getActiveCount() == 0);
+			}
+			assertThat(executor.getPoolSize()).isEqualTo(1);
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	void eagerScalingAfterQueuedTasksRemoved(boolean recordQueueWaitTimes) throws Exception {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setMaxPoolSize(2);
+		executor.setQueueCapacity(10);
+		executor.setEagerScaling(true);
+		executor.setRecordQueueWaitTimes(recordQueueWaitTimes);
+		executor.afterPropertiesSet();
+		CountDownLatch latch = new CountDownLatch(1);
+		try {
+			executor.execute(() -> awaitQuietly(latch));
+			executor.execute(() -> awaitQuietly(latch));
+			executor.submit(() -> {}).cancel(false);
+			executor.submit(() -> {}).cancel(false);
+			Runnable task = () -> {};
+			executor.execute(task);
+			executor.getThreadPoolExecutor().purge();
+			executor.getThreadPoolExecutor().remove(task);
+			assertThat(executor.getQueueSize()).isZero();
+			latch.countDown();
+			Awaitility.await()
+					.atMost(1, TimeUnit.SECONDS)
+					.pollInterval(10, TimeUnit.MILLISECONDS)
+					.until(() -> executor.getActiveCount() == 0);
+
+			executor.setMaxPoolSize(4);
+			executor.submit(() -> {}).get(1000, TimeUnit.MILLISECONDS);
+			assertThat(executor.getPoolSize()).isEqualTo(2);
+		}
+		finally {
+			latch.countDown();
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void rejectedTaskCount() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(1);
+		executor.afterPropertiesSet();
+		CountDownLatch latch = new CountDownLatch(1);
+		try {
+			executor.execute(() -> awaitQuietly(latch));
+			executor.execute(() -> {});
+			assertThatExceptionOfType(TaskRejectedException.class).isThrownBy(() -> executor.execute(() -> {}));
+
+			ThreadPoolTaskExecutor.Statistics statistics = executor.getStatistics();
+			assertThat(statistics.rejectedTaskCount()).isEqualTo(1);
+			assertThat(statistics.activeCount()).isEqualTo(1);
+			assertThat(statistics.queueSize()).isEqualTo(1);
+		}
+		finally {
+			latch.countDown();
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void queueWaitHistogram() throws Exception {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setRecordQueueWaitTimes(true);
+		executor.afterPropertiesSet();
+		try {
+			executor.submit(() -> {}).get(1000, TimeUnit.MILLISECONDS);
+			executor.submit(() -> "result").get(1000, TimeUnit.MILLISECONDS);
+
+			Map<Duration, Long> histogram = executor.getStatistics().queueWaitHistogram();
+			assertThat(histogram.values().stream().mapToLong(Long::longValue).sum()).isEqualTo(2);
+			assertThat(histogram.keySet()).contains(Duration.ofMillis(1), ChronoUnit.FOREVER.getDuration());
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void queueWaitTargetGrowsCorePoolSize() throws Exception {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setMaxPoolSize(4);
+		executor.setQueueWaitTarget(Duration.ofMillis(1));
+		executor.afterPropertiesSet();
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < 20; i++) {
+				futures.add(executor.submit(() -> {
+					Thread.sleep(10);
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(1000, TimeUnit.MILLISECONDS);
+			}
+			assertThat(executor.getCorePoolSize()).isEqualTo(1);
+			assertThat(executor.getStatistics().corePoolSize()).isGreaterThan(1).isLessThanOrEqualTo(4);
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void shutdownNowCancelsRecordedTasks() throws Exception {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setRecordQueueWaitTimes(true);
+		executor.setWaitForTasksToCompleteOnShutdown(false);
+		executor.afterPropertiesSet();
+		CountDownLatch latch = new CountDownLatch(1);
+		executor.execute(() -> awaitQuietly(latch));
+		Future<?> future = executor.submit(() -> {});
+		executor.shutdown();
+		latch.countDown();
+
+		assertThat(future.isCancelled()).isTrue();
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(1000, TimeUnit.MILLISECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 }
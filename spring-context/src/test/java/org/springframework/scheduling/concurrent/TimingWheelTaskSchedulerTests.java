@@ -0,0 +1,235 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link TimingWheelTaskScheduler}.
+ */
+class TimingWheelTaskSchedulerTests {
+
+	private final TimingWheelTaskScheduler scheduler = new TimingWheelTaskScheduler();
+
+
+	@AfterEach
+	void shutdown() {
+		this.scheduler.close();
+	}
+
+
+	@Test
+	void scheduleOneTimeTask() throws Exception {
+		Instant startTime = Instant.now().plusMillis(50);
+		AtomicBoolean early = new AtomicBoolean();
+		ScheduledFuture<?> future = this.scheduler.schedule(
+				() -> early.set(Instant.now().isBefore(startTime)), startTime);
+
+		assertThat(future.get(1000, TimeUnit.MILLISECONDS)).isNull();
+		assertThat(future.isDone()).isTrue();
+		assertThat(early).isFalse();
+	}
+
+	@Test
+	void scheduleOneTimeFailingTaskWithoutErrorHandler() {
+		ScheduledFuture<?> future = this.scheduler.schedule(() -> {
+			throw new IllegalStateException("Expected failure");
+		}, Instant.now());
+
+		assertThatExceptionOfType(ExecutionException.class)
+				.isThrownBy(() -> future.get(1000, TimeUnit.MILLISECONDS))
+				.withCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void scheduleOneTimeFailingTaskWithErrorHandler() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		this.scheduler.setErrorHandler(ex -> latch.countDown());
+		ScheduledFuture<?> future = this.scheduler.schedule(() -> {
+			throw new IllegalStateException("Expected failure");
+		}, Instant.now());
+
+		assertThat(future.get(1000, TimeUnit.MILLISECONDS)).isNull();
+		assertThat(latch.await(1000, TimeUnit.MILLISECONDS)).isTrue();
+	}
+
+	@Test
+	void scheduleMultipleTriggerTasks() throws Exception {
+		AtomicInteger runCount = new AtomicInteger();
+		ScheduledFuture<?> future = this.scheduler.schedule(runCount::incrementAndGet, new TestTrigger(3));
+
+		assertThat(future.get(1000, TimeUnit.MILLISECONDS)).isNull();
+		assertThat(runCount).hasValue(3);
+	}
+
+	@Test
+	void scheduleTriggerTaskWhichNeverFires() {
+		assertThat(this.scheduler.schedule(() -> {}, new TestTrigger(0))).isNull();
+	}
+
+	@Test
+	void scheduleAtFixedRate() throws Exception {
+		CountDownLatch latch = new CountDownLatch(3);
+		ScheduledFuture<?> future = this.scheduler.scheduleAtFixedRate(latch::countDown, Duration.ofMillis(10));
+
+		assertThat(latch.await(1000, TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(future.cancel(false)).isTrue();
+		assertThat(future.isCancelled()).isTrue();
+	}
+
+	@Test
+	void scheduleWithFixedDelayDoesNotOverlap() throws Exception {
+		CountDownLatch latch = new CountDownLatch(3);
+		AtomicInteger concurrentExecutions = new AtomicInteger();
+		AtomicBoolean overlap = new AtomicBoolean();
+		ScheduledFuture<?> future = this.scheduler.scheduleWithFixedDelay(() -> {
+			if (concurrentExecutions.incrementAndGet() > 1) {
+				overlap.set(true);
+			}
+			try {
+				Thread.sleep(20);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			concurrentExecutions.decrementAndGet();
+			latch.countDown();
+		}, Duration.ofMillis(1));
+
+		assertThat(latch.await(1000, TimeUnit.MILLISECONDS)).isTrue();
+		future.cancel(false);
+		assertThat(overlap).isFalse();
+	}
+
+	@Test
+	void cancelledTaskDoesNotRun() throws Exception {
+		AtomicBoolean executed = new AtomicBoolean();
+		ScheduledFuture<?> future = this.scheduler.schedule(() -> executed.set(true), Instant.now().plusMillis(50));
+
+		assertThat(future.cancel(false)).isTrue();
+		Thread.sleep(100);
+		assertThat(executed).isFalse();
+		assertThat(this.scheduler.getStatistics().scheduledTaskCount()).isZero();
+	}
+
+	@Test
+	void delayedTasksRunInOrder() throws Exception {
+		this.scheduler.setTickDuration(Duration.ofMillis(1));
+		Instant now = Instant.now();
+		CountDownLatch latch = new CountDownLatch(3);
+		StringBuffer order = new StringBuffer();
+		this.scheduler.schedule(append(order, 'c', latch), now.plusMillis(600));
+		this.scheduler.schedule(append(order, 'a', latch), now.plusMillis(20));
+		this.scheduler.schedule(append(order, 'b', latch), now.plusMillis(300));
+
+		assertThat(latch.await(2000, TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(order).hasToString("abc");
+	}
+
+	private static Runnable append(StringBuffer buffer, char character, CountDownLatch latch) {
+		return () -> {
+			buffer.append(character);
+			latch.countDown();
+		};
+	}
+
+	@Test
+	void statistics() throws Exception {
+		this.scheduler.schedule(() -> {}, Instant.now()).get(1000, TimeUnit.MILLISECONDS);
+		this.scheduler.schedule(() -> {}, Instant.now().plusSeconds(60));
+
+		TimingWheelTaskScheduler.Statistics statistics = this.scheduler.getStatistics();
+		assertThat(statistics.scheduledTaskCount()).isEqualTo(1);
+		assertThat(statistics.dispatchCount()).isEqualTo(1);
+		assertThat(statistics.executionCount()).isEqualTo(1);
+		assertThat(statistics.averageLag()).isEqualTo(statistics.totalLag());
+		assertThat(statistics.maxDrift()).isGreaterThanOrEqualTo(statistics.maxLag());
+	}
+
+	@Test
+	void pauseAndResume() throws Exception {
+		AtomicBoolean executed = new AtomicBoolean();
+		this.scheduler.stop();
+		ScheduledFuture<?> future = this.scheduler.schedule(() -> executed.set(true), Instant.now());
+		Thread.sleep(50);
+		assertThat(executed).isFalse();
+		assertThat(this.scheduler.isRunning()).isFalse();
+
+		this.scheduler.start();
+		future.get(1000, TimeUnit.MILLISECONDS);
+		assertThat(executed).isTrue();
+		assertThat(this.scheduler.isRunning()).isTrue();
+	}
+
+	@Test
+	void closeCancelsScheduledTasksAndRejectsNewOnes() {
+		ScheduledFuture<?> future = this.scheduler.schedule(() -> {}, Instant.now().plusSeconds(60));
+		this.scheduler.close();
+
+		assertThatExceptionOfType(CancellationException.class)
+				.isThrownBy(() -> future.get(1000, TimeUnit.MILLISECONDS));
+		assertThatExceptionOfType(TaskRejectedException.class)
+				.isThrownBy(() -> this.scheduler.schedule(() -> {}, Instant.now()));
+	}
+
+	@Test
+	void tickDurationCannotBeChangedOnceStarted() {
+		this.scheduler.schedule(() -> {}, Instant.now());
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.scheduler.setTickDuration(Duration.ofMillis(1)));
+	}
+
+
+	private static class TestTrigger implements Trigger {
+
+		private final int maxRunCount;
+
+		private final AtomicInteger actualRunCount = new AtomicInteger();
+
+		TestTrigger(int maxRunCount) {
+			this.maxRunCount = maxRunCount;
+		}
+
+		@Override
+		public Instant nextExecution(TriggerContext triggerContext) {
+			if (this.actualRunCount.incrementAndGet() > this.maxRunCount) {
+				return null;
+			}
+			return Instant.now();
+		}
+	}
+
+}
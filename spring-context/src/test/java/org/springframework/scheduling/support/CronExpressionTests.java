@@ -17,6 +17,7 @@
 package org.springframework.scheduling.support;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -24,6 +25,7 @@ import java.time.Year;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.Temporal;
+import java.util.List;
 
 import org.assertj.core.api.Condition;
 import org.junit.jupiter.api.Test;
@@ -37,6 +39,7 @@ import static java.time.DayOfWeek.TUESDAY;
 import static java.time.DayOfWeek.WEDNESDAY;
 import static java.time.temporal.TemporalAdjusters.next;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 
 /**
  * @author Arjen Poutsma
@@ -1354,6 +1357,75 @@ class CronExpressionTests {
 		assertThat(actual).isEqualTo(expected);
 	}
 
+	@Test
+	void nextMultiple() {
+		CronExpression expression = CronExpression.parse("0 0 0 29 2 *");
+
+		List<LocalDateTime> actual = expression.next(LocalDateTime.of(2024, 3, 1, 0, 0), 3);
+		assertThat(actual).containsExactly(LocalDateTime.of(2028, 2, 29, 0, 0),
+				LocalDateTime.of(2032, 2, 29, 0, 0), LocalDateTime.of(2036, 2, 29, 0, 0));
+
+		assertThat(expression.next(LocalDateTime.of(2024, 3, 1, 0, 0), 0)).isEmpty();
+	}
+
+	@Test
+	void nextMultipleWithoutMatch() {
+		CronExpression expression = CronExpression.parse("0 0 0 31 2 *");
+
+		assertThat(expression.next(LocalDateTime.of(2024, 3, 1, 0, 0), 3)).isEmpty();
+	}
+
+	@Test
+	void nextMultipleDaylightSavingOverlap() {
+		CronExpression expression = CronExpression.parse("0 0 * * * *");
+
+		ZonedDateTime last = ZonedDateTime.parse("2021-10-31T00:30:00+02:00[Europe/Amsterdam]");
+		assertThat(expression.next(last, 4)).containsExactly(
+				ZonedDateTime.parse("2021-10-31T01:00:00+02:00[Europe/Amsterdam]"),
+				ZonedDateTime.parse("2021-10-31T02:00:00+02:00[Europe/Amsterdam]"),
+				ZonedDateTime.parse("2021-10-31T02:00:00+01:00[Europe/Amsterdam]"),
+				ZonedDateTime.parse("2021-10-31T03:00:00+01:00[Europe/Amsterdam]"));
+
+		expression = CronExpression.parse("0 30 2 * * *");
+
+		last = ZonedDateTime.parse("2021-10-30T03:00:00+02:00[Europe/Amsterdam]");
+		assertThat(expression.next(last, 3)).containsExactly(
+				ZonedDateTime.parse("2021-10-31T02:30:00+02:00[Europe/Amsterdam]"),
+				ZonedDateTime.parse("2021-10-31T02:30:00+01:00[Europe/Amsterdam]"),
+				ZonedDateTime.parse("2021-11-01T02:30:00+01:00[Europe/Amsterdam]"));
+	}
+
+	@Test
+	void neverMatchingExpressionReturnsNullQuickly() {
+		LocalDateTime start = LocalDateTime.of(2024, 3, 1, 0, 0);
+		assertTimeout(Duration.ofSeconds(1), () -> {
+			assertThat(CronExpression.parse("0 0 0 1 * MON#5").next(start)).isNull();
+			assertThat(CronExpression.parse("0 0 0 31 2,4 *").next(start)).isNull();
+			assertThat(CronExpression.parse("0 0 0 1-7 * FRI#3").next(start)).isNull();
+		});
+	}
+
+	@Test
+	void quartzFifthMondaySkipsMonthsWithoutOne() {
+		CronExpression expression = CronExpression.parse("0 0 0 ? * MON#5");
+
+		List<LocalDateTime> actual = expression.next(LocalDateTime.of(2021, 1, 27, 6, 0), 3);
+		assertThat(actual).containsExactly(LocalDateTime.of(2021, 3, 29, 0, 0),
+				LocalDateTime.of(2021, 5, 31, 0, 0), LocalDateTime.of(2021, 8, 30, 0, 0));
+	}
+
+	@Test
+	void quartzFirstWeekdayAfterSaturdayFirst() {
+		CronExpression expression = CronExpression.parse("0 0 0 1W * *");
+
+		LocalDateTime last = LocalDateTime.of(2022, 10, 2, 9, 0);
+		LocalDateTime expected = LocalDateTime.of(2022, 10, 3, 0, 0);
+		LocalDateTime actual = expression.next(last);
+		assertThat(actual).isNotNull();
+		assertThat(actual).isEqualTo(expected);
+		assertThat(actual).is(weekday);
+	}
+
 	@Test
 	void various() {
 		CronExpression cronExpression = CronExpression.parse("3-57 13-28 17,18 1,15 3-12 6#1");
@@ -16,7 +16,9 @@
 
 package org.springframework.context.testfixture.cache;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
@@ -100,6 +102,33 @@ public abstract class AbstractCacheTests<T extends Cache> {
 		cache.put(key, value);
 	}
 
+	@Test
+	protected void testCacheBulkOperations() {
+		T cache = getCache();
+
+		String key1 = createRandomKey();
+		String key2 = createRandomKey();
+		String key3 = createRandomKey();
+
+		assertThat(cache.getAll(List.of(key1, key2, key3))).isEmpty();
+
+		Map<String, Object> entries = new LinkedHashMap<>();
+		entries.put(key1, "value1");
+		entries.put(key2, null);
+		cache.putAll(entries);
+		assertThat(cache.get(key1).get()).isEqualTo("value1");
+		assertThat(cache.get(key2).get()).isNull();
+
+		Map<Object, Cache.ValueWrapper> found = cache.getAll(List.of(key1, key2, key3));
+		assertThat(found).containsOnlyKeys(key1, key2);
+		assertThat(found.get(key1).get()).isEqualTo("value1");
+		assertThat(found.get(key2).get()).isNull();
+
+		cache.evictAll(List.of(key1, key3));
+		assertThat(cache.get(key1)).isNull();
+		assertThat(cache.getAll(List.of(key1, key2, key3))).containsOnlyKeys(key2);
+	}
+
 	@Test
 	protected void testCacheClear() {
 		T cache = getCache();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,18 +16,23 @@
 
 package org.springframework.expression.spel;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelCompiler;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
@@ -103,4 +108,126 @@ public class SpelBenchmark {
 		return data.expression.getValue(data.context);
 	}
 
+	@State(Scope.Benchmark)
+	public static class CompilationBenchmarkData {
+
+		@Param({"OFF", "IMMEDIATE"})
+		public SpelCompilerMode compilerMode;
+
+		public Inventory inventory = new Inventory();
+
+		public Expression selection;
+
+		public Expression projection;
+
+		public Expression listIndexer;
+
+		public Expression mapIndexer;
+
+		public Expression inlineMap;
+
+		public Expression methodReference;
+
+		@Setup
+		public void setup() {
+			ExpressionParser parser = new SpelExpressionParser();
+			this.selection = parseAndCompile(parser, "items.?[quantity > 50]");
+			this.projection = parseAndCompile(parser, "items.![name]");
+			this.listIndexer = parseAndCompile(parser, "names[position]");
+			this.mapIndexer = parseAndCompile(parser, "stock[names[position]]");
+			this.inlineMap = parseAndCompile(parser, "{name:names[position], position:position}");
+			this.methodReference = parseAndCompile(parser, "sum(position, 2, position)");
+		}
+
+		private Expression parseAndCompile(ExpressionParser parser, String expressionString) {
+			Expression expression = parser.parseExpression(expressionString);
+			// Interpret once so that the compiler knows the types involved
+			expression.getValue(this.inventory);
+			if (this.compilerMode == SpelCompilerMode.IMMEDIATE && !SpelCompiler.compile(expression)) {
+				throw new IllegalStateException("Expression not compilable: " + expressionString);
+			}
+			return expression;
+		}
+	}
+
+	@Benchmark
+	public Object selection(CompilationBenchmarkData data) {
+		return data.selection.getValue(data.inventory);
+	}
+
+	@Benchmark
+	public Object projection(CompilationBenchmarkData data) {
+		return data.projection.getValue(data.inventory);
+	}
+
+	@Benchmark
+	public Object listIndexer(CompilationBenchmarkData data) {
+		return data.listIndexer.getValue(data.inventory);
+	}
+
+	@Benchmark
+	public Object mapIndexer(CompilationBenchmarkData data) {
+		return data.mapIndexer.getValue(data.inventory);
+	}
+
+	@Benchmark
+	public Object inlineMap(CompilationBenchmarkData data) {
+		return data.inlineMap.getValue(data.inventory);
+	}
+
+	@Benchmark
+	public Object methodReferenceWithArgumentConversion(CompilationBenchmarkData data) {
+		return data.methodReference.getValue(data.inventory);
+	}
+
+
+	public static class Inventory {
+
+		public final List<Item> items = new ArrayList<>();
+
+		public final Map<String, Integer> stock = new HashMap<>();
+
+		public final List<String> names = new ArrayList<>();
+
+		public final int position = 42;
+
+		public Inventory() {
+			for (int i = 0; i < 100; i++) {
+				String name = "item" + i;
+				this.items.add(new Item(name, i));
+				this.stock.put(name, i);
+				this.names.add(name);
+			}
+		}
+
+		public long sum(long... values) {
+			long sum = 0;
+			for (long value : values) {
+				sum += value;
+			}
+			return sum;
+		}
+	}
+
+
+	public static class Item {
+
+		private final String name;
+
+		private final int quantity;
+
+		public Item(String name, int quantity) {
+			this.name = name;
+			this.quantity = quantity;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public int getQuantity() {
+			return this.quantity;
+		}
+	}
+
 }
@@ -85,9 +85,16 @@ public class CodeFlow implements Opcodes {
 
 	/**
 	 * When code generation requires an intermediate variable within a method,
-	 * this method records the next available variable (variable 0 is 'this').
+	 * this method records the next available variable (variable 0 is 'this',
+	 * variables 1 and 2 are the target and the EvaluationContext).
 	 */
-	private int nextFreeVariableId = 1;
+	private int nextFreeVariableId = 3;
+
+	/**
+	 * Local variables holding the active context object for nested expressions
+	 * such as selection criteria or projections, with the innermost one on top.
+	 */
+	private final Deque<Integer> targetVariables = new ArrayDeque<>();
 
 
 	/**
@@ -109,7 +116,28 @@ public class CodeFlow implements Opcodes {
 	 * @param mv the method visitor into which the load instruction should be inserted
 	 */
 	public void loadTarget(MethodVisitor mv) {
-		mv.visitVarInsn(ALOAD, 1);
+		Integer targetVariable = this.targetVariables.peek();
+		mv.visitVarInsn(ALOAD, (targetVariable != null ? targetVariable : 1));
+	}
+
+	/**
+	 * Enter a scope in which {@link #loadTarget} loads the given local variable
+	 * instead of the target, e.g. the current element while generating the code
+	 * for the criteria of a selection.
+	 * @param variableId the local variable holding the active context object
+	 * @since 6.1.4
+	 * @see #exitTargetScope()
+	 */
+	public void enterTargetScope(int variableId) {
+		this.targetVariables.push(variableId);
+	}
+
+	/**
+	 * Exit the scope entered by the last call to {@link #enterTargetScope}.
+	 * @since 6.1.4
+	 */
+	public void exitTargetScope() {
+		this.targetVariables.pop();
 	}
 
 	/**
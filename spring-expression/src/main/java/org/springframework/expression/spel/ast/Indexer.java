@@ -92,6 +92,8 @@ public class Indexer extends SpelNodeImpl {
 	@Nullable
 	private IndexedType indexedType;
 
+	private boolean mapKeyConverted;
+
 
 	public Indexer(int startPos, int endPos, SpelNodeImpl expr) {
 		super(startPos, endPos, expr);
@@ -158,6 +160,7 @@ public class Indexer extends SpelNodeImpl {
 			if (targetDescriptor.getMapKeyTypeDescriptor() != null) {
 				key = state.convertValue(key, targetDescriptor.getMapKeyTypeDescriptor());
 			}
+			this.mapKeyConverted = (key != index);
 			this.indexedType = IndexedType.MAP;
 			return new MapIndexingValueRef(state.getTypeConverter(), map, key, targetDescriptor);
 		}
@@ -200,13 +203,15 @@ public class Indexer extends SpelNodeImpl {
 	@Override
 	public boolean isCompilable() {
 		if (this.indexedType == IndexedType.ARRAY) {
-			return (this.exitTypeDescriptor != null);
+			return (this.exitTypeDescriptor != null && isCompilableIndex(this.children[0]));
 		}
 		else if (this.indexedType == IndexedType.LIST) {
-			return this.children[0].isCompilable();
+			return isCompilableIndex(this.children[0]);
 		}
 		else if (this.indexedType == IndexedType.MAP) {
-			return (this.children[0] instanceof PropertyOrFieldReference || this.children[0].isCompilable());
+			// A key converted to the key type of the map would not be found by the compiled code
+			return (this.children[0] instanceof PropertyOrFieldReference ||
+					(this.children[0].isCompilable() && !this.mapKeyConverted));
 		}
 		else if (this.indexedType == IndexedType.OBJECT) {
 			// If the string name is changing the accessor is clearly going to change (so no compilation possible)
@@ -261,18 +266,13 @@ public class Indexer extends SpelNodeImpl {
 						//depthPlusOne(exitTypeDescriptor)+"Ljava/lang/Object;");
 				insn = AALOAD;
 			}
-			SpelNodeImpl index = this.children[0];
-			cf.enterCompilationScope();
-			index.generateCode(mv, cf);
-			cf.exitCompilationScope();
+			generateIndexCode(mv, cf, this.children[0]);
 			mv.visitInsn(insn);
 		}
 
 		else if (this.indexedType == IndexedType.LIST) {
 			mv.visitTypeInsn(CHECKCAST, "java/util/List");
-			cf.enterCompilationScope();
-			this.children[0].generateCode(mv, cf);
-			cf.exitCompilationScope();
+			generateIndexCode(mv, cf, this.children[0]);
 			mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "get", "(I)Ljava/lang/Object;", true);
 		}
 
@@ -285,9 +285,7 @@ public class Indexer extends SpelNodeImpl {
 				mv.visitLdcInsn(mapKeyName);
 			}
 			else {
-				cf.enterCompilationScope();
-				this.children[0].generateCode(mv, cf);
-				cf.exitCompilationScope();
+				generateIndexCode(mv, cf, this.children[0]);
 			}
 			mv.visitMethodInsn(
 					INVOKEINTERFACE, "java/util/Map", "get", "(Ljava/lang/Object;)Ljava/lang/Object;", true);
@@ -323,6 +321,39 @@ public class Indexer extends SpelNodeImpl {
 		cf.pushDescriptor(this.exitTypeDescriptor);
 	}
 
+	/**
+	 * Determine whether the given index of an array or list compiles to an
+	 * expression that can be coerced to an {@code int}.
+	 */
+	private static boolean isCompilableIndex(SpelNodeImpl index) {
+		if (!index.isCompilable()) {
+			return false;
+		}
+		String descriptor = index.exitTypeDescriptor;
+		return ("I".equals(descriptor) || "S".equals(descriptor) || "B".equals(descriptor) ||
+				"Ljava/lang/Integer".equals(descriptor) || "Ljava/lang/Short".equals(descriptor) ||
+				"Ljava/lang/Byte".equals(descriptor));
+	}
+
+	/**
+	 * Generate the code for the given index, evaluated against the root object like
+	 * in {@link #getValueRef}, leaving an {@code int} on the stack for an array or list
+	 * and an object for a map.
+	 */
+	private void generateIndexCode(MethodVisitor mv, CodeFlow cf, SpelNodeImpl index) {
+		cf.enterTargetScope(1);
+		cf.enterCompilationScope();
+		index.generateCode(mv, cf);
+		if (this.indexedType == IndexedType.MAP) {
+			CodeFlow.insertBoxIfNecessary(mv, cf.lastDescriptor());
+		}
+		else {
+			CodeFlow.insertNumericUnboxOrPrimitiveTypeCoercion(mv, cf.lastDescriptor(), 'I');
+		}
+		cf.exitCompilationScope();
+		cf.exitTargetScope();
+	}
+
 	@Override
 	public String toStringAST() {
 		StringJoiner sj = new StringJoiner(",", "[", "]");
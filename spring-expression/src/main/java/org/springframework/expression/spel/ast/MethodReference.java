@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -41,6 +41,8 @@ import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
 import org.springframework.expression.spel.support.ReflectiveMethodExecutor;
 import org.springframework.expression.spel.support.ReflectiveMethodResolver;
+import org.springframework.expression.spel.support.ResolutionCache;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
@@ -211,12 +213,30 @@ public class MethodReference extends SpelNodeImpl {
 	private MethodExecutor findAccessorForMethod(List<TypeDescriptor> argumentTypes, Object targetObject,
 			EvaluationContext evaluationContext) throws SpelEvaluationException {
 
+		List<MethodResolver> methodResolvers = evaluationContext.getMethodResolvers();
+
+		// Try the method resolved for the same type by any expression sharing the cache
+		ResolutionCache resolutionCache = (!(targetObject instanceof Class) && !methodResolvers.isEmpty() &&
+				methodResolvers.get(0) instanceof ReflectiveMethodResolver &&
+				evaluationContext instanceof StandardEvaluationContext sec ? sec.getResolutionCache() : null);
+		if (resolutionCache != null) {
+			Method method = resolutionCache.getMethod(targetObject.getClass(), this.name, argumentTypes);
+			if (method != null) {
+				return new ReflectiveMethodExecutor(method, targetObject.getClass());
+			}
+		}
+
 		AccessException accessException = null;
-		for (MethodResolver methodResolver : evaluationContext.getMethodResolvers()) {
+		for (MethodResolver methodResolver : methodResolvers) {
 			try {
 				MethodExecutor methodExecutor = methodResolver.resolve(
 						evaluationContext, targetObject, this.name, argumentTypes);
 				if (methodExecutor != null) {
+					if (resolutionCache != null && methodResolver == methodResolvers.get(0) &&
+							methodExecutor instanceof ReflectiveMethodExecutor reflectiveMethodExecutor) {
+						resolutionCache.putMethod(targetObject.getClass(), this.name, argumentTypes,
+								reflectiveMethodExecutor.getMethod());
+					}
 					return methodExecutor;
 				}
 			}
@@ -295,7 +315,8 @@ public class MethodReference extends SpelNodeImpl {
 				return false;
 			}
 		}
-		if (executor.didArgumentConversionOccur()) {
+		if (executor.didArgumentConversionOccur() &&
+				!isCompilableArgumentConversion(executor.getMethod(), this.children)) {
 			return false;
 		}
 
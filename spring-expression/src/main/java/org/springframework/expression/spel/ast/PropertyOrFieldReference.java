@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,6 +37,8 @@ import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
 import org.springframework.expression.spel.support.ReflectivePropertyAccessor;
+import org.springframework.expression.spel.support.ResolutionCache;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
@@ -199,6 +201,23 @@ public class PropertyOrFieldReference extends SpelNodeImpl {
 			this.cachedReadAccessor = null;
 		}
 
+		// Try the accessor resolved for the same type by any expression sharing the cache
+		ResolutionCache resolutionCache = (targetObject != null && !(targetObject instanceof Class) &&
+				evalContext instanceof StandardEvaluationContext sec ? sec.getResolutionCache() : null);
+		if (resolutionCache != null) {
+			accessorToUse = resolutionCache.getPropertyAccessor(targetObject.getClass(), name);
+			if (accessorToUse != null) {
+				try {
+					TypedValue value = accessorToUse.read(evalContext, targetObject, name);
+					this.cachedReadAccessor = accessorToUse;
+					return value;
+				}
+				catch (Exception ex) {
+					resolutionCache.evictPropertyAccessor(targetObject.getClass(), name);
+				}
+			}
+		}
+
 		List<PropertyAccessor> accessorsToTry =
 				getPropertyAccessorsToTry(contextObject.getValue(), evalContext.getPropertyAccessors());
 		// Go through the accessors that may be able to resolve it. If they are a cacheable accessor then
@@ -208,8 +227,12 @@ public class PropertyOrFieldReference extends SpelNodeImpl {
 			for (PropertyAccessor accessor : accessorsToTry) {
 				if (accessor.canRead(evalContext, contextObject.getValue(), name)) {
 					if (accessor instanceof ReflectivePropertyAccessor reflectivePropertyAccessor) {
+						boolean firstToTry = (accessor == accessorsToTry.get(0));
 						accessor = reflectivePropertyAccessor.createOptimalAccessor(
 								evalContext, contextObject.getValue(), name);
+						if (resolutionCache != null && firstToTry) {
+							resolutionCache.putPropertyAccessor(targetObject.getClass(), name, accessor);
+						}
 					}
 					this.cachedReadAccessor = accessor;
 					return accessor.read(evalContext, contextObject.getValue(), name);
@@ -292,7 +292,15 @@ public abstract class SpelNodeImpl implements SpelNode, Opcodes {
 		Assert.state(lastDesc != null, "No last descriptor");
 		boolean primitiveOnStack = CodeFlow.isPrimitive(lastDesc);
 		// Check if need to box it for the method reference?
-		if (primitiveOnStack && paramDesc.charAt(0) == 'L') {
+		if (isNumericWidening(lastDesc, paramDesc)) {
+			// e.g. an int argument for a long or Long parameter
+			char targetDesc = primitiveNumericDescriptor(paramDesc);
+			CodeFlow.insertNumericUnboxOrPrimitiveTypeCoercion(mv, lastDesc, targetDesc);
+			if (paramDesc.length() > 1) {
+				CodeFlow.insertBoxIfNecessary(mv, targetDesc);
+			}
+		}
+		else if (primitiveOnStack && paramDesc.charAt(0) == 'L') {
 			CodeFlow.insertBoxIfNecessary(mv, lastDesc.charAt(0));
 		}
 		else if (paramDesc.length() == 1 && !primitiveOnStack) {
@@ -305,4 +313,94 @@ public abstract class SpelNodeImpl implements SpelNode, Opcodes {
 		cf.exitCompilationScope();
 	}
 
+	/**
+	 * Determine whether the given arguments, which had to be converted to the
+	 * parameter types of the given method or constructor when interpreted, can
+	 * still be passed by compiled code: each argument must match its parameter
+	 * type up to boxing, be passed to an {@code Object} parameter, or undergo a
+	 * widening numeric conversion that {@link #generateCodeForArgument} applies.
+	 * @param member the method or constructor being invoked
+	 * @param arguments the expression nodes for the argument values
+	 * @since 6.1.4
+	 */
+	protected static boolean isCompilableArgumentConversion(Member member, SpelNodeImpl[] arguments) {
+		String[] paramDescriptors = CodeFlow.toDescriptors(member instanceof Constructor<?> ctor ?
+				ctor.getParameterTypes() : ((Method) member).getParameterTypes());
+		boolean isVarargs = (member instanceof Constructor<?> ctor ? ctor.isVarArgs() : ((Method) member).isVarArgs());
+		int fixedCount = (isVarargs ? paramDescriptors.length - 1 : paramDescriptors.length);
+		if (arguments.length < fixedCount) {
+			return false;
+		}
+		for (int i = 0; i < fixedCount; i++) {
+			if (!isCompilableArgument(arguments[i].exitTypeDescriptor, paramDescriptors[i])) {
+				return false;
+			}
+		}
+		if (isVarargs) {
+			// Same packaging decision as in generateCodeForArguments
+			String arrayType = paramDescriptors[fixedCount];
+			SpelNodeImpl lastChild = (arguments.length == 0 ? null : arguments[arguments.length - 1]);
+			if (lastChild != null && arrayType.equals(lastChild.exitTypeDescriptor)) {
+				return (arguments.length == fixedCount + 1);
+			}
+			String componentType = arrayType.substring(1);
+			for (int i = fixedCount; i < arguments.length; i++) {
+				if (!isCompilableArgument(arguments[i].exitTypeDescriptor, componentType)) {
+					return false;
+				}
+			}
+		}
+		else if (arguments.length != fixedCount) {
+			return false;
+		}
+		return true;
+	}
+
+	private static boolean isCompilableArgument(@Nullable String argDesc, String paramDesc) {
+		if (argDesc == null) {
+			return false;
+		}
+		if (argDesc.equals(paramDesc) || paramDesc.equals("Ljava/lang/Object")) {
+			return true;
+		}
+		if (CodeFlow.isPrimitive(paramDesc) ? CodeFlow.toBoxedDescriptor(paramDesc).equals(argDesc) :
+				(CodeFlow.isPrimitive(argDesc) && CodeFlow.toBoxedDescriptor(argDesc).equals(paramDesc))) {
+			return true;
+		}
+		return isNumericWidening(argDesc, paramDesc);
+	}
+
+	/**
+	 * Determine whether a (possibly boxed) number described by the first descriptor
+	 * needs a widening conversion to an {@code int}, {@code long}, {@code float}
+	 * or {@code double} (or its box) described by the second descriptor.
+	 */
+	private static boolean isNumericWidening(String stackDesc, String paramDesc) {
+		int stackRank = numericRank(stackDesc);
+		int paramRank = numericRank(paramDesc);
+		return (stackRank > 0 && paramRank >= 3 && stackRank < paramRank);
+	}
+
+	private static int numericRank(String desc) {
+		return switch (desc) {
+			case "B", "Ljava/lang/Byte" -> 1;
+			case "S", "Ljava/lang/Short" -> 2;
+			case "I", "Ljava/lang/Integer" -> 3;
+			case "J", "Ljava/lang/Long" -> 4;
+			case "F", "Ljava/lang/Float" -> 5;
+			case "D", "Ljava/lang/Double" -> 6;
+			default -> 0;
+		};
+	}
+
+	private static char primitiveNumericDescriptor(String desc) {
+		return switch (numericRank(desc)) {
+			case 3 -> 'I';
+			case 4 -> 'J';
+			case 5 -> 'F';
+			case 6 -> 'D';
+			default -> throw new IllegalArgumentException("Unexpected descriptor " + desc);
+		};
+	}
+
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.expression.spel.support;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A bounded cache for the outcome of reflective property and method resolution,
+ * keyed by target class, property or method name, and argument types.
+ *
+ * <p>Each property or method reference in an expression only remembers what it
+ * resolved last. A {@code ResolutionCache} shared between
+ * {@link StandardEvaluationContext} instances (see
+ * {@link StandardEvaluationContext#setResolutionCache}) lets any number of
+ * expressions evaluated against the same types resolve each property or method
+ * once instead. It is only populated when a {@link ReflectivePropertyAccessor}
+ * or {@link ReflectiveMethodResolver} is the first strategy to consider, since
+ * their outcome depends on the type of the target but not on the target itself.
+ *
+ * <p>A cache must only be shared between contexts using equivalent property
+ * accessors, method resolvers, and type converters. A context clears its cache
+ * whenever those get changed after the cache has been set; {@link #clear()} may
+ * also be called directly after reconfiguring an accessor or resolver instance.
+ * Once the maximum size is reached, the oldest entries get evicted first.
+ *
+ * @since 6.1.4
+ * @see StandardEvaluationContext#setResolutionCache
+ */
+public class ResolutionCache {
+
+	/**
+	 * The default maximum number of cached resolutions.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+
+	private final int maximumSize;
+
+	private final Map<ResolutionKey, Object> resolutions = new ConcurrentHashMap<>();
+
+	private final Queue<ResolutionKey> insertionOrder = new ConcurrentLinkedQueue<>();
+
+
+	/**
+	 * Create a new {@code ResolutionCache} holding up to
+	 * {@value #DEFAULT_MAXIMUM_SIZE} resolutions.
+	 */
+	public ResolutionCache() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Create a new {@code ResolutionCache} holding up to the given number of resolutions.
+	 * @param maximumSize the maximum number of cached resolutions
+	 */
+	public ResolutionCache(int maximumSize) {
+		Assert.isTrue(maximumSize > 0, "Maximum size must be positive");
+		this.maximumSize = maximumSize;
+	}
+
+
+	/**
+	 * Return the accessor previously resolved for reading the given property
+	 * on instances of the given type, if any.
+	 * @param targetType the type of the target object
+	 * @param name the name of the property
+	 * @return the accessor to use, or {@code null} if none is cached
+	 */
+	@Nullable
+	public PropertyAccessor getPropertyAccessor(Class<?> targetType, String name) {
+		return (PropertyAccessor) this.resolutions.get(new ResolutionKey(targetType, name, null));
+	}
+
+	/**
+	 * Cache the accessor resolved for reading the given property on instances
+	 * of the given type.
+	 * @param targetType the type of the target object
+	 * @param name the name of the property
+	 * @param accessor the accessor to use
+	 */
+	public void putPropertyAccessor(Class<?> targetType, String name, PropertyAccessor accessor) {
+		put(new ResolutionKey(targetType, name, null), accessor);
+	}
+
+	/**
+	 * Remove the accessor cached for reading the given property on instances
+	 * of the given type, e.g. after it failed to read the property.
+	 * @param targetType the type of the target object
+	 * @param name the name of the property
+	 */
+	public void evictPropertyAccessor(Class<?> targetType, String name) {
+		evict(new ResolutionKey(targetType, name, null));
+	}
+
+	/**
+	 * Return the method previously resolved for the given name and argument types
+	 * on instances of the given type, if any.
+	 * @param targetType the type of the target object
+	 * @param name the name of the method
+	 * @param argumentTypes the types of the arguments
+	 * @return the method to invoke, or {@code null} if none is cached
+	 */
+	@Nullable
+	public Method getMethod(Class<?> targetType, String name, List<TypeDescriptor> argumentTypes) {
+		return (Method) this.resolutions.get(new ResolutionKey(targetType, name, argumentTypes));
+	}
+
+	/**
+	 * Cache the method resolved for the given name and argument types on
+	 * instances of the given type.
+	 * @param targetType the type of the target object
+	 * @param name the name of the method
+	 * @param argumentTypes the types of the arguments
+	 * @param method the method to invoke
+	 */
+	public void putMethod(Class<?> targetType, String name, List<TypeDescriptor> argumentTypes, Method method) {
+		put(new ResolutionKey(targetType, name, argumentTypes), method);
+	}
+
+	/**
+	 * Remove all cached resolutions.
+	 */
+	public void clear() {
+		this.resolutions.clear();
+		this.insertionOrder.clear();
+	}
+
+	/**
+	 * Return the number of cached resolutions.
+	 */
+	public int size() {
+		return this.resolutions.size();
+	}
+
+	private void put(ResolutionKey key, Object resolution) {
+		if (this.resolutions.put(key, resolution) == null) {
+			this.insertionOrder.add(key);
+			while (this.resolutions.size() > this.maximumSize) {
+				ResolutionKey eldest = this.insertionOrder.poll();
+				if (eldest == null) {
+					break;
+				}
+				this.resolutions.remove(eldest);
+			}
+		}
+	}
+
+	private void evict(ResolutionKey key) {
+		if (this.resolutions.remove(key) != null) {
+			this.insertionOrder.remove(key);
+		}
+	}
+
+
+	/**
+	 * Key for a property (without argument types) or method resolution.
+	 */
+	private record ResolutionKey(Class<?> targetType, String name, @Nullable List<TypeDescriptor> argumentTypes) {
+	}
+
+}
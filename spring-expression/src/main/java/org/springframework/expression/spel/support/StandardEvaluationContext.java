@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -95,6 +95,9 @@ public class StandardEvaluationContext implements EvaluationContext {
 
 	private OperatorOverloader operatorOverloader = StandardOperatorOverloader.INSTANCE;
 
+	@Nullable
+	private volatile ResolutionCache resolutionCache;
+
 	private final Map<String, Object> variables = new ConcurrentHashMap<>();
 
 
@@ -130,6 +133,7 @@ public class StandardEvaluationContext implements EvaluationContext {
 
 	public void setPropertyAccessors(List<PropertyAccessor> propertyAccessors) {
 		this.propertyAccessors = propertyAccessors;
+		invalidateResolutionCache();
 	}
 
 	@Override
@@ -139,9 +143,11 @@ public class StandardEvaluationContext implements EvaluationContext {
 
 	public void addPropertyAccessor(PropertyAccessor accessor) {
 		addBeforeDefault(initPropertyAccessors(), accessor);
+		invalidateResolutionCache();
 	}
 
 	public boolean removePropertyAccessor(PropertyAccessor accessor) {
+		invalidateResolutionCache();
 		return initPropertyAccessors().remove(accessor);
 	}
 
@@ -164,6 +170,7 @@ public class StandardEvaluationContext implements EvaluationContext {
 
 	public void setMethodResolvers(List<MethodResolver> methodResolvers) {
 		this.methodResolvers = methodResolvers;
+		invalidateResolutionCache();
 	}
 
 	@Override
@@ -173,9 +180,11 @@ public class StandardEvaluationContext implements EvaluationContext {
 
 	public void addMethodResolver(MethodResolver resolver) {
 		addBeforeDefault(initMethodResolvers(), resolver);
+		invalidateResolutionCache();
 	}
 
 	public boolean removeMethodResolver(MethodResolver methodResolver) {
+		invalidateResolutionCache();
 		return initMethodResolvers().remove(methodResolver);
 	}
 
@@ -223,6 +232,7 @@ public class StandardEvaluationContext implements EvaluationContext {
 	public void setTypeConverter(TypeConverter typeConverter) {
 		Assert.notNull(typeConverter, "TypeConverter must not be null");
 		this.typeConverter = typeConverter;
+		invalidateResolutionCache();
 	}
 
 	@Override
@@ -253,6 +263,28 @@ public class StandardEvaluationContext implements EvaluationContext {
 		return this.operatorOverloader;
 	}
 
+	/**
+	 * Set a {@link ResolutionCache} to share the outcome of reflective property
+	 * and method resolution with other contexts using equivalent property
+	 * accessors, method resolvers, and type converters.
+	 * <p>Set it once this context is fully configured: changing the accessors,
+	 * resolvers, method filters, or type converter afterwards clears the cache.
+	 * @param resolutionCache the cache to use, or {@code null} for none
+	 * @since 6.1.4
+	 */
+	public void setResolutionCache(@Nullable ResolutionCache resolutionCache) {
+		this.resolutionCache = resolutionCache;
+	}
+
+	/**
+	 * Return the {@link ResolutionCache} shared with other contexts, if any.
+	 * @since 6.1.4
+	 */
+	@Nullable
+	public ResolutionCache getResolutionCache() {
+		return this.resolutionCache;
+	}
+
 	@Override
 	public void setVariable(@Nullable String name, @Nullable Object value) {
 		// For backwards compatibility, we ignore null names here...
@@ -328,6 +360,7 @@ public class StandardEvaluationContext implements EvaluationContext {
 					"Method filter cannot be set as the reflective method resolver is not in use");
 		}
 		resolver.registerMethodFilter(type, filter);
+		invalidateResolutionCache();
 	}
 
 	/**
@@ -351,6 +384,7 @@ public class StandardEvaluationContext implements EvaluationContext {
 		evaluationContext.operatorOverloader = this.operatorOverloader;
 		evaluationContext.reflectiveMethodResolver = this.reflectiveMethodResolver;
 		evaluationContext.typeComparator = this.typeComparator;
+		evaluationContext.resolutionCache = this.resolutionCache;
 	}
 
 
@@ -385,6 +419,13 @@ public class StandardEvaluationContext implements EvaluationContext {
 		return resolvers;
 	}
 
+	private void invalidateResolutionCache() {
+		ResolutionCache cache = this.resolutionCache;
+		if (cache != null) {
+			cache.clear();
+		}
+	}
+
 	private static <T> void addBeforeDefault(List<T> resolvers, T resolver) {
 		resolvers.add(resolvers.size() - 1, resolver);
 	}
@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -52,6 +53,7 @@ import static org.assertj.core.api.Assertions.assertThatException;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.within;
 import static org.assertj.core.api.InstanceOfAssertFactories.BOOLEAN;
+import static org.assertj.core.api.InstanceOfAssertFactories.LIST;
 import static org.springframework.expression.spel.standard.SpelExpressionTestUtils.assertIsCompiled;
 
 /**
@@ -111,7 +113,10 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 	 * ConstructorReference
 	 * FunctionReference
 	 * InlineList
+	 * InlineMap
 	 * OpModulus
+	 * Projection
+	 * Selection
 	 *
 	 * Not yet compiled (some may never need to be):
 	 * Assign
@@ -122,9 +127,7 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 	 * OpMatches
 	 * OpPower
 	 * OpInc
-	 * Projection
 	 * QualifiedId
-	 * Selection
 	 */
 
 
@@ -1116,7 +1119,7 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 
 		expression = parser.parseExpression("#negate(#ints.?[#this<2][0])");
 		assertThat(expression.getValue(context, Integer.class).toString()).isEqualTo("-1");
-		// Selection isn't compilable.
+		// Selection over an array isn't compilable.
 		assertThat(((SpelNodeImpl)((SpelExpression) expression).getAST()).isCompilable()).isFalse();
 	}
 
@@ -4946,6 +4949,196 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		assertThat(expression.getValue(root)).isEqualTo(3);
 	}
 
+	@Test
+	void indexerWithNonLiteralIndex() {
+		Inventory inventory = new Inventory();
+
+		expression = parse("names[position]");
+		assertThat(expression.getValue(inventory)).isEqualTo("bbb");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo("bbb");
+
+		expression = parse("names[boxedPosition]");
+		assertThat(expression.getValue(inventory)).isEqualTo("bbb");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo("bbb");
+
+		expression = parse("codes[boxedPosition]");
+		assertThat(expression.getValue(inventory)).isEqualTo(20);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo(20);
+
+		expression = parse("labels[getPosition()]");
+		assertThat(expression.getValue(inventory)).isEqualTo("one");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo("one");
+
+		expression = parse("labels[getBoxedPosition()]");
+		assertThat(expression.getValue(inventory)).isEqualTo("one");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo("one");
+
+		// The key is evaluated against the root object, also within a selection
+		expression = parse("items.?[name == #root.names[position]]");
+		assertThat(expression.getValue(inventory)).asInstanceOf(LIST).containsExactly(inventory.items.get(1));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).asInstanceOf(LIST).containsExactly(inventory.items.get(1));
+
+		// The int key would need to be converted to the Long key type of the map
+		expression = parse("longLabels[getPosition()]");
+		assertThat(expression.getValue(inventory)).isEqualTo("one");
+		assertCantCompile(expression);
+	}
+
+	@Test
+	void selection() {
+		Inventory inventory = new Inventory();
+
+		expression = parse("items.?[quantity > 15]");
+		assertCantCompile(expression);
+		assertThat(expression.getValue(inventory)).asInstanceOf(LIST).extracting("name").containsExactly("bbb", "ccc");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).asInstanceOf(LIST).extracting("name").containsExactly("bbb", "ccc");
+
+		expression = parse("items.^[quantity > 15].name");
+		assertThat(expression.getValue(inventory)).isEqualTo("bbb");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo("bbb");
+
+		expression = parse("items.$[quantity > 15].name");
+		assertThat(expression.getValue(inventory)).isEqualTo("ccc");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo("ccc");
+
+		expression = parse("items.^[quantity > 100]");
+		assertThat(expression.getValue(inventory)).isNull();
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isNull();
+
+		expression = parse("items.?[#this.quantity < 15 or name == 'ccc'].size()");
+		assertThat(expression.getValue(inventory)).isEqualTo(2);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo(2);
+
+		expression = parse("stock.?[value > 15]");
+		assertThat(expression.getValue(inventory)).isEqualTo(Map.of("bbb", 20, "ccc", 30));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo(Map.of("bbb", 20, "ccc", 30));
+
+		expression = parse("stock.^[value > 15]");
+		assertThat(expression.getValue(inventory)).isEqualTo(Map.of("bbb", 20));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo(Map.of("bbb", 20));
+
+		expression = parse("stock.$[value > 15]");
+		assertThat(expression.getValue(inventory)).isEqualTo(Map.of("ccc", 30));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo(Map.of("ccc", 30));
+
+		expression = parse("stock.$[value > 100]");
+		assertThat(expression.getValue(inventory)).isNull();
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isNull();
+
+		expression = parse("items?.?[quantity > 15]");
+		assertThat(expression.getValue(inventory)).asInstanceOf(LIST).hasSize(2);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(new Inventory(null))).isNull();
+		assertThat(expression.getValue(inventory)).asInstanceOf(LIST).hasSize(2);
+	}
+
+	@Test
+	void projection() {
+		Inventory inventory = new Inventory();
+
+		expression = parse("items.![name]");
+		assertCantCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo(List.of("aaa", "bbb", "ccc"));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo(List.of("aaa", "bbb", "ccc"));
+
+		expression = parse("items.![quantity * 2]");
+		assertThat(expression.getValue(inventory)).isEqualTo(List.of(20, 40, 60));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo(List.of(20, 40, 60));
+
+		expression = parse("items.?[quantity > 15].![name]");
+		assertThat(expression.getValue(inventory)).isEqualTo(List.of("bbb", "ccc"));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo(List.of("bbb", "ccc"));
+
+		expression = parse("names.![#this.length()]");
+		assertThat(expression.getValue(inventory)).isEqualTo(List.of(3, 3, 3));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo(List.of(3, 3, 3));
+
+		expression = parse("stock.![key]");
+		assertThat(expression.getValue(inventory)).isEqualTo(List.of("aaa", "bbb", "ccc"));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo(List.of("aaa", "bbb", "ccc"));
+
+		expression = parse("items?.![name]");
+		assertThat(expression.getValue(inventory)).isEqualTo(List.of("aaa", "bbb", "ccc"));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(new Inventory(null))).isNull();
+	}
+
+	@Test
+	void inlineMap() {
+		Inventory inventory = new Inventory();
+
+		expression = parse("{a:1, b:'x', c:{1,2}, d:{e:-1}}");
+		Object expected = expression.getValue();
+		assertThat(expected).hasToString("{a=1, b=x, c=[1, 2], d={e=-1}}");
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(expected);
+
+		expression = parse("{a:1, b:2}['b']");
+		assertThat(expression.getValue()).isEqualTo(2);
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(2);
+
+		expression = parse("{position:position, name:names[0], nested:{x:boxedPosition}}");
+		assertThat(expression.getValue(inventory)).hasToString("{position=1, name=aaa, nested={x=1}}");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).hasToString("{position=1, name=aaa, nested={x=1}}");
+	}
+
+	@Test
+	void methodReferenceWithWideningArgumentConversion() {
+		Inventory inventory = new Inventory();
+
+		expression = parse("twice(position)");
+		assertThat(expression.getValue(inventory)).isEqualTo(2L);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo(2L);
+
+		expression = parse("twice(boxedPosition)");
+		assertThat(expression.getValue(inventory)).isEqualTo(2L);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo(2L);
+
+		expression = parse("half(position)");
+		assertThat(expression.getValue(inventory)).isEqualTo(0.5d);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo(0.5d);
+
+		expression = parse("boxedTwice(position)");
+		assertThat(expression.getValue(inventory)).isEqualTo(2L);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo(2L);
+
+		expression = parse("sum(position, 2, boxedPosition)");
+		assertThat(expression.getValue(inventory)).isEqualTo(4L);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(inventory)).isEqualTo(4L);
+
+		// Narrowing or non-numeric conversions are left to the interpreter
+		expression = parse("twice('2')");
+		assertThat(expression.getValue(inventory)).isEqualTo(4L);
+		assertCantCompile(expression);
+	}
+
 	@Test
 	void elvisOperator_SPR15192() {
 		SpelParserConfiguration configuration = new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, null);
@@ -6339,6 +6532,86 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 	}
 
 
+	public static class Inventory {
+
+		public final List<Item> items;
+
+		public final Map<String, Integer> stock = new LinkedHashMap<>();
+
+		public final List<String> names = List.of("aaa", "bbb", "ccc");
+
+		public final int[] codes = {10, 20, 30};
+
+		public final Map<Integer, String> labels = Map.of(1, "one");
+
+		public final Map<Long, String> longLabels = Map.of(1L, "one");
+
+		public final int position = 1;
+
+		public final Integer boxedPosition = 1;
+
+		public Inventory() {
+			this(List.of(new Item("aaa", 10), new Item("bbb", 20), new Item("ccc", 30)));
+		}
+
+		public Inventory(List<Item> items) {
+			this.items = items;
+			this.stock.put("aaa", 10);
+			this.stock.put("bbb", 20);
+			this.stock.put("ccc", 30);
+		}
+
+		public int getPosition() {
+			return this.position;
+		}
+
+		public Integer getBoxedPosition() {
+			return this.boxedPosition;
+		}
+
+		public long twice(long value) {
+			return value * 2;
+		}
+
+		public Long boxedTwice(Long value) {
+			return value * 2;
+		}
+
+		public double half(double value) {
+			return value / 2;
+		}
+
+		public long sum(long... values) {
+			long sum = 0;
+			for (long value : values) {
+				sum += value;
+			}
+			return sum;
+		}
+	}
+
+
+	public static class Item {
+
+		private final String name;
+
+		private final int quantity;
+
+		public Item(String name, int quantity) {
+			this.name = name;
+			this.quantity = quantity;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public int getQuantity() {
+			return this.quantity;
+		}
+	}
+
+
 	public static class LongHolder {
 
 		public Long someLong = 3L;
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.expression.spel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.expression.AccessException;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.MethodExecutor;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ResolutionCache}.
+ */
+class ResolutionCacheTests {
+
+	private final SpelExpressionParser parser = new SpelExpressionParser();
+
+	private final CountingPropertyAccessor propertyAccessor = new CountingPropertyAccessor();
+
+	private final CountingMethodResolver methodResolver = new CountingMethodResolver();
+
+	private final ResolutionCache cache = new ResolutionCache();
+
+
+	@Test
+	void propertyResolvedOnceAcrossContextsAndExpressions() {
+		for (int i = 0; i < 3; i++) {
+			StandardEvaluationContext context = createContext();
+			assertThat(this.parser.parseExpression("name").getValue(context)).isEqualTo("Nikola");
+			assertThat(this.parser.parseExpression("name.length()").getValue(context)).isEqualTo(6);
+		}
+		assertThat(this.propertyAccessor.resolutions).isEqualTo(1);
+	}
+
+	@Test
+	void methodResolvedOnceAcrossContextsAndExpressions() {
+		for (int i = 0; i < 3; i++) {
+			StandardEvaluationContext context = createContext();
+			assertThat(this.parser.parseExpression("add(1, 2)").getValue(context)).isEqualTo(3);
+			assertThat(this.parser.parseExpression("add(3, 4)").getValue(context)).isEqualTo(7);
+		}
+		assertThat(this.methodResolver.resolutions).isEqualTo(1);
+	}
+
+	@Test
+	void methodResolvedPerArgumentTypes() {
+		StandardEvaluationContext context = createContext();
+		assertThat(this.parser.parseExpression("add(1, 2)").getValue(context)).isEqualTo(3);
+		assertThat(this.parser.parseExpression("add('1', '2')").getValue(context)).isEqualTo("12");
+		assertThat(this.methodResolver.resolutions).isEqualTo(2);
+		assertThat(this.cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	void clearedWhenContextIsReconfigured() {
+		StandardEvaluationContext context = createContext();
+		this.parser.parseExpression("name").getValue(context);
+		this.parser.parseExpression("add(1, 2)").getValue(context);
+		assertThat(this.cache.size()).isEqualTo(2);
+
+		context.addPropertyAccessor(new ReflectivePropertyAccessor());
+		assertThat(this.cache.size()).isZero();
+	}
+
+	@Test
+	void notPopulatedWithoutLeadingReflectiveStrategy() {
+		StandardEvaluationContext context = createContext();
+		context.setPropertyAccessors(List.of(new UnreadablePropertyAccessor(), this.propertyAccessor));
+		context.setResolutionCache(this.cache);
+		this.parser.parseExpression("name").getValue(context);
+		assertThat(this.cache.size()).isZero();
+	}
+
+	@Test
+	void evictsOldestBeyondMaximumSize() {
+		ResolutionCache cache = new ResolutionCache(2);
+		cache.putPropertyAccessor(Person.class, "a", this.propertyAccessor);
+		cache.putPropertyAccessor(Person.class, "b", this.propertyAccessor);
+		cache.putPropertyAccessor(Person.class, "c", this.propertyAccessor);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getPropertyAccessor(Person.class, "a")).isNull();
+		assertThat(cache.getPropertyAccessor(Person.class, "b")).isSameAs(this.propertyAccessor);
+		assertThat(cache.getPropertyAccessor(Person.class, "c")).isSameAs(this.propertyAccessor);
+	}
+
+	@Test
+	void evictPropertyAccessor() {
+		this.cache.putPropertyAccessor(Person.class, "name", this.propertyAccessor);
+		this.cache.evictPropertyAccessor(Person.class, "name");
+		assertThat(this.cache.getPropertyAccessor(Person.class, "name")).isNull();
+		assertThat(this.cache.size()).isZero();
+	}
+
+	private StandardEvaluationContext createContext() {
+		StandardEvaluationContext context = new StandardEvaluationContext(new Person());
+		context.setPropertyAccessors(new ArrayList<>(List.of(this.propertyAccessor)));
+		context.setMethodResolvers(new ArrayList<>(List.of(this.methodResolver)));
+		context.setResolutionCache(this.cache);
+		return context;
+	}
+
+
+	static class CountingPropertyAccessor extends ReflectivePropertyAccessor {
+
+		int resolutions;
+
+		@Override
+		public boolean canRead(EvaluationContext context, Object target, String name) throws AccessException {
+			this.resolutions++;
+			return super.canRead(context, target, name);
+		}
+	}
+
+
+	static class UnreadablePropertyAccessor implements PropertyAccessor {
+
+		@Override
+		@Nullable
+		public Class<?>[] getSpecificTargetClasses() {
+			return null;
+		}
+
+		@Override
+		public boolean canRead(EvaluationContext context, @Nullable Object target, String name) {
+			return false;
+		}
+
+		@Override
+		public TypedValue read(EvaluationContext context, @Nullable Object target, String name) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean canWrite(EvaluationContext context, @Nullable Object target, String name) {
+			return false;
+		}
+
+		@Override
+		public void write(EvaluationContext context, @Nullable Object target, String name, @Nullable Object newValue) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+
+	static class CountingMethodResolver extends ReflectiveMethodResolver {
+
+		int resolutions;
+
+		@Override
+		public MethodExecutor resolve(EvaluationContext context, Object targetObject, String name,
+				List<TypeDescriptor> argumentTypes) throws AccessException {
+
+			this.resolutions++;
+			return super.resolve(context, targetObject, name, argumentTypes);
+		}
+	}
+
+
+	public static class Person {
+
+		public String getName() {
+			return "Nikola";
+		}
+
+		public int add(int a, int b) {
+			return a + b;
+		}
+
+		public String add(String a, String b) {
+			return a + b;
+		}
+	}
+
+}
@@ -0,0 +1,439 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for mapping rows with {@link BeanPropertyRowMapper} and
+ * {@link DataClassRowMapper}, using a {@link ResultSet} stub with 30 columns.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class BeanPropertyRowMapperBenchmark {
+
+	@Benchmark
+	public void beanPropertyRowMapper(BenchmarkData data, Blackhole bh) throws SQLException {
+		mapRows(data.beanPropertyRowMapper, data, bh);
+	}
+
+	@Benchmark
+	public void dataClassRowMapper(BenchmarkData data, Blackhole bh) throws SQLException {
+		mapRows(data.dataClassRowMapper, data, bh);
+	}
+
+	private static void mapRows(RowMapper<?> rowMapper, BenchmarkData data, Blackhole bh) throws SQLException {
+		ResultSet rs = data.createResultSet();
+		int rowNum = 0;
+		while (rs.next()) {
+			bh.consume(rowMapper.mapRow(rs, rowNum++));
+		}
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		private static final String[] COLUMNS = IntStream.rangeClosed(1, 10).boxed()
+				.flatMap(i -> Stream.of("STRING_VALUE" + i, "INT_VALUE" + i, "LONG_VALUE" + i))
+				.toArray(String[]::new);
+
+		@Param({"100000"})
+		public int rowCount;
+
+		public RowMapper<Item> beanPropertyRowMapper;
+
+		public RowMapper<ItemRecord> dataClassRowMapper;
+
+		private Map<String, Integer> columnIndexes;
+
+		private ResultSetMetaData metaData;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.beanPropertyRowMapper = new BeanPropertyRowMapper<>(Item.class);
+			this.dataClassRowMapper = new DataClassRowMapper<>(ItemRecord.class);
+			this.columnIndexes = IntStream.range(0, COLUMNS.length).boxed()
+					.collect(Collectors.toMap(i -> COLUMNS[i].toLowerCase(Locale.ROOT), i -> i + 1));
+			this.metaData = (ResultSetMetaData) Proxy.newProxyInstance(getClass().getClassLoader(),
+					new Class<?>[] {ResultSetMetaData.class}, (proxy, method, args) -> switch (method.getName()) {
+						case "getColumnCount" -> COLUMNS.length;
+						case "getColumnLabel", "getColumnName" -> COLUMNS[(int) args[0] - 1];
+						default -> throw new UnsupportedOperationException(method.getName());
+					});
+		}
+
+		/**
+		 * Create a {@link ResultSet} stub that returns {@link #rowCount} rows,
+		 * with values derived from the current row number.
+		 */
+		public ResultSet createResultSet() {
+			int[] row = new int[1];
+			return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(),
+					new Class<?>[] {ResultSet.class}, (proxy, method, args) -> switch (method.getName()) {
+						case "next" -> (++row[0] <= this.rowCount);
+						case "getMetaData" -> this.metaData;
+						case "findColumn" -> findColumn((String) args[0]);
+						case "getString" -> "value" + row[0];
+						case "getInt" -> row[0];
+						case "getLong" -> (long) row[0];
+						case "wasNull" -> false;
+						default -> throw new UnsupportedOperationException(method.getName());
+					});
+		}
+
+		private int findColumn(String columnLabel) throws SQLException {
+			Integer index = this.columnIndexes.get(columnLabel.toLowerCase(Locale.ROOT));
+			if (index == null) {
+				throw new SQLException("Column not found: " + columnLabel);
+			}
+			return index;
+		}
+	}
+
+
+	public static class Item {
+
+		private String stringValue1;
+
+		private String stringValue2;
+
+		private String stringValue3;
+
+		private String stringValue4;
+
+		private String stringValue5;
+
+		private String stringValue6;
+
+		private String stringValue7;
+
+		private String stringValue8;
+
+		private String stringValue9;
+
+		private String stringValue10;
+
+		private int intValue1;
+
+		private int intValue2;
+
+		private int intValue3;
+
+		private int intValue4;
+
+		private int intValue5;
+
+		private int intValue6;
+
+		private int intValue7;
+
+		private int intValue8;
+
+		private int intValue9;
+
+		private int intValue10;
+
+		private long longValue1;
+
+		private long longValue2;
+
+		private long longValue3;
+
+		private long longValue4;
+
+		private long longValue5;
+
+		private long longValue6;
+
+		private long longValue7;
+
+		private long longValue8;
+
+		private long longValue9;
+
+		private long longValue10;
+
+		public String getStringValue1() {
+			return this.stringValue1;
+		}
+
+		public void setStringValue1(String stringValue1) {
+			this.stringValue1 = stringValue1;
+		}
+
+		public String getStringValue2() {
+			return this.stringValue2;
+		}
+
+		public void setStringValue2(String stringValue2) {
+			this.stringValue2 = stringValue2;
+		}
+
+		public String getStringValue3() {
+			return this.stringValue3;
+		}
+
+		public void setStringValue3(String stringValue3) {
+			this.stringValue3 = stringValue3;
+		}
+
+		public String getStringValue4() {
+			return this.stringValue4;
+		}
+
+		public void setStringValue4(String stringValue4) {
+			this.stringValue4 = stringValue4;
+		}
+
+		public String getStringValue5() {
+			return this.stringValue5;
+		}
+
+		public void setStringValue5(String stringValue5) {
+			this.stringValue5 = stringValue5;
+		}
+
+		public String getStringValue6() {
+			return this.stringValue6;
+		}
+
+		public void setStringValue6(String stringValue6) {
+			this.stringValue6 = stringValue6;
+		}
+
+		public String getStringValue7() {
+			return this.stringValue7;
+		}
+
+		public void setStringValue7(String stringValue7) {
+			this.stringValue7 = stringValue7;
+		}
+
+		public String getStringValue8() {
+			return this.stringValue8;
+		}
+
+		public void setStringValue8(String stringValue8) {
+			this.stringValue8 = stringValue8;
+		}
+
+		public String getStringValue9() {
+			return this.stringValue9;
+		}
+
+		public void setStringValue9(String stringValue9) {
+			this.stringValue9 = stringValue9;
+		}
+
+		public String getStringValue10() {
+			return this.stringValue10;
+		}
+
+		public void setStringValue10(String stringValue10) {
+			this.stringValue10 = stringValue10;
+		}
+
+		public int getIntValue1() {
+			return this.intValue1;
+		}
+
+		public void setIntValue1(int intValue1) {
+			this.intValue1 = intValue1;
+		}
+
+		public int getIntValue2() {
+			return this.intValue2;
+		}
+
+		public void setIntValue2(int intValue2) {
+			this.intValue2 = intValue2;
+		}
+
+		public int getIntValue3() {
+			return this.intValue3;
+		}
+
+		public void setIntValue3(int intValue3) {
+			this.intValue3 = intValue3;
+		}
+
+		public int getIntValue4() {
+			return this.intValue4;
+		}
+
+		public void setIntValue4(int intValue4) {
+			this.intValue4 = intValue4;
+		}
+
+		public int getIntValue5() {
+			return this.intValue5;
+		}
+
+		public void setIntValue5(int intValue5) {
+			this.intValue5 = intValue5;
+		}
+
+		public int getIntValue6() {
+			return this.intValue6;
+		}
+
+		public void setIntValue6(int intValue6) {
+			this.intValue6 = intValue6;
+		}
+
+		public int getIntValue7() {
+			return this.intValue7;
+		}
+
+		public void setIntValue7(int intValue7) {
+			this.intValue7 = intValue7;
+		}
+
+		public int getIntValue8() {
+			return this.intValue8;
+		}
+
+		public void setIntValue8(int intValue8) {
+			this.intValue8 = intValue8;
+		}
+
+		public int getIntValue9() {
+			return this.intValue9;
+		}
+
+		public void setIntValue9(int intValue9) {
+			this.intValue9 = intValue9;
+		}
+
+		public int getIntValue10() {
+			return this.intValue10;
+		}
+
+		public void setIntValue10(int intValue10) {
+			this.intValue10 = intValue10;
+		}
+
+		public long getLongValue1() {
+			return this.longValue1;
+		}
+
+		public void setLongValue1(long longValue1) {
+			this.longValue1 = longValue1;
+		}
+
+		public long getLongValue2() {
+			return this.longValue2;
+		}
+
+		public void setLongValue2(long longValue2) {
+			this.longValue2 = longValue2;
+		}
+
+		public long getLongValue3() {
+			return this.longValue3;
+		}
+
+		public void setLongValue3(long longValue3) {
+			this.longValue3 = longValue3;
+		}
+
+		public long getLongValue4() {
+			return this.longValue4;
+		}
+
+		public void setLongValue4(long longValue4) {
+			this.longValue4 = longValue4;
+		}
+
+		public long getLongValue5() {
+			return this.longValue5;
+		}
+
+		public void setLongValue5(long longValue5) {
+			this.longValue5 = longValue5;
+		}
+
+		public long getLongValue6() {
+			return this.longValue6;
+		}
+
+		public void setLongValue6(long longValue6) {
+			this.longValue6 = longValue6;
+		}
+
+		public long getLongValue7() {
+			return this.longValue7;
+		}
+
+		public void setLongValue7(long longValue7) {
+			this.longValue7 = longValue7;
+		}
+
+		public long getLongValue8() {
+			return this.longValue8;
+		}
+
+		public void setLongValue8(long longValue8) {
+			this.longValue8 = longValue8;
+		}
+
+		public long getLongValue9() {
+			return this.longValue9;
+		}
+
+		public void setLongValue9(long longValue9) {
+			this.longValue9 = longValue9;
+		}
+
+		public long getLongValue10() {
+			return this.longValue10;
+		}
+
+		public void setLongValue10(long longValue10) {
+			this.longValue10 = longValue10;
+		}
+	}
+
+
+	public record ItemRecord(
+			String stringValue1, String stringValue2, String stringValue3, String stringValue4, String stringValue5,
+			String stringValue6, String stringValue7, String stringValue8, String stringValue9, String stringValue10,
+			int intValue1, int intValue2, int intValue3, int intValue4, int intValue5,
+			int intValue6, int intValue7, int intValue8, int intValue9, int intValue10,
+			long longValue1, long longValue2, long longValue3, long longValue4, long longValue5,
+			long longValue6, long longValue7, long longValue8, long longValue9, long longValue10) {
+	}
+
+}
@@ -17,6 +17,7 @@
 package org.springframework.jdbc.core;
 
 import java.beans.PropertyDescriptor;
+import java.lang.ref.WeakReference;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -78,8 +79,9 @@ import org.springframework.util.StringUtils;
  * use {@link DataClassRowMapper} instead.
  *
  * <p>Please note that this class is designed to provide convenience rather than
- * high performance. For best performance, consider using a custom {@code RowMapper}
- * implementation.
+ * high performance. Column-to-property matches are determined once per
+ * {@code ResultSet}; each value is still bound through a {@link BeanWrapper}.
+ * For best performance, consider using a custom {@code RowMapper} implementation.
  *
  * @author Thomas Risberg
  * @author Juergen Hoeller
@@ -120,6 +122,10 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 	@Nullable
 	private Set<String> mappedPropertyNames;
 
+	/** Column mapping for the most recently mapped ResultSet. */
+	@Nullable
+	private volatile ColumnMapping columnMapping;
+
 
 	/**
 	 * Create a new {@code BeanPropertyRowMapper} for bean-style configuration.
@@ -250,6 +256,7 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		this.mappedClass = mappedClass;
 		this.mappedProperties = new HashMap<>();
 		this.mappedPropertyNames = new HashSet<>();
+		this.columnMapping = null;
 
 		for (PropertyDescriptor pd : BeanUtils.getPropertyDescriptors(mappedClass)) {
 			if (pd.getWriteMethod() != null) {
@@ -271,6 +278,7 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		if (this.mappedProperties != null) {
 			this.mappedProperties.remove(lowerCaseName(propertyName));
 			this.mappedProperties.remove(underscoreName(propertyName));
+			this.columnMapping = null;
 		}
 	}
 
@@ -321,7 +329,9 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 
 	/**
 	 * Extract the values for all columns in the current row.
-	 * <p>Utilizes public setters and result set meta-data.
+	 * <p>Utilizes public setters and result set meta-data. The columns of a
+	 * given ResultSet are matched to properties once, when its first row is
+	 * mapped, and the same matches are then applied to all subsequent rows.
 	 * @see java.sql.ResultSetMetaData
 	 */
 	@Override
@@ -332,21 +342,14 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		T mappedObject = constructMappedInstance(rs, bw);
 		bw.setBeanInstance(mappedObject);
 
-		ResultSetMetaData rsmd = rs.getMetaData();
-		int columnCount = rsmd.getColumnCount();
-		Set<String> populatedProperties = (isCheckFullyPopulated() ? new HashSet<>() : null);
-
-		for (int index = 1; index <= columnCount; index++) {
-			String column = JdbcUtils.lookupColumnName(rsmd, index);
-			String property = lowerCaseName(StringUtils.delete(column, " "));
-			PropertyDescriptor pd = (this.mappedProperties != null ? this.mappedProperties.get(property) : null);
+		ColumnMapping mapping = getColumnMapping(rs);
+		PropertyDescriptor[] properties = mapping.properties;
+		for (int i = 0; i < properties.length; i++) {
+			PropertyDescriptor pd = properties[i];
 			if (pd != null) {
+				int index = i + 1;
 				try {
 					Object value = getColumnValue(rs, index, pd);
-					if (rowNumber == 0 && logger.isDebugEnabled()) {
-						logger.debug("Mapping column '" + column + "' to property '" + pd.getName() +
-								"' of type '" + ClassUtils.getQualifiedName(pd.getPropertyType()) + "'");
-					}
 					try {
 						bw.setPropertyValue(pd.getName(), value);
 					}
@@ -357,25 +360,22 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 								logger.debug("""
 										Ignoring intercepted TypeMismatchException for row %d and column '%s' \
 										with null value when setting property '%s' of type '%s' on object: %s"
-										""".formatted(rowNumber, column, pd.getName(), propertyType, mappedObject), ex);
+										""".formatted(rowNumber, mapping.columns[i], pd.getName(), propertyType, mappedObject), ex);
 							}
 						}
 						else {
 							throw ex;
 						}
 					}
-					if (populatedProperties != null) {
-						populatedProperties.add(pd.getName());
-					}
 				}
 				catch (NotWritablePropertyException ex) {
 					throw new DataRetrievalFailureException(
-							"Unable to map column '" + column + "' to property '" + pd.getName() + "'", ex);
+							"Unable to map column '" + mapping.columns[i] + "' to property '" + pd.getName() + "'", ex);
 				}
 			}
 		}
 
-		if (populatedProperties != null && !populatedProperties.equals(this.mappedPropertyNames)) {
+		if (isCheckFullyPopulated() && !mapping.populatedProperties.equals(this.mappedPropertyNames)) {
 			throw new InvalidDataAccessApiUsageException("Given ResultSet does not contain all properties " +
 					"necessary to populate object of " + this.mappedClass + ": " + this.mappedPropertyNames);
 		}
@@ -383,6 +383,44 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		return mappedObject;
 	}
 
+	/**
+	 * Return the column mapping for the given ResultSet, reusing the mapping
+	 * determined for the previous row if it originates from the same ResultSet.
+	 */
+	private ColumnMapping getColumnMapping(ResultSet rs) throws SQLException {
+		ColumnMapping mapping = this.columnMapping;
+		if (mapping == null || !mapping.isFor(rs)) {
+			mapping = createColumnMapping(rs);
+			this.columnMapping = mapping;
+		}
+		return mapping;
+	}
+
+	private ColumnMapping createColumnMapping(ResultSet rs) throws SQLException {
+		ResultSetMetaData rsmd = rs.getMetaData();
+		int columnCount = rsmd.getColumnCount();
+		String[] columns = new String[columnCount];
+		PropertyDescriptor[] properties = new PropertyDescriptor[columnCount];
+		Set<String> populatedProperties = new HashSet<>();
+
+		for (int index = 1; index <= columnCount; index++) {
+			String column = JdbcUtils.lookupColumnName(rsmd, index);
+			String property = lowerCaseName(StringUtils.delete(column, " "));
+			PropertyDescriptor pd = (this.mappedProperties != null ? this.mappedProperties.get(property) : null);
+			if (pd != null) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Mapping column '" + column + "' to property '" + pd.getName() +
+							"' of type '" + ClassUtils.getQualifiedName(pd.getPropertyType()) + "'");
+				}
+				populatedProperties.add(pd.getName());
+			}
+			columns[index - 1] = column;
+			properties[index - 1] = pd;
+		}
+
+		return new ColumnMapping(rs, columns, properties, populatedProperties);
+	}
+
 	/**
 	 * Construct an instance of the mapped class for the current row.
 	 * @param rs the ResultSet to map (pre-initialized for the current row)
@@ -477,4 +515,33 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		return rowMapper;
 	}
 
+
+	/**
+	 * Matches between the columns of a ResultSet and the mapped properties,
+	 * weakly referencing the ResultSet that they have been determined for.
+	 */
+	private static final class ColumnMapping {
+
+		private final WeakReference<ResultSet> resultSet;
+
+		final String[] columns;
+
+		final PropertyDescriptor[] properties;
+
+		final Set<String> populatedProperties;
+
+		ColumnMapping(ResultSet resultSet, String[] columns, PropertyDescriptor[] properties,
+				Set<String> populatedProperties) {
+
+			this.resultSet = new WeakReference<>(resultSet);
+			this.columns = columns;
+			this.properties = properties;
+			this.populatedProperties = populatedProperties;
+		}
+
+		boolean isFor(ResultSet rs) {
+			return (this.resultSet.get() == rs);
+		}
+	}
+
 }
@@ -16,6 +16,7 @@
 
 package org.springframework.jdbc.core;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -70,6 +71,10 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 	@Nullable
 	private TypeDescriptor[] constructorParameterTypes;
 
+	/** Constructor parameter column indexes for the most recently mapped ResultSet. */
+	@Nullable
+	private volatile ConstructorColumns constructorColumns;
+
 
 	/**
 	 * Create a new {@code DataClassRowMapper} for bean-style configuration.
@@ -112,20 +117,11 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 
 		Object[] args;
 		if (this.constructorParameterNames != null && this.constructorParameterTypes != null) {
+			int[] indexes = getConstructorColumnIndexes(rs, this.constructorParameterNames);
 			args = new Object[this.constructorParameterNames.length];
 			for (int i = 0; i < args.length; i++) {
-				String name = this.constructorParameterNames[i];
-				int index;
-				try {
-					// Try direct name match first
-					index = rs.findColumn(lowerCaseName(name));
-				}
-				catch (SQLException ex) {
-					// Try underscored name match instead
-					index = rs.findColumn(underscoreName(name));
-				}
 				TypeDescriptor td = this.constructorParameterTypes[i];
-				Object value = getColumnValue(rs, index, td.getType());
+				Object value = getColumnValue(rs, indexes[i], td.getType());
 				args[i] = tc.convertIfNecessary(value, td.getType(), td);
 			}
 		}
@@ -136,6 +132,32 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 		return BeanUtils.instantiateClass(this.mappedConstructor, args);
 	}
 
+	/**
+	 * Return the column indexes for the given constructor parameter names,
+	 * reusing the indexes determined for the previous row if it originates
+	 * from the same ResultSet.
+	 */
+	private int[] getConstructorColumnIndexes(ResultSet rs, String[] parameterNames) throws SQLException {
+		ConstructorColumns columns = this.constructorColumns;
+		if (columns != null && columns.resultSet.get() == rs) {
+			return columns.indexes;
+		}
+		int[] indexes = new int[parameterNames.length];
+		for (int i = 0; i < parameterNames.length; i++) {
+			String name = parameterNames[i];
+			try {
+				// Try direct name match first
+				indexes[i] = rs.findColumn(lowerCaseName(name));
+			}
+			catch (SQLException ex) {
+				// Try underscored name match instead
+				indexes[i] = rs.findColumn(underscoreName(name));
+			}
+		}
+		this.constructorColumns = new ConstructorColumns(new WeakReference<>(rs), indexes);
+		return indexes;
+	}
+
 
 	/**
 	 * Static factory method to create a new {@code DataClassRowMapper}.
@@ -162,4 +184,12 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 		return rowMapper;
 	}
 
+
+	/**
+	 * Constructor parameter column indexes, weakly referencing the ResultSet
+	 * that they have been determined for.
+	 */
+	private record ConstructorColumns(WeakReference<ResultSet> resultSet, int[] indexes) {
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -52,6 +52,8 @@ public class PreparedStatementCreatorFactory {
 
 	private int resultSetType = ResultSet.TYPE_FORWARD_ONLY;
 
+	private int resultSetHoldability = -1;
+
 	private boolean updatableResults = false;
 
 	private boolean returnGeneratedKeys = false;
@@ -121,6 +123,18 @@ public class PreparedStatementCreatorFactory {
 		this.resultSetType = resultSetType;
 	}
 
+	/**
+	 * Set the holdability of the ResultSets returned by prepared statements.
+	 * <p>Default is the holdability of the JDBC Connection.
+	 * @param resultSetHoldability the ResultSet holdability
+	 * @since 6.1.4
+	 * @see java.sql.ResultSet#HOLD_CURSORS_OVER_COMMIT
+	 * @see java.sql.ResultSet#CLOSE_CURSORS_AT_COMMIT
+	 */
+	public void setResultSetHoldability(int resultSetHoldability) {
+		this.resultSetHoldability = resultSetHoldability;
+	}
+
 	/**
 	 * Set whether to use prepared statements capable of returning updatable ResultSets.
 	 */
@@ -235,6 +249,10 @@ public class PreparedStatementCreatorFactory {
 					ps = con.prepareStatement(this.actualSql, Statement.RETURN_GENERATED_KEYS);
 				}
 			}
+			else if (resultSetHoldability != -1) {
+				ps = con.prepareStatement(this.actualSql, resultSetType,
+					updatableResults ? ResultSet.CONCUR_UPDATABLE : ResultSet.CONCUR_READ_ONLY, resultSetHoldability);
+			}
 			else if (resultSetType == ResultSet.TYPE_FORWARD_ONLY && !updatableResults) {
 				ps = con.prepareStatement(this.actualSql);
 			}
@@ -51,6 +51,15 @@ public class GenericTableMetaDataProvider implements TableMetaDataProvider {
 	private static final List<String> productsNotSupportingGeneratedKeysColumnNameArray =
 			Arrays.asList("Apache Derby", "HSQL Database Engine");
 
+	/** Parameter limits for multi-row inserts of database products known to support them. */
+	private static final Map<String, Integer> multiRowInsertParameterLimits = Map.of(
+			"MySQL", 65535,
+			"MariaDB", 65535,
+			"PostgreSQL", 32767,
+			"H2", 65535,
+			"HSQL Database Engine", 32767,
+			"Microsoft SQL Server", 2099);
+
 
 	/** The name of the user currently connected. */
 	@Nullable
@@ -78,6 +87,9 @@ public class GenericTableMetaDataProvider implements TableMetaDataProvider {
 	/** The string used to quote SQL identifiers. */
 	private String identifierQuoteString = " ";
 
+	/** The maximum number of parameters in a multi-row insert, or 0 if not supported. */
+	private int multiRowInsertParameterLimit;
+
 	/** Collection of TableParameterMetaData objects. */
 	private final List<TableParameterMetaData> tableParameterMetaData = new ArrayList<>();
 
@@ -110,6 +122,10 @@ public class GenericTableMetaDataProvider implements TableMetaDataProvider {
 		}
 		try {
 			String databaseProductName = databaseMetaData.getDatabaseProductName();
+			if (databaseProductName != null) {
+				this.multiRowInsertParameterLimit = multiRowInsertParameterLimits.getOrDefault(
+						JdbcUtils.commonDatabaseName(databaseProductName), 0);
+			}
 			if (productsNotSupportingGeneratedKeysColumnNameArray.contains(databaseProductName)) {
 				if (logger.isDebugEnabled()) {
 					logger.debug("GeneratedKeysColumnNameArray is not supported for " + databaseProductName);
@@ -310,6 +326,11 @@ public class GenericTableMetaDataProvider implements TableMetaDataProvider {
 		return this.identifierQuoteString;
 	}
 
+	@Override
+	public int getMultiRowInsertParameterLimit() {
+		return this.multiRowInsertParameterLimit;
+	}
+
 
 	/**
 	 * Method supporting the meta-data processing for a table.
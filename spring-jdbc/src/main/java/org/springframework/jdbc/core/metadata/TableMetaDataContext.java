@@ -296,6 +296,18 @@ public class TableMetaDataContext {
 	 * @return the insert string to be used
 	 */
 	public String createInsertString(String... generatedKeyNames) {
+		return createMultiRowInsertString(1, generatedKeyNames);
+	}
+
+	/**
+	 * Build an insert string with the given number of rows in its {@code VALUES}
+	 * clause, based on configuration and meta-data information.
+	 * @param rowCount the number of rows to insert with a single statement
+	 * @return the insert string to be used
+	 * @since 6.1.4
+	 */
+	public String createMultiRowInsertString(int rowCount, String... generatedKeyNames) {
+		Assert.isTrue(rowCount > 0, "Row count must be greater than 0");
 		Set<String> keys = new LinkedHashSet<>(generatedKeyNames.length);
 		for (String key : generatedKeyNames) {
 			keys.add(key.toUpperCase());
@@ -334,7 +346,7 @@ public class TableMetaDataContext {
 				quoteHandler.appendTo(insertStatement, columnName);
 			}
 		}
-		insertStatement.append(") VALUES(");
+		insertStatement.append(") VALUES");
 		if (columnCount < 1) {
 			if (this.generatedKeyColumnsUsed) {
 				if (logger.isDebugEnabled()) {
@@ -351,9 +363,8 @@ public class TableMetaDataContext {
 				throw new InvalidDataAccessApiUsageException(message);
 			}
 		}
-		String params = String.join(", ", Collections.nCopies(columnCount, "?"));
-		insertStatement.append(params);
-		insertStatement.append(')');
+		String params = "(" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+		insertStatement.append(String.join(", ", Collections.nCopies(rowCount, params)));
 		return insertStatement.toString();
 	}
 
@@ -425,6 +436,16 @@ public class TableMetaDataContext {
 		return obtainMetaDataProvider().isGeneratedKeysColumnNameArraySupported();
 	}
 
+	/**
+	 * Get the maximum number of parameters to use in a single multi-row insert
+	 * statement, or 0 if multi-row inserts are not supported.
+	 * @since 6.1.4
+	 * @see TableMetaDataProvider#getMultiRowInsertParameterLimit()
+	 */
+	public int getMultiRowInsertParameterLimit() {
+		return obtainMetaDataProvider().getMultiRowInsertParameterLimit();
+	}
+
 
 	private static final class QuoteHandler {
 
@@ -152,4 +152,17 @@ public interface TableMetaDataProvider {
 	 */
 	String getIdentifierQuoteString();
 
+	/**
+	 * Get the maximum number of parameters to use in a single multi-row
+	 * {@code INSERT ... VALUES (...), (...)} statement.
+	 * <p>The default implementation returns 0, inserting one row per statement
+	 * since multi-row support cannot be assumed for an unknown database.
+	 * @return the maximum number of parameters per statement, or 0 if
+	 * multi-row {@code VALUES} lists are not supported by this database
+	 * @since 6.1.4
+	 */
+	default int getMultiRowInsertParameterLimit() {
+		return 0;
+	}
+
 }
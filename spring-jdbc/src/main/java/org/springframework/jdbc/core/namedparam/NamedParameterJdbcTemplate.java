@@ -18,6 +18,10 @@ package org.springframework.jdbc.core.namedparam;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -39,6 +43,7 @@ import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.SingleColumnRowMapper;
 import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.SqlParameterValue;
 import org.springframework.jdbc.core.SqlRowSetResultSetExtractor;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
@@ -89,6 +94,12 @@ public class NamedParameterJdbcTemplate implements NamedParameterJdbcOperations
 	private volatile ConcurrentLruCache<String, ParsedSql> parsedSqlCache =
 			new ConcurrentLruCache<>(DEFAULT_CACHE_LIMIT, NamedParameterUtils::parseSqlStatement);
 
+	/** Cache of ParsedSql plus parameter shape to expanded SQL String and declared parameters. */
+	private volatile ConcurrentLruCache<ExpandedSqlKey, ExpandedSql> expandedSqlCache =
+			new ConcurrentLruCache<>(DEFAULT_CACHE_LIMIT, ExpandedSqlKey::expand);
+
+	private boolean inClauseParameterPadding = false;
+
 
 	/**
 	 * Create a new NamedParameterJdbcTemplate for the given {@link DataSource}.
@@ -135,9 +146,12 @@ public class NamedParameterJdbcTemplate implements NamedParameterJdbcOperations
 	/**
 	 * Specify the maximum number of entries for this template's SQL cache.
 	 * Default is 256. 0 indicates no caching, always parsing each statement.
+	 * <p>The same limit applies to the cache of expanded statements, keyed by
+	 * parsed statement plus the number of elements in collection parameters.
 	 */
 	public void setCacheLimit(int cacheLimit) {
 		this.parsedSqlCache = new ConcurrentLruCache<>(cacheLimit, NamedParameterUtils::parseSqlStatement);
+		this.expandedSqlCache = new ConcurrentLruCache<>(cacheLimit, ExpandedSqlKey::expand);
 	}
 
 	/**
@@ -147,6 +161,34 @@ public class NamedParameterJdbcTemplate implements NamedParameterJdbcOperations
 		return this.parsedSqlCache.capacity();
 	}
 
+	/**
+	 * Specify whether to pad collection parameters to the next power of two
+	 * (1, 2, 4, 8, 16...) by repeating their last element. Default is "false".
+	 * <p>Each distinct collection size leads to a distinct statement with
+	 * a distinct number of placeholders, which limits the effectiveness of
+	 * statement caching in the driver and in the database. Padding reduces the
+	 * number of distinct statements for {@code IN (:ids)} clauses to a
+	 * logarithmic number of variants, with repeated values not affecting the
+	 * outcome of the {@code IN} condition.
+	 * <p><b>NOTE: Only switch this on if collection parameters are exclusively
+	 * used in {@code IN} clauses</b>, since repeated values change the meaning
+	 * of other statements, e.g. a multi-row {@code INSERT} or a {@code VALUES} list.
+	 * Also note that padding may exceed a database-specific limit for the
+	 * number of elements in an {@code IN} list.
+	 * @since 6.1.4
+	 */
+	public void setInClauseParameterPadding(boolean inClauseParameterPadding) {
+		this.inClauseParameterPadding = inClauseParameterPadding;
+	}
+
+	/**
+	 * Return whether collection parameters are padded to the next power of two.
+	 * @since 6.1.4
+	 */
+	public boolean isInClauseParameterPadding() {
+		return this.inClauseParameterPadding;
+	}
+
 
 	@Override
 	@Nullable
@@ -372,14 +414,16 @@ public class NamedParameterJdbcTemplate implements NamedParameterJdbcOperations
 		}
 
 		ParsedSql parsedSql = getParsedSql(sql);
-		PreparedStatementCreatorFactory pscf = getPreparedStatementCreatorFactory(parsedSql, batchArgs[0]);
+		PreparedStatementCreatorFactory pscf =
+				getPreparedStatementCreatorFactory(parsedSql, getParameterSourceToUse(batchArgs[0]));
 
 		return getJdbcOperations().batchUpdate(
 				pscf.getSql(),
 				new BatchPreparedStatementSetter() {
 					@Override
 					public void setValues(PreparedStatement ps, int i) throws SQLException {
-						Object[] values = NamedParameterUtils.buildValueArray(parsedSql, batchArgs[i], null);
+						Object[] values = NamedParameterUtils.buildValueArray(
+								parsedSql, getParameterSourceToUse(batchArgs[i]), null);
 						pscf.newPreparedStatementSetter(values).setValues(ps);
 					}
 					@Override
@@ -408,7 +452,7 @@ public class NamedParameterJdbcTemplate implements NamedParameterJdbcOperations
 		}
 
 		ParsedSql parsedSql = getParsedSql(sql);
-		SqlParameterSource paramSource = batchArgs[0];
+		SqlParameterSource paramSource = getParameterSourceToUse(batchArgs[0]);
 		PreparedStatementCreatorFactory pscf = getPreparedStatementCreatorFactory(parsedSql, paramSource);
 		if (keyColumnNames != null) {
 			pscf.setGeneratedKeysColumnNames(keyColumnNames);
@@ -421,7 +465,8 @@ public class NamedParameterJdbcTemplate implements NamedParameterJdbcOperations
 		return getJdbcOperations().batchUpdate(psc, new BatchPreparedStatementSetter() {
 			@Override
 			public void setValues(PreparedStatement ps, int i) throws SQLException {
-				Object[] values = NamedParameterUtils.buildValueArray(parsedSql, batchArgs[i], null);
+				Object[] values = NamedParameterUtils.buildValueArray(
+						parsedSql, getParameterSourceToUse(batchArgs[i]), null);
 				pscf.newPreparedStatementSetter(values).setValues(ps);
 			}
 
@@ -465,11 +510,12 @@ public class NamedParameterJdbcTemplate implements NamedParameterJdbcOperations
 			@Nullable Consumer<PreparedStatementCreatorFactory> customizer) {
 
 		ParsedSql parsedSql = getParsedSql(sql);
-		PreparedStatementCreatorFactory pscf = getPreparedStatementCreatorFactory(parsedSql, paramSource);
+		SqlParameterSource paramSourceToUse = getParameterSourceToUse(paramSource);
+		PreparedStatementCreatorFactory pscf = getPreparedStatementCreatorFactory(parsedSql, paramSourceToUse);
 		if (customizer != null) {
 			customizer.accept(pscf);
 		}
-		Object[] params = NamedParameterUtils.buildValueArray(parsedSql, paramSource, null);
+		Object[] params = NamedParameterUtils.buildValueArray(parsedSql, paramSourceToUse, null);
 		return pscf.newPreparedStatementCreator(params);
 	}
 
@@ -486,6 +532,10 @@ public class NamedParameterJdbcTemplate implements NamedParameterJdbcOperations
 
 	/**
 	 * Build a {@link PreparedStatementCreatorFactory} based on the given SQL and named parameters.
+	 * <p>The default implementation caches the expanded SQL statement and the declared
+	 * parameters per parsed statement and parameter shape, that is, the number of
+	 * elements in collection parameters as well as the SQL types and type names.
+	 * A new factory is returned for every call since it may be further customized.
 	 * @param parsedSql parsed representation of the given SQL statement
 	 * @param paramSource container of arguments to bind
 	 * @return the corresponding {@link PreparedStatementCreatorFactory}
@@ -496,9 +546,210 @@ public class NamedParameterJdbcTemplate implements NamedParameterJdbcOperations
 	protected PreparedStatementCreatorFactory getPreparedStatementCreatorFactory(
 			ParsedSql parsedSql, SqlParameterSource paramSource) {
 
-		String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, paramSource);
-		List<SqlParameter> declaredParameters = NamedParameterUtils.buildSqlParameterList(parsedSql, paramSource);
-		return new PreparedStatementCreatorFactory(sqlToUse, declaredParameters);
+		ExpandedSql expandedSql = this.expandedSqlCache.get(new ExpandedSqlKey(parsedSql, paramSource));
+		return new PreparedStatementCreatorFactory(expandedSql.sql(), new ArrayList<>(expandedSql.declaredParameters()));
+	}
+
+	private SqlParameterSource getParameterSourceToUse(SqlParameterSource paramSource) {
+		return (this.inClauseParameterPadding ? new InClausePaddingSqlParameterSource(paramSource) : paramSource);
+	}
+
+
+	/**
+	 * Cache key for an expanded SQL statement: the original SQL statement plus
+	 * the number of elements in each collection parameter (and in each of their
+	 * expression lists) as well as the SQL type and type name of each parameter.
+	 */
+	private static final class ExpandedSqlKey {
+
+		private static final int SCALAR = -1;
+
+		private final ParsedSql parsedSql;
+
+		private final int[] shape;
+
+		private final int[] sqlTypes;
+
+		private final String[] typeNames;
+
+		private final int hashCode;
+
+		ExpandedSqlKey(ParsedSql parsedSql, SqlParameterSource paramSource) {
+			List<String> paramNames = parsedSql.getParameterNames();
+			int paramCount = paramNames.size();
+			int[] shape = new int[paramCount];
+			int[] sqlTypes = new int[paramCount];
+			String[] typeNames = new String[paramCount];
+			int pos = 0;
+			for (int i = 0; i < paramCount; i++) {
+				String paramName = paramNames.get(i);
+				sqlTypes[i] = paramSource.getSqlType(paramName);
+				typeNames[i] = paramSource.getTypeName(paramName);
+				Object value = (paramSource.hasValue(paramName) ? paramSource.getValue(paramName) : null);
+				if (value instanceof SqlParameterValue sqlParameterValue) {
+					value = sqlParameterValue.getValue();
+				}
+				if (value instanceof Iterable<?> iterable) {
+					int sizePos = pos++;
+					int size = 0;
+					for (Object entryItem : iterable) {
+						shape = ensureCapacity(shape, pos + paramCount - i);
+						shape[pos++] = (entryItem instanceof Object[] expressionList ? expressionList.length : SCALAR);
+						size++;
+					}
+					shape[sizePos] = size;
+				}
+				else {
+					shape[pos++] = SCALAR;
+				}
+			}
+			this.parsedSql = parsedSql;
+			this.shape = (pos < shape.length ? Arrays.copyOf(shape, pos) : shape);
+			this.sqlTypes = sqlTypes;
+			this.typeNames = typeNames;
+			this.hashCode = 31 * (31 * (31 * parsedSql.getOriginalSql().hashCode() +
+					Arrays.hashCode(this.shape)) + Arrays.hashCode(sqlTypes)) + Arrays.hashCode(typeNames);
+		}
+
+		private static int[] ensureCapacity(int[] array, int minCapacity) {
+			return (array.length < minCapacity ? Arrays.copyOf(array, Math.max(minCapacity, array.length * 2)) : array);
+		}
+
+		ExpandedSql expand() {
+			String originalSql = this.parsedSql.getOriginalSql();
+			List<String> paramNames = this.parsedSql.getParameterNames();
+			List<SqlParameter> declaredParameters = new ArrayList<>(paramNames.size());
+			if (paramNames.isEmpty()) {
+				return new ExpandedSql(originalSql, declaredParameters);
+			}
+			StringBuilder actualSql = new StringBuilder(originalSql.length() + this.shape.length * 3);
+			int lastIndex = 0;
+			int pos = 0;
+			for (int i = 0; i < paramNames.size(); i++) {
+				String paramName = paramNames.get(i);
+				int[] indexes = this.parsedSql.getParameterIndexes(i);
+				actualSql.append(originalSql, lastIndex, indexes[0]);
+				int size = this.shape[pos++];
+				if (size == SCALAR) {
+					actualSql.append('?');
+				}
+				else {
+					for (int k = 0; k < size; k++) {
+						if (k > 0) {
+							actualSql.append(", ");
+						}
+						int expressionListLength = this.shape[pos++];
+						if (expressionListLength == SCALAR) {
+							actualSql.append('?');
+						}
+						else {
+							actualSql.append('(');
+							for (int m = 0; m < expressionListLength; m++) {
+								if (m > 0) {
+									actualSql.append(", ");
+								}
+								actualSql.append('?');
+							}
+							actualSql.append(')');
+						}
+					}
+				}
+				lastIndex = indexes[1];
+				declaredParameters.add(new SqlParameter(paramName, this.sqlTypes[i], this.typeNames[i]));
+			}
+			actualSql.append(originalSql, lastIndex, originalSql.length());
+			return new ExpandedSql(actualSql.toString(), declaredParameters);
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof ExpandedSqlKey that &&
+					this.hashCode == that.hashCode &&
+					this.parsedSql.getOriginalSql().equals(that.parsedSql.getOriginalSql()) &&
+					Arrays.equals(this.shape, that.shape) && Arrays.equals(this.sqlTypes, that.sqlTypes) &&
+					Arrays.equals(this.typeNames, that.typeNames)));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+
+
+	/**
+	 * Expanded SQL statement with its declared parameters.
+	 */
+	private record ExpandedSql(String sql, List<SqlParameter> declaredParameters) {
+	}
+
+
+	/**
+	 * {@link SqlParameterSource} decorator that pads collection values to the
+	 * next power of two, repeating their last element. Values declared as
+	 * {@link Types#ARRAY} are left as they are.
+	 * @see #setInClauseParameterPadding
+	 */
+	private static class InClausePaddingSqlParameterSource implements SqlParameterSource {
+
+		private final SqlParameterSource source;
+
+		InClausePaddingSqlParameterSource(SqlParameterSource source) {
+			this.source = source;
+		}
+
+		@Override
+		public boolean hasValue(String paramName) {
+			return this.source.hasValue(paramName);
+		}
+
+		@Override
+		@Nullable
+		public Object getValue(String paramName) throws IllegalArgumentException {
+			Object value = this.source.getValue(paramName);
+			if (value instanceof SqlParameterValue sqlParameterValue) {
+				if (sqlParameterValue.getSqlType() != Types.ARRAY &&
+						sqlParameterValue.getValue() instanceof Collection<?> collection) {
+					Collection<?> padded = pad(collection);
+					return (padded != collection ? new SqlParameterValue(sqlParameterValue, padded) : value);
+				}
+				return value;
+			}
+			return (value instanceof Collection<?> collection && this.source.getSqlType(paramName) != Types.ARRAY ?
+					pad(collection) : value);
+		}
+
+		@Override
+		public int getSqlType(String paramName) {
+			return this.source.getSqlType(paramName);
+		}
+
+		@Override
+		@Nullable
+		public String getTypeName(String paramName) {
+			return this.source.getTypeName(paramName);
+		}
+
+		@Override
+		@Nullable
+		public String[] getParameterNames() {
+			return this.source.getParameterNames();
+		}
+
+		private static Collection<?> pad(Collection<?> collection) {
+			int size = collection.size();
+			int paddedSize = (size > 1 ? Integer.highestOneBit(size - 1) << 1 : size);
+			if (paddedSize == size) {
+				return collection;
+			}
+			List<Object> padded = new ArrayList<>(paddedSize);
+			padded.addAll(collection);
+			Object last = padded.get(size - 1);
+			while (padded.size() < paddedSize) {
+				padded.add(last);
+			}
+			return padded;
+		}
 	}
 
 }
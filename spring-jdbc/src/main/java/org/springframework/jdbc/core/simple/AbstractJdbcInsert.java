@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -62,6 +63,9 @@ import org.springframework.util.Assert;
  */
 public abstract class AbstractJdbcInsert {
 
+	/** Number of rows per JDBC batch for multi-row inserts without multi-row statement support. */
+	private static final int MULTI_ROW_INSERT_BATCH_SIZE = 1000;
+
 	/** Logger available to subclasses. */
 	protected final Log logger = LogFactory.getLog(getClass());
 
@@ -89,6 +93,9 @@ public abstract class AbstractJdbcInsert {
 	/** The SQL type information for the insert columns. */
 	private int[] insertTypes = new int[0];
 
+	/** The maximum number of parameters per multi-row insert statement, or -1 for the database default. */
+	private int multiRowInsertParameterLimit = -1;
+
 
 	/**
 	 * Constructor to be used when initializing using a {@link DataSource}.
@@ -236,6 +243,31 @@ public abstract class AbstractJdbcInsert {
 		return this.insertTypes;
 	}
 
+	/**
+	 * Specify the maximum number of parameters to use in a single multi-row
+	 * insert statement, determining how many rows are sent per statement by
+	 * {@link #doExecuteMultiRowInsert(Iterator)}.
+	 * <p>By default, the limit is determined from the database meta-data.
+	 * A value of 0 sends one row per statement, in JDBC batches.
+	 * @param multiRowInsertParameterLimit the maximum number of parameters per statement
+	 * @since 6.1.4
+	 * @see org.springframework.jdbc.core.metadata.TableMetaDataProvider#getMultiRowInsertParameterLimit()
+	 */
+	public void setMultiRowInsertParameterLimit(int multiRowInsertParameterLimit) {
+		checkIfConfigurationModificationIsAllowed();
+		Assert.isTrue(multiRowInsertParameterLimit >= 0, "Multi-row insert parameter limit must not be negative");
+		this.multiRowInsertParameterLimit = multiRowInsertParameterLimit;
+	}
+
+	/**
+	 * Get the maximum number of parameters to use in a single multi-row
+	 * insert statement, or -1 if determined from the database meta-data.
+	 * @since 6.1.4
+	 */
+	public int getMultiRowInsertParameterLimit() {
+		return this.multiRowInsertParameterLimit;
+	}
+
 	/**
 	 * Specify whether SQL identifiers should be quoted.
 	 * <p>Defaults to {@code false}. If set to {@code true}, the identifier
@@ -610,6 +642,70 @@ public abstract class AbstractJdbcInsert {
 				});
 	}
 
+	/**
+	 * Delegate method that inserts the rows of the passed-in {@link SqlParameterSource}
+	 * iterator, consuming it one chunk at a time.
+	 * <p>Each chunk is inserted with a single {@code INSERT ... VALUES (...), (...)}
+	 * statement holding as many rows as the
+	 * {@linkplain #setMultiRowInsertParameterLimit parameter limit} allows.
+	 * If multi-row inserts are not supported, each chunk is executed as a
+	 * JDBC batch of single-row inserts instead.
+	 * @param batch parameter sources with names and values to be used in the insert
+	 * @return the total number of rows inserted
+	 * @since 6.1.4
+	 */
+	protected long doExecuteMultiRowInsert(Iterator<? extends SqlParameterSource> batch) {
+		checkCompiled();
+		int columnCount = this.tableMetaDataContext.getTableColumns().size();
+		int parameterLimit = (this.multiRowInsertParameterLimit >= 0 ? this.multiRowInsertParameterLimit :
+				this.tableMetaDataContext.getMultiRowInsertParameterLimit());
+		int rowsPerStatement = Math.max(1, (columnCount > 0 ? parameterLimit / columnCount : 1));
+		boolean multiRow = (parameterLimit > 0 && rowsPerStatement > 1);
+		int chunkSize = (multiRow ? rowsPerStatement : MULTI_ROW_INSERT_BATCH_SIZE);
+
+		long rowCount = 0;
+		List<List<Object>> chunk = new ArrayList<>(Math.min(chunkSize, MULTI_ROW_INSERT_BATCH_SIZE));
+		String statement = null;
+		while (batch.hasNext()) {
+			chunk.add(matchInParameterValuesWithInsertColumns(batch.next()));
+			if (chunk.size() == chunkSize || !batch.hasNext()) {
+				if (!multiRow) {
+					for (int count : executeBatchInternal(chunk)) {
+						rowCount += (count == Statement.SUCCESS_NO_INFO ? 1 : count);
+					}
+				}
+				else {
+					if (statement == null || chunk.size() < chunkSize) {
+						statement = this.tableMetaDataContext.createMultiRowInsertString(
+								chunk.size(), getGeneratedKeyNames());
+					}
+					rowCount += executeMultiRowInsertInternal(statement, chunk);
+				}
+				chunk.clear();
+			}
+		}
+		return rowCount;
+	}
+
+	/**
+	 * Delegate method to execute a multi-row insert.
+	 */
+	private int executeMultiRowInsertInternal(String statement, List<List<Object>> rows) {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Executing multi-row insert with " + rows.size() + " rows");
+		}
+		int[] insertTypes = getInsertTypes();
+		return getJdbcTemplate().update(statement, ps -> {
+			int colIndex = 0;
+			for (List<Object> values : rows) {
+				for (int i = 0; i < values.size(); i++) {
+					int sqlType = (i < insertTypes.length ? insertTypes[i] : SqlTypeValue.TYPE_UNKNOWN);
+					StatementCreatorUtils.setParameterValue(ps, ++colIndex, sqlType, values.get(i));
+				}
+			}
+		});
+	}
+
 	/**
 	 * Internal implementation for setting parameter values.
 	 * @param preparedStatement the PreparedStatement
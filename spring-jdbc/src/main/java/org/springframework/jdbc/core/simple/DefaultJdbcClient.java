@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,31 +16,45 @@
 
 package org.springframework.jdbc.core.simple;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
 import org.springframework.beans.BeanUtils;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterDisposer;
 import org.springframework.jdbc.core.PreparedStatementCreator;
 import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
 import org.springframework.jdbc.core.SimplePropertyRowMapper;
 import org.springframework.jdbc.core.SingleColumnRowMapper;
 import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.SqlRowSetResultSetExtractor;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SimplePropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 import org.springframework.lang.Nullable;
@@ -59,28 +73,40 @@ import org.springframework.util.Assert;
  */
 final class DefaultJdbcClient implements JdbcClient {
 
+	private static final int DEFAULT_BATCH_CHUNK_SIZE = 1000;
+
+
 	private final JdbcOperations classicOps;
 
 	private final NamedParameterJdbcOperations namedParamOps;
 
+	private final StatementCreatorTemplate statementCreatorOps;
+
 	private final Map<Class<?>, RowMapper<?>> rowMapperCache = new ConcurrentHashMap<>();
 
 
 	public DefaultJdbcClient(DataSource dataSource) {
 		this.classicOps = new JdbcTemplate(dataSource);
-		this.namedParamOps = new NamedParameterJdbcTemplate(this.classicOps);
+		this.statementCreatorOps = new StatementCreatorTemplate(this.classicOps);
+		this.namedParamOps = this.statementCreatorOps;
 	}
 
 	public DefaultJdbcClient(JdbcOperations jdbcTemplate) {
 		Assert.notNull(jdbcTemplate, "JdbcTemplate must not be null");
 		this.classicOps = jdbcTemplate;
-		this.namedParamOps = new NamedParameterJdbcTemplate(jdbcTemplate);
+		this.statementCreatorOps = new StatementCreatorTemplate(jdbcTemplate);
+		this.namedParamOps = this.statementCreatorOps;
 	}
 
 	public DefaultJdbcClient(NamedParameterJdbcOperations jdbcTemplate) {
 		Assert.notNull(jdbcTemplate, "JdbcTemplate must not be null");
 		this.classicOps = jdbcTemplate.getJdbcOperations();
 		this.namedParamOps = jdbcTemplate;
+		this.statementCreatorOps = new StatementCreatorTemplate(this.classicOps);
+		if (jdbcTemplate instanceof NamedParameterJdbcTemplate namedParamTemplate) {
+			this.statementCreatorOps.setCacheLimit(namedParamTemplate.getCacheLimit());
+			this.statementCreatorOps.setInClauseParameterPadding(namedParamTemplate.isInClauseParameterPadding());
+		}
 	}
 
 
@@ -89,6 +115,16 @@ final class DefaultJdbcClient implements JdbcClient {
 		return new DefaultStatementSpec(sql);
 	}
 
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private static SqlParameterSource batchParamSource(Object batchArg) {
+		if (batchArg instanceof SqlParameterSource paramSource) {
+			return paramSource;
+		}
+		return (batchArg instanceof Map map ?
+				new MapSqlParameterSource(map) :
+				new SimplePropertySqlParameterSource(batchArg));
+	}
+
 
 	private class DefaultStatementSpec implements StatementSpec {
 
@@ -100,6 +136,12 @@ final class DefaultJdbcClient implements JdbcClient {
 
 		private SqlParameterSource namedParamSource = this.namedParams;
 
+		private int fetchSize = -1;
+
+		private int resultSetType = ResultSet.TYPE_FORWARD_ONLY;
+
+		private int resultSetHoldability = -1;
+
 		public DefaultStatementSpec(String sql) {
 			this.sql = sql;
 		}
@@ -189,8 +231,29 @@ final class DefaultJdbcClient implements JdbcClient {
 			return this;
 		}
 
+		@Override
+		public StatementSpec withFetchSize(int fetchSize) {
+			this.fetchSize = fetchSize;
+			return this;
+		}
+
+		@Override
+		public StatementSpec withResultSetType(int resultSetType) {
+			this.resultSetType = resultSetType;
+			return this;
+		}
+
+		@Override
+		public StatementSpec withResultSetHoldability(int resultSetHoldability) {
+			this.resultSetHoldability = resultSetHoldability;
+			return this;
+		}
+
 		@Override
 		public ResultQuerySpec query() {
+			if (hasStatementSettings()) {
+				return new StatementSettingsResultQuerySpec();
+			}
 			return (useNamedParams() ?
 					new NamedParamResultQuerySpec() :
 					new IndexedParamResultQuerySpec());
@@ -207,6 +270,9 @@ final class DefaultJdbcClient implements JdbcClient {
 
 		@Override
 		public <T> MappedQuerySpec<T> query(RowMapper<T> rowMapper) {
+			if (hasStatementSettings()) {
+				return new StatementSettingsMappedQuerySpec<>(rowMapper);
+			}
 			return (useNamedParams() ?
 					new NamedParamMappedQuerySpec<>(rowMapper) :
 					new IndexedParamMappedQuerySpec<>(rowMapper));
@@ -214,7 +280,15 @@ final class DefaultJdbcClient implements JdbcClient {
 
 		@Override
 		public void query(RowCallbackHandler rch) {
-			if (useNamedParams()) {
+			if (hasStatementSettings()) {
+				queryWithSettings(rs -> {
+					while (rs.next()) {
+						rch.processRow(rs);
+					}
+					return null;
+				});
+			}
+			else if (useNamedParams()) {
 				namedParamOps.query(this.sql, this.namedParamSource, rch);
 			}
 			else {
@@ -224,15 +298,24 @@ final class DefaultJdbcClient implements JdbcClient {
 
 		@Override
 		public <T> T query(ResultSetExtractor<T> rse) {
-			T result = (useNamedParams() ?
-					namedParamOps.query(this.sql, this.namedParamSource, rse) :
-					classicOps.query(statementCreatorForIndexedParams(), rse));
+			T result;
+			if (hasStatementSettings()) {
+				result = queryWithSettings(rse);
+			}
+			else {
+				result = (useNamedParams() ?
+						namedParamOps.query(this.sql, this.namedParamSource, rse) :
+						classicOps.query(statementCreatorForIndexedParams(), rse));
+			}
 			Assert.state(result != null, "No result from ResultSetExtractor");
 			return result;
 		}
 
 		@Override
 		public int update() {
+			if (hasStatementSettings()) {
+				return classicOps.update(statementCreatorWithSettings(null));
+			}
 			return (useNamedParams() ?
 					namedParamOps.update(this.sql, this.namedParamSource) :
 					classicOps.update(statementCreatorForIndexedParams()));
@@ -240,6 +323,10 @@ final class DefaultJdbcClient implements JdbcClient {
 
 		@Override
 		public int update(KeyHolder generatedKeyHolder) {
+			if (hasStatementSettings()) {
+				return classicOps.update(statementCreatorWithSettings(pscf -> pscf.setReturnGeneratedKeys(true)),
+						generatedKeyHolder);
+			}
 			return (useNamedParams() ?
 					namedParamOps.update(this.sql, this.namedParamSource, generatedKeyHolder) :
 					classicOps.update(statementCreatorForIndexedParamsWithKeys(null), generatedKeyHolder));
@@ -247,11 +334,31 @@ final class DefaultJdbcClient implements JdbcClient {
 
 		@Override
 		public int update(KeyHolder generatedKeyHolder, String... keyColumnNames) {
+			if (hasStatementSettings()) {
+				return classicOps.update(statementCreatorWithSettings(pscf -> {
+					if (keyColumnNames != null) {
+						pscf.setGeneratedKeysColumnNames(keyColumnNames);
+					}
+					else {
+						pscf.setReturnGeneratedKeys(true);
+					}
+				}), generatedKeyHolder);
+			}
 			return (useNamedParams() ?
 					namedParamOps.update(this.sql, this.namedParamSource, generatedKeyHolder, keyColumnNames) :
 					classicOps.update(statementCreatorForIndexedParamsWithKeys(keyColumnNames), generatedKeyHolder));
 		}
 
+		@Override
+		public BatchSpec batch(Iterable<?> batchArgs) {
+			return new DefaultBatchSpec(batchArgs.iterator());
+		}
+
+		@Override
+		public BatchSpec batch(Stream<?> batchArgs) {
+			return new DefaultBatchSpec(batchArgs.iterator());
+		}
+
 		private boolean useNamedParams() {
 			boolean hasNamedParams = (this.namedParams.hasValues() || this.namedParamSource != this.namedParams);
 			if (hasNamedParams && !this.indexedParams.isEmpty()) {
@@ -264,6 +371,75 @@ final class DefaultJdbcClient implements JdbcClient {
 			return hasNamedParams;
 		}
 
+		private boolean hasStatementSettings() {
+			return (this.fetchSize != -1 || this.resultSetType != ResultSet.TYPE_FORWARD_ONLY ||
+					this.resultSetHoldability != -1);
+		}
+
+		/**
+		 * Execute a query with the statement settings of this specification.
+		 * <p>On a {@link JdbcTemplate}, the fetch size is applied through a
+		 * PreparedStatementSetter, taking precedence over the template's own
+		 * fetch size which is applied after statement creation.
+		 */
+		@Nullable
+		private <T> T queryWithSettings(ResultSetExtractor<T> rse) {
+			if (classicOps instanceof JdbcTemplate jdbcTemplate) {
+				return jdbcTemplate.query(statementCreatorWithSettings(null, false), this::applyFetchSize, rse);
+			}
+			return classicOps.query(statementCreatorWithSettings(null), rse);
+		}
+
+		/**
+		 * Execute a query for a Stream with the statement settings of this specification.
+		 * @see #queryWithSettings(ResultSetExtractor)
+		 */
+		private <T> Stream<T> queryForStreamWithSettings(RowMapper<T> rowMapper) {
+			if (classicOps instanceof JdbcTemplate jdbcTemplate) {
+				return jdbcTemplate.queryForStream(statementCreatorWithSettings(null, false), this::applyFetchSize, rowMapper);
+			}
+			return classicOps.queryForStream(statementCreatorWithSettings(null), rowMapper);
+		}
+
+		private PreparedStatementCreator statementCreatorWithSettings(
+				@Nullable Consumer<PreparedStatementCreatorFactory> customizer) {
+
+			return statementCreatorWithSettings(customizer, true);
+		}
+
+		/**
+		 * Build a PreparedStatementCreator for this statement with its ResultSet
+		 * type and holdability, parsing named parameters through the
+		 * NamedParameterJdbcTemplate for its parsed SQL cache and IN clause handling.
+		 */
+		private PreparedStatementCreator statementCreatorWithSettings(
+				@Nullable Consumer<PreparedStatementCreatorFactory> customizer, boolean applyFetchSize) {
+
+			Consumer<PreparedStatementCreatorFactory> settings = pscf -> {
+				pscf.setResultSetType(this.resultSetType);
+				pscf.setResultSetHoldability(this.resultSetHoldability);
+				if (customizer != null) {
+					customizer.accept(pscf);
+				}
+			};
+			PreparedStatementCreator psc;
+			if (useNamedParams()) {
+				psc = statementCreatorOps.getPreparedStatementCreator(this.sql, this.namedParamSource, settings);
+			}
+			else {
+				PreparedStatementCreatorFactory pscf = new PreparedStatementCreatorFactory(this.sql);
+				settings.accept(pscf);
+				psc = pscf.newPreparedStatementCreator(this.indexedParams);
+			}
+			return (applyFetchSize && this.fetchSize != -1 ? new FetchSizeStatementCreator(psc, this.fetchSize) : psc);
+		}
+
+		private void applyFetchSize(PreparedStatement ps) throws SQLException {
+			if (this.fetchSize != -1) {
+				ps.setFetchSize(this.fetchSize);
+			}
+		}
+
 		private PreparedStatementCreator statementCreatorForIndexedParams() {
 			return new PreparedStatementCreatorFactory(this.sql).newPreparedStatementCreator(this.indexedParams);
 		}
@@ -280,6 +456,63 @@ final class DefaultJdbcClient implements JdbcClient {
 		}
 
 
+		private class DefaultBatchSpec implements BatchSpec {
+
+			private final Iterator<?> batchArgs;
+
+			private int chunkSize = DEFAULT_BATCH_CHUNK_SIZE;
+
+			public DefaultBatchSpec(Iterator<?> batchArgs) {
+				this.batchArgs = batchArgs;
+			}
+
+			@Override
+			public BatchSpec chunkSize(int chunkSize) {
+				Assert.isTrue(chunkSize > 0, "Chunk size must be greater than 0");
+				this.chunkSize = chunkSize;
+				return this;
+			}
+
+			@Override
+			public int[][] update() {
+				return execute(chunk -> namedParamOps.batchUpdate(sql, chunk));
+			}
+
+			@Override
+			public int[][] update(KeyHolder generatedKeyHolder) {
+				return update(generatedKeyHolder, (String[]) null);
+			}
+
+			@Override
+			public int[][] update(KeyHolder generatedKeyHolder, @Nullable String... keyColumnNames) {
+				List<Map<String, Object>> generatedKeys = generatedKeyHolder.getKeyList();
+				generatedKeys.clear();
+				return execute(chunk -> {
+					KeyHolder chunkKeyHolder = new GeneratedKeyHolder();
+					int[] updateCounts = namedParamOps.batchUpdate(sql, chunk, chunkKeyHolder, keyColumnNames);
+					generatedKeys.addAll(chunkKeyHolder.getKeyList());
+					return updateCounts;
+				});
+			}
+
+			private int[][] execute(Function<SqlParameterSource[], int[]> chunkUpdate) {
+				if (!indexedParams.isEmpty() || namedParams.hasValues() || namedParamSource != namedParams) {
+					throw new IllegalStateException("Configure either batch arguments or statement parameters, not both");
+				}
+				List<int[]> result = new ArrayList<>();
+				List<SqlParameterSource> chunk = new ArrayList<>(Math.min(this.chunkSize, DEFAULT_BATCH_CHUNK_SIZE));
+				while (this.batchArgs.hasNext()) {
+					chunk.add(batchParamSource(this.batchArgs.next()));
+					if (chunk.size() == this.chunkSize || !this.batchArgs.hasNext()) {
+						result.add(chunkUpdate.apply(chunk.toArray(new SqlParameterSource[0])));
+						chunk.clear();
+					}
+				}
+				return result.toArray(new int[0][]);
+			}
+		}
+
+
 		private class IndexedParamResultQuerySpec implements ResultQuerySpec {
 
 			@Override
@@ -328,6 +561,60 @@ final class DefaultJdbcClient implements JdbcClient {
 		}
 
 
+		private class StatementSettingsResultQuerySpec implements ResultQuerySpec {
+
+			@Override
+			public SqlRowSet rowSet() {
+				SqlRowSet result = queryWithSettings(new SqlRowSetResultSetExtractor());
+				Assert.state(result != null, "No result from SqlRowSetResultSetExtractor");
+				return result;
+			}
+
+			@Override
+			public List<Map<String, Object>> listOfRows() {
+				return list(new ColumnMapRowMapper());
+			}
+
+			@Override
+			public Map<String, Object> singleRow() {
+				return DataAccessUtils.requiredSingleResult(listOfRows());
+			}
+
+			@Override
+			public List<Object> singleColumn() {
+				return list(new SingleColumnRowMapper<>(Object.class));
+			}
+
+			private <T> List<T> list(RowMapper<T> rowMapper) {
+				List<T> result = queryWithSettings(new RowMapperResultSetExtractor<>(rowMapper));
+				Assert.state(result != null, "No result from RowMapperResultSetExtractor");
+				return result;
+			}
+		}
+
+
+		private class StatementSettingsMappedQuerySpec<T> implements MappedQuerySpec<T> {
+
+			private final RowMapper<T> rowMapper;
+
+			public StatementSettingsMappedQuerySpec(RowMapper<T> rowMapper) {
+				this.rowMapper = rowMapper;
+			}
+
+			@Override
+			public Stream<T> stream() {
+				return queryForStreamWithSettings(this.rowMapper);
+			}
+
+			@Override
+			public List<T> list() {
+				List<T> result = queryWithSettings(new RowMapperResultSetExtractor<>(this.rowMapper));
+				Assert.state(result != null, "No result from RowMapperResultSetExtractor");
+				return result;
+			}
+		}
+
+
 		private class IndexedParamMappedQuerySpec<T> implements MappedQuerySpec<T> {
 
 			private final RowMapper<T> rowMapper;
@@ -368,4 +655,60 @@ final class DefaultJdbcClient implements JdbcClient {
 		}
 	}
 
+
+	/**
+	 * NamedParameterJdbcTemplate exposing its PreparedStatementCreator, for
+	 * statements with settings that the template itself does not apply.
+	 */
+	private static class StatementCreatorTemplate extends NamedParameterJdbcTemplate {
+
+		StatementCreatorTemplate(JdbcOperations classicJdbcTemplate) {
+			super(classicJdbcTemplate);
+		}
+
+		@Override
+		protected PreparedStatementCreator getPreparedStatementCreator(String sql, SqlParameterSource paramSource,
+				@Nullable Consumer<PreparedStatementCreatorFactory> customizer) {
+
+			return super.getPreparedStatementCreator(sql, paramSource, customizer);
+		}
+	}
+
+
+	/**
+	 * PreparedStatementCreator decorator which applies a fetch size
+	 * to the statements created by the target creator.
+	 */
+	private static class FetchSizeStatementCreator implements PreparedStatementCreator, SqlProvider, ParameterDisposer {
+
+		private final PreparedStatementCreator target;
+
+		private final int fetchSize;
+
+		FetchSizeStatementCreator(PreparedStatementCreator target, int fetchSize) {
+			this.target = target;
+			this.fetchSize = fetchSize;
+		}
+
+		@Override
+		public PreparedStatement createPreparedStatement(Connection con) throws SQLException {
+			PreparedStatement ps = this.target.createPreparedStatement(con);
+			ps.setFetchSize(this.fetchSize);
+			return ps;
+		}
+
+		@Override
+		@Nullable
+		public String getSql() {
+			return (this.target instanceof SqlProvider sqlProvider ? sqlProvider.getSql() : null);
+		}
+
+		@Override
+		public void cleanupParameters() {
+			if (this.target instanceof ParameterDisposer parameterDisposer) {
+				parameterDisposer.cleanupParameters();
+			}
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,16 @@
 
 package org.springframework.jdbc.core.simple;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import javax.sql.DataSource;
@@ -36,6 +40,7 @@ import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * A fluent {@code JdbcClient} with common JDBC query and update operations,
@@ -226,6 +231,48 @@ public interface JdbcClient {
 		 */
 		StatementSpec paramSource(SqlParameterSource namedParamSource);
 
+		/**
+		 * Set the fetch size for a query with this statement, as a hint to the
+		 * JDBC driver for the number of rows to fetch per database round trip.
+		 * <p>Overrides any fetch size configured on the underlying
+		 * {@code JdbcTemplate}. This is particularly useful in combination with
+		 * {@link MappedQuerySpec#stream()} and
+		 * {@link MappedQuerySpec#forEachBatch(int, Consumer)} for large results.
+		 * Note that some drivers, e.g. the PostgreSQL driver, only stream rows
+		 * with a fetch size within a transaction.
+		 * @param fetchSize the number of rows to fetch per round trip
+		 * @return this statement specification (for chaining)
+		 * @since 6.1.4
+		 * @see java.sql.Statement#setFetchSize
+		 * @see org.springframework.jdbc.core.JdbcTemplate#setFetchSize
+		 */
+		StatementSpec withFetchSize(int fetchSize);
+
+		/**
+		 * Set the {@link java.sql.ResultSet} type for a query with this statement.
+		 * <p>Default is {@link java.sql.ResultSet#TYPE_FORWARD_ONLY}.
+		 * @param resultSetType the result set type constant
+		 * @return this statement specification (for chaining)
+		 * @since 6.1.4
+		 * @see java.sql.ResultSet#TYPE_FORWARD_ONLY
+		 * @see java.sql.ResultSet#TYPE_SCROLL_INSENSITIVE
+		 * @see java.sql.ResultSet#TYPE_SCROLL_SENSITIVE
+		 */
+		StatementSpec withResultSetType(int resultSetType);
+
+		/**
+		 * Set the {@link java.sql.ResultSet} holdability for a query with this
+		 * statement, e.g. for keeping a cursor open across commits of a
+		 * long-running export.
+		 * <p>Default is the holdability of the JDBC Connection.
+		 * @param resultSetHoldability the result set holdability constant
+		 * @return this statement specification (for chaining)
+		 * @since 6.1.4
+		 * @see java.sql.ResultSet#HOLD_CURSORS_OVER_COMMIT
+		 * @see java.sql.ResultSet#CLOSE_CURSORS_AT_COMMIT
+		 */
+		StatementSpec withResultSetHoldability(int resultSetHoldability);
+
 		/**
 		 * Proceed towards execution of a query, with several result options
 		 * available in the returned query specification.
@@ -302,6 +349,84 @@ public interface JdbcClient {
 		 * @see java.sql.DatabaseMetaData#supportsGetGeneratedKeys()
 		 */
 		int update(KeyHolder generatedKeyHolder, String... keyColumnNames);
+
+		/**
+		 * Proceed towards execution of the provided SQL statement as a batch
+		 * update, with one set of named parameters per element of the given
+		 * batch arguments.
+		 * <p>Each element is bound like {@link #paramSource(Object)}: as a JavaBean,
+		 * record class or field holder, or as a {@code Map} of parameter values.
+		 * {@link SqlParameterSource} elements are used as given.
+		 * @param batchArgs the parameter objects, one per statement execution
+		 * @return the batch specification
+		 * @since 6.1.4
+		 * @see java.sql.PreparedStatement#executeBatch()
+		 */
+		BatchSpec batch(Iterable<?> batchArgs);
+
+		/**
+		 * Proceed towards execution of the provided SQL statement as a batch
+		 * update, with one set of named parameters per element of the given
+		 * batch arguments.
+		 * <p>The stream is consumed lazily, one chunk at a time, so that the
+		 * batch arguments do not have to be held in memory all at once.
+		 * The stream is not closed by this method.
+		 * @param batchArgs the parameter objects, one per statement execution
+		 * @return the batch specification
+		 * @since 6.1.4
+		 * @see #batch(Iterable)
+		 */
+		BatchSpec batch(Stream<?> batchArgs);
+	}
+
+
+	/**
+	 * A specification for batch update execution.
+	 * @since 6.1.4
+	 */
+	interface BatchSpec {
+
+		/**
+		 * Set the number of statement executions to send to the database in
+		 * one JDBC batch.
+		 * <p>Batch arguments are consumed one chunk at a time. Default is 1000.
+		 * @param chunkSize the maximum number of batch arguments per JDBC batch
+		 * @return this batch specification (for chaining)
+		 */
+		BatchSpec chunkSize(int chunkSize);
+
+		/**
+		 * Execute the batch update.
+		 * @return an array containing, for each chunk, an array with the number
+		 * of rows affected by each update in that chunk
+		 * @see java.sql.PreparedStatement#executeBatch()
+		 */
+		int[][] update();
+
+		/**
+		 * Execute the batch update.
+		 * <p>This method requires support for generated keys in the JDBC driver.
+		 * @param generatedKeyHolder a KeyHolder that will hold the generated keys
+		 * of all chunks, in the order of the batch arguments
+		 * (typically a {@link org.springframework.jdbc.support.GeneratedKeyHolder})
+		 * @return an array containing, for each chunk, an array with the number
+		 * of rows affected by each update in that chunk
+		 * @see java.sql.DatabaseMetaData#supportsGetGeneratedKeys()
+		 */
+		int[][] update(KeyHolder generatedKeyHolder);
+
+		/**
+		 * Execute the batch update.
+		 * <p>This method requires support for generated keys in the JDBC driver.
+		 * @param generatedKeyHolder a KeyHolder that will hold the generated keys
+		 * of all chunks, in the order of the batch arguments
+		 * (typically a {@link org.springframework.jdbc.support.GeneratedKeyHolder})
+		 * @param keyColumnNames names of the columns that will have keys generated for them
+		 * @return an array containing, for each chunk, an array with the number
+		 * of rows affected by each update in that chunk
+		 * @see java.sql.DatabaseMetaData#supportsGetGeneratedKeys()
+		 */
+		int[][] update(KeyHolder generatedKeyHolder, String... keyColumnNames);
 	}
 
 
@@ -367,6 +492,52 @@ public interface JdbcClient {
 		 */
 		Stream<T> stream();
 
+		/**
+		 * Process the result in chunks of mapped objects, retaining the
+		 * order from the original database result.
+		 * <p>Rows are lazily retrieved as with {@link #stream()}, with only
+		 * the current chunk held in memory. The underlying resources are
+		 * closed once all rows have been processed or the action has thrown
+		 * an exception.
+		 * @param batchSize the maximum number of objects per chunk
+		 * @param action the action to perform for each chunk of mapped objects
+		 * @since 6.1.4
+		 * @see StatementSpec#withFetchSize(int)
+		 */
+		default void forEachBatch(int batchSize, Consumer<List<T>> action) {
+			Assert.isTrue(batchSize > 0, "Batch size must be greater than 0");
+			try (Stream<T> stream = stream()) {
+				List<T> batch = new ArrayList<>(Math.min(batchSize, 1000));
+				for (Iterator<T> it = stream.iterator(); it.hasNext();) {
+					batch.add(it.next());
+					if (batch.size() == batchSize) {
+						action.accept(batch);
+						batch = new ArrayList<>(Math.min(batchSize, 1000));
+					}
+				}
+				if (!batch.isEmpty()) {
+					action.accept(batch);
+				}
+			}
+		}
+
+		/**
+		 * Retrieve the result as a {@link Flow.Publisher} of mapped objects,
+		 * retaining the order from the original database result.
+		 * <p>The query is executed once the first objects are requested by the
+		 * subscriber, and rows are retrieved on demand, on the thread requesting
+		 * them. The underlying resources are closed once all rows have been
+		 * emitted, in case of an error, or when the subscription gets cancelled.
+		 * <p>For Reactor, adapt the publisher via
+		 * {@code JdkFlowAdapter.flowPublisherToFlux(publisher)}.
+		 * @return the result publisher, executing the query per subscription
+		 * @since 6.1.4
+		 * @see StatementSpec#withFetchSize(int)
+		 */
+		default Flow.Publisher<T> publisher() {
+			return new StreamPublisher<>(this::stream);
+		}
+
 		/**
 		 * Retrieve the result as a pre-resolved list of mapped objects,
 		 * retaining the order from the original database result.
@@ -0,0 +1,522 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core.simple;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.sql.DataSource;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Executes a query as a set of partitions, as defined by a
+ * {@link QueryPartitioning} strategy, running the partitions concurrently
+ * on an {@link Executor} and merging their results.
+ *
+ * <p>Each partition is executed as a separate statement through the given
+ * {@link JdbcClient}, with the partition's named parameters added to the
+ * common parameters of the query. Since the partitions run on executor
+ * threads, each of them obtains its own Connection from the DataSource:
+ * they do not participate in a transaction of the calling thread, and the
+ * {@link #setConcurrencyLimit concurrency limit} should not exceed the size
+ * of the connection pool.
+ *
+ * <p>The query stops early once the {@link #setMaxRows global row limit}
+ * has been reached, once any partition has failed, or once the caller
+ * cancels the execution by closing the result stream or by interrupting
+ * the calling thread. Remaining partitions are skipped in such a case, and
+ * running partitions stop before retrieving their next row.
+ *
+ * <pre class="code">
+ * PartitionedQueryExecutor executor = new PartitionedQueryExecutor(dataSource);
+ * executor.setConcurrencyLimit(8);
+ * List&lt;Order&gt; orders = executor.queryForList(
+ *     "SELECT * FROM orders WHERE id &gt;= :partitionStart AND id &lt; :partitionEnd",
+ *     QueryPartitioning.range(minId, maxId + 1, 32), orderRowMapper);
+ * </pre>
+ *
+ * @since 6.1.4
+ * @see QueryPartitioning
+ * @see JdbcClient
+ */
+public class PartitionedQueryExecutor {
+
+	private static final Object NULL_ROW = new Object();
+
+	private static final Object END_OF_ROWS = new Object();
+
+
+	private final JdbcClient jdbcClient;
+
+	private Executor executor = new SimpleAsyncTaskExecutor("partitioned-query-");
+
+	private int concurrencyLimit = 4;
+
+	private long maxRows = -1;
+
+	private int fetchSize = -1;
+
+	private int streamBufferSize = 1000;
+
+
+	/**
+	 * Create a new PartitionedQueryExecutor for the given {@link DataSource}.
+	 * @param dataSource the DataSource to obtain connections from
+	 */
+	public PartitionedQueryExecutor(DataSource dataSource) {
+		this(JdbcClient.create(dataSource));
+	}
+
+	/**
+	 * Create a new PartitionedQueryExecutor for the given {@link JdbcClient}.
+	 * @param jdbcClient the JdbcClient to execute each partition with
+	 */
+	public PartitionedQueryExecutor(JdbcClient jdbcClient) {
+		Assert.notNull(jdbcClient, "JdbcClient must not be null");
+		this.jdbcClient = jdbcClient;
+	}
+
+
+	/**
+	 * Set the {@link Executor} to run the partitions on.
+	 * <p>Default is a {@link SimpleAsyncTaskExecutor}, starting a new thread
+	 * for each partition worker. Consider a {@code SimpleAsyncTaskExecutor}
+	 * with {@link SimpleAsyncTaskExecutor#setVirtualThreads virtual threads}
+	 * on JDK 21, or a shared thread pool executor.
+	 */
+	public void setExecutor(Executor executor) {
+		Assert.notNull(executor, "Executor must not be null");
+		this.executor = executor;
+	}
+
+	/**
+	 * Return the {@link Executor} to run the partitions on.
+	 */
+	public Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Set the maximum number of partitions to execute concurrently, i.e. the
+	 * maximum number of connections to be used at the same time.
+	 * <p>Default is 4.
+	 */
+	public void setConcurrencyLimit(int concurrencyLimit) {
+		Assert.isTrue(concurrencyLimit > 0, "Concurrency limit must be greater than 0");
+		this.concurrencyLimit = concurrencyLimit;
+	}
+
+	/**
+	 * Return the maximum number of partitions to execute concurrently.
+	 */
+	public int getConcurrencyLimit() {
+		return this.concurrencyLimit;
+	}
+
+	/**
+	 * Set the maximum number of rows to retrieve across all partitions.
+	 * <p>Default is -1, indicating no limit. Note that the rows which make it
+	 * into a limited result depend on the timing of the partitions.
+	 */
+	public void setMaxRows(long maxRows) {
+		this.maxRows = maxRows;
+	}
+
+	/**
+	 * Return the maximum number of rows to retrieve across all partitions.
+	 */
+	public long getMaxRows() {
+		return this.maxRows;
+	}
+
+	/**
+	 * Set the fetch size for the statement of each partition.
+	 * <p>Default is -1, indicating the default of the given {@link JdbcClient}.
+	 * @see JdbcClient.StatementSpec#withFetchSize
+	 */
+	public void setFetchSize(int fetchSize) {
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * Return the fetch size for the statement of each partition.
+	 */
+	public int getFetchSize() {
+		return this.fetchSize;
+	}
+
+	/**
+	 * Set the maximum number of rows to buffer for a result stream, with
+	 * partitions waiting for the consumer once the buffer is full.
+	 * <p>Default is 1000.
+	 * @see #queryForStream
+	 */
+	public void setStreamBufferSize(int streamBufferSize) {
+		Assert.isTrue(streamBufferSize > 0, "Stream buffer size must be greater than 0");
+		this.streamBufferSize = streamBufferSize;
+	}
+
+	/**
+	 * Return the maximum number of rows to buffer for a result stream.
+	 */
+	public int getStreamBufferSize() {
+		return this.streamBufferSize;
+	}
+
+
+	/**
+	 * Execute the given query for each partition and merge the results.
+	 * @param sql the SQL statement, referring to the partition parameters
+	 * @param partitioning the partitioning strategy
+	 * @param rowMapper the callback for mapping each row
+	 * @return the merged result list, in partition order
+	 * @see #queryForList(String, Map, QueryPartitioning, RowMapper)
+	 */
+	public <T> List<T> queryForList(String sql, QueryPartitioning partitioning, RowMapper<T> rowMapper) {
+		return queryForList(sql, Collections.emptyMap(), partitioning, rowMapper);
+	}
+
+	/**
+	 * Execute the given query for each partition and merge the results.
+	 * <p>Blocks until all partitions have been executed, rethrowing the
+	 * exception of the first partition that failed.
+	 * @param sql the SQL statement, referring to the partition parameters
+	 * @param params common named parameter values for all partitions
+	 * @param partitioning the partitioning strategy
+	 * @param rowMapper the callback for mapping each row
+	 * @return the merged result list, in partition order
+	 * @throws CancellationException if the calling thread got interrupted
+	 */
+	public <T> List<T> queryForList(String sql, Map<String, ?> params,
+			QueryPartitioning partitioning, RowMapper<T> rowMapper) {
+
+		List<Map<String, Object>> partitions = partitioning.getPartitions();
+		AtomicReferenceArray<List<T>> results = new AtomicReferenceArray<>(partitions.size());
+		Execution execution = new Execution(partitions.size());
+		execution.start(index -> {
+			List<T> rows = new ArrayList<>();
+			executePartition(execution, sql, params, partitions.get(index), rowMapper, rows::add);
+			results.set(index, rows);
+		}, () -> {});
+		execution.await();
+
+		List<T> result = new ArrayList<>();
+		for (int i = 0; i < results.length(); i++) {
+			List<T> rows = results.get(i);
+			if (rows != null) {
+				result.addAll(rows);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Execute the given query for each partition and expose the rows as they
+	 * arrive from the partitions.
+	 * @param sql the SQL statement, referring to the partition parameters
+	 * @param partitioning the partitioning strategy
+	 * @param rowMapper the callback for mapping each row
+	 * @return the result stream, to be closed after use
+	 * @see #queryForStream(String, Map, QueryPartitioning, RowMapper)
+	 */
+	public <T> Stream<T> queryForStream(String sql, QueryPartitioning partitioning, RowMapper<T> rowMapper) {
+		return queryForStream(sql, Collections.emptyMap(), partitioning, rowMapper);
+	}
+
+	/**
+	 * Execute the given query for each partition and expose the rows as they
+	 * arrive from the partitions, without any guaranteed order.
+	 * <p>The partitions start executing right away, buffering up to the
+	 * {@link #setStreamBufferSize stream buffer size} rows until consumed.
+	 * The exception of the first partition that failed is rethrown once the
+	 * rows retrieved before have been consumed. Closing the stream cancels
+	 * any remaining partitions.
+	 * @param sql the SQL statement, referring to the partition parameters
+	 * @param params common named parameter values for all partitions
+	 * @param partitioning the partitioning strategy
+	 * @param rowMapper the callback for mapping each row
+	 * @return the result stream, to be closed after use
+	 */
+	public <T> Stream<T> queryForStream(String sql, Map<String, ?> params,
+			QueryPartitioning partitioning, RowMapper<T> rowMapper) {
+
+		List<Map<String, Object>> partitions = partitioning.getPartitions();
+		BlockingQueue<Object> buffer = new ArrayBlockingQueue<>(this.streamBufferSize);
+		Execution execution = new Execution(partitions.size());
+		execution.start(index -> executePartition(execution, sql, params, partitions.get(index), rowMapper,
+				row -> offer(execution, buffer, (row != null ? row : NULL_ROW))),
+				() -> offer(execution, buffer, END_OF_ROWS));
+
+		Iterator<T> iterator = new BufferIterator<>(execution, buffer);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+				.onClose(() -> {
+					execution.close();
+					buffer.clear();
+				});
+	}
+
+	private <T> void executePartition(Execution execution, String sql, Map<String, ?> params,
+			Map<String, Object> partitionParams, RowMapper<T> rowMapper, Consumer<T> action) {
+
+		JdbcClient.StatementSpec spec = this.jdbcClient.sql(sql).params(params).params(partitionParams);
+		if (this.fetchSize != -1) {
+			spec.withFetchSize(this.fetchSize);
+		}
+		try (Stream<T> rows = spec.query(rowMapper).stream()) {
+			for (Iterator<T> it = rows.iterator(); !execution.isCancelled() && it.hasNext();) {
+				T row = it.next();
+				if (!execution.acquireRow()) {
+					break;
+				}
+				action.accept(row);
+			}
+		}
+	}
+
+	private static void offer(Execution execution, BlockingQueue<Object> buffer, Object element) {
+		try {
+			while (!execution.isClosed()) {
+				if (buffer.offer(element, 100, TimeUnit.MILLISECONDS)) {
+					return;
+				}
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException("Interrupted while buffering partitioned query results");
+		}
+	}
+
+
+	/**
+	 * The state of a single partitioned query execution, with a bounded
+	 * number of workers taking partitions from a shared queue.
+	 */
+	private final class Execution {
+
+		private final Queue<Integer> pendingPartitions = new ConcurrentLinkedQueue<>();
+
+		private final AtomicInteger activeWorkers = new AtomicInteger();
+
+		private final CountDownLatch completion = new CountDownLatch(1);
+
+		private final AtomicLong rowCount = new AtomicLong();
+
+		private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+		private Runnable completionCallback = () -> {};
+
+		private final long maxRows = PartitionedQueryExecutor.this.maxRows;
+
+		private volatile boolean cancelled;
+
+		private volatile boolean closed;
+
+		Execution(int partitionCount) {
+			for (int i = 0; i < partitionCount; i++) {
+				this.pendingPartitions.add(i);
+			}
+		}
+
+		void start(IntConsumer partitionTask, Runnable completionCallback) {
+			this.completionCallback = completionCallback;
+			int workers = Math.min(concurrencyLimit, this.pendingPartitions.size());
+			if (workers == 0) {
+				complete();
+				return;
+			}
+			this.activeWorkers.set(workers);
+			for (int i = 0; i < workers; i++) {
+				try {
+					executor.execute(() -> work(partitionTask));
+				}
+				catch (RuntimeException ex) {
+					fail(ex);
+					for (int j = i; j < workers; j++) {
+						workerDone();
+					}
+					return;
+				}
+			}
+		}
+
+		private void work(IntConsumer partitionTask) {
+			try {
+				Integer index;
+				while (!this.cancelled && (index = this.pendingPartitions.poll()) != null) {
+					partitionTask.accept(index);
+				}
+			}
+			catch (Throwable ex) {
+				fail(ex);
+			}
+			finally {
+				workerDone();
+			}
+		}
+
+		private void workerDone() {
+			if (this.activeWorkers.decrementAndGet() == 0) {
+				complete();
+			}
+		}
+
+		private void complete() {
+			try {
+				this.completionCallback.run();
+			}
+			finally {
+				this.completion.countDown();
+			}
+		}
+
+		boolean acquireRow() {
+			if (this.maxRows >= 0 && this.rowCount.incrementAndGet() > this.maxRows) {
+				this.cancelled = true;
+				return false;
+			}
+			return true;
+		}
+
+		void fail(Throwable ex) {
+			this.failure.compareAndSet(null, ex);
+			this.cancelled = true;
+		}
+
+		boolean isCancelled() {
+			return this.cancelled;
+		}
+
+		void close() {
+			this.closed = true;
+			this.cancelled = true;
+		}
+
+		boolean isClosed() {
+			return this.closed;
+		}
+
+		void await() {
+			try {
+				this.completion.await();
+			}
+			catch (InterruptedException ex) {
+				close();
+				Thread.currentThread().interrupt();
+				throw new CancellationException("Interrupted while waiting for partitioned query");
+			}
+			rethrowFailure();
+		}
+
+		void rethrowFailure() {
+			Throwable ex = this.failure.get();
+			if (ex instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			else if (ex instanceof Error error) {
+				throw error;
+			}
+			else if (ex != null) {
+				throw new IllegalStateException("Partitioned query failed", ex);
+			}
+		}
+	}
+
+
+	/**
+	 * Iterator over the rows buffered by the partitions of a streamed execution.
+	 */
+	private static final class BufferIterator<T> implements Iterator<T> {
+
+		private final Execution execution;
+
+		private final BlockingQueue<Object> buffer;
+
+		@Nullable
+		private Object next;
+
+		private boolean done;
+
+		BufferIterator(Execution execution, BlockingQueue<Object> buffer) {
+			this.execution = execution;
+			this.buffer = buffer;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (this.done) {
+				return false;
+			}
+			if (this.next == null) {
+				try {
+					this.next = this.buffer.take();
+				}
+				catch (InterruptedException ex) {
+					this.execution.close();
+					Thread.currentThread().interrupt();
+					throw new CancellationException("Interrupted while waiting for partitioned query results");
+				}
+			}
+			if (this.next == END_OF_ROWS) {
+				this.done = true;
+				this.next = null;
+				this.execution.rethrowFailure();
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		@Nullable
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Object row = this.next;
+			this.next = null;
+			return (row != NULL_ROW ? (T) row : null);
+		}
+	}
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core.simple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * Strategy for splitting a query into partitions, as executed by a
+ * {@link PartitionedQueryExecutor}. Each partition is represented by the
+ * named parameter values which restrict the query to that partition.
+ *
+ * <p>The common strategies are available through the {@link #range} and
+ * {@link #hashModulo} factory methods, with their parameters to be referenced
+ * in the SQL statement as follows:
+ * <pre class="code">
+ * SELECT * FROM orders WHERE id &gt;= :partitionStart AND id &lt; :partitionEnd
+ * SELECT * FROM orders WHERE MOD(customer_id, :partitionCount) = :partitionIndex
+ * </pre>
+ *
+ * @since 6.1.4
+ * @see PartitionedQueryExecutor
+ */
+@FunctionalInterface
+public interface QueryPartitioning {
+
+	/**
+	 * The name of the parameter for the inclusive lower bound of a
+	 * {@link #range} partition.
+	 */
+	String PARTITION_START = "partitionStart";
+
+	/**
+	 * The name of the parameter for the exclusive upper bound of a
+	 * {@link #range} partition.
+	 */
+	String PARTITION_END = "partitionEnd";
+
+	/**
+	 * The name of the parameter for the 0-based index of a
+	 * {@link #hashModulo} partition.
+	 */
+	String PARTITION_INDEX = "partitionIndex";
+
+	/**
+	 * The name of the parameter for the total number of
+	 * {@link #hashModulo} partitions.
+	 */
+	String PARTITION_COUNT = "partitionCount";
+
+
+	/**
+	 * Return the named parameter values for each partition, in partition order.
+	 */
+	List<Map<String, Object>> getPartitions();
+
+
+	/**
+	 * Create a partitioning which splits the given numeric key range into
+	 * contiguous sub-ranges of equal size, exposed as {@value #PARTITION_START}
+	 * (inclusive) and {@value #PARTITION_END} (exclusive) parameters.
+	 * @param start the inclusive lower bound of the key range
+	 * @param end the exclusive upper bound of the key range
+	 * @param partitionCount the maximum number of partitions (fewer partitions
+	 * are created if the key range has fewer values)
+	 */
+	static QueryPartitioning range(long start, long end, int partitionCount) {
+		Assert.isTrue(start < end, "Range start must be lower than range end");
+		Assert.isTrue(partitionCount > 0, "Partition count must be greater than 0");
+		long span = Math.subtractExact(end, start);
+		int count = (int) Math.min(partitionCount, span);
+		long size = span / count;
+		long remainder = span % count;
+		List<Map<String, Object>> partitions = new ArrayList<>(count);
+		long lower = start;
+		for (int i = 0; i < count; i++) {
+			long upper = lower + size + (i < remainder ? 1 : 0);
+			partitions.add(Map.of(PARTITION_START, lower, PARTITION_END, upper));
+			lower = upper;
+		}
+		List<Map<String, Object>> result = List.copyOf(partitions);
+		return () -> result;
+	}
+
+	/**
+	 * Create a partitioning into the given number of hash buckets, exposed as
+	 * {@value #PARTITION_INDEX} and {@value #PARTITION_COUNT} parameters for
+	 * a modulo predicate on a key or on a hash of a key.
+	 * @param partitionCount the number of partitions
+	 */
+	static QueryPartitioning hashModulo(int partitionCount) {
+		Assert.isTrue(partitionCount > 0, "Partition count must be greater than 0");
+		List<Map<String, Object>> partitions = new ArrayList<>(partitionCount);
+		for (int i = 0; i < partitionCount; i++) {
+			partitions.add(Map.of(PARTITION_INDEX, i, PARTITION_COUNT, partitionCount));
+		}
+		List<Map<String, Object>> result = List.copyOf(partitions);
+		return () -> result;
+	}
+
+}
@@ -17,6 +17,7 @@
 package org.springframework.jdbc.core.simple;
 
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
 
 import javax.sql.DataSource;
@@ -120,6 +121,12 @@ public class SimpleJdbcInsert extends AbstractJdbcInsert implements SimpleJdbcIn
 		return this;
 	}
 
+	@Override
+	public SimpleJdbcInsert withMultiRowInsertParameterLimit(int parameterLimit) {
+		setMultiRowInsertParameterLimit(parameterLimit);
+		return this;
+	}
+
 	@Override
 	public int execute(Map<String, ?> args) {
 		return doExecute(args);
@@ -161,4 +168,9 @@ public class SimpleJdbcInsert extends AbstractJdbcInsert implements SimpleJdbcIn
 		return doExecuteBatch(batch);
 	}
 
+	@Override
+	public long executeMultiRowInsert(Iterator<? extends SqlParameterSource> batch) {
+		return doExecuteMultiRowInsert(batch);
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,10 @@
 
 package org.springframework.jdbc.core.simple;
 
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
@@ -107,6 +111,22 @@ public interface SimpleJdbcInsertOperations {
 	 */
 	SimpleJdbcInsertOperations includeSynonymsForTableColumnMetaData();
 
+	/**
+	 * Specify the maximum number of parameters in a single multi-row insert
+	 * statement, overriding the limit determined from the database meta-data.
+	 * <p>The default implementation throws an {@link UnsupportedOperationException}
+	 * since the default {@link #executeMultiRowInsert(Iterator)} inserts one row
+	 * per statement and would not apply the limit.
+	 * @param parameterLimit the maximum number of parameters per statement,
+	 * or 0 to insert one row per statement in JDBC batches
+	 * @return this {@code SimpleJdbcInsert} (for method chaining)
+	 * @since 6.1.4
+	 * @see #executeMultiRowInsert(Iterator)
+	 */
+	default SimpleJdbcInsertOperations withMultiRowInsertParameterLimit(int parameterLimit) {
+		throw new UnsupportedOperationException("Multi-row inserts not supported by " + getClass().getName());
+	}
+
 	/**
 	 * Execute the insert using the values passed in.
 	 * @param args a Map containing column names and corresponding value
@@ -176,4 +196,34 @@ public interface SimpleJdbcInsertOperations {
 	 */
 	int[] executeBatch(SqlParameterSource... batch);
 
+	/**
+	 * Execute a streaming insert using the rows passed in.
+	 * <p>The iterator is consumed one chunk at a time, with each chunk inserted
+	 * through a single {@code INSERT ... VALUES (...), (...)} statement that is
+	 * sized to the parameter limit of the database. For databases without
+	 * multi-row {@code VALUES} support, each chunk is executed as a JDBC batch.
+	 * <p>Use {@link org.springframework.jdbc.core.namedparam.MapSqlParameterSource}
+	 * to insert rows given as Maps.
+	 * <p>The default implementation delegates to {@link #executeBatch(SqlParameterSource...)}
+	 * for chunks of 1000 rows.
+	 * @param batch an iterator of SqlParameterSource containing values for each row
+	 * @return the total number of rows inserted
+	 * @since 6.1.4
+	 * @see #withMultiRowInsertParameterLimit(int)
+	 */
+	default long executeMultiRowInsert(Iterator<? extends SqlParameterSource> batch) {
+		long rowCount = 0;
+		List<SqlParameterSource> chunk = new ArrayList<>();
+		while (batch.hasNext()) {
+			chunk.add(batch.next());
+			if (chunk.size() == 1000 || !batch.hasNext()) {
+				for (int count : executeBatch(chunk.toArray(new SqlParameterSource[0]))) {
+					rowCount += (count == Statement.SUCCESS_NO_INFO ? 1 : count);
+				}
+				chunk.clear();
+			}
+		}
+		return rowCount;
+	}
+
 }
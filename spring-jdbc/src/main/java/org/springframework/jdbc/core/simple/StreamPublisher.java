@@ -0,0 +1,191 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core.simple;
+
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Flow.Publisher} which emits the elements of a lazily obtained
+ * {@link Stream} on demand, pulling elements on the thread that requests them.
+ * Each subscription obtains its own Stream, which is closed on completion,
+ * on error, and on cancellation.
+ *
+ * @since 6.1.4
+ * @param <T> the element type
+ * @see JdbcClient.MappedQuerySpec#publisher()
+ */
+final class StreamPublisher<T> implements Flow.Publisher<T> {
+
+	private final Supplier<Stream<T>> streamSupplier;
+
+
+	StreamPublisher(Supplier<Stream<T>> streamSupplier) {
+		this.streamSupplier = streamSupplier;
+	}
+
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber) {
+		Assert.notNull(subscriber, "Subscriber must not be null");
+		subscriber.onSubscribe(new StreamSubscription<>(subscriber, this.streamSupplier));
+	}
+
+
+	/**
+	 * Subscription which emits elements within a serialized drain loop,
+	 * with any request or cancel signal from within {@code onNext}
+	 * being picked up by the loop on the current thread.
+	 */
+	private static final class StreamSubscription<T> implements Flow.Subscription {
+
+		private final Flow.Subscriber<? super T> subscriber;
+
+		private final Supplier<Stream<T>> streamSupplier;
+
+		private final AtomicLong demand = new AtomicLong();
+
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private volatile boolean cancelled;
+
+		@Nullable
+		private volatile IllegalArgumentException invalidRequest;
+
+		// Only accessed within the drain loop
+
+		private boolean done;
+
+		@Nullable
+		private Stream<T> stream;
+
+		@Nullable
+		private Iterator<T> iterator;
+
+		StreamSubscription(Flow.Subscriber<? super T> subscriber, Supplier<Stream<T>> streamSupplier) {
+			this.subscriber = subscriber;
+			this.streamSupplier = streamSupplier;
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				this.invalidRequest = new IllegalArgumentException(
+						"Number of requested elements must be positive: " + n);
+			}
+			else {
+				this.demand.getAndUpdate(current -> {
+					long updated = current + n;
+					return (updated < 0 ? Long.MAX_VALUE : updated);
+				});
+			}
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			this.cancelled = true;
+			drain();
+		}
+
+		private void drain() {
+			if (this.wip.getAndIncrement() != 0) {
+				return;
+			}
+			int missed = 1;
+			do {
+				if (!this.done) {
+					emit();
+				}
+				missed = this.wip.addAndGet(-missed);
+			}
+			while (missed != 0);
+		}
+
+		private void emit() {
+			try {
+				IllegalArgumentException invalidRequest = this.invalidRequest;
+				if (invalidRequest != null) {
+					complete();
+					this.subscriber.onError(invalidRequest);
+					return;
+				}
+				if (this.cancelled) {
+					complete();
+					return;
+				}
+				long requested = this.demand.get();
+				if (requested == 0) {
+					return;
+				}
+				Iterator<T> iterator = this.iterator;
+				if (iterator == null) {
+					Stream<T> stream = this.streamSupplier.get();
+					this.stream = stream;
+					iterator = stream.iterator();
+					this.iterator = iterator;
+				}
+				long emitted = 0;
+				while (emitted != requested) {
+					if (this.cancelled) {
+						complete();
+						return;
+					}
+					if (!iterator.hasNext()) {
+						complete();
+						this.subscriber.onComplete();
+						return;
+					}
+					this.subscriber.onNext(iterator.next());
+					emitted++;
+				}
+				if (!this.cancelled && !iterator.hasNext()) {
+					complete();
+					this.subscriber.onComplete();
+					return;
+				}
+				if (requested != Long.MAX_VALUE) {
+					this.demand.addAndGet(-emitted);
+				}
+			}
+			catch (Throwable ex) {
+				if (!this.done) {
+					complete();
+					this.subscriber.onError(ex);
+				}
+			}
+		}
+
+		private void complete() {
+			this.done = true;
+			Stream<T> stream = this.stream;
+			if (stream != null) {
+				this.stream = null;
+				this.iterator = null;
+				stream.close();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.datasource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * {@link LazyConnectionDataSourceProxy} variant which routes read-only transactions
+ * to a set of replica DataSources, load-balancing between them, while all other
+ * work is sent to the primary DataSource.
+ *
+ * <p>A transaction is considered read-only if the transaction manager marks the
+ * Connection as read-only (e.g. {@link DataSourceTransactionManager} for a
+ * {@code @Transactional(readOnly = true)} method) or if the Connection is requested
+ * while {@link TransactionSynchronizationManager#isCurrentTransactionReadOnly()}
+ * is set. Since the actual JDBC Connection is only fetched on first creation of
+ * a Statement, the read-only decision is made after the transaction has been
+ * fully initialized.
+ *
+ * <p>Replicas are selected according to the configured {@link LoadBalancingStrategy}.
+ * A replica which repeatedly fails to provide a Connection gets ejected for a
+ * configurable time, after which it is tried again. If no replica is able to
+ * provide a Connection, the primary DataSource is used as a fallback by default.
+ *
+ * <pre class="code">
+ * ReadWriteRoutingDataSource dataSource =
+ *     new ReadWriteRoutingDataSource(primaryDataSource, List.of(replica1, replica2));
+ * dataSource.setLoadBalancingStrategy(LoadBalancingStrategy.LEAST_IN_FLIGHT);
+ * </pre>
+ *
+ * <p>As with {@link #setReadOnlyDataSource}, replica Connections are expected to
+ * be pre-configured as read-only, and the default auto-commit and isolation level
+ * settings are expected to match those of the primary DataSource.
+ *
+ * @since 6.1.4
+ * @see #setLoadBalancingStrategy
+ * @see #setFailureThreshold
+ * @see #setEjectionTime
+ * @see #setFallbackToPrimary
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy {
+
+	private final ReplicaDataSource replicaDataSource;
+
+
+	/**
+	 * Create a new ReadWriteRoutingDataSource.
+	 * @param primaryDataSource the DataSource to use for all work except
+	 * read-only transactions
+	 * @param replicaDataSources the DataSources to use for read-only transactions
+	 */
+	public ReadWriteRoutingDataSource(DataSource primaryDataSource, List<? extends DataSource> replicaDataSources) {
+		Assert.notNull(primaryDataSource, "Primary DataSource must not be null");
+		Assert.notEmpty(replicaDataSources, "At least one replica DataSource is required");
+		this.replicaDataSource = new ReplicaDataSource(replicaDataSources);
+		setTargetDataSource(primaryDataSource);
+		setReadOnlyDataSource(this.replicaDataSource);
+		afterPropertiesSet();
+	}
+
+
+	/**
+	 * Set the strategy for selecting a replica for a read-only transaction.
+	 * <p>Default is {@link LoadBalancingStrategy#ROUND_ROBIN}.
+	 */
+	public void setLoadBalancingStrategy(LoadBalancingStrategy loadBalancingStrategy) {
+		Assert.notNull(loadBalancingStrategy, "LoadBalancingStrategy must not be null");
+		this.replicaDataSource.loadBalancingStrategy = loadBalancingStrategy;
+	}
+
+	/**
+	 * Return the strategy for selecting a replica for a read-only transaction.
+	 */
+	public LoadBalancingStrategy getLoadBalancingStrategy() {
+		return this.replicaDataSource.loadBalancingStrategy;
+	}
+
+	/**
+	 * Set the number of consecutive failures to obtain a Connection
+	 * after which a replica gets ejected. Default is 3.
+	 * @see #setEjectionTime
+	 */
+	public void setFailureThreshold(int failureThreshold) {
+		Assert.isTrue(failureThreshold > 0, "Failure threshold must be greater than 0");
+		this.replicaDataSource.failureThreshold = failureThreshold;
+	}
+
+	/**
+	 * Set the time for which an ejected replica is not considered
+	 * for new Connections. Default is 30 seconds.
+	 * @see #setFailureThreshold
+	 */
+	public void setEjectionTime(Duration ejectionTime) {
+		Assert.isTrue(!ejectionTime.isNegative(), "Ejection time must not be negative");
+		this.replicaDataSource.ejectionNanos = ejectionTime.toNanos();
+	}
+
+	/**
+	 * Specify whether to fall back to the primary DataSource in a read-only
+	 * transaction if no replica is able to provide a Connection.
+	 * Default is "true".
+	 * <p>Switch this to "false" to propagate the exception of the last replica
+	 * tried instead, or an exception indicating that all replicas are ejected.
+	 */
+	public void setFallbackToPrimary(boolean fallbackToPrimary) {
+		this.replicaDataSource.fallbackToPrimary = fallbackToPrimary;
+	}
+
+
+	/**
+	 * Return a lazy Connection handle which routes to a replica if
+	 * the current transaction has been marked as read-only.
+	 * @see TransactionSynchronizationManager#isCurrentTransactionReadOnly()
+	 */
+	@Override
+	public Connection getConnection() throws SQLException {
+		return markReadOnlyIfNecessary(super.getConnection());
+	}
+
+	/**
+	 * Return a lazy Connection handle which routes to a replica if
+	 * the current transaction has been marked as read-only.
+	 * @see TransactionSynchronizationManager#isCurrentTransactionReadOnly()
+	 */
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return markReadOnlyIfNecessary(super.getConnection(username, password));
+	}
+
+	private Connection markReadOnlyIfNecessary(Connection con) throws SQLException {
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			// Only recorded by the lazy Connection handle: selects the replica DataSource.
+			con.setReadOnly(true);
+		}
+		return con;
+	}
+
+
+	/**
+	 * Strategies for selecting a replica for a read-only transaction.
+	 */
+	public enum LoadBalancingStrategy {
+
+		/**
+		 * Select the available replicas in turn.
+		 */
+		ROUND_ROBIN,
+
+		/**
+		 * Select the available replica with the fewest Connections in use,
+		 * in turn among replicas with the same number of Connections in use.
+		 */
+		LEAST_IN_FLIGHT
+	}
+
+
+	/**
+	 * Internal DataSource which selects a replica for every Connection.
+	 */
+	private class ReplicaDataSource extends AbstractDataSource {
+
+		private final Replica[] replicas;
+
+		private final AtomicInteger counter = new AtomicInteger();
+
+		volatile LoadBalancingStrategy loadBalancingStrategy = LoadBalancingStrategy.ROUND_ROBIN;
+
+		volatile int failureThreshold = 3;
+
+		volatile long ejectionNanos = Duration.ofSeconds(30).toNanos();
+
+		volatile boolean fallbackToPrimary = true;
+
+		ReplicaDataSource(List<? extends DataSource> dataSources) {
+			this.replicas = new Replica[dataSources.size()];
+			for (int i = 0; i < this.replicas.length; i++) {
+				DataSource dataSource = dataSources.get(i);
+				Assert.notNull(dataSource, "Replica DataSource must not be null");
+				this.replicas[i] = new Replica(dataSource);
+			}
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return getConnection(null, null);
+		}
+
+		@Override
+		public Connection getConnection(@Nullable String username, @Nullable String password) throws SQLException {
+			SQLException lastException = null;
+			int start = Math.floorMod(this.counter.getAndIncrement(), this.replicas.length);
+			boolean[] tried = new boolean[this.replicas.length];
+			for (int attempt = 0; attempt < this.replicas.length; attempt++) {
+				Replica replica = selectReplica(start, tried);
+				if (replica == null) {
+					break;
+				}
+				try {
+					Connection con = (username != null ? replica.dataSource.getConnection(username, password) :
+							replica.dataSource.getConnection());
+					replica.consecutiveFailures.set(0);
+					return (this.loadBalancingStrategy == LoadBalancingStrategy.LEAST_IN_FLIGHT ?
+							replica.track(con) : con);
+				}
+				catch (SQLException ex) {
+					lastException = ex;
+					if (replica.consecutiveFailures.incrementAndGet() >= this.failureThreshold) {
+						replica.ejectedUntil = System.nanoTime() + this.ejectionNanos;
+						if (logger.isWarnEnabled()) {
+							logger.warn("Ejecting replica DataSource [" + replica.dataSource + "] after " +
+									replica.consecutiveFailures.get() + " consecutive failures", ex);
+						}
+					}
+					else if (logger.isDebugEnabled()) {
+						logger.debug("Could not obtain Connection from replica DataSource [" +
+								replica.dataSource + "]", ex);
+					}
+				}
+			}
+
+			if (this.fallbackToPrimary) {
+				logger.debug("No replica DataSource available - falling back to primary DataSource");
+				Connection con = (username != null ? obtainTargetDataSource().getConnection(username, password) :
+						obtainTargetDataSource().getConnection());
+				// The enclosing proxy suppresses setReadOnly calls for a dedicated read-only
+				// DataSource, so mark the primary Connection read-only here and reset it on close.
+				try {
+					con.setReadOnly(true);
+				}
+				catch (SQLException | RuntimeException ex) {
+					// "read-only not supported" -> ignore, it's just a hint anyway
+					logger.debug("Could not set JDBC Connection read-only", ex);
+				}
+				return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+						new Class<?>[] {ConnectionProxy.class}, new ReplicaConnectionInvocationHandler(con, null, true));
+			}
+			if (lastException != null) {
+				throw lastException;
+			}
+			throw new SQLException("No replica DataSource available: all replicas are currently ejected");
+		}
+
+		@Nullable
+		private Replica selectReplica(int start, boolean[] tried) {
+			long now = System.nanoTime();
+			boolean leastInFlight = (this.loadBalancingStrategy == LoadBalancingStrategy.LEAST_IN_FLIGHT);
+			int selected = -1;
+			for (int i = 0; i < this.replicas.length; i++) {
+				int index = (start + i) % this.replicas.length;
+				Replica replica = this.replicas[index];
+				if (tried[index] || replica.isEjected(now)) {
+					continue;
+				}
+				if (!leastInFlight) {
+					selected = index;
+					break;
+				}
+				if (selected == -1 || replica.inFlight.get() < this.replicas[selected].inFlight.get()) {
+					selected = index;
+				}
+			}
+			if (selected == -1) {
+				return null;
+			}
+			tried[selected] = true;
+			return this.replicas[selected];
+		}
+
+		@Override
+		public String toString() {
+			return "ReplicaDataSource for " + this.replicas.length + " replicas";
+		}
+	}
+
+
+	/**
+	 * State for a replica DataSource: in-flight Connections and health.
+	 */
+	private static class Replica {
+
+		final DataSource dataSource;
+
+		final AtomicInteger inFlight = new AtomicInteger();
+
+		final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+		volatile long ejectedUntil;
+
+		Replica(DataSource dataSource) {
+			this.dataSource = dataSource;
+		}
+
+		boolean isEjected(long now) {
+			long ejectedUntil = this.ejectedUntil;
+			return (ejectedUntil != 0 && now - ejectedUntil < 0);
+		}
+
+		Connection track(Connection con) {
+			this.inFlight.incrementAndGet();
+			return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+					new Class<?>[] {ConnectionProxy.class}, new ReplicaConnectionInvocationHandler(con, this.inFlight, false));
+		}
+	}
+
+
+	/**
+	 * Invocation handler for a Connection handed out by the replica DataSource:
+	 * decrements the in-flight count of a replica and/or resets the read-only
+	 * flag of a primary fallback Connection when the Connection gets closed.
+	 */
+	private static class ReplicaConnectionInvocationHandler implements InvocationHandler {
+
+		private final Connection target;
+
+		@Nullable
+		private final AtomicInteger inFlight;
+
+		private final boolean resetReadOnly;
+
+		private final AtomicBoolean closed = new AtomicBoolean();
+
+		ReplicaConnectionInvocationHandler(Connection target, @Nullable AtomicInteger inFlight, boolean resetReadOnly) {
+			this.target = target;
+			this.inFlight = inFlight;
+			this.resetReadOnly = resetReadOnly;
+		}
+
+		@Override
+		@Nullable
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+				case "equals" -> {
+					return (proxy == args[0]);
+				}
+				case "hashCode" -> {
+					return System.identityHashCode(proxy);
+				}
+				case "getTargetConnection" -> {
+					return this.target;
+				}
+				case "unwrap" -> {
+					if (((Class<?>) args[0]).isInstance(proxy)) {
+						return proxy;
+					}
+				}
+				case "isWrapperFor" -> {
+					if (((Class<?>) args[0]).isInstance(proxy)) {
+						return true;
+					}
+				}
+				case "close" -> {
+					if (this.closed.compareAndSet(false, true)) {
+						if (this.inFlight != null) {
+							this.inFlight.decrementAndGet();
+						}
+						if (this.resetReadOnly) {
+							DataSourceUtils.resetConnectionAfterTransaction(this.target, null, true);
+						}
+					}
+				}
+			}
+			try {
+				return method.invoke(this.target, args);
+			}
+			catch (InvocationTargetException ex) {
+				throw ex.getTargetException();
+			}
+		}
+	}
+
+}
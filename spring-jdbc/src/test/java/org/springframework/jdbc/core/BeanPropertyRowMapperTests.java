@@ -19,6 +19,9 @@ package org.springframework.jdbc.core;
 import java.beans.PropertyDescriptor;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.Date;
 import java.util.Set;
 
@@ -38,6 +41,10 @@ import org.springframework.jdbc.core.test.SpacePerson;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests for {@link BeanPropertyRowMapper}.
@@ -181,6 +188,35 @@ class BeanPropertyRowMapperTests extends AbstractRowMapperTests {
 		mock.verifyClosed();
 	}
 
+	@Test
+	void columnMappingDeterminedOncePerResultSet() throws Exception {
+		BeanPropertyRowMapper<Person> mapper = new BeanPropertyRowMapper<>(Person.class);
+
+		ResultSet rs = resultSet("name", "age");
+		given(rs.getString(1)).willReturn("Bubba", "Gump");
+		given(rs.getLong(2)).willReturn(22L, 23L);
+		assertThat(mapper.mapRow(rs, 0)).extracting(Person::getName, Person::getAge).containsExactly("Bubba", 22L);
+		assertThat(mapper.mapRow(rs, 1)).extracting(Person::getName, Person::getAge).containsExactly("Gump", 23L);
+		verify(rs, times(1)).getMetaData();
+
+		ResultSet otherRs = resultSet("age", "name");
+		given(otherRs.getLong(1)).willReturn(24L);
+		given(otherRs.getString(2)).willReturn("Forrest");
+		assertThat(mapper.mapRow(otherRs, 0)).extracting(Person::getName, Person::getAge).containsExactly("Forrest", 24L);
+		verify(otherRs, times(1)).getMetaData();
+	}
+
+	private static ResultSet resultSet(String... columnLabels) throws SQLException {
+		ResultSetMetaData rsmd = mock();
+		given(rsmd.getColumnCount()).willReturn(columnLabels.length);
+		for (int i = 0; i < columnLabels.length; i++) {
+			given(rsmd.getColumnLabel(i + 1)).willReturn(columnLabels[i]);
+		}
+		ResultSet rs = mock();
+		given(rs.getMetaData()).willReturn(rsmd);
+		return rs;
+	}
+
 	@ParameterizedTest
 	@CsvSource({
 		"age, age",
@@ -453,6 +453,42 @@ class NamedParameterJdbcTemplateTests {
 		verify(connection).close();
 	}
 
+	@Test
+	void testUpdateWithInClauseOfVaryingSize() throws SQLException {
+		given(preparedStatement.executeUpdate()).willReturn(1);
+		String sql = "delete from customer where id in (:ids) and type = :type";
+
+		namedParameterTemplate.update(sql, Map.of("ids", List.of(1, 2), "type", 5));
+		namedParameterTemplate.update(sql, Map.of("ids", List.of(1, 2, 3), "type", 5));
+		namedParameterTemplate.update(sql, Map.of("ids", List.of(new Object[] {1, "a"}), "type", 5));
+		namedParameterTemplate.update(sql, Map.of("ids", List.of(4, 5), "type", 6));
+
+		verify(connection, times(2)).prepareStatement("delete from customer where id in (?, ?) and type = ?");
+		verify(connection).prepareStatement("delete from customer where id in (?, ?, ?) and type = ?");
+		verify(connection).prepareStatement("delete from customer where id in ((?, ?)) and type = ?");
+		verify(preparedStatement).setObject(1, 4);
+		verify(preparedStatement).setObject(2, 5);
+		verify(preparedStatement).setObject(3, 6);
+	}
+
+	@Test
+	void testUpdateWithInClauseParameterPadding() throws SQLException {
+		given(preparedStatement.executeUpdate()).willReturn(1);
+		namedParameterTemplate.setInClauseParameterPadding(true);
+		String sql = "delete from customer where id in (:ids)";
+
+		namedParameterTemplate.update(sql, Map.of("ids", List.of(1, 2, 3)));
+		namedParameterTemplate.update(sql, Map.of("ids", new SqlParameterValue(Types.INTEGER, List.of(7, 8, 9, 10))));
+		namedParameterTemplate.update(sql, Map.of("ids", List.of(11)));
+
+		verify(connection, times(2)).prepareStatement("delete from customer where id in (?, ?, ?, ?)");
+		verify(connection).prepareStatement("delete from customer where id in (?)");
+		verify(preparedStatement).setObject(3, 3);
+		verify(preparedStatement).setObject(4, 3);
+		verify(preparedStatement).setObject(4, 10, Types.INTEGER);
+		verify(preparedStatement).setObject(1, 11);
+	}
+
 	@Test
 	void testBatchUpdateWithPlainMap() throws Exception {
 		@SuppressWarnings("unchecked")
@@ -16,6 +16,10 @@
 
 package org.springframework.jdbc.core.simple;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +32,7 @@ import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType.H2;
 
 /**
@@ -143,6 +148,53 @@ class JdbcClientIntegrationTests {
 		assertUser(expectedId, firstName, lastName);
 	}
 
+	@Test
+	void batchUpdateInChunks() {
+		List<Name> names = List.of(new Name("Jane", "Smith"), new Name("John", "Doe"), new Name("Jim", "Beam"));
+
+		int[][] rowsAffected = this.jdbcClient.sql(INSERT_WITH_NAMED_PARAMS)
+				.batch(names)
+				.chunkSize(2)
+				.update();
+
+		assertThat(rowsAffected).hasNumberOfRows(2);
+		assertThat(rowsAffected[0]).containsExactly(1, 1);
+		assertThat(rowsAffected[1]).containsExactly(1);
+		assertNumUsers(4);
+		assertUser(2, "Jane", "Smith");
+		assertUser(4, "Jim", "Beam");
+	}
+
+	@Test
+	void batchUpdateWithStreamOfMapsAndGeneratedKeys() {
+		Stream<Map<String, String>> names = Stream.of(
+				Map.of("firstName", "Jane", "lastName", "Smith"),
+				Map.of("firstName", "John", "lastName", "Doe"),
+				Map.of("firstName", "Jim", "lastName", "Beam"));
+
+		KeyHolder generatedKeyHolder = new GeneratedKeyHolder();
+
+		int[][] rowsAffected = this.jdbcClient.sql(INSERT_WITH_NAMED_PARAMS)
+				.batch(names)
+				.chunkSize(2)
+				.update(generatedKeyHolder, "id");
+
+		assertThat(rowsAffected).hasNumberOfRows(2);
+		assertThat(generatedKeyHolder.getKeyList()).extracting(keys -> keys.get("id")).containsExactly(2, 3, 4);
+		assertNumUsers(4);
+		assertUser(3, "John", "Doe");
+	}
+
+	@Test
+	void batchUpdateWithStatementParameters() {
+		assertThatIllegalStateException().isThrownBy(() ->
+				this.jdbcClient.sql(INSERT_WITH_NAMED_PARAMS)
+						.param("firstName", "Jane")
+						.batch(List.of(new Name("John", "Doe")))
+						.update());
+		assertNumUsers(1);
+	}
+
 
 	private void assertNumUsers(long count) {
 		long numUsers = this.jdbcClient.sql("select count(id) from users").query(Long.class).single();
@@ -157,4 +209,6 @@ class JdbcClientIntegrationTests {
 
 	record User(long id, String firstName, String lastName) {}
 
+	record Name(String firstName, String lastName) {}
+
 }
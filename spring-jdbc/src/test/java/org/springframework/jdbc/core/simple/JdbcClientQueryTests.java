@@ -27,17 +27,25 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Flow;
 
 import javax.sql.DataSource;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -574,6 +582,213 @@ class JdbcClientQueryTests {
 	}
 
 
+	// Statement settings and incremental result consumption
+
+	@Test
+	void queryForListWithFetchSize() throws Exception {
+		given(resultSet.next()).willReturn(true, false);
+		given(resultSet.getObject(1)).willReturn(11);
+
+		List<Object> li = client.sql("SELECT AGE FROM CUSTMR WHERE ID < ?")
+				.param(3).withFetchSize(100).query().singleColumn();
+
+		assertThat(li).containsExactly(11);
+		verify(connection).prepareStatement("SELECT AGE FROM CUSTMR WHERE ID < ?");
+		verify(preparedStatement).setFetchSize(100);
+		verify(preparedStatement).setObject(1, 3);
+		verify(resultSet).close();
+		verify(preparedStatement).close();
+		verify(connection).close();
+	}
+
+	@Test
+	void queryForListWithFetchSizeOverridingJdbcTemplate() throws Exception {
+		given(resultSet.next()).willReturn(true, false);
+		given(resultSet.getInt(1)).willReturn(11);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.setFetchSize(10);
+		jdbcTemplate.setMaxRows(20);
+
+		List<Integer> li = JdbcClient.create(jdbcTemplate).sql("SELECT AGE FROM CUSTMR WHERE ID = :id")
+				.param("id", 3).withFetchSize(100).query(Integer.class).list();
+
+		assertThat(li).containsExactly(11);
+		verify(connection).prepareStatement("SELECT AGE FROM CUSTMR WHERE ID = ?");
+		InOrder inOrder = inOrder(preparedStatement);
+		inOrder.verify(preparedStatement).setFetchSize(10);
+		inOrder.verify(preparedStatement).setFetchSize(100);
+		inOrder.verify(preparedStatement).executeQuery();
+		verify(preparedStatement).setMaxRows(20);
+		verify(preparedStatement).setObject(1, 3);
+	}
+
+	@Test
+	void queryForListWithFetchSizeAndInClauseParameterPadding() throws Exception {
+		given(resultSet.next()).willReturn(true, false);
+		given(resultSet.getInt(1)).willReturn(11);
+		NamedParameterJdbcTemplate namedParamTemplate = new NamedParameterJdbcTemplate(dataSource);
+		namedParamTemplate.setInClauseParameterPadding(true);
+
+		List<Integer> li = JdbcClient.create(namedParamTemplate).sql("SELECT AGE FROM CUSTMR WHERE ID IN (:ids)")
+				.param("ids", List.of(1, 2, 3)).withFetchSize(100).query(Integer.class).list();
+
+		assertThat(li).containsExactly(11);
+		verify(connection).prepareStatement("SELECT AGE FROM CUSTMR WHERE ID IN (?, ?, ?, ?)");
+		verify(preparedStatement).setFetchSize(100);
+		verify(preparedStatement).setObject(3, 3);
+		verify(preparedStatement).setObject(4, 3);
+	}
+
+	@Test
+	void updateWithResultSetHoldability() throws Exception {
+		given(connection.prepareStatement(anyString(), anyInt(), anyInt(), anyInt())).willReturn(preparedStatement);
+		given(preparedStatement.executeUpdate()).willReturn(1);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.setQueryTimeout(30);
+
+		int rowsAffected = JdbcClient.create(jdbcTemplate).sql("UPDATE CUSTMR SET AGE = :age")
+				.param("age", 12).withResultSetHoldability(ResultSet.HOLD_CURSORS_OVER_COMMIT).update();
+
+		assertThat(rowsAffected).isEqualTo(1);
+		verify(connection).prepareStatement("UPDATE CUSTMR SET AGE = ?",
+				ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
+		verify(preparedStatement).setQueryTimeout(30);
+		verify(preparedStatement).setObject(1, 12);
+		verify(preparedStatement).close();
+		verify(connection).close();
+	}
+
+	@Test
+	void queryForListWithResultSetTypeAndHoldability() throws Exception {
+		given(connection.prepareStatement(anyString(), anyInt(), anyInt(), anyInt())).willReturn(preparedStatement);
+		given(resultSet.next()).willReturn(true, false);
+		given(resultSet.getInt(1)).willReturn(11);
+
+		List<Integer> li = client.sql("SELECT AGE FROM CUSTMR WHERE ID = :id")
+				.param("id", 3)
+				.withResultSetType(ResultSet.TYPE_SCROLL_INSENSITIVE)
+				.withResultSetHoldability(ResultSet.HOLD_CURSORS_OVER_COMMIT)
+				.query(Integer.class).list();
+
+		assertThat(li).containsExactly(11);
+		verify(connection).prepareStatement("SELECT AGE FROM CUSTMR WHERE ID = ?",
+				ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
+		verify(preparedStatement, never()).setFetchSize(anyInt());
+		verify(preparedStatement).setObject(1, 3);
+		verify(resultSet).close();
+		verify(preparedStatement).close();
+		verify(connection).close();
+	}
+
+	@Test
+	void queryForEachBatch() throws Exception {
+		given(resultSet.next()).willReturn(true, true, true, true, true, false);
+		given(resultSet.getInt(1)).willReturn(11, 12, 13, 14, 15);
+
+		List<List<Integer>> batches = new ArrayList<>();
+		client.sql("SELECT AGE FROM CUSTMR WHERE ID < ?")
+				.param(3).withFetchSize(2)
+				.query(Integer.class).forEachBatch(2, batches::add);
+
+		assertThat(batches).containsExactly(List.of(11, 12), List.of(13, 14), List.of(15));
+		verify(preparedStatement).setFetchSize(2);
+		verify(resultSet).close();
+		verify(preparedStatement).close();
+		verify(connection).close();
+	}
+
+	@Test
+	void queryForEachBatchWithInvalidBatchSize() {
+		assertThatIllegalArgumentException().isThrownBy(() ->
+				client.sql("SELECT AGE FROM CUSTMR").query(Integer.class).forEachBatch(0, batch -> {}));
+	}
+
+	@Test
+	void queryForPublisher() throws Exception {
+		given(resultSet.next()).willReturn(true, true, true, false);
+		given(resultSet.getInt(1)).willReturn(11, 12, 13);
+
+		Flow.Publisher<Integer> publisher = client.sql("SELECT AGE FROM CUSTMR WHERE ID < ?")
+				.param(3).query(Integer.class).publisher();
+		TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+		publisher.subscribe(subscriber);
+		verify(dataSource, never()).getConnection();
+
+		subscriber.subscription.request(2);
+		assertThat(subscriber.values).containsExactly(11, 12);
+		assertThat(subscriber.completed).isFalse();
+		verify(connection, never()).close();
+
+		subscriber.subscription.request(5);
+		assertThat(subscriber.values).containsExactly(11, 12, 13);
+		assertThat(subscriber.completed).isTrue();
+		verify(resultSet).close();
+		verify(preparedStatement).close();
+		verify(connection).close();
+	}
+
+	@Test
+	void queryForPublisherWithCancel() throws Exception {
+		given(resultSet.next()).willReturn(true, true, true, false);
+		given(resultSet.getInt(1)).willReturn(11, 12, 13);
+
+		TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+		client.sql("SELECT AGE FROM CUSTMR WHERE ID < ?")
+				.param(3).query(Integer.class).publisher().subscribe(subscriber);
+		subscriber.subscription.request(1);
+		subscriber.subscription.cancel();
+
+		assertThat(subscriber.values).containsExactly(11);
+		assertThat(subscriber.completed).isFalse();
+		assertThat(subscriber.error).isNull();
+		verify(resultSet).close();
+		verify(preparedStatement).close();
+		verify(connection).close();
+	}
+
+	@Test
+	void queryForPublisherWithInvalidRequest() throws Exception {
+		TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+		client.sql("SELECT AGE FROM CUSTMR").query(Integer.class).publisher().subscribe(subscriber);
+		subscriber.subscription.request(0);
+
+		assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+		verify(dataSource, never()).getConnection();
+	}
+
+
+	static class TestSubscriber<T> implements Flow.Subscriber<T> {
+
+		Flow.Subscription subscription;
+
+		final List<T> values = new ArrayList<>();
+
+		boolean completed;
+
+		Throwable error;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(T item) {
+			this.values.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			this.error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			this.completed = true;
+		}
+	}
+
+
 	static class ParameterBean {
 
 		private final int id;
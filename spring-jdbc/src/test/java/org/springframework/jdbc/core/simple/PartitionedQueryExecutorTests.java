@@ -0,0 +1,253 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core.simple;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType.H2;
+
+/**
+ * Tests for {@link PartitionedQueryExecutor} and {@link QueryPartitioning}
+ * using an embedded H2 database.
+ */
+class PartitionedQueryExecutorTests {
+
+	private static final String RANGE_QUERY =
+			"SELECT id FROM items WHERE id >= :partitionStart AND id < :partitionEnd ORDER BY id";
+
+	private static final String HASH_QUERY =
+			"SELECT id FROM items WHERE MOD(id, :partitionCount) = :partitionIndex AND id > :minId";
+
+	private static final RowMapper<Long> ID_MAPPER = (rs, rowNum) -> rs.getLong(1);
+
+
+	private final EmbeddedDatabase embeddedDatabase =
+			new EmbeddedDatabaseBuilder().generateUniqueName(true).setType(H2).build();
+
+	private final JdbcClient jdbcClient = JdbcClient.create(this.embeddedDatabase);
+
+	private final PartitionedQueryExecutor executor = new PartitionedQueryExecutor(this.jdbcClient);
+
+
+	@BeforeEach
+	void setup() {
+		this.jdbcClient.sql("CREATE TABLE items (id BIGINT PRIMARY KEY)").update();
+		this.jdbcClient.sql("INSERT INTO items (id) SELECT x FROM SYSTEM_RANGE(0, 99)").update();
+	}
+
+	@AfterEach
+	void shutdownDatabase() {
+		this.embeddedDatabase.shutdown();
+	}
+
+
+	@Test
+	void rangePartitioning() {
+		List<Map<String, Object>> partitions = QueryPartitioning.range(0, 10, 3).getPartitions();
+		assertThat(partitions).containsExactly(
+				Map.of("partitionStart", 0L, "partitionEnd", 4L),
+				Map.of("partitionStart", 4L, "partitionEnd", 7L),
+				Map.of("partitionStart", 7L, "partitionEnd", 10L));
+		assertThat(QueryPartitioning.range(0, 2, 5).getPartitions()).hasSize(2);
+		assertThatIllegalArgumentException().isThrownBy(() -> QueryPartitioning.range(5, 5, 2));
+	}
+
+	@Test
+	void hashModuloPartitioning() {
+		assertThat(QueryPartitioning.hashModulo(2).getPartitions()).containsExactly(
+				Map.of("partitionIndex", 0, "partitionCount", 2),
+				Map.of("partitionIndex", 1, "partitionCount", 2));
+		assertThatIllegalArgumentException().isThrownBy(() -> QueryPartitioning.hashModulo(0));
+	}
+
+	@Test
+	void queryForListWithRangePartitioning() {
+		this.executor.setConcurrencyLimit(3);
+		this.executor.setFetchSize(10);
+
+		List<Long> ids = this.executor.queryForList(RANGE_QUERY, QueryPartitioning.range(0, 100, 8), ID_MAPPER);
+
+		assertThat(ids).containsExactlyElementsOf(LongStream.range(0, 100).boxed().toList());
+	}
+
+	@Test
+	void queryForListWithHashPartitioningAndCommonParameter() {
+		List<Long> ids = this.executor.queryForList(
+				HASH_QUERY, Map.of("minId", 89), QueryPartitioning.hashModulo(4), ID_MAPPER);
+
+		assertThat(ids).containsExactlyInAnyOrderElementsOf(LongStream.range(90, 100).boxed().toList());
+	}
+
+	@Test
+	void queryForListWithMaxRows() {
+		this.executor.setMaxRows(25);
+
+		List<Long> ids = this.executor.queryForList(RANGE_QUERY, QueryPartitioning.range(0, 100, 10), ID_MAPPER);
+
+		assertThat(ids).hasSize(25).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void queryForListWithFailingPartition() {
+		RowMapper<Long> rowMapper = (rs, rowNum) -> {
+			long id = rs.getLong(1);
+			if (id == 42) {
+				throw new IllegalStateException("Failed on " + id);
+			}
+			return id;
+		};
+
+		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() ->
+				this.executor.queryForList(RANGE_QUERY, QueryPartitioning.range(0, 100, 10), rowMapper))
+				.withMessage("Failed on 42");
+	}
+
+	@Test
+	void queryForListWithInvalidStatement() {
+		assertThatExceptionOfType(BadSqlGrammarException.class).isThrownBy(() ->
+				this.executor.queryForList("SELECT id FROM no_items WHERE id < :partitionEnd",
+						QueryPartitioning.range(0, 100, 4), ID_MAPPER));
+	}
+
+	@Test
+	void queryForStream() {
+		this.executor.setStreamBufferSize(5);
+
+		try (Stream<Long> ids = this.executor.queryForStream(
+				RANGE_QUERY, QueryPartitioning.range(0, 100, 10), ID_MAPPER)) {
+			assertThat(ids).containsExactlyInAnyOrderElementsOf(LongStream.range(0, 100).boxed().toList());
+		}
+	}
+
+	@Test
+	void queryForStreamWithMaxRows() {
+		this.executor.setMaxRows(10);
+
+		try (Stream<Long> ids = this.executor.queryForStream(
+				RANGE_QUERY, QueryPartitioning.range(0, 100, 10), ID_MAPPER)) {
+			assertThat(ids).hasSize(10);
+		}
+	}
+
+	@Test
+	void queryForStreamWithEarlyClose() throws Exception {
+		ConnectionCountingDataSource dataSource = new ConnectionCountingDataSource(this.embeddedDatabase);
+		AtomicInteger activeWorkers = new AtomicInteger();
+		SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("partitioned-query-test-");
+		PartitionedQueryExecutor executor = new PartitionedQueryExecutor(dataSource);
+		executor.setExecutor(task -> {
+			activeWorkers.incrementAndGet();
+			taskExecutor.execute(() -> {
+				try {
+					task.run();
+				}
+				finally {
+					activeWorkers.decrementAndGet();
+				}
+			});
+		});
+		executor.setStreamBufferSize(1);
+
+		Stream<Long> ids = executor.queryForStream(RANGE_QUERY, QueryPartitioning.range(0, 100, 10), ID_MAPPER);
+		Iterator<Long> it = ids.iterator();
+		assertThat(it.hasNext()).isTrue();
+		it.next();
+		assertThat(activeWorkers.get()).isPositive();
+		ids.close();
+
+		// All partition workers stop and release their connections
+		awaitZero(activeWorkers);
+		awaitZero(dataSource.openConnections);
+		assertThat(dataSource.obtainedConnections.get()).isLessThan(10);
+	}
+
+	@Test
+	void queryForStreamWithFailingPartition() {
+		try (Stream<Long> ids = this.executor.queryForStream("SELECT id FROM no_items WHERE id < :partitionEnd",
+				QueryPartitioning.range(0, 100, 4), ID_MAPPER)) {
+			assertThatExceptionOfType(BadSqlGrammarException.class).isThrownBy(ids::toList);
+		}
+	}
+
+	private static void awaitZero(AtomicInteger count) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (count.get() > 0 && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+		assertThat(count.get()).isZero();
+	}
+
+
+	private static class ConnectionCountingDataSource extends DelegatingDataSource {
+
+		final AtomicInteger obtainedConnections = new AtomicInteger();
+
+		final AtomicInteger openConnections = new AtomicInteger();
+
+		ConnectionCountingDataSource(DataSource targetDataSource) {
+			super(targetDataSource);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			Connection connection = super.getConnection();
+			this.obtainedConnections.incrementAndGet();
+			this.openConnections.incrementAndGet();
+			AtomicBoolean closed = new AtomicBoolean();
+			return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+					(proxy, method, args) -> {
+						if (method.getName().equals("close") && closed.compareAndSet(false, true)) {
+							this.openConnections.decrementAndGet();
+						}
+						try {
+							return method.invoke(connection, args);
+						}
+						catch (InvocationTargetException ex) {
+							throw ex.getTargetException();
+						}
+					});
+		}
+	}
+
+}
@@ -17,7 +17,9 @@
 package org.springframework.jdbc.core.simple;
 
 import java.sql.Types;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +30,8 @@ import org.springframework.core.io.ClassRelativeResourceLoader;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.jdbc.BadSqlGrammarException;
 import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
@@ -79,6 +83,42 @@ class SimpleJdbcInsertIntegrationTests {
 				insertJaneSmith(insert);
 			}
 
+			@Test
+			void multiRowInsert() {
+				SimpleJdbcInsert insert = new SimpleJdbcInsert(embeddedDatabase)
+						.withTableName("users")
+						.usingGeneratedKeyColumns("id")
+						.withMultiRowInsertParameterLimit(4);
+
+				long rowCount = insert.executeMultiRowInsert(users(5));
+
+				assertThat(rowCount).isEqualTo(5);
+				assertNumRows(6);
+				assertThat(JdbcClient.create(embeddedDatabase).sql("select last_name from users where id > 1 order by id")
+						.query(String.class).list()).containsExactly("Smith1", "Smith2", "Smith3", "Smith4", "Smith5");
+			}
+
+			@Test
+			void multiRowInsertWithoutMultiRowStatements() {
+				SimpleJdbcInsert insert = new SimpleJdbcInsert(embeddedDatabase)
+						.withTableName("users")
+						.usingGeneratedKeyColumns("id")
+						.withMultiRowInsertParameterLimit(0);
+
+				long rowCount = insert.executeMultiRowInsert(users(3));
+
+				assertThat(rowCount).isEqualTo(3);
+				assertNumRows(4);
+			}
+
+			private Iterator<SqlParameterSource> users(int count) {
+				return IntStream.rangeClosed(1, count)
+						.<SqlParameterSource>mapToObj(i -> new MapSqlParameterSource()
+								.addValue("first_name", "Jane" + i)
+								.addValue("last_name", "Smith" + i))
+						.iterator();
+			}
+
 			@Test  // gh-24013
 			void usingColumnsAndQuotedIdentifiers() {
 				// NOTE: unquoted identifiers in H2/HSQL must be converted to UPPERCASE
@@ -157,4 +157,37 @@ class TableMetaDataContextTests {
 		verify(columnsResultSet).close();
 	}
 
+	@Test
+	void testMultiRowInsertString() throws Exception {
+		final String TABLE = "customers";
+		final String USER = "me";
+
+		ResultSet metaDataResultSet = mock();
+		given(metaDataResultSet.next()).willReturn(true, false);
+		given(metaDataResultSet.getString("TABLE_SCHEM")).willReturn(USER);
+		given(metaDataResultSet.getString("TABLE_NAME")).willReturn(TABLE);
+		given(metaDataResultSet.getString("TABLE_TYPE")).willReturn("TABLE");
+
+		ResultSet columnsResultSet = mock();
+		given(columnsResultSet.next()).willReturn(true, true, true, false);
+		given(columnsResultSet.getString("COLUMN_NAME")).willReturn("id", "name", "version");
+		given(columnsResultSet.getInt("DATA_TYPE")).willReturn(Types.INTEGER, Types.VARCHAR, Types.NUMERIC);
+		given(columnsResultSet.getBoolean("NULLABLE")).willReturn(false, true, false);
+
+		given(databaseMetaData.getDatabaseProductName()).willReturn("MyDB");
+		given(databaseMetaData.getUserName()).willReturn(USER);
+		given(databaseMetaData.storesLowerCaseIdentifiers()).willReturn(true);
+		given(databaseMetaData.getTables(null, null, TABLE, null)).willReturn(metaDataResultSet);
+		given(databaseMetaData.getColumns(null, USER, TABLE, null)).willReturn(columnsResultSet);
+
+		String[] keyCols = new String[] { "id" };
+		context.setTableName(TABLE);
+		context.processMetaData(dataSource, new ArrayList<>(), keyCols);
+
+		assertThat(context.createInsertString(keyCols))
+				.isEqualTo("INSERT INTO customers (name, version) VALUES(?, ?)");
+		assertThat(context.createMultiRowInsertString(3, keyCols))
+				.isEqualTo("INSERT INTO customers (name, version) VALUES(?, ?), (?, ?), (?, ?)");
+	}
+
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import org.springframework.jdbc.datasource.ReadWriteRoutingDataSource.LoadBalancingStrategy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests for {@link ReadWriteRoutingDataSource}.
+ */
+class ReadWriteRoutingDataSourceTests {
+
+	private final DataSource primary = mock();
+
+	private final DataSource replica1 = mock();
+
+	private final DataSource replica2 = mock();
+
+	private final Connection primaryConnection = mock();
+
+	private final Connection replica1Connection = mock();
+
+	private final Connection replica2Connection = mock();
+
+	private final ReadWriteRoutingDataSource dataSource =
+			new ReadWriteRoutingDataSource(this.primary, List.of(this.replica1, this.replica2));
+
+
+	@BeforeEach
+	void setup() throws Exception {
+		given(this.primary.getConnection()).willReturn(this.primaryConnection);
+		given(this.replica1.getConnection()).willReturn(this.replica1Connection);
+		given(this.replica2.getConnection()).willReturn(this.replica2Connection);
+		given(this.primaryConnection.getAutoCommit()).willReturn(true);
+		this.dataSource.setDefaultAutoCommit(true);
+		this.dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+	}
+
+
+	@Test
+	void primaryForRegularWork() throws SQLException {
+		try (Connection con = this.dataSource.getConnection()) {
+			con.createStatement();
+		}
+		verify(this.primaryConnection).createStatement();
+		verify(this.primaryConnection).close();
+		verifyNoInteractions(this.replica1, this.replica2);
+	}
+
+	@Test
+	void replicasInTurnForReadOnlyConnections() throws SQLException {
+		for (int i = 0; i < 4; i++) {
+			try (Connection con = this.dataSource.getConnection()) {
+				con.setReadOnly(true);
+				con.createStatement();
+			}
+		}
+		verify(this.replica1, times(2)).getConnection();
+		verify(this.replica2, times(2)).getConnection();
+		verify(this.replica1Connection, never()).setReadOnly(true);
+		verifyNoInteractions(this.primary);
+	}
+
+	@Test
+	void replicaForCurrentReadOnlyTransaction() throws SQLException {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		try (Connection con = this.dataSource.getConnection()) {
+			con.createStatement();
+		}
+		finally {
+			TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		}
+		verify(this.replica1Connection).createStatement();
+		verifyNoInteractions(this.primary);
+	}
+
+	@Test
+	void replicaForReadOnlyTransactionWithDataSourceTransactionManager() throws SQLException {
+		TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(this.dataSource));
+		template.setReadOnly(true);
+		template.executeWithoutResult(status -> {
+			try {
+				DataSourceUtils.getConnection(this.dataSource).createStatement();
+			}
+			catch (SQLException ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+		verify(this.replica1Connection).createStatement();
+		verify(this.replica1Connection).commit();
+		verify(this.replica1Connection).close();
+		verify(this.primary, never()).getConnection();
+	}
+
+	@Test
+	void failingReplicaEjected() throws SQLException {
+		given(this.replica1.getConnection()).willThrow(new SQLException("down"));
+		this.dataSource.setFailureThreshold(1);
+
+		for (int i = 0; i < 3; i++) {
+			try (Connection con = this.dataSource.getConnection()) {
+				con.setReadOnly(true);
+				con.createStatement();
+			}
+		}
+		verify(this.replica1, times(1)).getConnection();
+		verify(this.replica2, times(3)).getConnection();
+		verifyNoInteractions(this.primary);
+	}
+
+	@Test
+	void fallbackToPrimaryIfNoReplicaAvailable() throws SQLException {
+		given(this.replica1.getConnection()).willThrow(new SQLException("down"));
+		given(this.replica2.getConnection()).willThrow(new SQLException("down"));
+
+		try (Connection con = this.dataSource.getConnection()) {
+			con.setReadOnly(true);
+			con.createStatement();
+		}
+		verify(this.primaryConnection).createStatement();
+
+		this.dataSource.setFallbackToPrimary(false);
+		try (Connection con = this.dataSource.getConnection()) {
+			con.setReadOnly(true);
+			assertThatExceptionOfType(SQLException.class).isThrownBy(con::createStatement).withMessage("down");
+		}
+	}
+
+	@Test
+	void fallbackToPrimaryMarksConnectionReadOnly() throws SQLException {
+		given(this.replica1.getConnection()).willThrow(new SQLException("down"));
+		given(this.replica2.getConnection()).willThrow(new SQLException("down"));
+
+		TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(this.dataSource));
+		template.setReadOnly(true);
+		template.executeWithoutResult(status -> {
+			try {
+				DataSourceUtils.getConnection(this.dataSource).createStatement();
+			}
+			catch (SQLException ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+
+		InOrder ordered = inOrder(this.primaryConnection);
+		ordered.verify(this.primaryConnection).setReadOnly(true);
+		ordered.verify(this.primaryConnection).createStatement();
+		ordered.verify(this.primaryConnection).setReadOnly(false);
+		ordered.verify(this.primaryConnection).close();
+	}
+
+	@Test
+	void leastInFlightReplica() throws SQLException {
+		this.dataSource.setLoadBalancingStrategy(LoadBalancingStrategy.LEAST_IN_FLIGHT);
+		assertThat(this.dataSource.getLoadBalancingStrategy()).isEqualTo(LoadBalancingStrategy.LEAST_IN_FLIGHT);
+
+		Connection con1 = this.dataSource.getConnection();
+		con1.setReadOnly(true);
+		con1.createStatement();
+		try (Connection con2 = this.dataSource.getConnection()) {
+			con2.setReadOnly(true);
+			con2.createStatement();
+		}
+		try (Connection con3 = this.dataSource.getConnection()) {
+			con3.setReadOnly(true);
+			con3.createStatement();
+		}
+		con1.close();
+
+		verify(this.replica1, times(1)).getConnection();
+		verify(this.replica2, times(2)).getConnection();
+		verify(this.replica1Connection).close();
+		verify(this.replica2Connection, times(2)).close();
+	}
+
+}
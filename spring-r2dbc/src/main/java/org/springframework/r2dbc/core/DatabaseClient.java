@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -298,6 +298,72 @@ public interface DatabaseClient extends ConnectionAccessor {
 		 * @return a {@link Mono} ignoring its payload (actively dropping)
 		 */
 		Mono<Void> then();
+
+		/**
+		 * Enter the batch execution stage, executing the SQL statement once for
+		 * each of the given parameter sets.
+		 * <p>Parameter sets are bound to a single {@link Statement} per
+		 * {@linkplain BatchSpec#windowSize window} through {@link Statement#add()},
+		 * sending each window to the database in a single round trip. Each
+		 * parameter set maps parameter names to values, with each value either
+		 * a scalar value or a {@link io.r2dbc.spi.Parameter}. Bindings specified
+		 * on this {@code GenericExecuteSpec} apply to all parameter sets.
+		 * <p>Parameter sets are requested from the given publisher as windows
+		 * get executed, propagating backpressure from the batch result.
+		 * For example:
+		 * <pre class="code">
+		 * Flux&lt;Map&lt;String, Object&gt;&gt; rows = …;
+		 * client.sql("INSERT INTO book (id, title) VALUES (:id, :title)")
+		 *     .batch(rows).windowSize(100).rowsUpdated();
+		 * </pre>
+		 * @param parameterSets the parameter sets to execute the statement with
+		 * @return a {@link BatchSpec} for configuring the batch execution
+		 * @since 6.1.4
+		 */
+		BatchSpec batch(Publisher<? extends Map<String, ?>> parameterSets);
+	}
+
+
+	/**
+	 * Contract for the batch execution of an SQL statement with several
+	 * parameter sets.
+	 * @since 6.1.4
+	 * @see GenericExecuteSpec#batch(Publisher)
+	 */
+	interface BatchSpec {
+
+		/**
+		 * Set the maximum number of parameter sets to bind to a single
+		 * {@link Statement} for execution in a single round trip.
+		 * <p>Defaults to 100.
+		 * @param windowSize the maximum number of parameter sets per statement
+		 */
+		BatchSpec windowSize(int windowSize);
+
+		/**
+		 * Set the maximum number of statement windows to have in flight on the
+		 * connection, sending subsequent windows to the database before the
+		 * results of previous windows have been consumed.
+		 * <p>Defaults to 1, executing one window after the other. Higher values
+		 * require a driver which supports pipelining of statements on a single
+		 * connection; update counts are emitted in parameter set order either way.
+		 * @param pipelineDepth the maximum number of windows in flight
+		 */
+		BatchSpec pipelineDepth(int pipelineDepth);
+
+		/**
+		 * Perform the batch execution and emit the number of rows updated
+		 * for each parameter set, in parameter set order.
+		 * @return a {@link Flux} emitting the number of updated rows per parameter set
+		 */
+		Flux<Long> rowsUpdated();
+
+		/**
+		 * Perform the batch execution and return a {@link Mono} that completes
+		 * without result once all parameter sets have been executed.
+		 * @return a {@link Mono} ignoring the update counts
+		 */
+		Mono<Void> then();
 	}
 
 }
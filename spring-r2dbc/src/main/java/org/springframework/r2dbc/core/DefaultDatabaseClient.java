@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -383,6 +384,13 @@ final class DefaultDatabaseClient implements DatabaseClient {
 			return fetch().rowsUpdated().then();
 		}
 
+		@Override
+		public BatchSpec batch(Publisher<? extends Map<String, ?>> parameterSets) {
+			assertNotPreparedOperation();
+			Assert.notNull(parameterSets, "Parameter sets must not be null");
+			return new DefaultBatchSpec(parameterSets, 100, 1);
+		}
+
 		private ResultFunction getResultFunction(Supplier<String> sqlSupplier) {
 			BiFunction<Connection, String, Statement> statementFunction = (connection, sql) -> {
 				if (logger.isDebugEnabled()) {
@@ -395,43 +403,87 @@ final class DefaultDatabaseClient implements DatabaseClient {
 					return statement;
 				}
 
-				if (DefaultDatabaseClient.this.namedParameterExpander != null) {
-					Map<String, Parameter> remainderByName = new LinkedHashMap<>(this.byName);
-					Map<Integer, Parameter> remainderByIndex = new LinkedHashMap<>(this.byIndex);
-
-					List<String> parameterNames = DefaultDatabaseClient.this.namedParameterExpander.getParameterNames(sql);
-					MapBindParameterSource namedBindings = retrieveParameters(
-							sql, parameterNames, remainderByName, remainderByIndex);
+				BoundSql boundSql = bind(sql, this.byIndex, this.byName);
+				Statement statement = connection.createStatement(boundSql.sql());
+				boundSql.bindings().accept(statement);
+				return statement;
+			};
 
-					PreparedOperation<String> operation = DefaultDatabaseClient.this.namedParameterExpander.expand(
-							sql, DefaultDatabaseClient.this.bindMarkersFactory, namedBindings);
+			return new ResultFunction(sqlSupplier, statementFunction, this.filterFunction,
+					DefaultDatabaseClient.this.executeFunction);
+		}
 
-					String expanded = getRequiredSql(operation);
-					if (logger.isTraceEnabled()) {
-						logger.trace("Expanded SQL [" + expanded + "]");
+		private ResultFunction getBatchResultFunction(List<? extends Map<String, ?>> parameterSets) {
+			BiFunction<Connection, String, Statement> statementFunction = (connection, sql) -> {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Executing SQL batch statement [" + sql + "] with " +
+							parameterSets.size() + " parameter sets");
+				}
+				Statement statement = null;
+				String statementSql = null;
+				for (Map<String, ?> parameterSet : parameterSets) {
+					Map<String, Parameter> byName = new LinkedHashMap<>(this.byName);
+					parameterSet.forEach((name, value) -> {
+						Assert.notNull(value, () -> String.format("Value for parameter %s must not be null. " +
+								"Use io.r2dbc.spi.Parameters.in(type) instead.", name));
+						byName.put(name, resolveParameter(value));
+					});
+					BoundSql boundSql = bind(sql, this.byIndex, byName);
+					if (statement == null) {
+						statement = connection.createStatement(boundSql.sql());
+						statementSql = boundSql.sql();
 					}
+					else if (!boundSql.sql().equals(statementSql)) {
+						throw new InvalidDataAccessApiUsageException(String.format(
+								"Batch parameter sets expand to different SQL statements: [%s] and [%s]",
+								statementSql, boundSql.sql()));
+					}
+					else {
+						statement.add();
+					}
+					boundSql.bindings().accept(statement);
+				}
+				Assert.state(statement != null, "No parameter sets in batch window");
+				return statement;
+			};
 
-					Statement statement = connection.createStatement(expanded);
-					BindTarget bindTarget = new StatementWrapper(statement);
-
-					operation.bindTo(bindTarget);
+			return new ResultFunction(this.sqlSupplier, statementFunction, this.filterFunction,
+					DefaultDatabaseClient.this.executeFunction);
+		}
 
-					bindByName(statement, remainderByName);
-					bindByIndex(statement, remainderByIndex);
+		/**
+		 * Resolve the given bindings against the given SQL statement,
+		 * expanding named parameters if enabled.
+		 */
+		private BoundSql bind(String sql, Map<Integer, Parameter> byIndex, Map<String, Parameter> byName) {
+			if (DefaultDatabaseClient.this.namedParameterExpander != null) {
+				Map<String, Parameter> remainderByName = new LinkedHashMap<>(byName);
+				Map<Integer, Parameter> remainderByIndex = new LinkedHashMap<>(byIndex);
 
-					return statement;
-				}
+				List<String> parameterNames = DefaultDatabaseClient.this.namedParameterExpander.getParameterNames(sql);
+				MapBindParameterSource namedBindings = retrieveParameters(
+						sql, parameterNames, byIndex, byName, remainderByName, remainderByIndex);
 
-				Statement statement = connection.createStatement(sql);
+				PreparedOperation<String> operation = DefaultDatabaseClient.this.namedParameterExpander.expand(
+						sql, DefaultDatabaseClient.this.bindMarkersFactory, namedBindings);
 
-				bindByIndex(statement, this.byIndex);
-				bindByName(statement, this.byName);
+				String expanded = getRequiredSql(operation);
+				if (logger.isTraceEnabled()) {
+					logger.trace("Expanded SQL [" + expanded + "]");
+				}
 
-				return statement;
-			};
+				return new BoundSql(expanded, statement -> {
+					BindTarget bindTarget = new StatementWrapper(statement);
+					operation.bindTo(bindTarget);
+					bindByName(statement, remainderByName);
+					bindByIndex(statement, remainderByIndex);
+				});
+			}
 
-			return new ResultFunction(sqlSupplier, statementFunction, this.filterFunction,
-					DefaultDatabaseClient.this.executeFunction);
+			return new BoundSql(sql, statement -> {
+				bindByIndex(statement, byIndex);
+				bindByName(statement, byName);
+			});
 		}
 
 		private <T> FetchSpec<T> execute(Supplier<String> sqlSupplier, Function<Result, Publisher<T>> resultAdapter) {
@@ -448,11 +500,13 @@ final class DefaultDatabaseClient implements DatabaseClient {
 		}
 
 		private MapBindParameterSource retrieveParameters(String sql, List<String> parameterNames,
+				Map<Integer, Parameter> byIndex, Map<String, Parameter> byName,
 				Map<String, Parameter> remainderByName, Map<Integer, Parameter> remainderByIndex) {
 
 			Map<String, Parameter> namedBindings = CollectionUtils.newLinkedHashMap(parameterNames.size());
 			for (String parameterName : parameterNames) {
-				Parameter parameter = getParameter(remainderByName, remainderByIndex, parameterNames, parameterName);
+				Parameter parameter = getParameter(
+						byIndex, byName, remainderByName, remainderByIndex, parameterNames, parameterName);
 				if (parameter == null) {
 					throw new InvalidDataAccessApiUsageException(
 							String.format("No parameter specified for [%s] in query [%s]", parameterName, sql));
@@ -463,18 +517,19 @@ final class DefaultDatabaseClient implements DatabaseClient {
 		}
 
 		@Nullable
-		private Parameter getParameter(Map<String, Parameter> remainderByName,
-				Map<Integer, Parameter> remainderByIndex, List<String> parameterNames, String parameterName) {
+		private Parameter getParameter(Map<Integer, Parameter> byIndex, Map<String, Parameter> byName,
+				Map<String, Parameter> remainderByName, Map<Integer, Parameter> remainderByIndex,
+				List<String> parameterNames, String parameterName) {
 
-			if (this.byName.containsKey(parameterName)) {
+			if (byName.containsKey(parameterName)) {
 				remainderByName.remove(parameterName);
-				return this.byName.get(parameterName);
+				return byName.get(parameterName);
 			}
 
 			int index = parameterNames.indexOf(parameterName);
-			if (this.byIndex.containsKey(index)) {
+			if (byIndex.containsKey(index)) {
 				remainderByIndex.remove(index);
-				return this.byIndex.get(index);
+				return byIndex.get(index);
 			}
 
 			return null;
@@ -499,6 +554,61 @@ final class DefaultDatabaseClient implements DatabaseClient {
 			Assert.state(StringUtils.hasText(sql), "SQL returned by supplier must not be empty");
 			return sql;
 		}
+
+
+		/**
+		 * Default {@link DatabaseClient.BatchSpec} implementation.
+		 */
+		class DefaultBatchSpec implements BatchSpec {
+
+			final Publisher<? extends Map<String, ?>> parameterSets;
+
+			final int windowSize;
+
+			final int pipelineDepth;
+
+			DefaultBatchSpec(Publisher<? extends Map<String, ?>> parameterSets, int windowSize, int pipelineDepth) {
+				this.parameterSets = parameterSets;
+				this.windowSize = windowSize;
+				this.pipelineDepth = pipelineDepth;
+			}
+
+			@Override
+			public DefaultBatchSpec windowSize(int windowSize) {
+				Assert.isTrue(windowSize > 0, "Window size must be greater than 0");
+				return new DefaultBatchSpec(this.parameterSets, windowSize, this.pipelineDepth);
+			}
+
+			@Override
+			public DefaultBatchSpec pipelineDepth(int pipelineDepth) {
+				Assert.isTrue(pipelineDepth > 0, "Pipeline depth must be greater than 0");
+				return new DefaultBatchSpec(this.parameterSets, this.windowSize, pipelineDepth);
+			}
+
+			@Override
+			public Flux<Long> rowsUpdated() {
+				ConnectionFunction<Flux<Long>> connectionFunction = new DelegateConnectionFunction<>(
+						DefaultGenericExecuteSpec.this.sqlSupplier::get,
+						connection -> Flux.from(this.parameterSets)
+								.buffer(this.windowSize)
+								.flatMapSequential(window -> getBatchResultFunction(window).apply(connection)
+										.concatMap(result -> Mono.from(result.getRowsUpdated())),
+										this.pipelineDepth, 1));
+				return inConnectionMany(connectionFunction);
+			}
+
+			@Override
+			public Mono<Void> then() {
+				return rowsUpdated().then();
+			}
+		}
+	}
+
+
+	/**
+	 * SQL statement to create along with the bindings to apply to it.
+	 */
+	private record BoundSql(String sql, Consumer<Statement> bindings) {
 	}
 
 
@@ -117,6 +117,27 @@ abstract class AbstractDatabaseClientIntegrationTests {
 				.verifyComplete();
 	}
 
+	@Test
+	void executeBatchInsert() {
+		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+
+		databaseClient.sql("INSERT INTO legoset (id, name, manual) VALUES(:id, :name, :manual)")
+				.bind("manual", Parameters.in(Integer.class))
+				.batch(Flux.range(1, 5).map(id -> Map.of("id", id, "name", "SET-" + id)))
+				.windowSize(2)
+				.rowsUpdated()
+				.as(StepVerifier::create)
+				.expectNext(1L, 1L, 1L, 1L, 1L)
+				.verifyComplete();
+
+		databaseClient.sql("SELECT COUNT(*) FROM legoset")
+				.mapValue(Long.class)
+				.first()
+				.as(StepVerifier::create)
+				.expectNext(5L)
+				.verifyComplete();
+	}
+
 	@Test
 	void executeInsertWithRecords() {
 		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
@@ -18,6 +18,7 @@ package org.springframework.r2dbc.core;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import io.r2dbc.spi.Connection;
@@ -417,6 +418,61 @@ class DefaultDatabaseClientTests {
 		inOrder.verifyNoMoreInteractions();
 	}
 
+	@Test
+	void batchShouldBindParameterSetsPerWindow() {
+		Result result = mock();
+		when(result.getRowsUpdated()).thenReturn(Mono.just(1L));
+		Statement statement = mockStatementFor("INSERT INTO table (key, value) VALUES ($1, $2)");
+		doReturn(Flux.just(result, result), Flux.just(result, result), Flux.just(result)).when(statement).execute();
+		DatabaseClient databaseClient = databaseClientBuilder.build();
+
+		databaseClient.sql("INSERT INTO table (key, value) VALUES (:key, :value)")
+				.bind("value", "common")
+				.batch(Flux.just("a", "b", "c", "d", "e").map(key -> Map.of("key", key)))
+				.windowSize(2)
+				.rowsUpdated()
+				.as(StepVerifier::create)
+				.expectNext(1L, 1L, 1L, 1L, 1L)
+				.verifyComplete();
+
+		InOrder inOrder = inOrder(statement);
+		inOrder.verify(statement).bind(0, Parameters.in("a"));
+		inOrder.verify(statement).add();
+		inOrder.verify(statement).bind(0, Parameters.in("b"));
+		inOrder.verify(statement).execute();
+		inOrder.verify(statement).bind(0, Parameters.in("c"));
+		inOrder.verify(statement).add();
+		inOrder.verify(statement).bind(0, Parameters.in("d"));
+		inOrder.verify(statement).execute();
+		inOrder.verify(statement).bind(0, Parameters.in("e"));
+		inOrder.verify(statement).execute();
+		verify(statement, times(5)).bind(1, Parameters.in("common"));
+		verify(statement, times(2)).add();
+		verify(connection, times(3)).createStatement("INSERT INTO table (key, value) VALUES ($1, $2)");
+		verify(connection).close();
+	}
+
+	@Test
+	void batchShouldApplyStatementFilterFunctions() {
+		Result result = mock();
+		when(result.getRowsUpdated()).thenReturn(Mono.just(1L));
+		Statement statement = mockStatementFor("INSERT INTO table (key) VALUES ($1)");
+		doReturn(Flux.just(result, result)).when(statement).execute();
+		when(statement.fetchSize(10)).thenReturn(statement);
+		DatabaseClient databaseClient = databaseClientBuilder.build();
+
+		databaseClient.sql("INSERT INTO table (key) VALUES (:key)")
+				.filter(s -> s.fetchSize(10))
+				.batch(Flux.just(Map.of("key", "a"), Map.of("key", "b")))
+				.then()
+				.as(StepVerifier::create)
+				.verifyComplete();
+
+		verify(statement).fetchSize(10);
+		verify(statement).add();
+		verify(statement).execute();
+	}
+
 	@Test
 	void sqlSupplierInvocationIsDeferredUntilSubscription() {
 		// We'll have either 2 or 3 rows, depending on the subscription and the generated SQL
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.transaction.support;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * Benchmarks for {@link TransactionTemplate#execute} with a no-op transaction
+ * manager, measuring the overhead of the transaction infrastructure itself:
+ * in particular, the thread-bound state in {@link TransactionSynchronizationManager}.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class TransactionTemplateBenchmark {
+
+	@Benchmark
+	public Object execute(BenchmarkState state) {
+		return state.transactionTemplate.execute(status -> status);
+	}
+
+	@Benchmark
+	public Object executeReadOnly(BenchmarkState state) {
+		return state.readOnlyTransactionTemplate.execute(status -> status);
+	}
+
+	@Benchmark
+	public Object executeWithResourceAndSynchronization(BenchmarkState state) {
+		return state.transactionTemplate.execute(status -> {
+			TransactionSynchronizationManager.bindResource(state, status);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResource(state);
+				}
+			});
+			return TransactionSynchronizationManager.getResource(state);
+		});
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		public TransactionTemplate transactionTemplate;
+
+		public TransactionTemplate readOnlyTransactionTemplate;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			NoOpTransactionManager transactionManager = new NoOpTransactionManager();
+			this.transactionTemplate = new TransactionTemplate(transactionManager);
+			this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+			this.readOnlyTransactionTemplate.setReadOnly(true);
+			this.readOnlyTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+			this.readOnlyTransactionTemplate.setName("readOnly");
+		}
+	}
+
+
+	@SuppressWarnings("serial")
+	private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+	}
+
+}
@@ -38,6 +38,7 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.BeanFactoryAnnotationUtils;
 import org.springframework.core.CoroutinesUtils;
 import org.springframework.core.KotlinDetector;
+import org.springframework.core.MethodClassKey;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.NamedThreadLocal;
 import org.springframework.core.ReactiveAdapter;
@@ -50,6 +51,7 @@ import org.springframework.transaction.ReactiveTransactionManager;
 import org.springframework.transaction.TransactionManager;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
 import org.springframework.transaction.reactive.TransactionContextManager;
 import org.springframework.transaction.support.CallbackPreferringPlatformTransactionManager;
 import org.springframework.util.Assert;
@@ -188,6 +190,9 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	private final ConcurrentMap<Method, ReactiveTransactionSupport> transactionSupportCache =
 			new ConcurrentReferenceHashMap<>(1024);
 
+	private final ConcurrentMap<MethodClassKey, InvocationPlan> invocationPlanCache =
+			new ConcurrentReferenceHashMap<>(1024);
+
 
 	protected TransactionAspectSupport() {
 		if (reactiveStreamsPresent) {
@@ -341,7 +346,17 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 
 		// If the transaction attribute is null, the method is non-transactional.
 		TransactionAttributeSource tas = getTransactionAttributeSource();
-		final TransactionAttribute txAttr = (tas != null ? tas.getTransactionAttribute(method, targetClass) : null);
+		MethodClassKey planKey = new MethodClassKey(method, targetClass);
+		InvocationPlan plan = this.invocationPlanCache.get(planKey);
+		final TransactionAttribute txAttr;
+		if (plan != null && plan.source == tas && tas != null &&
+				tas.getClass() == AnnotationTransactionAttributeSource.class) {
+			// Attribute cached by the source itself (unless overridden): no need for another lookup.
+			txAttr = plan.transactionAttribute;
+		}
+		else {
+			txAttr = (tas != null ? tas.getTransactionAttribute(method, targetClass) : null);
+		}
 		final TransactionManager tm = determineTransactionManager(txAttr);
 
 		if (this.reactiveAdapterRegistry != null && tm instanceof ReactiveTransactionManager rtm) {
@@ -372,11 +387,16 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 		}
 
 		PlatformTransactionManager ptm = asPlatformTransactionManager(tm);
-		final String joinpointIdentification = methodIdentification(method, targetClass, txAttr);
+		if (plan == null || !plan.matches(tas, txAttr, ptm)) {
+			plan = new InvocationPlan(tas, txAttr, ptm, methodIdentification(method, targetClass, txAttr));
+			this.invocationPlanCache.put(planKey, plan);
+		}
+		final String joinpointIdentification = plan.joinpointIdentification;
 
 		if (txAttr == null || !(ptm instanceof CallbackPreferringPlatformTransactionManager cpptm)) {
 			// Standard transaction demarcation with getTransaction and commit/rollback calls.
-			TransactionInfo txInfo = createTransactionIfNecessary(ptm, txAttr, joinpointIdentification);
+			TransactionInfo txInfo =
+					createTransactionIfNecessary(ptm, plan.namedTransactionAttribute, joinpointIdentification);
 
 			Object retVal;
 			try {
@@ -596,12 +616,7 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 
 		// If no name specified, apply method identification as transaction name.
 		if (txAttr != null && txAttr.getName() == null) {
-			txAttr = new DelegatingTransactionAttribute(txAttr) {
-				@Override
-				public String getName() {
-					return joinpointIdentification;
-				}
-			};
+			txAttr = new NamedTransactionAttribute(txAttr, joinpointIdentification);
 		}
 
 		TransactionStatus status = null;
@@ -838,6 +853,71 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	}
 
 
+	/**
+	 * Invocation plan per method and target class, holding the transaction attribute
+	 * and transaction manager determined for the last invocation along with derived
+	 * state: the joinpoint identification and the attribute exposing it as transaction name.
+	 * The plan is reused for as long as subsequent invocations resolve the same
+	 * attribute and transaction manager, avoiding per-invocation allocations.
+	 */
+	private static final class InvocationPlan {
+
+		@Nullable
+		final TransactionAttributeSource source;
+
+		@Nullable
+		final TransactionAttribute transactionAttribute;
+
+		@Nullable
+		final PlatformTransactionManager transactionManager;
+
+		final String joinpointIdentification;
+
+		@Nullable
+		final TransactionAttribute namedTransactionAttribute;
+
+		InvocationPlan(@Nullable TransactionAttributeSource source, @Nullable TransactionAttribute transactionAttribute,
+				@Nullable PlatformTransactionManager transactionManager, String joinpointIdentification) {
+
+			this.source = source;
+			this.transactionAttribute = transactionAttribute;
+			this.transactionManager = transactionManager;
+			this.joinpointIdentification = joinpointIdentification;
+			this.namedTransactionAttribute = (transactionAttribute != null && transactionAttribute.getName() == null ?
+					new NamedTransactionAttribute(transactionAttribute, joinpointIdentification) :
+					transactionAttribute);
+		}
+
+		boolean matches(@Nullable TransactionAttributeSource source, @Nullable TransactionAttribute transactionAttribute,
+				@Nullable PlatformTransactionManager transactionManager) {
+
+			return (this.source == source && this.transactionAttribute == transactionAttribute &&
+					this.transactionManager == transactionManager);
+		}
+	}
+
+
+	/**
+	 * Transaction attribute exposing the joinpoint identification as transaction
+	 * name, for attributes which do not specify a name themselves.
+	 */
+	@SuppressWarnings("serial")
+	private static class NamedTransactionAttribute extends DelegatingTransactionAttribute {
+
+		private final String name;
+
+		NamedTransactionAttribute(TransactionAttribute targetAttribute, String name) {
+			super(targetAttribute);
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+	}
+
+
 	/**
 	 * Internal holder class for a Throwable in a callback transaction model.
 	 */
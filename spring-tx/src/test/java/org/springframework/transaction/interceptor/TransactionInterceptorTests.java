@@ -20,10 +20,13 @@ import java.io.Serializable;
 import java.util.Properties;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.testfixture.beans.DerivedTestBean;
+import org.springframework.beans.testfixture.beans.TestBean;
 import org.springframework.core.testfixture.io.SerializationTestUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -31,9 +34,11 @@ import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.TransactionManager;
 import org.springframework.transaction.TransactionStatus;
+import org.springframework.util.ClassUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -261,6 +266,55 @@ class TransactionInterceptorTests extends AbstractTransactionAspectTests {
 		verify(beanFactory, times(1)).getBean(TransactionManager.class);
 	}
 
+	@Test
+	void invocationPlanReusedForSameAttributeAndTransactionManager() throws Throwable {
+		MapTransactionAttributeSource tas = new MapTransactionAttributeSource();
+		tas.register(getNameMethod, new DefaultTransactionAttribute());
+		TransactionStatus status = mock();
+		PlatformTransactionManager txManager = mock();
+		given(txManager.getTransaction(any())).willReturn(status);
+		PlatformTransactionManager otherTxManager = mock();
+		given(otherTxManager.getTransaction(any())).willReturn(status);
+		TransactionInterceptor ti = new TransactionInterceptor(txManager, tas);
+
+		assertThat(ti.invokeWithinTransaction(getNameMethod, TestBean.class, () -> "one")).isEqualTo("one");
+		assertThat(ti.invokeWithinTransaction(getNameMethod, TestBean.class, () -> "two")).isEqualTo("two");
+
+		ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+		verify(txManager, times(2)).getTransaction(definitions.capture());
+		verify(txManager, times(2)).commit(status);
+		assertThat(definitions.getAllValues().get(1)).isSameAs(definitions.getAllValues().get(0));
+		assertThat(definitions.getValue().getName())
+				.isEqualTo(ClassUtils.getQualifiedMethodName(getNameMethod, TestBean.class));
+
+		ti.setTransactionManager(otherTxManager);
+		ti.invokeWithinTransaction(getNameMethod, TestBean.class, () -> "three");
+		verify(otherTxManager).getTransaction(any());
+		verify(otherTxManager).commit(status);
+	}
+
+	@Test
+	void invocationPlanKeptPerTargetClass() throws Throwable {
+		MapTransactionAttributeSource tas = new MapTransactionAttributeSource();
+		tas.register(getNameMethod, new DefaultTransactionAttribute());
+		TransactionStatus status = mock();
+		PlatformTransactionManager txManager = mock();
+		given(txManager.getTransaction(any())).willReturn(status);
+		TransactionInterceptor ti = new TransactionInterceptor(txManager, tas);
+
+		ti.invokeWithinTransaction(getNameMethod, TestBean.class, () -> null);
+		ti.invokeWithinTransaction(getNameMethod, DerivedTestBean.class, () -> null);
+		ti.invokeWithinTransaction(getNameMethod, TestBean.class, () -> null);
+
+		ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+		verify(txManager, times(3)).getTransaction(definitions.capture());
+		assertThat(definitions.getAllValues()).extracting(TransactionDefinition::getName).containsExactly(
+				ClassUtils.getQualifiedMethodName(getNameMethod, TestBean.class),
+				ClassUtils.getQualifiedMethodName(getNameMethod, DerivedTestBean.class),
+				ClassUtils.getQualifiedMethodName(getNameMethod, TestBean.class));
+		assertThat(definitions.getAllValues().get(2)).isSameAs(definitions.getAllValues().get(0));
+	}
+
 
 	private TransactionInterceptor createTransactionInterceptor(BeanFactory beanFactory,
 			String transactionManagerName, PlatformTransactionManager transactionManager) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -315,6 +315,55 @@ class TransactionSupportTests {
 		assertThat(tm.rollbackOnly).as("no rollbackOnly").isFalse();
 	}
 
+	@Test
+	void transactionTemplateWithSynchronizationStateClearedAfterCompletion() {
+		TestTransactionManager tm = new TestTransactionManager(false, true);
+		tm.setTransactionSynchronization(SYNCHRONIZATION_ON_ACTUAL_TRANSACTION);
+		TransactionTemplate template = new TransactionTemplate(tm);
+		template.setName("tx1");
+		template.setReadOnly(true);
+		template.setIsolationLevel(ISOLATION_SERIALIZABLE);
+		Set<Integer> completions = new HashSet<>();
+		template.executeWithoutResult(status -> {
+			assertThat(TransactionSynchronizationManager.getCurrentTransactionName()).isEqualTo("tx1");
+			assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isTrue();
+			assertThat(TransactionSynchronizationManager.getCurrentTransactionIsolationLevel())
+					.isEqualTo(ISOLATION_SERIALIZABLE);
+			assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isTrue();
+			TransactionSynchronizationManager.bindResource("key", "value");
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					completions.add(status);
+					TransactionSynchronizationManager.unbindResource("key");
+				}
+			});
+		});
+		assertThat(completions).containsExactly(TransactionSynchronization.STATUS_COMMITTED);
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionName()).isNull();
+		assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isFalse();
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionIsolationLevel()).isNull();
+		assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+		assertThat(currentTransactionState()).isNull();
+
+		template = new TransactionTemplate(tm);
+		template.executeWithoutResult(status -> {
+			assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+			assertThat(TransactionSynchronizationManager.getResource("key")).isNull();
+			assertThat(TransactionSynchronizationManager.getCurrentTransactionName()).isNull();
+			assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isFalse();
+		});
+		assertThat(completions).hasSize(1);
+		assertThat(currentTransactionState()).isNull();
+	}
+
+	private static Object currentTransactionState() {
+		Field field = ReflectionUtils.findField(TransactionSynchronizationManager.class, "transactionState");
+		assertThat(field).isNotNull();
+		ReflectionUtils.makeAccessible(field);
+		return ((ThreadLocal<?>) ReflectionUtils.getField(field, null)).get();
+	}
+
 	@Test
 	void transactionTemplateEquality() {
 		TestTransactionManager tm1 = new TestTransactionManager(false, true);
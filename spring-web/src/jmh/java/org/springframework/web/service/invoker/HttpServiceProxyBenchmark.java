@@ -0,0 +1,124 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.service.invoker;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PostExchange;
+
+/**
+ * Benchmarks for the overhead of invoking an HTTP service proxy method,
+ * measured against an {@link HttpExchangeAdapter} that performs no requests.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class HttpServiceProxyBenchmark {
+
+	@Benchmark
+	public String noArguments(BenchmarkData data) {
+		return data.service.getGreeting();
+	}
+
+	@Benchmark
+	public String namedArguments(BenchmarkData data) {
+		return data.service.getGreeting("42", "en", "trace-id");
+	}
+
+	@Benchmark
+	public void bodyArgument(BenchmarkData data) {
+		data.service.postGreeting("42", "Hello World");
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		public GreetingService service;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.service = HttpServiceProxyFactory.builderFor(new NoOpExchangeAdapter()).build()
+					.createClient(GreetingService.class);
+		}
+	}
+
+
+	@HttpExchange(url = "/greetings", accept = "application/json")
+	public interface GreetingService {
+
+		@GetExchange
+		String getGreeting();
+
+		@GetExchange("/{id}")
+		String getGreeting(
+				@PathVariable String id, @RequestParam String lang, @RequestHeader("X-Trace") String trace);
+
+		@PostExchange(url = "/{id}", contentType = "text/plain")
+		void postGreeting(@PathVariable String id, @RequestBody String greeting);
+	}
+
+
+	private static class NoOpExchangeAdapter implements HttpExchangeAdapter {
+
+		@Override
+		public boolean supportsRequestAttributes() {
+			return true;
+		}
+
+		@Override
+		public void exchange(HttpRequestValues requestValues) {
+		}
+
+		@Override
+		public HttpHeaders exchangeForHeaders(HttpRequestValues requestValues) {
+			return HttpHeaders.EMPTY;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T exchangeForBody(HttpRequestValues requestValues, ParameterizedTypeReference<T> bodyType) {
+			return (T) requestValues.getUriTemplate();
+		}
+
+		@Override
+		public ResponseEntity<Void> exchangeForBodilessEntity(HttpRequestValues requestValues) {
+			return ResponseEntity.ok().build();
+		}
+
+		@Override
+		public <T> ResponseEntity<T> exchangeForEntity(
+				HttpRequestValues requestValues, ParameterizedTypeReference<T> bodyType) {
+
+			return ResponseEntity.ok().build();
+		}
+	}
+
+}
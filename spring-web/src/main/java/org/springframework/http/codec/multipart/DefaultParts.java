@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,11 @@
 
 package org.springframework.http.codec.multipart;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.concurrent.Callable;
 
@@ -70,6 +72,23 @@ abstract class DefaultParts {
 		return partInternal(headers, new FluxContent(dataBuffers));
 	}
 
+	/**
+	 * Create a new {@link Part} or {@link FilePart} based on the given in-memory
+	 * content. Returns {@link FilePart} if the {@code Content-Disposition} of
+	 * the given headers contains a filename, or a "normal" {@link Part} otherwise.
+	 * @param headers the part headers
+	 * @param content the content of the part
+	 * @param scheduler the scheduler used for writing the content to a file
+	 * @return {@link Part} or {@link FilePart}, depending on {@link HttpHeaders#getContentDisposition()}
+	 */
+	public static Part part(HttpHeaders headers, byte[] content, Scheduler scheduler) {
+		Assert.notNull(headers, "Headers must not be null");
+		Assert.notNull(content, "Content must not be null");
+		Assert.notNull(scheduler, "Scheduler must not be null");
+
+		return partInternal(headers, new ByteArrayContent(content, scheduler));
+	}
+
 	/**
 	 * Create a new {@link Part} or {@link FilePart} based on the given file.
 	 * Returns {@link FilePart} if the {@code Content-Disposition} of the given
@@ -275,6 +294,46 @@ abstract class DefaultParts {
 	}
 
 
+	/**
+	 * {@code Content} implementation based on a byte array held in memory.
+	 */
+	private static final class ByteArrayContent implements Content {
+
+		private final byte[] content;
+
+		private final Scheduler scheduler;
+
+		public ByteArrayContent(byte[] content, Scheduler scheduler) {
+			this.content = content;
+			this.scheduler = scheduler;
+		}
+
+		@Override
+		public Flux<DataBuffer> content() {
+			return Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(this.content)));
+		}
+
+		@Override
+		public Mono<Void> transferTo(Path dest) {
+			return blockingOperation(() -> {
+				try (FileChannel destChannel = FileChannel.open(dest, StandardOpenOption.WRITE,
+						StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+					ByteBuffer buffer = ByteBuffer.wrap(this.content);
+					while (buffer.hasRemaining()) {
+						destChannel.write(buffer);
+					}
+				}
+				return null;
+			}, this.scheduler);
+		}
+
+		@Override
+		public Mono<Void> delete() {
+			return Mono.empty();
+		}
+	}
+
+
 	/**
 	 * {@code Content} implementation based on a file.
 	 */
@@ -299,7 +358,48 @@ abstract class DefaultParts {
 
 		@Override
 		public Mono<Void> transferTo(Path dest) {
-			return blockingOperation(() -> Files.copy(this.file, dest, StandardCopyOption.REPLACE_EXISTING));
+			return blockingOperation(() -> {
+				try (FileChannel sourceChannel = FileChannel.open(this.file, StandardOpenOption.READ);
+						FileChannel destChannel = FileChannel.open(dest, StandardOpenOption.WRITE,
+								StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+					transfer(sourceChannel, destChannel);
+				}
+				return null;
+			}, this.scheduler);
+		}
+
+		/**
+		 * Copy all contents of the given source channel to the destination,
+		 * letting the operating system perform the transfer where possible.
+		 */
+		private static void transfer(FileChannel source, FileChannel dest) throws IOException {
+			long size = source.size();
+			long position = 0;
+			while (position < size) {
+				long count = source.transferTo(position, size - position, dest);
+				if (count <= 0) {
+					// No progress through the operating system: copy the remainder ourselves
+					copy(source, dest, position, size);
+					return;
+				}
+				position += count;
+			}
+		}
+
+		private static void copy(FileChannel source, FileChannel dest, long position, long size) throws IOException {
+			ByteBuffer buffer = ByteBuffer.allocate(8192);
+			while (position < size) {
+				buffer.clear();
+				int read = source.read(buffer, position);
+				if (read < 0) {
+					throw new IOException("Unexpected end of file after " + position + " of " + size + " bytes");
+				}
+				buffer.flip();
+				while (buffer.hasRemaining()) {
+					dest.write(buffer);
+				}
+				position += read;
+			}
 		}
 
 		@Override
@@ -307,21 +407,22 @@ abstract class DefaultParts {
 			return blockingOperation(() -> {
 				Files.delete(this.file);
 				return null;
-			});
+			}, this.scheduler);
 		}
+	}
 
-		private Mono<Void> blockingOperation(Callable<?> callable) {
-			return Mono.<Void>create(sink -> {
-						try {
-							callable.call();
-							sink.success();
-						}
-						catch (Exception ex) {
-							sink.error(ex);
-						}
-					})
-					.subscribeOn(this.scheduler);
-		}
+
+	private static Mono<Void> blockingOperation(Callable<?> callable, Scheduler scheduler) {
+		return Mono.<Void>create(sink -> {
+					try {
+						callable.call();
+						sink.success();
+					}
+					catch (Exception ex) {
+						sink.error(ex);
+					}
+				})
+				.subscribeOn(scheduler);
 	}
 
 }
@@ -28,6 +28,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -113,6 +117,11 @@ final class DefaultRestClient implements RestClient {
 	@Nullable
 	private final ClientRequestObservationConvention observationConvention;
 
+	private final Executor asyncExecutor;
+
+	@Nullable
+	private final Semaphore concurrencyLimit;
+
 
 	DefaultRestClient(ClientHttpRequestFactory clientRequestFactory,
 			@Nullable List<ClientHttpRequestInterceptor> interceptors,
@@ -124,6 +133,7 @@ final class DefaultRestClient implements RestClient {
 			List<HttpMessageConverter<?>> messageConverters,
 			ObservationRegistry observationRegistry,
 			@Nullable ClientRequestObservationConvention observationConvention,
+			Executor asyncExecutor, int maxConcurrentRequests,
 			DefaultRestClientBuilder builder) {
 
 		this.clientRequestFactory = clientRequestFactory;
@@ -136,6 +146,8 @@ final class DefaultRestClient implements RestClient {
 		this.messageConverters = messageConverters;
 		this.observationRegistry = observationRegistry;
 		this.observationConvention = observationConvention;
+		this.asyncExecutor = asyncExecutor;
+		this.concurrencyLimit = (maxConcurrentRequests > 0 ? new Semaphore(maxConcurrentRequests) : null);
 		this.builder = builder;
 	}
 
@@ -189,6 +201,11 @@ final class DefaultRestClient implements RestClient {
 		return new DefaultRestClientBuilder(this.builder);
 	}
 
+	private void releasePermit() {
+		Assert.state(this.concurrencyLimit != null, "No concurrency limit");
+		this.concurrencyLimit.release();
+	}
+
 	@Nullable
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private <T> T readWithMessageConverters(ClientHttpResponse clientResponse, Runnable callback, Type bodyType,
@@ -449,17 +466,26 @@ final class DefaultRestClient implements RestClient {
 			return exchangeInternal(exchangeFunction, close);
 		}
 
+		@Override
+		public <T> CompletableFuture<T> exchangeAsync(ExchangeFunction<T> exchangeFunction) {
+			Assert.notNull(exchangeFunction, "ExchangeFunction must not be null");
+			return CompletableFuture.supplyAsync(() -> exchangeInternal(exchangeFunction, true),
+					DefaultRestClient.this.asyncExecutor);
+		}
+
 		private <T> T exchangeInternal(ExchangeFunction<T> exchangeFunction, boolean close) {
 			Assert.notNull(exchangeFunction, "ExchangeFunction must not be null");
 
 			ClientHttpResponse clientResponse = null;
 			Observation observation = null;
 			URI uri = null;
+			boolean permitAcquired = false;
 			try {
 				if (DefaultRestClient.this.defaultRequest != null) {
 					DefaultRestClient.this.defaultRequest.accept(this);
 				}
 				uri = initUri();
+				permitAcquired = acquirePermit();
 				HttpHeaders headers = initHeaders();
 				ClientHttpRequest clientRequest = createRequest(uri);
 				clientRequest.getHeaders().addAll(headers);
@@ -474,6 +500,11 @@ final class DefaultRestClient implements RestClient {
 					this.httpRequestConsumer.accept(clientRequest);
 				}
 				clientResponse = clientRequest.execute();
+				if (permitAcquired && !close) {
+					// the caller closes the response: release the permit at that point
+					clientResponse = new PermitReleasingClientHttpResponse(clientResponse);
+					permitAcquired = false;
+				}
 				observationContext.setResponse(clientResponse);
 				ConvertibleClientHttpResponse convertibleWrapper = new DefaultConvertibleClientHttpResponse(clientResponse);
 				return exchangeFunction.exchange(clientRequest, convertibleWrapper);
@@ -495,12 +526,30 @@ final class DefaultRestClient implements RestClient {
 				if (close && clientResponse != null) {
 					clientResponse.close();
 				}
+				if (permitAcquired) {
+					releasePermit();
+				}
 				if (observation != null) {
 					observation.stop();
 				}
 			}
 		}
 
+		private boolean acquirePermit() {
+			Semaphore concurrencyLimit = DefaultRestClient.this.concurrencyLimit;
+			if (concurrencyLimit == null) {
+				return false;
+			}
+			try {
+				concurrencyLimit.acquire();
+				return true;
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new RestClientException("Interrupted while waiting for a concurrent request permit", ex);
+			}
+		}
+
 		private URI initUri() {
 			return (this.uri != null ? this.uri : DefaultRestClient.this.uriBuilderFactory.expand(""));
 		}
@@ -741,4 +790,29 @@ final class DefaultRestClient implements RestClient {
 	}
 
 
+	/**
+	 * {@link ClientHttpResponse} that releases the concurrent request permit
+	 * of the exchange once closed.
+	 */
+	private class PermitReleasingClientHttpResponse extends ClientHttpResponseDecorator {
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		PermitReleasingClientHttpResponse(ClientHttpResponse delegate) {
+			super(delegate);
+		}
+
+		@Override
+		public void close() {
+			try {
+				super.close();
+			}
+			finally {
+				if (this.released.compareAndSet(false, true)) {
+					releasePermit();
+				}
+			}
+		}
+	}
+
 }
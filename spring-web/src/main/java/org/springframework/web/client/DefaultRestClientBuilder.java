@@ -21,11 +21,13 @@ import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import io.micrometer.observation.ObservationRegistry;
 
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.client.ClientHttpRequestFactory;
@@ -138,6 +140,11 @@ final class DefaultRestClientBuilder implements RestClient.Builder {
 	@Nullable
 	private ClientRequestObservationConvention observationConvention;
 
+	@Nullable
+	private Executor asyncExecutor;
+
+	private int maxConcurrentRequests = -1;
+
 
 	public DefaultRestClientBuilder() {
 	}
@@ -168,6 +175,8 @@ final class DefaultRestClientBuilder implements RestClient.Builder {
 		this.initializers = (other.initializers != null) ? new ArrayList<>(other.initializers) : null;
 		this.observationRegistry = other.observationRegistry;
 		this.observationConvention = other.observationConvention;
+		this.asyncExecutor = other.asyncExecutor;
+		this.maxConcurrentRequests = other.maxConcurrentRequests;
 	}
 
 	public DefaultRestClientBuilder(RestTemplate restTemplate) {
@@ -362,6 +371,21 @@ final class DefaultRestClientBuilder implements RestClient.Builder {
 		return this;
 	}
 
+	@Override
+	public RestClient.Builder asyncExecutor(Executor asyncExecutor) {
+		Assert.notNull(asyncExecutor, "AsyncExecutor must not be null");
+		this.asyncExecutor = asyncExecutor;
+		return this;
+	}
+
+	@Override
+	public RestClient.Builder maxConcurrentRequests(int maxConcurrentRequests) {
+		Assert.isTrue(maxConcurrentRequests == -1 || maxConcurrentRequests > 0,
+				"MaxConcurrentRequests must be -1 or greater than 0");
+		this.maxConcurrentRequests = maxConcurrentRequests;
+		return this;
+	}
+
 	@Override
 	public RestClient.Builder apply(Consumer<RestClient.Builder> builderConsumer) {
 		builderConsumer.accept(this);
@@ -419,10 +443,26 @@ final class DefaultRestClientBuilder implements RestClient.Builder {
 				messageConverters,
 				this.observationRegistry,
 				this.observationConvention,
+				initAsyncExecutor(),
+				this.maxConcurrentRequests,
 				new DefaultRestClientBuilder(this)
 				);
 	}
 
+	private Executor initAsyncExecutor() {
+		if (this.asyncExecutor != null) {
+			return this.asyncExecutor;
+		}
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("rest-client-");
+		try {
+			executor.setVirtualThreads(true);
+		}
+		catch (UnsupportedOperationException ex) {
+			// JDK < 21: fall back to platform threads
+		}
+		return executor;
+	}
+
 	private ClientHttpRequestFactory initRequestFactory() {
 		if (this.requestFactory != null) {
 			return this.requestFactory;
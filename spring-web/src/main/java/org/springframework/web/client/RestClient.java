@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,8 @@ import java.nio.charset.Charset;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -385,6 +387,33 @@ public interface RestClient {
 		 */
 		Builder observationConvention(ClientRequestObservationConvention observationConvention);
 
+		/**
+		 * Configure the {@link Executor} to run
+		 * {@linkplain RequestHeadersSpec#exchangeAsync(RequestHeadersSpec.ExchangeFunction)
+		 * asynchronous exchanges} on.
+		 * <p>By default, a new virtual thread is started for each exchange on
+		 * JDK 21 or higher, and a new platform thread on earlier JDKs.
+		 * @param asyncExecutor the executor to use
+		 * @return this builder
+		 * @since 6.1.4
+		 * @see org.springframework.core.task.SimpleAsyncTaskExecutor#setVirtualThreads
+		 */
+		Builder asyncExecutor(Executor asyncExecutor);
+
+		/**
+		 * Limit the number of exchanges that this client performs concurrently.
+		 * Once the limit is reached, further exchanges wait until a previous
+		 * response has been closed. This allows for a large number of
+		 * exchanges to be started, for instance on virtual threads, without
+		 * overloading the downstream service or the connection pool of the
+		 * underlying HTTP client.
+		 * <p>By default this is set to -1, meaning that there is no limit.
+		 * @param maxConcurrentRequests the maximum number of concurrent exchanges
+		 * @return this builder
+		 * @since 6.1.4
+		 */
+		Builder maxConcurrentRequests(int maxConcurrentRequests);
+
 		/**
 		 * Apply the given {@code Consumer} to this builder instance.
 		 * <p>This can be useful for applying pre-packaged customizations.
@@ -590,6 +619,28 @@ public interface RestClient {
 		 */
 		<T> T exchange(ExchangeFunction<T> exchangeFunction, boolean close);
 
+		/**
+		 * Variant of {@link #exchange(ExchangeFunction)} that performs the
+		 * exchange on the {@linkplain Builder#asyncExecutor(Executor) async
+		 * executor} of this client, for example to issue many requests
+		 * concurrently and combine their results:
+		 * <pre class="code">
+		 * CompletableFuture&lt;Person&gt; person = client.get()
+		 *     .uri("/people/1")
+		 *     .accept(MediaType.APPLICATION_JSON)
+		 *     .exchangeAsync((request, response) -&gt; response.bodyTo(Person.class));
+		 * </pre>
+		 * <p><strong>Note:</strong> The response is
+		 * {@linkplain ClientHttpResponse#close() closed} after the exchange
+		 * function has been invoked.
+		 * @param exchangeFunction the function to handle the response with
+		 * @param <T> the type the response will be transformed to
+		 * @return a future completed with the value returned from the exchange
+		 * function, or completed exceptionally if the exchange failed
+		 * @since 6.1.4
+		 */
+		<T> CompletableFuture<T> exchangeAsync(ExchangeFunction<T> exchangeFunction);
+
 
 		/**
 		 * Defines the contract for {@link #exchange(ExchangeFunction)}.
@@ -0,0 +1,585 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.multipart.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpInputMessage;
+import org.springframework.http.codec.multipart.FormPartEvent;
+import org.springframework.http.codec.multipart.PartEvent;
+import org.springframework.http.codec.multipart.PartEventHttpMessageReader;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.FastByteArrayOutputStream;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.multipart.MultipartResolver;
+
+/**
+ * {@link MultipartResolver} implementation that parses multipart requests
+ * with Spring's own multipart parser, the same parsing engine that backs
+ * {@link PartEventHttpMessageReader} in WebFlux, rather than relying on the
+ * Servlet container's multipart support.
+ *
+ * <p>The request body is read from the Servlet input stream on the calling
+ * thread and parsed into a sequence of {@link PartEvent PartEvents}. Contents
+ * of file parts are kept in memory up to {@link #setMaxInMemorySize(int)
+ * maxInMemorySize}; larger files are written once to a temporary file in the
+ * {@linkplain #setFileStorageDirectory(Path) file storage directory}, from
+ * where {@link MultipartFile#transferTo(Path)} moves them into place without
+ * another copy. Applications that need to stream very large parts straight
+ * to their target can use {@link #resolvePartEvents(HttpServletRequest)}
+ * instead, which exposes the parsed events without any buffering.
+ *
+ * <p>Since no container multipart configuration is involved, the affected
+ * servlet must <em>not</em> be registered with a "multipart-config" section;
+ * otherwise the container may consume the request body first.
+ *
+ * <p>This resolver requires Project Reactor on the classpath.
+ *
+ * @since 6.1.4
+ * @see PartEventHttpMessageReader
+ * @see StandardServletMultipartResolver
+ */
+public class StreamingServletMultipartResolver implements MultipartResolver {
+
+	private static final Log logger = LogFactory.getLog(StreamingServletMultipartResolver.class);
+
+	private int maxInMemorySize = 256 * 1024;
+
+	private int maxHeadersSize = 10 * 1024;
+
+	private long maxPartSize = -1;
+
+	private int maxParts = -1;
+
+	@Nullable
+	private Path fileStorageDirectory;
+
+	private Charset headersCharset = StandardCharsets.UTF_8;
+
+	private int bufferSize = StreamUtils.BUFFER_SIZE;
+
+	private boolean strictServletCompliance = false;
+
+
+	/**
+	 * Configure the maximum amount of memory allowed per part.
+	 * When the limit is exceeded, file parts are written to a temporary file,
+	 * while other parts are rejected with a {@link MaxUploadSizeExceededException}.
+	 * <p>By default this is set to 256K.
+	 */
+	public void setMaxInMemorySize(int maxInMemorySize) {
+		this.maxInMemorySize = maxInMemorySize;
+	}
+
+	/**
+	 * Configure the maximum amount of memory that is allowed per headers
+	 * section of each part. When the limit is exceeded, the request is rejected
+	 * with a {@link MultipartException}.
+	 * <p>By default this is set to 10K.
+	 */
+	public void setMaxHeadersSize(int maxHeadersSize) {
+		this.maxHeadersSize = maxHeadersSize;
+	}
+
+	/**
+	 * Configure the maximum size allowed for any part, including parts stored
+	 * on disk. When the limit is exceeded, the request is rejected with a
+	 * {@link MaxUploadSizeExceededException}.
+	 * <p>By default this is set to -1, meaning that there is no maximum.
+	 */
+	public void setMaxPartSize(long maxPartSize) {
+		this.maxPartSize = maxPartSize;
+	}
+
+	/**
+	 * Specify the maximum number of parts allowed in a given multipart request.
+	 * <p>By default this is set to -1, meaning that there is no maximum.
+	 */
+	public void setMaxParts(int maxParts) {
+		this.maxParts = maxParts;
+	}
+
+	/**
+	 * Set the directory used to store parts larger than
+	 * {@link #setMaxInMemorySize(int) maxInMemorySize}.
+	 * <p>By default, temporary files are created in the system temporary directory.
+	 * @throws IOException if the directory does not exist and cannot be created
+	 */
+	public void setFileStorageDirectory(Path fileStorageDirectory) throws IOException {
+		Assert.notNull(fileStorageDirectory, "FileStorageDirectory must not be null");
+		Files.createDirectories(fileStorageDirectory);
+		this.fileStorageDirectory = fileStorageDirectory;
+	}
+
+	/**
+	 * Set the character set used to decode headers.
+	 * <p>Defaults to UTF-8 as per RFC 7578.
+	 */
+	public void setHeadersCharset(Charset headersCharset) {
+		Assert.notNull(headersCharset, "HeadersCharset must not be null");
+		this.headersCharset = headersCharset;
+	}
+
+	/**
+	 * Set the size of the buffers used to read from the Servlet input stream.
+	 * <p>By default this is set to {@link StreamUtils#BUFFER_SIZE}.
+	 */
+	public void setBufferSize(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "BufferSize must be greater than 0");
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Specify whether this resolver should only kick in for
+	 * "multipart/form-data" requests.
+	 * <p>Default is "false", processing any request with a "multipart/" content type.
+	 * @see StandardServletMultipartResolver#setStrictServletCompliance
+	 */
+	public void setStrictServletCompliance(boolean strictServletCompliance) {
+		this.strictServletCompliance = strictServletCompliance;
+	}
+
+
+	@Override
+	public boolean isMultipart(HttpServletRequest request) {
+		return StringUtils.startsWithIgnoreCase(request.getContentType(),
+				(this.strictServletCompliance ? MediaType.MULTIPART_FORM_DATA_VALUE : "multipart/"));
+	}
+
+	@Override
+	public MultipartHttpServletRequest resolveMultipart(HttpServletRequest request) throws MultipartException {
+		MultiValueMap<String, MultipartFile> files = new LinkedMultiValueMap<>();
+		Map<String, String[]> parameters = new LinkedHashMap<>();
+		Map<String, String> parameterContentTypes = new LinkedHashMap<>();
+		PartBuffer current = null;
+		try (Stream<PartEvent> events = resolvePartEvents(request)) {
+			Iterator<PartEvent> iterator = events.iterator();
+			while (iterator.hasNext()) {
+				PartEvent event = iterator.next();
+				if (event instanceof FormPartEvent formEvent) {
+					DataBufferUtils.release(formEvent.content());
+					addParameter(formEvent.name(), formEvent.value(), formEvent.headers(),
+							parameters, parameterContentTypes);
+					continue;
+				}
+				if (current == null) {
+					current = new PartBuffer(event.headers());
+				}
+				current.write(event.content());
+				if (event.isLast()) {
+					PartBuffer part = current;
+					current = null;
+					String filename = part.headers.getContentDisposition().getFilename();
+					if (filename != null) {
+						files.add(event.name(), part.toMultipartFile(event.name(), filename));
+					}
+					else {
+						addParameter(event.name(), part.getValue(), part.headers, parameters, parameterContentTypes);
+					}
+				}
+			}
+		}
+		catch (Throwable ex) {
+			if (current != null) {
+				current.delete();
+			}
+			deleteFiles(files);
+			throw handleParseFailure(ex);
+		}
+		return new DefaultMultipartHttpServletRequest(request, files, parameters, parameterContentTypes);
+	}
+
+	/**
+	 * Parse the given multipart request into a stream of {@link PartEvent PartEvents},
+	 * reading from the Servlet input stream on demand as the stream is consumed.
+	 * <p>This allows for the contents of each part to be written straight to its
+	 * final destination, for instance an {@link OutputStream} or a
+	 * {@link FileChannel}, without any intermediate storage. The content buffer
+	 * of each event must be {@linkplain DataBufferUtils#release released}
+	 * by the caller, and the returned stream should be closed once done so that
+	 * parsing can be cancelled.
+	 * @param request the servlet request to parse
+	 * @return a stream of part events, in the order they appear in the request
+	 */
+	public Stream<PartEvent> resolvePartEvents(HttpServletRequest request) {
+		PartEventHttpMessageReader reader = new PartEventHttpMessageReader();
+		reader.setMaxInMemorySize(this.maxInMemorySize);
+		reader.setMaxHeadersSize(this.maxHeadersSize);
+		reader.setMaxPartSize(this.maxPartSize);
+		reader.setMaxParts(this.maxParts);
+		reader.setHeadersCharset(this.headersCharset);
+
+		ServletInputMessage inputMessage = new ServletInputMessage(request, this.bufferSize);
+		return reader.read(ResolvableType.forClass(PartEvent.class), inputMessage, Collections.emptyMap())
+				.doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+				.toStream(1);
+	}
+
+	private void addParameter(String name, String value, HttpHeaders headers,
+			Map<String, String[]> parameters, Map<String, String> parameterContentTypes) {
+
+		String[] values = parameters.get(name);
+		parameters.put(name, (values != null ? StringUtils.addStringToArray(values, value) : new String[] {value}));
+		MediaType contentType = headers.getContentType();
+		if (contentType != null) {
+			parameterContentTypes.put(name, contentType.toString());
+		}
+	}
+
+	private MultipartException handleParseFailure(Throwable ex) {
+		if (ex instanceof MultipartException multipartException) {
+			return multipartException;
+		}
+		if (ex instanceof DataBufferLimitException) {
+			return handleLimitExceeded(ex);
+		}
+		if (ex instanceof DecodingException) {
+			return new MultipartException("Failed to parse multipart servlet request", ex);
+		}
+		return new MultipartException("Could not read multipart servlet request", ex);
+	}
+
+	/**
+	 * Map a {@link DataBufferLimitException} from {@link PartEventHttpMessageReader}
+	 * to the limit it was raised for: the headers size, the part size, or the
+	 * in-memory size that form fields are aggregated with.
+	 */
+	private MultipartException handleLimitExceeded(Throwable ex) {
+		String message = ex.getMessage();
+		if (message != null && message.startsWith("Part headers exceeded")) {
+			return new MultipartException("Maximum size of part headers of " + this.maxHeadersSize +
+					" bytes exceeded", ex);
+		}
+		if (message != null && message.startsWith("Part exceeded")) {
+			return new MaxUploadSizeExceededException(this.maxPartSize, ex);
+		}
+		// Form field value aggregated up to maxInMemorySize, capped by maxPartSize
+		long maxFormFieldSize = (this.maxPartSize != -1 ?
+				Math.min(this.maxInMemorySize, this.maxPartSize) : this.maxInMemorySize);
+		return new MaxUploadSizeExceededException(maxFormFieldSize, ex);
+	}
+
+	@Override
+	public void cleanupMultipart(MultipartHttpServletRequest request) {
+		deleteFiles(request.getMultiFileMap());
+	}
+
+	private static void deleteFiles(MultiValueMap<String, MultipartFile> files) {
+		for (List<MultipartFile> fileList : files.values()) {
+			for (MultipartFile file : fileList) {
+				if (file instanceof StreamingMultipartFile streamingFile) {
+					streamingFile.delete();
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * {@link ReactiveHttpInputMessage} that reads the body of a servlet request
+	 * on the subscribing thread.
+	 */
+	private static class ServletInputMessage implements ReactiveHttpInputMessage {
+
+		private final HttpServletRequest request;
+
+		private final HttpHeaders headers;
+
+		private final int bufferSize;
+
+		ServletInputMessage(HttpServletRequest request, int bufferSize) {
+			this.request = request;
+			this.headers = new ServletServerHttpRequest(request).getHeaders();
+			this.bufferSize = bufferSize;
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.headers;
+		}
+
+		@Override
+		public Flux<DataBuffer> getBody() {
+			return DataBufferUtils.readInputStream(
+					this.request::getInputStream, DefaultDataBufferFactory.sharedInstance, this.bufferSize);
+		}
+	}
+
+
+	/**
+	 * Accumulates the contents of a single part, in memory up to
+	 * {@code maxInMemorySize} and in a temporary file beyond that.
+	 */
+	private class PartBuffer {
+
+		final HttpHeaders headers;
+
+		@Nullable
+		private FastByteArrayOutputStream memory = new FastByteArrayOutputStream();
+
+		@Nullable
+		private Path file;
+
+		@Nullable
+		private FileChannel channel;
+
+		private long size;
+
+		PartBuffer(HttpHeaders headers) {
+			this.headers = headers;
+		}
+
+		void write(DataBuffer dataBuffer) throws IOException {
+			try {
+				int count = dataBuffer.readableByteCount();
+				if (this.memory != null && exceedsMemory(this.size + count)) {
+					spill();
+				}
+				if (this.memory != null) {
+					byte[] bytes = new byte[count];
+					dataBuffer.read(bytes);
+					this.memory.write(bytes);
+				}
+				else {
+					Assert.state(this.channel != null, "No file channel");
+					try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
+						while (iterator.hasNext()) {
+							ByteBuffer byteBuffer = iterator.next();
+							while (byteBuffer.hasRemaining()) {
+								this.channel.write(byteBuffer);
+							}
+						}
+					}
+				}
+				this.size += count;
+			}
+			finally {
+				DataBufferUtils.release(dataBuffer);
+			}
+		}
+
+		private boolean exceedsMemory(long size) {
+			int max = StreamingServletMultipartResolver.this.maxInMemorySize;
+			return (max != -1 && size > max);
+		}
+
+		private void spill() throws IOException {
+			if (this.headers.getContentDisposition().getFilename() == null) {
+				throw new MaxUploadSizeExceededException(StreamingServletMultipartResolver.this.maxInMemorySize);
+			}
+			Path directory = StreamingServletMultipartResolver.this.fileStorageDirectory;
+			this.file = (directory != null ? Files.createTempFile(directory, "multipart", ".tmp") :
+					Files.createTempFile("spring-multipart-", ".tmp"));
+			this.channel = FileChannel.open(this.file, StandardOpenOption.WRITE);
+			Assert.state(this.memory != null, "No memory buffer");
+			this.channel.write(ByteBuffer.wrap(this.memory.toByteArrayUnsafe()));
+			this.memory = null;
+			if (logger.isTraceEnabled()) {
+				logger.trace("Part exceeded in-memory limit, storing contents in " + this.file);
+			}
+		}
+
+		String getValue() {
+			Assert.state(this.memory != null, "Part contents not in memory");
+			MediaType contentType = this.headers.getContentType();
+			Charset charset = (contentType != null && contentType.getCharset() != null ?
+					contentType.getCharset() : StandardCharsets.UTF_8);
+			return new String(this.memory.toByteArrayUnsafe(), charset);
+		}
+
+		MultipartFile toMultipartFile(String name, String filename) throws IOException {
+			if (this.channel != null) {
+				this.channel.close();
+			}
+			return new StreamingMultipartFile(name, filename, this.headers.getContentType(), this.size,
+					(this.memory != null ? this.memory.toByteArrayUnsafe() : null), this.file);
+		}
+
+		void delete() {
+			try {
+				if (this.channel != null) {
+					this.channel.close();
+				}
+				if (this.file != null) {
+					Files.deleteIfExists(this.file);
+				}
+			}
+			catch (IOException ex) {
+				logger.warn("Failed to delete temporary multipart file " + this.file, ex);
+			}
+		}
+	}
+
+
+	/**
+	 * {@link MultipartFile} adapter for part contents held either in memory
+	 * or in a temporary file.
+	 */
+	private static class StreamingMultipartFile implements MultipartFile {
+
+		private final String name;
+
+		private final String filename;
+
+		@Nullable
+		private final MediaType contentType;
+
+		private final long size;
+
+		@Nullable
+		private final byte[] content;
+
+		@Nullable
+		private volatile Path file;
+
+		StreamingMultipartFile(String name, String filename, @Nullable MediaType contentType, long size,
+				@Nullable byte[] content, @Nullable Path file) {
+
+			this.name = name;
+			this.filename = filename;
+			this.contentType = contentType;
+			this.size = size;
+			this.content = content;
+			this.file = file;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public String getOriginalFilename() {
+			return this.filename;
+		}
+
+		@Override
+		@Nullable
+		public String getContentType() {
+			return (this.contentType != null ? this.contentType.toString() : null);
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return (this.size == 0);
+		}
+
+		@Override
+		public long getSize() {
+			return this.size;
+		}
+
+		@Override
+		public byte[] getBytes() throws IOException {
+			if (this.content != null) {
+				return this.content;
+			}
+			return Files.readAllBytes(obtainFile());
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			if (this.content != null) {
+				return new ByteArrayInputStream(this.content);
+			}
+			return Files.newInputStream(obtainFile());
+		}
+
+		@Override
+		public void transferTo(File dest) throws IOException, IllegalStateException {
+			transferTo(dest.toPath());
+		}
+
+		@Override
+		public void transferTo(Path dest) throws IOException, IllegalStateException {
+			if (this.content != null) {
+				Files.write(dest, this.content);
+				return;
+			}
+			Path source = obtainFile();
+			try {
+				// Move the temporary file into place rather than copying its contents
+				Files.move(source, dest, StandardCopyOption.REPLACE_EXISTING);
+				this.file = null;
+			}
+			catch (IOException ex) {
+				Files.copy(source, dest, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+
+		private Path obtainFile() {
+			Path file = this.file;
+			if (file == null) {
+				throw new IllegalStateException("File has already been moved - cannot be transferred again");
+			}
+			return file;
+		}
+
+		void delete() {
+			Path file = this.file;
+			if (file != null) {
+				try {
+					Files.deleteIfExists(file);
+				}
+				catch (IOException ex) {
+					logger.warn("Failed to delete temporary multipart file " + file, ex);
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.service.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation to declare that the requests of an
+ * {@link HttpExchange @HttpExchange} method are to be hedged: if no response
+ * has been received within the configured {@link #delay()}, the same request
+ * is sent again, and the first successful response is used while any
+ * outstanding requests are cancelled. A failed request causes the next one
+ * to be sent right away, without waiting for the delay.
+ *
+ * <p>Hedging reduces tail latency when the target service runs on several
+ * replicas behind a load balancer, at the cost of additional requests. As a
+ * consequence, it should only be applied to idempotent exchanges, and the
+ * delay is typically set to a high percentile of the observed latency.
+ *
+ * <p>Supported on methods with a synchronous, {@code Mono}, or other single
+ * value return type. Multi-value return types such as {@code Flux} are
+ * executed without hedging.
+ *
+ * <p>May be declared on the HTTP service interface, in which case it applies
+ * to all methods that do not declare their own.
+ *
+ * @since 6.1.4
+ * @see org.springframework.web.service.invoker.HttpServiceProxyFactory.Builder#hedgingExecutor
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface HedgedExchange {
+
+	/**
+	 * The time to wait for a response before sending the next request, in
+	 * {@link #timeUnit() time units}.
+	 */
+	long delay();
+
+	/**
+	 * The {@link TimeUnit} to use for {@link #delay()}.
+	 * <p>Defaults to {@link TimeUnit#MILLISECONDS}.
+	 */
+	TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
+	/**
+	 * The maximum number of requests in flight for a single method invocation,
+	 * including the initial request.
+	 * <p>Defaults to 2, i.e. at most one hedged request.
+	 */
+	int maxInFlight() default 2;
+
+}
@@ -19,20 +19,34 @@ package org.springframework.web.service.invoker;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.KotlinDetector;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.ReactiveAdapter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.MergedAnnotation;
 import org.springframework.core.annotation.MergedAnnotationPredicates;
 import org.springframework.core.annotation.MergedAnnotations;
@@ -47,8 +61,10 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.util.StringValueResolver;
+import org.springframework.web.service.annotation.HedgedExchange;
 import org.springframework.web.service.annotation.HttpExchange;
 
 /**
@@ -67,6 +83,17 @@ final class HttpServiceMethod {
 	private static final boolean REACTOR_PRESENT =
 			ClassUtils.isPresent("reactor.core.publisher.Mono", HttpServiceMethod.class.getClassLoader());
 
+	/**
+	 * Resolvers which accept or decline an argument based on the parameter
+	 * declaration alone, never based on the argument value.
+	 */
+	private static final Set<Class<?>> PARAMETER_BASED_RESOLVER_TYPES = Set.of(
+			RequestHeaderArgumentResolver.class, RequestBodyArgumentResolver.class,
+			PathVariableArgumentResolver.class, RequestParamArgumentResolver.class,
+			RequestPartArgumentResolver.class, CookieValueArgumentResolver.class,
+			HttpMethodArgumentResolver.class, UrlArgumentResolver.class,
+			UriBuilderFactoryArgumentResolver.class, RequestAttributeArgumentResolver.class);
+
 
 	private final Method method;
 
@@ -74,6 +101,9 @@ final class HttpServiceMethod {
 
 	private final List<HttpServiceArgumentResolver> argumentResolvers;
 
+	// Per parameter, the resolvers which may still apply, narrowed down on first invocation
+	private final AtomicReferenceArray<HttpServiceArgumentResolver[]> parameterResolvers;
+
 	private final HttpRequestValuesInitializer requestValuesInitializer;
 
 	private final ResponseFunction responseFunction;
@@ -81,11 +111,13 @@ final class HttpServiceMethod {
 
 	HttpServiceMethod(
 			Method method, Class<?> containingClass, List<HttpServiceArgumentResolver> argumentResolvers,
-			HttpExchangeAdapter adapter, @Nullable StringValueResolver embeddedValueResolver) {
+			HttpExchangeAdapter adapter, @Nullable StringValueResolver embeddedValueResolver,
+			Executor hedgingExecutor) {
 
 		this.method = method;
 		this.parameters = initMethodParameters(method);
 		this.argumentResolvers = argumentResolvers;
+		this.parameterResolvers = new AtomicReferenceArray<>(this.parameters.length);
 
 		boolean isReactorAdapter = (REACTOR_PRESENT && adapter instanceof ReactorHttpExchangeAdapter);
 
@@ -94,9 +126,25 @@ final class HttpServiceMethod {
 						method, containingClass, embeddedValueResolver,
 						(isReactorAdapter ? ReactiveHttpRequestValues::builder : HttpRequestValues::builder));
 
+		HedgedExchange hedging = initHedging(method, containingClass);
+
 		this.responseFunction = (isReactorAdapter ?
-				ReactorExchangeResponseFunction.create((ReactorHttpExchangeAdapter) adapter, method) :
-				ExchangeResponseFunction.create(adapter, method));
+				ReactorExchangeResponseFunction.create((ReactorHttpExchangeAdapter) adapter, method, hedging) :
+				HedgingResponseFunction.createIfNecessary(
+						ExchangeResponseFunction.create(adapter, method), hedging, hedgingExecutor));
+	}
+
+	@Nullable
+	private static HedgedExchange initHedging(Method method, Class<?> containingClass) {
+		HedgedExchange hedging = AnnotatedElementUtils.findMergedAnnotation(method, HedgedExchange.class);
+		if (hedging == null) {
+			hedging = AnnotatedElementUtils.findMergedAnnotation(containingClass, HedgedExchange.class);
+		}
+		if (hedging != null) {
+			Assert.state(hedging.delay() >= 0, () -> "@HedgedExchange delay must not be negative on " + method);
+			Assert.state(hedging.maxInFlight() > 0, () -> "@HedgedExchange maxInFlight must be positive on " + method);
+		}
+		return hedging;
 	}
 
 	private static MethodParameter[] initMethodParameters(Method method) {
@@ -135,12 +183,18 @@ final class HttpServiceMethod {
 		for (int i = 0; i < arguments.length; i++) {
 			Object value = arguments[i];
 			boolean resolved = false;
-			for (HttpServiceArgumentResolver resolver : this.argumentResolvers) {
-				if (resolver.resolve(value, this.parameters[i], requestValues)) {
-					resolved = true;
-					break;
+			HttpServiceArgumentResolver[] resolvers = this.parameterResolvers.get(i);
+			if (resolvers != null) {
+				for (HttpServiceArgumentResolver resolver : resolvers) {
+					if (resolver.resolve(value, this.parameters[i], requestValues)) {
+						resolved = true;
+						break;
+					}
 				}
 			}
+			else {
+				resolved = resolveAndNarrow(i, value, requestValues);
+			}
 			int index = i;
 			Assert.state(resolved, () ->
 					"Could not resolve parameter [" + this.parameters[index].getParameterIndex() + "] in " +
@@ -148,14 +202,44 @@ final class HttpServiceMethod {
 		}
 	}
 
+	/**
+	 * Resolve the argument for the given parameter through all resolvers, and
+	 * keep only those which may apply to later invocations. A built-in resolver
+	 * decides based on the parameter declaration alone: once declined, it is
+	 * skipped from then on, and once accepted, no later resolver is reached.
+	 * Other resolvers may decide based on the argument value, so they are
+	 * always consulted again, in their original order.
+	 */
+	private boolean resolveAndNarrow(int index, @Nullable Object value, HttpRequestValues.Builder requestValues) {
+		List<HttpServiceArgumentResolver> candidates = new ArrayList<>();
+		for (int i = 0; i < this.argumentResolvers.size(); i++) {
+			HttpServiceArgumentResolver resolver = this.argumentResolvers.get(i);
+			boolean parameterBased = PARAMETER_BASED_RESOLVER_TYPES.contains(resolver.getClass());
+			if (resolver.resolve(value, this.parameters[index], requestValues)) {
+				candidates.add(resolver);
+				if (!parameterBased) {
+					candidates.addAll(this.argumentResolvers.subList(i + 1, this.argumentResolvers.size()));
+				}
+				this.parameterResolvers.set(index, candidates.toArray(new HttpServiceArgumentResolver[0]));
+				return true;
+			}
+			if (!parameterBased) {
+				candidates.add(resolver);
+			}
+		}
+		return false;
+	}
+
 
 	/**
 	 * Factory for {@link HttpRequestValues} with values extracted from the type
 	 * and method-level {@link HttpExchange @HttpExchange} annotations.
+	 * <p>Header values are formatted once, so that initializing the builder
+	 * for each invocation does not need to render media types again.
 	 */
 	private record HttpRequestValuesInitializer(
 			@Nullable HttpMethod httpMethod, @Nullable String url,
-			@Nullable MediaType contentType, @Nullable List<MediaType> acceptMediaTypes,
+			@Nullable String contentType, @Nullable String accept,
 			Supplier<HttpRequestValues.Builder> requestValuesSupplier) {
 
 		public HttpRequestValues.Builder initializeRequestValuesBuilder() {
@@ -167,10 +251,10 @@ final class HttpServiceMethod {
 				requestValues.setUriTemplate(this.url);
 			}
 			if (this.contentType != null) {
-				requestValues.setContentType(this.contentType);
+				requestValues.addHeader(HttpHeaders.CONTENT_TYPE, this.contentType);
 			}
-			if (this.acceptMediaTypes != null) {
-				requestValues.setAccept(this.acceptMediaTypes);
+			if (this.accept != null) {
+				requestValues.addHeader(HttpHeaders.ACCEPT, this.accept);
 			}
 			return requestValues;
 		}
@@ -204,7 +288,9 @@ final class HttpServiceMethod {
 			List<MediaType> acceptableMediaTypes = initAccept(typeAnnotation, methodAnnotation);
 
 			return new HttpRequestValuesInitializer(
-					httpMethod, url, contentType, acceptableMediaTypes, requestValuesSupplier);
+					httpMethod, url, (contentType != null ? contentType.toString() : null),
+					(acceptableMediaTypes != null ? MediaType.toString(acceptableMediaTypes) : null),
+					requestValuesSupplier);
 		}
 
 		@Nullable
@@ -388,6 +474,88 @@ final class HttpServiceMethod {
 	}
 
 
+	/**
+	 * {@link ResponseFunction} that hedges the invocation of a synchronous
+	 * {@code ResponseFunction} as declared through {@link HedgedExchange}.
+	 */
+	private record HedgingResponseFunction(
+			ResponseFunction delegate, Duration delay, int maxInFlight, Executor executor)
+			implements ResponseFunction {
+
+		@Override
+		@Nullable
+		public Object execute(HttpRequestValues requestValues) {
+			CompletableFuture<Object> result = new CompletableFuture<>();
+			AtomicInteger failures = new AtomicInteger();
+			// Released on the result or a failed attempt, to send the next request right away
+			Semaphore signal = new Semaphore(0);
+			List<Future<?>> attempts = new ArrayList<>(this.maxInFlight);
+			try {
+				for (int i = 0; i < this.maxInFlight && !result.isDone(); i++) {
+					attempts.add(startAttempt(requestValues, result, failures, signal));
+					if (i < this.maxInFlight - 1) {
+						signal.tryAcquire(this.delay.toNanos(), TimeUnit.NANOSECONDS);
+					}
+				}
+				return result.get();
+			}
+			catch (ExecutionException ex) {
+				ReflectionUtils.rethrowRuntimeException(ex.getCause());
+				return null;
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for hedged exchange", ex);
+			}
+			finally {
+				attempts.forEach(attempt -> attempt.cancel(true));
+			}
+		}
+
+		private Future<?> startAttempt(HttpRequestValues requestValues,
+				CompletableFuture<Object> result, AtomicInteger failures, Semaphore signal) {
+
+			FutureTask<Object> attempt = new FutureTask<>(() -> this.delegate.execute(requestValues)) {
+				@Override
+				protected void done() {
+					if (isCancelled()) {
+						return;
+					}
+					try {
+						result.complete(get());
+					}
+					catch (ExecutionException ex) {
+						if (failures.incrementAndGet() == maxInFlight()) {
+							result.completeExceptionally(ex.getCause());
+						}
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+					finally {
+						signal.release();
+					}
+				}
+			};
+			this.executor.execute(attempt);
+			return attempt;
+		}
+
+		/**
+		 * Decorate the given {@code ResponseFunction} if hedging is declared.
+		 */
+		public static ResponseFunction createIfNecessary(
+				ResponseFunction delegate, @Nullable HedgedExchange hedging, Executor executor) {
+
+			if (hedging == null || hedging.maxInFlight() == 1) {
+				return delegate;
+			}
+			Duration delay = Duration.of(hedging.delay(), hedging.timeUnit().toChronoUnit());
+			return new HedgingResponseFunction(delegate, delay, hedging.maxInFlight(), executor);
+		}
+	}
+
+
 	/**
 	 * {@link ResponseFunction} for {@link ReactorHttpExchangeAdapter}.
 	 */
@@ -422,7 +590,9 @@ final class HttpServiceMethod {
 		/**
 		 * Create the {@code ResponseFunction} that matches the method return type.
 		 */
-		public static ResponseFunction create(ReactorHttpExchangeAdapter client, Method method) {
+		public static ResponseFunction create(
+				ReactorHttpExchangeAdapter client, Method method, @Nullable HedgedExchange hedging) {
+
 			MethodParameter returnParam = new MethodParameter(method, -1);
 			Class<?> returnType = returnParam.getParameterType();
 			boolean isSuspending = KotlinDetector.isSuspendingFunction(method);
@@ -460,6 +630,12 @@ final class HttpServiceMethod {
 				responseFunction = initBodyFunction(client, actualParam, reactiveAdapter, isSuspending);
 			}
 
+			boolean multiValue = (reactiveAdapter != null && reactiveAdapter.isMultiValue() &&
+					!actualType.equals(ResponseEntity.class));
+			if (hedging != null && !multiValue) {
+				responseFunction = initHedgingFunction(responseFunction, hedging);
+			}
+
 			return new ReactorExchangeResponseFunction(
 					responseFunction, reactiveAdapter, returnType.equals(Optional.class), client.getBlockTimeout());
 		}
@@ -493,6 +669,41 @@ final class HttpServiceMethod {
 					});
 		}
 
+		private static Function<HttpRequestValues, Publisher<?>> initHedgingFunction(
+				Function<HttpRequestValues, Publisher<?>> responseFunction, HedgedExchange hedging) {
+
+			Duration delay = Duration.of(hedging.delay(), hedging.timeUnit().toChronoUnit());
+			int maxInFlight = hedging.maxInFlight();
+			return request -> Mono.defer(() -> {
+				List<Mono<Optional<Object>>> attempts = new ArrayList<>(maxInFlight);
+				Mono<Void> previousStarted = Mono.empty();
+				Mono<Void> previousFailed = Mono.never();
+				for (int i = 0; i < maxInFlight; i++) {
+					Sinks.Empty<Void> started = Sinks.empty();
+					Sinks.Empty<Void> failed = Sinks.empty();
+					// send the next request once the delay has passed or the previous attempt failed
+					Mono<Void> trigger = (i == 0 ? Mono.empty() :
+							previousStarted.then(Mono.firstWithSignal(Mono.delay(delay).then(), previousFailed)));
+					// wrap values so that empty responses count as a successful attempt
+					Mono<Optional<Object>> attempt = trigger
+							.then(Mono.defer(() -> {
+								started.tryEmitEmpty();
+								return Mono.from(responseFunction.apply(request));
+							}))
+							.<Optional<Object>>map(Optional::of)
+							.defaultIfEmpty(Optional.empty())
+							.doOnError(ex -> failed.tryEmitEmpty());
+					attempts.add(attempt);
+					previousStarted = started.asMono();
+					previousFailed = failed.asMono();
+				}
+				return Mono.firstWithValue(attempts)
+						.onErrorMap(NoSuchElementException.class, ex ->
+								(ex.getSuppressed().length > 0 ? ex.getSuppressed()[0] : ex))
+						.flatMap(Mono::justOrEmpty);
+			});
+		}
+
 		private static Function<HttpRequestValues, Publisher<?>> initBodyFunction(
 				ReactorHttpExchangeAdapter client, MethodParameter methodParam,
 				@Nullable ReactiveAdapter reactiveAdapter, boolean isSuspending) {
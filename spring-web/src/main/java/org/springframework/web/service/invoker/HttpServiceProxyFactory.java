@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -35,10 +36,12 @@ import org.springframework.core.MethodIntrospector;
 import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringValueResolver;
+import org.springframework.web.service.annotation.HedgedExchange;
 import org.springframework.web.service.annotation.HttpExchange;
 
 /**
@@ -63,14 +66,17 @@ public final class HttpServiceProxyFactory {
 	@Nullable
 	private final StringValueResolver embeddedValueResolver;
 
+	private final Executor hedgingExecutor;
+
 
 	private HttpServiceProxyFactory(
 			HttpExchangeAdapter exchangeAdapter, List<HttpServiceArgumentResolver> argumentResolvers,
-			@Nullable StringValueResolver embeddedValueResolver) {
+			@Nullable StringValueResolver embeddedValueResolver, Executor hedgingExecutor) {
 
 		this.exchangeAdapter = exchangeAdapter;
 		this.argumentResolvers = argumentResolvers;
 		this.embeddedValueResolver = embeddedValueResolver;
+		this.hedgingExecutor = hedgingExecutor;
 	}
 
 
@@ -99,8 +105,8 @@ public final class HttpServiceProxyFactory {
 		Assert.notNull(this.argumentResolvers,
 				"No argument resolvers: afterPropertiesSet was not called");
 
-		return new HttpServiceMethod(
-				method, serviceType, this.argumentResolvers, this.exchangeAdapter, this.embeddedValueResolver);
+		return new HttpServiceMethod(method, serviceType, this.argumentResolvers,
+				this.exchangeAdapter, this.embeddedValueResolver, this.hedgingExecutor);
 	}
 
 
@@ -147,6 +153,9 @@ public final class HttpServiceProxyFactory {
 		@Nullable
 		private StringValueResolver embeddedValueResolver;
 
+		@Nullable
+		private Executor hedgingExecutor;
+
 		private Builder() {
 		}
 
@@ -207,6 +216,22 @@ public final class HttpServiceProxyFactory {
 			return this;
 		}
 
+		/**
+		 * Set the {@link Executor} to perform the requests of
+		 * {@link HedgedExchange @HedgedExchange} methods with a synchronous
+		 * return type on. Reactive methods are hedged without an executor.
+		 * <p>By default, an executor shared across all factories starts a new
+		 * virtual thread for each request on JDK 21 or higher, and a new
+		 * platform thread on earlier JDKs.
+		 * @param hedgingExecutor the executor to use
+		 * @return this same builder instance
+		 * @since 6.1.4
+		 */
+		public Builder hedgingExecutor(Executor hedgingExecutor) {
+			this.hedgingExecutor = hedgingExecutor;
+			return this;
+		}
+
 		/**
 		 * Set the {@link ReactiveAdapterRegistry} to use to support different
 		 * asynchronous types for HTTP service method return values.
@@ -247,8 +272,12 @@ public final class HttpServiceProxyFactory {
 		public HttpServiceProxyFactory build() {
 			Assert.notNull(this.exchangeAdapter, "HttpClientAdapter is required");
 
-			return new HttpServiceProxyFactory(
-					this.exchangeAdapter, initArgumentResolvers(), this.embeddedValueResolver);
+			return new HttpServiceProxyFactory(this.exchangeAdapter, initArgumentResolvers(),
+					this.embeddedValueResolver, initHedgingExecutor());
+		}
+
+		private Executor initHedgingExecutor() {
+			return (this.hedgingExecutor != null ? this.hedgingExecutor : DefaultHedgingExecutorHolder.executor);
 		}
 
 		@SuppressWarnings("DataFlowIssue")
@@ -319,4 +348,26 @@ public final class HttpServiceProxyFactory {
 
 	}
 
+
+	/**
+	 * Holder for the executor shared by factories without a custom
+	 * {@link Builder#hedgingExecutor hedging executor}, created on first use.
+	 */
+	private static final class DefaultHedgingExecutorHolder {
+
+		static final Executor executor = createExecutor();
+
+		private static Executor createExecutor() {
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("http-service-hedging-");
+			try {
+				executor.setVirtualThreads(true);
+			}
+			catch (UnsupportedOperationException ex) {
+				// JDK < 21: fall back to platform threads
+				executor.setDaemon(true);
+			}
+			return executor;
+		}
+	}
+
 }
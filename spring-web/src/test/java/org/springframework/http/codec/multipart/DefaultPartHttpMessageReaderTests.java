@@ -317,6 +317,29 @@ class DefaultPartHttpMessageReaderTests {
 		latch.await();
 	}
 
+	@ParameterizedDefaultPartHttpMessageReaderTest
+	void transferToExistingFile(DefaultPartHttpMessageReader reader) throws IOException {
+		MockServerHttpRequest request = createRequest(
+				new ClassPathResource("firefox.multipart", getClass()),
+				"---------------------------18399284482060392383840973206");
+
+		Path tempFile = Files.createTempFile("DefaultMultipartMessageReaderTests", null);
+		Files.writeString(tempFile, LOREM_IPSUM + LOREM_IPSUM + LOREM_IPSUM);
+		try {
+			FilePart filePart = reader.read(forClass(Part.class), request, emptyMap())
+					.ofType(FilePart.class)
+					.collectList()
+					.map(parts -> parts.get(0))
+					.block();
+			assertThat(filePart).isNotNull();
+			filePart.transferTo(tempFile).block();
+			verifyContents(tempFile, LOREM_IPSUM);
+		}
+		finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
 
 	private void testBrowser(DefaultPartHttpMessageReader reader, Resource resource, String boundary)
 			throws InterruptedException {
@@ -22,11 +22,16 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -764,6 +769,67 @@ class RestClientIntegrationTests {
 		expectRequest(request -> assertThat(request.getPath()).isEqualTo("/greeting"));
 	}
 
+	@ParameterizedRestClientTest
+	void exchangeAsync(ClientHttpRequestFactory requestFactory) throws Exception {
+		startServer(requestFactory);
+
+		prepareResponse(response -> response
+				.setHeader("Content-Type", "text/plain").setBody("Hello Spring!"));
+
+		CompletableFuture<String> result = this.restClient.get()
+				.uri("/greeting")
+				.exchangeAsync((request, response) -> response.bodyTo(String.class));
+
+		assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("Hello Spring!");
+
+		expectRequestCount(1);
+		expectRequest(request -> assertThat(request.getPath()).isEqualTo("/greeting"));
+	}
+
+	@ParameterizedRestClientTest
+	void maxConcurrentRequests(ClientHttpRequestFactory requestFactory) throws Exception {
+		startServer(requestFactory);
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		this.server.setDispatcher(new Dispatcher() {
+			@Override
+			public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+				maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+				Thread.sleep(200);
+				inFlight.decrementAndGet();
+				return new MockResponse().setHeader("Content-Type", "text/plain").setBody("Hello Spring!");
+			}
+		});
+		RestClient limitedClient = this.restClient.mutate().maxConcurrentRequests(2).build();
+
+		List<CompletableFuture<String>> results = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			results.add(limitedClient.get().uri("/greeting")
+					.exchangeAsync((request, response) -> response.bodyTo(String.class)));
+		}
+		for (CompletableFuture<String> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("Hello Spring!");
+		}
+		assertThat(maxInFlight).hasValue(2);
+
+		// Permits get released for retrieve() as well
+		CompletableFuture<ResponseEntity<String>> entity = CompletableFuture.supplyAsync(() ->
+				limitedClient.get().uri("/greeting").retrieve().toEntity(String.class));
+		assertThat(entity.get(5, TimeUnit.SECONDS).getBody()).isEqualTo("Hello Spring!");
+
+		List<CompletableFuture<ResponseEntity<Void>>> bodiless = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			bodiless.add(CompletableFuture.supplyAsync(() ->
+					limitedClient.get().uri("/greeting").retrieve().toBodilessEntity()));
+		}
+		for (CompletableFuture<ResponseEntity<Void>> result : bodiless) {
+			assertThat(result.get(5, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.OK);
+		}
+		assertThat(maxInFlight).hasValue(2);
+
+		expectRequestCount(10);
+	}
+
 	@ParameterizedRestClientTest
 	void requestInitializer(ClientHttpRequestFactory requestFactory) {
 		startServer(requestFactory);
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.multipart.support;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.codec.multipart.FilePartEvent;
+import org.springframework.http.codec.multipart.FormPartEvent;
+import org.springframework.http.codec.multipart.PartEvent;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link StreamingServletMultipartResolver}.
+ */
+class StreamingServletMultipartResolverTests {
+
+	private static final String BOUNDARY = "3F2504E0";
+
+	private final StreamingServletMultipartResolver resolver = new StreamingServletMultipartResolver();
+
+
+	@Test
+	void resolveInMemory() throws Exception {
+		MockHttpServletRequest request = multipartRequest("Hello World");
+
+		MultipartHttpServletRequest multipartRequest = this.resolver.resolveMultipart(request);
+
+		assertThat(multipartRequest.getParameter("field")).isEqualTo("value");
+		MultipartFile file = multipartRequest.getFile("file");
+		assertThat(file).isNotNull();
+		assertThat(file.getOriginalFilename()).isEqualTo("file.txt");
+		assertThat(file.getContentType()).isEqualTo("text/plain");
+		assertThat(file.getSize()).isEqualTo(11);
+		assertThat(file.getBytes()).asString().isEqualTo("Hello World");
+	}
+
+	@Test
+	void resolveStoredOnDisk(@TempDir Path tempDir) throws Exception {
+		this.resolver.setMaxInMemorySize(5);
+		this.resolver.setFileStorageDirectory(tempDir.resolve("storage"));
+		MockHttpServletRequest request = multipartRequest("Hello World");
+
+		MultipartHttpServletRequest multipartRequest = this.resolver.resolveMultipart(request);
+		MultipartFile file = multipartRequest.getFile("file");
+		assertThat(file).isNotNull();
+		assertThat(file.getSize()).isEqualTo(11);
+		try (Stream<Path> stored = Files.list(tempDir.resolve("storage"))) {
+			assertThat(stored).hasSize(1);
+		}
+
+		Path dest = tempDir.resolve("dest.txt");
+		file.transferTo(dest);
+		assertThat(dest).hasContent("Hello World");
+		try (Stream<Path> stored = Files.list(tempDir.resolve("storage"))) {
+			assertThat(stored).isEmpty();
+		}
+
+		this.resolver.cleanupMultipart(multipartRequest);
+		assertThat(dest).exists();
+	}
+
+	@Test
+	void cleanupDeletesStoredFiles(@TempDir Path tempDir) throws Exception {
+		this.resolver.setMaxInMemorySize(5);
+		this.resolver.setFileStorageDirectory(tempDir);
+		MultipartHttpServletRequest multipartRequest = this.resolver.resolveMultipart(multipartRequest("Hello World"));
+		try (Stream<Path> stored = Files.list(tempDir)) {
+			assertThat(stored).hasSize(1);
+		}
+
+		this.resolver.cleanupMultipart(multipartRequest);
+		try (Stream<Path> stored = Files.list(tempDir)) {
+			assertThat(stored).isEmpty();
+		}
+	}
+
+	@Test
+	void maxPartSizeExceeded() {
+		this.resolver.setMaxPartSize(4);
+		MockHttpServletRequest request = multipartRequest("Hello World");
+
+		assertThatExceptionOfType(MaxUploadSizeExceededException.class)
+				.isThrownBy(() -> this.resolver.resolveMultipart(request))
+				.satisfies(ex -> assertThat(ex.getMaxUploadSize()).isEqualTo(4));
+	}
+
+	@Test
+	void maxInMemorySizeExceededByFormField() {
+		this.resolver.setMaxInMemorySize(4);
+		MockHttpServletRequest request = multipartRequest("Hello World");
+
+		assertThatExceptionOfType(MaxUploadSizeExceededException.class)
+				.isThrownBy(() -> this.resolver.resolveMultipart(request))
+				.satisfies(ex -> assertThat(ex.getMaxUploadSize()).isEqualTo(4));
+	}
+
+	@Test
+	void maxHeadersSizeExceeded() {
+		this.resolver.setMaxHeadersSize(16);
+		MockHttpServletRequest request = multipartRequest("Hello World");
+
+		assertThatExceptionOfType(MultipartException.class)
+				.isThrownBy(() -> this.resolver.resolveMultipart(request))
+				.withMessage("Maximum size of part headers of 16 bytes exceeded")
+				.isNotInstanceOf(MaxUploadSizeExceededException.class);
+	}
+
+	@Test
+	void resolvePartEvents() {
+		MockHttpServletRequest request = multipartRequest("Hello World");
+
+		List<String> names = new ArrayList<>();
+		ByteArrayOutputStream fileContent = new ByteArrayOutputStream();
+		try (Stream<PartEvent> events = this.resolver.resolvePartEvents(request)) {
+			events.forEach(event -> {
+				names.add(event.name());
+				if (event instanceof FormPartEvent formEvent) {
+					assertThat(formEvent.value()).isEqualTo("value");
+				}
+				else if (event instanceof FilePartEvent) {
+					fileContent.writeBytes(event.content().toString(StandardCharsets.UTF_8).getBytes());
+				}
+				DataBufferUtils.release(event.content());
+			});
+		}
+		assertThat(names).startsWith("field", "file");
+		assertThat(fileContent.toString(StandardCharsets.UTF_8)).isEqualTo("Hello World");
+	}
+
+
+	private static MockHttpServletRequest multipartRequest(String fileContent) {
+		String body = "--" + BOUNDARY + "\r\n" +
+				"Content-Disposition: form-data; name=\"field\"\r\n" +
+				"\r\n" +
+				"value\r\n" +
+				"--" + BOUNDARY + "\r\n" +
+				"Content-Disposition: form-data; name=\"file\"; filename=\"file.txt\"\r\n" +
+				"Content-Type: text/plain\r\n" +
+				"\r\n" +
+				fileContent + "\r\n" +
+				"--" + BOUNDARY + "--\r\n";
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/");
+		request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+		request.setContent(body.getBytes(StandardCharsets.UTF_8));
+		return request;
+	}
+
+}
@@ -21,8 +21,13 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
@@ -39,7 +44,9 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HedgedExchange;
 import org.springframework.web.service.annotation.HttpExchange;
 import org.springframework.web.service.annotation.PostExchange;
 import org.springframework.web.service.annotation.PutExchange;
@@ -239,6 +246,164 @@ class HttpServiceMethodTests {
 				);
 	}
 
+	@Test
+	void argumentResolverSelectedPerInvocation() {
+		HttpServiceProxyFactory proxyFactory = HttpServiceProxyFactory.builder()
+				.exchangeAdapter(this.client)
+				.customArgumentResolver((argument, parameter, requestValues) -> {
+					if ("custom".equals(argument)) {
+						requestValues.addHeader("X-Custom", "true");
+						return true;
+					}
+					return false;
+				})
+				.build();
+
+		ArgumentService service = proxyFactory.createClient(ArgumentService.class);
+
+		for (String value : List.of("custom", "other", "custom", "other", "other", "custom")) {
+			service.execute(value);
+			HttpRequestValues requestValues = this.client.getRequestValues();
+			if ("custom".equals(value)) {
+				assertThat(requestValues.getHeaders().getFirst("X-Custom")).isEqualTo("true");
+				assertThat(requestValues.getHeaders().getFirst("X-Value")).isNull();
+			}
+			else {
+				assertThat(requestValues.getHeaders().getFirst("X-Custom")).isNull();
+				assertThat(requestValues.getHeaders().getFirst("X-Value")).isEqualTo(value);
+			}
+		}
+	}
+
+	@Test
+	void customArgumentResolverConsultedOnEachInvocation() {
+		AtomicInteger count = new AtomicInteger();
+		HttpServiceProxyFactory proxyFactory = HttpServiceProxyFactory.builder()
+				.exchangeAdapter(this.client)
+				.customArgumentResolver((argument, parameter, requestValues) -> {
+					count.incrementAndGet();
+					return false;
+				})
+				.build();
+
+		ArgumentService service = proxyFactory.createClient(ArgumentService.class);
+
+		for (int i = 0; i < 3; i++) {
+			service.execute("value" + i);
+			assertThat(this.client.getRequestValues().getHeaders().getFirst("X-Value")).isEqualTo("value" + i);
+		}
+		assertThat(count.get()).isEqualTo(3);
+	}
+
+	@Test
+	void hedgedService() {
+		AtomicInteger count = new AtomicInteger();
+		CountDownLatch latch = new CountDownLatch(1);
+		TestExchangeAdapter client = new TestExchangeAdapter() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T exchangeForBody(HttpRequestValues requestValues, ParameterizedTypeReference<T> bodyType) {
+				if (count.incrementAndGet() == 1) {
+					try {
+						latch.await(5, TimeUnit.SECONDS);
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+					return (T) "slow";
+				}
+				return (T) "hedged";
+			}
+		};
+		HttpServiceProxyFactory proxyFactory = HttpServiceProxyFactory.builder().exchangeAdapter(client).build();
+
+		try {
+			HedgedService service = proxyFactory.createClient(HedgedService.class);
+			assertThat(service.getBody()).isEqualTo("hedged");
+			assertThat(count.get()).isEqualTo(2);
+		}
+		finally {
+			latch.countDown();
+		}
+	}
+
+	@Test
+	void hedgedServiceWithAllAttemptsFailing() {
+		AtomicInteger count = new AtomicInteger();
+		TestExchangeAdapter client = new TestExchangeAdapter() {
+			@Override
+			public <T> T exchangeForBody(HttpRequestValues requestValues, ParameterizedTypeReference<T> bodyType) {
+				throw new IllegalStateException("attempt " + count.incrementAndGet());
+			}
+		};
+		HttpServiceProxyFactory proxyFactory = HttpServiceProxyFactory.builder().exchangeAdapter(client).build();
+
+		HedgedService service = proxyFactory.createClient(HedgedService.class);
+		assertThatIllegalStateException().isThrownBy(service::getBody).withMessageStartingWith("attempt");
+		assertThat(count.get()).isEqualTo(2);
+	}
+
+	@Test
+	void hedgedServiceSendsNextRequestWhenAttemptFails() {
+		AtomicInteger count = new AtomicInteger();
+		TestExchangeAdapter client = new TestExchangeAdapter() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T exchangeForBody(HttpRequestValues requestValues, ParameterizedTypeReference<T> bodyType) {
+				if (count.incrementAndGet() == 1) {
+					throw new IllegalStateException("attempt 1");
+				}
+				return (T) "hedged";
+			}
+		};
+		HttpServiceProxyFactory proxyFactory = HttpServiceProxyFactory.builder().exchangeAdapter(client).build();
+
+		SlowHedgedService service = proxyFactory.createClient(SlowHedgedService.class);
+		assertThat(CompletableFuture.supplyAsync(service::getBody))
+				.succeedsWithin(Duration.ofSeconds(5)).isEqualTo("hedged");
+		assertThat(count.get()).isEqualTo(2);
+	}
+
+	@Test
+	void hedgedReactorService() {
+		AtomicInteger count = new AtomicInteger();
+		TestReactorExchangeAdapter client = new TestReactorExchangeAdapter() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> Mono<T> exchangeForBodyMono(HttpRequestValues requestValues, ParameterizedTypeReference<T> bodyType) {
+				return Mono.defer(() -> (count.incrementAndGet() == 1 ?
+						(Mono<T>) Mono.just("slow").delayElement(Duration.ofSeconds(5)) :
+						(Mono<T>) Mono.just("hedged")));
+			}
+		};
+		HttpServiceProxyFactory proxyFactory = HttpServiceProxyFactory.builder().exchangeAdapter(client).build();
+
+		HedgedReactorService service = proxyFactory.createClient(HedgedReactorService.class);
+		StepVerifier.create(service.getBody()).expectNext("hedged").verifyComplete();
+		assertThat(count.get()).isEqualTo(2);
+
+		StepVerifier.create(service.execute()).verifyComplete();
+	}
+
+	@Test
+	void hedgedReactorServiceSendsNextRequestWhenAttemptFails() {
+		AtomicInteger count = new AtomicInteger();
+		TestReactorExchangeAdapter client = new TestReactorExchangeAdapter() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> Mono<T> exchangeForBodyMono(HttpRequestValues requestValues, ParameterizedTypeReference<T> bodyType) {
+				return Mono.defer(() -> (count.incrementAndGet() == 1 ?
+						Mono.error(new IllegalStateException("attempt 1")) :
+						(Mono<T>) Mono.just("hedged")));
+			}
+		};
+		HttpServiceProxyFactory proxyFactory = HttpServiceProxyFactory.builder().exchangeAdapter(client).build();
+
+		SlowHedgedReactorService service = proxyFactory.createClient(SlowHedgedReactorService.class);
+		StepVerifier.create(service.getBody()).expectNext("hedged").expectComplete().verify(Duration.ofSeconds(5));
+		assertThat(count.get()).isEqualTo(2);
+	}
+
 	protected void verifyReactorClientInvocation(String methodName, @Nullable ParameterizedTypeReference<?> expectedBodyType) {
 		assertThat(this.reactorClient.getInvokedMethodName()).isEqualTo(methodName);
 		assertThat(this.reactorClient.getBodyType()).isEqualTo(expectedBodyType);
@@ -302,6 +467,49 @@ class HttpServiceMethodTests {
 	}
 
 
+	private interface ArgumentService {
+
+		@GetExchange
+		void execute(@RequestHeader("X-Value") String value);
+	}
+
+
+	@HedgedExchange(delay = 50)
+	private interface HedgedService {
+
+		@GetExchange
+		String getBody();
+	}
+
+
+	@HedgedExchange(delay = 1, timeUnit = TimeUnit.MINUTES)
+	private interface SlowHedgedService {
+
+		@GetExchange
+		String getBody();
+	}
+
+
+	private interface HedgedReactorService {
+
+		@GetExchange
+		@HedgedExchange(delay = 50)
+		Mono<String> getBody();
+
+		@GetExchange
+		@HedgedExchange(delay = 50, maxInFlight = 3)
+		Mono<Void> execute();
+	}
+
+
+	@HedgedExchange(delay = 1, timeUnit = TimeUnit.MINUTES)
+	private interface SlowHedgedReactorService {
+
+		@GetExchange
+		Mono<String> getBody();
+	}
+
+
 	@SuppressWarnings("unused")
 	private interface RxJavaService {
 